@@ -500,6 +500,8 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
                 Caption.fromEmbeddedSubtitle(text: event.bufferedData ?? ''),
           );
           break;
+        case VideoEventType.mediaItemTransition:
+        case VideoEventType.recovering:
         case VideoEventType.unknown:
           break;
       }
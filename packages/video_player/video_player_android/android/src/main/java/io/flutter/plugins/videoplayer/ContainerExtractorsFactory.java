@@ -0,0 +1,229 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ExtractorOutput;
+import com.google.android.exoplayer2.extractor.ExtractorsFactory;
+import com.google.android.exoplayer2.extractor.PositionHolder;
+import com.google.android.exoplayer2.extractor.flv.FlvExtractor;
+import com.google.android.exoplayer2.extractor.mkv.MatroskaExtractor;
+import com.google.android.exoplayer2.extractor.mp3.Mp3Extractor;
+import com.google.android.exoplayer2.extractor.mp4.FragmentedMp4Extractor;
+import com.google.android.exoplayer2.extractor.mp4.Mp4Extractor;
+import com.google.android.exoplayer2.extractor.ts.AdtsExtractor;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skips the container sniffing of progressive streams when the container is already known.
+ *
+ * <p>{@code ProgressiveMediaSource} asks every extractor of the delegate in turn whether it
+ * recognizes the stream, and each of them peeks at the first bytes. This factory remembers which
+ * container was recognized for a host and path shape (see {@link ContentTypeResolver#cacheKey}) and
+ * puts the matching extractor first the next time, so that it is the only one that sniffs. The
+ * other extractors stay behind it, so a stale entry costs one failed sniff rather than a playback
+ * error.
+ *
+ * <p>A container hint given by the app is trusted instead: {@link #forContainer} only builds the
+ * matching extractor.
+ */
+final class ContainerExtractorsFactory implements ExtractorsFactory {
+  private static final String TAG = "ContainerExtractors";
+  @VisibleForTesting static final int MAX_ENTRIES = 256;
+
+  private final ExtractorsFactory delegate;
+  @Nullable private volatile SeekIndexStore seekIndexStore;
+  private final Map<String, String> containers =
+      new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+
+  ContainerExtractorsFactory(@NonNull ExtractorsFactory delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Sets where the seek indexes of TS and Matroska streams are kept. Indexing is off until this is
+   * called.
+   */
+  void setSeekIndexStore(@Nullable SeekIndexStore seekIndexStore) {
+    this.seekIndexStore = seekIndexStore;
+  }
+
+  @NonNull
+  @Override
+  public Extractor[] createExtractors() {
+    return delegate.createExtractors();
+  }
+
+  @NonNull
+  @Override
+  public Extractor[] createExtractors(
+      @NonNull Uri uri, @NonNull Map<String, List<String>> responseHeaders) {
+    Extractor[] extractors = delegate.createExtractors(uri, responseHeaders);
+    String key = ContentTypeResolver.cacheKey(uri);
+    String known = getContainer(key);
+    String seekIndexKey = seekIndexKeyFor(uri, responseHeaders);
+    List<Extractor> ordered = new ArrayList<>(extractors.length);
+    for (Extractor extractor : extractors) {
+      String container = containerOf(extractor);
+      Extractor wrapped =
+          recording(withSeekIndex(extractor, container, seekIndexKey), container, key);
+      if (known != null && known.equals(container)) {
+        ordered.add(0, wrapped);
+      } else {
+        ordered.add(wrapped);
+      }
+    }
+    return ordered.toArray(new Extractor[0]);
+  }
+
+  /**
+   * Returns a factory that only builds the extractor of {@code container}, or this factory if
+   * {@code container} is null. Unknown containers fall back to sniffing all of them.
+   */
+  @NonNull
+  ExtractorsFactory forContainer(@Nullable String container) {
+    if (container == null) {
+      return this;
+    }
+    return new ExtractorsFactory() {
+      @NonNull
+      @Override
+      public Extractor[] createExtractors() {
+        return filter(delegate.createExtractors(), container, null);
+      }
+
+      @NonNull
+      @Override
+      public Extractor[] createExtractors(
+          @NonNull Uri uri, @NonNull Map<String, List<String>> responseHeaders) {
+        return filter(
+            delegate.createExtractors(uri, responseHeaders),
+            container,
+            seekIndexKeyFor(uri, responseHeaders));
+      }
+    };
+  }
+
+  @VisibleForTesting
+  @Nullable
+  synchronized String getContainer(@NonNull String key) {
+    return containers.get(key);
+  }
+
+  private synchronized void putContainer(@NonNull String key, @NonNull String container) {
+    containers.put(key, container);
+  }
+
+  private Extractor[] filter(
+      Extractor[] extractors, String container, @Nullable String seekIndexKey) {
+    for (Extractor extractor : extractors) {
+      if (container.equals(containerOf(extractor))) {
+        return new Extractor[] {withSeekIndex(extractor, container, seekIndexKey)};
+      }
+    }
+    Log.w(TAG, "No extractor for container hint " + container + ", sniffing all containers");
+    return extractors;
+  }
+
+  /**
+   * Wraps {@code extractor} so that a successful sniff is remembered under {@code key}.
+   *
+   * <p>{@link Mp3Extractor} is left alone: the progressive source checks for it by type to disable
+   * seeking on unbounded streams.
+   */
+  private Extractor recording(Extractor extractor, @Nullable String container, String key) {
+    if (container == null || container.equals("mp3")) {
+      return extractor;
+    }
+    return new Extractor() {
+      @Override
+      public boolean sniff(@NonNull ExtractorInput input) throws IOException {
+        boolean recognized = extractor.sniff(input);
+        if (recognized) {
+          putContainer(key, container);
+        }
+        return recognized;
+      }
+
+      @Override
+      public void init(@NonNull ExtractorOutput output) {
+        extractor.init(output);
+      }
+
+      @Override
+      public int read(@NonNull ExtractorInput input, @NonNull PositionHolder seekPosition)
+          throws IOException {
+        return extractor.read(input, seekPosition);
+      }
+
+      @Override
+      public void seek(long position, long timeUs) {
+        extractor.seek(position, timeUs);
+      }
+
+      @Override
+      public void release() {
+        extractor.release();
+      }
+    };
+  }
+
+  @Nullable
+  private String seekIndexKeyFor(Uri uri, Map<String, List<String>> responseHeaders) {
+    SeekIndexStore store = seekIndexStore;
+    return store == null ? null : SeekIndexStore.keyFor(uri, responseHeaders);
+  }
+
+  /** Wraps TS and Matroska extractors in a {@link SeekIndexingExtractor} when indexing is on. */
+  private Extractor withSeekIndex(
+      Extractor extractor, @Nullable String container, @Nullable String seekIndexKey) {
+    SeekIndexStore store = seekIndexStore;
+    if (store == null || seekIndexKey == null) {
+      return extractor;
+    }
+    if ("ts".equals(container) || "mkv".equals(container)) {
+      return new SeekIndexingExtractor(extractor, "mkv".equals(container), store, seekIndexKey);
+    }
+    return extractor;
+  }
+
+  /** Returns the container name used by {@code containerHint} for {@code extractor}. */
+  @VisibleForTesting
+  @Nullable
+  static String containerOf(@NonNull Extractor extractor) {
+    if (extractor instanceof TsExtractor) {
+      return "ts";
+    } else if (extractor instanceof Mp4Extractor) {
+      return "mp4";
+    } else if (extractor instanceof FragmentedMp4Extractor) {
+      return "fmp4";
+    } else if (extractor instanceof MatroskaExtractor) {
+      return "mkv";
+    } else if (extractor instanceof FlvExtractor) {
+      return "flv";
+    } else if (extractor instanceof AdtsExtractor) {
+      return "adts";
+    } else if (extractor instanceof Mp3Extractor) {
+      return "mp3";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,277 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSourceUtil;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out the content type of URLs that carry no file extension.
+ *
+ * <p>{@code Util.inferContentType} only looks at the path, so extension-less IPTV and tokenized CDN
+ * URLs always come back as {@link C#CONTENT_TYPE_OTHER} and go through progressive sniffing even
+ * when they point at an HLS playlist. This class issues a single small range request, looks at the
+ * {@code Content-Type} header and the first bytes of the body, and remembers the answer for a while
+ * under the URL's host and path shape, so that the next URL from the same service resolves without
+ * any network round trip. The request goes through the data source factory the caller plays with,
+ * so it carries the same user agent, headers and redirect handling as playback.
+ *
+ * <p>Up to {@link #MAX_CONCURRENT_PROBES} hosts are probed at once, so one slow server does not
+ * hold up the others, and concurrent probes of the same entry are merged into one request.
+ *
+ * <p>The cache is thread-safe. Callbacks of {@link #resolve} are delivered on the main thread.
+ */
+final class ContentTypeResolver {
+  private static final String TAG = "ContentTypeResolver";
+
+  static final long DEFAULT_TTL_MS = 10 * 60 * 1000;
+  private static final int MAX_ENTRIES = 256;
+  private static final int PROBE_BYTES = 1024;
+  static final int MAX_CONCURRENT_PROBES = 4;
+
+  interface Callback {
+    void onResolved(@C.ContentType int type);
+  }
+
+  private static final class Entry {
+    final @C.ContentType int type;
+    final long expiresAtMs;
+
+    Entry(@C.ContentType int type, long expiresAtMs) {
+      this.type = type;
+      this.expiresAtMs = expiresAtMs;
+    }
+  }
+
+  private final long ttlMs;
+  private final Map<String, Entry> cache =
+      new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+  // Callbacks waiting for the probe in flight for each cache key.
+  private final Map<String, List<Callback>> inFlight = new HashMap<>();
+  // Threads go away when no probe has run for a while, so the resolver never needs an explicit
+  // release.
+  private final ThreadPoolExecutor executor =
+      new ThreadPoolExecutor(
+          MAX_CONCURRENT_PROBES,
+          MAX_CONCURRENT_PROBES,
+          30,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>());
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  ContentTypeResolver() {
+    this(DEFAULT_TTL_MS);
+  }
+
+  ContentTypeResolver(long ttlMs) {
+    this.ttlMs = ttlMs;
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /** Whether {@code uri} is something a probe can be sent to. */
+  static boolean canProbe(@NonNull Uri uri) {
+    String scheme = uri.getScheme();
+    return "http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme);
+  }
+
+  /**
+   * Whether {@code uri} should be probed before it is played: it can be probed, and nothing is
+   * cached for it, not even {@link C#CONTENT_TYPE_OTHER}.
+   */
+  boolean shouldProbe(@NonNull Uri uri) {
+    return canProbe(uri) && getCached(uri) == null;
+  }
+
+  /** Returns the cached type for {@code uri}, or null if it has to be probed. */
+  @Nullable
+  synchronized Integer getCached(@NonNull Uri uri) {
+    String key = cacheKey(uri);
+    Entry entry = cache.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAtMs <= SystemClock.elapsedRealtime()) {
+      cache.remove(key);
+      return null;
+    }
+    return entry.type;
+  }
+
+  synchronized void put(@NonNull Uri uri, @C.ContentType int type) {
+    cache.put(cacheKey(uri), new Entry(type, SystemClock.elapsedRealtime() + ttlMs));
+  }
+
+  /**
+   * Probes {@code uri} with a data source from {@code dataSourceFactory} off the main thread and
+   * reports the result on the main thread. Probe failures, including answers other than 2xx,
+   * resolve to {@link C#CONTENT_TYPE_OTHER}, which is what the player used before, and are not
+   * cached.
+   */
+  void resolve(
+      @NonNull Uri uri,
+      @NonNull DataSource.Factory dataSourceFactory,
+      @NonNull Callback callback) {
+    String key = cacheKey(uri);
+    synchronized (this) {
+      List<Callback> waiting = inFlight.get(key);
+      if (waiting != null) {
+        waiting.add(callback);
+        return;
+      }
+      waiting = new ArrayList<>();
+      waiting.add(callback);
+      inFlight.put(key, waiting);
+    }
+    executor.execute(
+        () -> {
+          int type = C.CONTENT_TYPE_OTHER;
+          try {
+            type = probe(uri, dataSourceFactory.createDataSource());
+            put(uri, type);
+          } catch (IOException e) {
+            Log.w(TAG, "Content type probe failed for " + uri.getHost(), e);
+          }
+          List<Callback> callbacks;
+          synchronized (ContentTypeResolver.this) {
+            callbacks = inFlight.remove(key);
+          }
+          final int resolvedType = type;
+          mainHandler.post(
+              () -> {
+                for (Callback waiting : callbacks) {
+                  waiting.onResolved(resolvedType);
+                }
+              });
+        });
+  }
+
+  private static @C.ContentType int probe(@NonNull Uri uri, @NonNull DataSource dataSource)
+      throws IOException {
+    try {
+      // A range request gives us the header and the first bytes in one round trip. Servers that
+      // ignore the range answer 200 with the whole body; only the first bytes are read either way.
+      // Error pages say nothing about the content type, and caching them would overwrite what the
+      // other URLs of the service resolved to: HTTP data sources throw on answers other than 2xx.
+      dataSource.open(new DataSpec.Builder().setUri(uri).setLength(PROBE_BYTES).build());
+      int type = typeForMimeType(contentTypeOf(dataSource.getResponseHeaders()));
+      if (type != C.CONTENT_TYPE_OTHER) {
+        return type;
+      }
+      byte[] buffer = new byte[PROBE_BYTES];
+      int length = 0;
+      int read;
+      while (length < buffer.length
+          && (read = dataSource.read(buffer, length, buffer.length - length))
+              != C.RESULT_END_OF_INPUT) {
+        length += read;
+      }
+      return typeForContent(buffer, length);
+    } finally {
+      DataSourceUtil.closeQuietly(dataSource);
+    }
+  }
+
+  @Nullable
+  private static String contentTypeOf(@NonNull Map<String, List<String>> headers) {
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      // The status line is listed under a null name.
+      if ("Content-Type".equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+
+  @VisibleForTesting
+  static @C.ContentType int typeForMimeType(@Nullable String contentType) {
+    if (contentType == null) {
+      return C.CONTENT_TYPE_OTHER;
+    }
+    String mimeType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.US);
+    switch (mimeType) {
+      case "application/vnd.apple.mpegurl":
+      case "application/x-mpegurl":
+      case "audio/mpegurl":
+      case "audio/x-mpegurl":
+        return C.CONTENT_TYPE_HLS;
+      case "application/dash+xml":
+        return C.CONTENT_TYPE_DASH;
+      case "application/vnd.ms-sstr+xml":
+        return C.CONTENT_TYPE_SS;
+      default:
+        return C.CONTENT_TYPE_OTHER;
+    }
+  }
+
+  @VisibleForTesting
+  static @C.ContentType int typeForContent(@NonNull byte[] data, int length) {
+    String head = new String(data, 0, length, Charset.forName("UTF-8"));
+    // Skip a UTF-8 byte order mark and leading whitespace.
+    String trimmed = head.replace("\uFEFF", "").trim();
+    if (trimmed.startsWith("#EXTM3U")) {
+      return C.CONTENT_TYPE_HLS;
+    }
+    if (trimmed.startsWith("<")) {
+      if (trimmed.contains("<MPD")) {
+        return C.CONTENT_TYPE_DASH;
+      }
+      if (trimmed.contains("<SmoothStreamingMedia")) {
+        return C.CONTENT_TYPE_SS;
+      }
+    }
+    return C.CONTENT_TYPE_OTHER;
+  }
+
+  /**
+   * Returns the host and the shape of the path of {@code uri}. Path segments that contain a digit
+   * (channel ids, tokens, timestamps) are replaced by {@code *}, so that all channels of a service
+   * share an entry.
+   */
+  @VisibleForTesting
+  static @NonNull String cacheKey(@NonNull Uri uri) {
+    StringBuilder key = new StringBuilder();
+    key.append(uri.getScheme()).append("://").append(uri.getAuthority());
+    for (String segment : uri.getPathSegments()) {
+      key.append('/');
+      key.append(containsDigit(segment) ? "*" : segment);
+    }
+    return key.toString();
+  }
+
+  private static boolean containsDigit(String segment) {
+    for (int i = 0; i < segment.length(); i++) {
+      if (Character.isDigit(segment.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
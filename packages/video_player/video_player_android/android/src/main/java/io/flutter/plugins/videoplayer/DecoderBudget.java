@@ -0,0 +1,194 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Build;
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.mediacodec.MediaCodecInfo;
+import com.google.android.exoplayer2.mediacodec.MediaCodecSelector;
+import com.google.android.exoplayer2.mediacodec.MediaCodecUtil;
+import com.google.android.exoplayer2.util.MimeTypes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shares the device's hardware video decoders between all players.
+ *
+ * <p>Every player has a priority, {@link #PRIORITY_VISIBLE} unless Dart says otherwise. Players
+ * are ranked by priority, older players first on a tie, and the first {@link
+ * #getMaxHardwareDecoders()} that are not in the background get a hardware decoder. Other visible
+ * players decode in software at no more than {@link #SOFTWARE_MAX_WIDTH} x {@link
+ * #SOFTWARE_MAX_HEIGHT}, and background players get no video decoder at all. The ranking is redone
+ * whenever a player is added, removed or changes priority, so a focused player takes its slot back
+ * from a visible one.
+ *
+ * <p>The number of hardware decoders is what the H.264 decoder reports, which devices tend to
+ * overstate, unless Dart sets it.
+ */
+final class DecoderBudget {
+  static final int PRIORITY_BACKGROUND = 0;
+  static final int PRIORITY_VISIBLE = 1;
+  static final int PRIORITY_FOCUSED = 2;
+
+  static final int GRANT_NONE = 0;
+  static final int GRANT_SOFTWARE = 1;
+  static final int GRANT_HARDWARE = 2;
+
+  static final int SOFTWARE_MAX_WIDTH = 640;
+  static final int SOFTWARE_MAX_HEIGHT = 360;
+
+  private static final int DEFAULT_MAX_HARDWARE_DECODERS = 4;
+  // Reported limits above this are not believable for concurrent playback.
+  private static final int MAX_REPORTED_HARDWARE_DECODERS = 8;
+
+  private final LongSparseArray<VideoPlayer> videoPlayers;
+  private final LongSparseArray<Integer> priorities = new LongSparseArray<>();
+  private int maxHardwareDecoders = 0;
+
+  DecoderBudget(@NonNull LongSparseArray<VideoPlayer> videoPlayers) {
+    this.videoPlayers = videoPlayers;
+  }
+
+  void add(long textureId) {
+    priorities.put(textureId, PRIORITY_VISIBLE);
+    rebalance();
+  }
+
+  void remove(long textureId) {
+    priorities.remove(textureId);
+    rebalance();
+  }
+
+  void clear() {
+    priorities.clear();
+  }
+
+  void setPriority(long textureId, int priority) {
+    if (priorities.indexOfKey(textureId) < 0) {
+      throw new IllegalStateException("No video player with texture id " + textureId);
+    }
+    priorities.put(textureId, priority);
+    rebalance();
+  }
+
+  /** Sets how many hardware decoders may run at once, or detects it again for 0. */
+  void setMaxHardwareDecoders(int maxHardwareDecoders) {
+    this.maxHardwareDecoders = Math.max(0, maxHardwareDecoders);
+    rebalance();
+  }
+
+  int getMaxHardwareDecoders() {
+    if (maxHardwareDecoders == 0) {
+      maxHardwareDecoders = detectMaxHardwareDecoders();
+    }
+    return maxHardwareDecoders;
+  }
+
+  /** Returns the grant of every player, by texture id. */
+  @VisibleForTesting
+  LongSparseArray<Integer> computeGrants() {
+    List<Long> ranked = new ArrayList<>(priorities.size());
+    for (int i = 0; i < priorities.size(); i++) {
+      ranked.add(priorities.keyAt(i));
+    }
+    // Texture ids grow, so on equal priority the older player ranks first.
+    Collections.sort(
+        ranked,
+        (a, b) -> {
+          int byPriority = priorities.get(b) - priorities.get(a);
+          return byPriority != 0 ? byPriority : (a < b ? -1 : (a > b ? 1 : 0));
+        });
+
+    LongSparseArray<Integer> grants = new LongSparseArray<>();
+    int slots = getMaxHardwareDecoders();
+    for (long textureId : ranked) {
+      int grant;
+      if (priorities.get(textureId) == PRIORITY_BACKGROUND) {
+        grant = GRANT_NONE;
+      } else if (slots > 0) {
+        grant = GRANT_HARDWARE;
+        slots--;
+      } else {
+        grant = GRANT_SOFTWARE;
+      }
+      grants.put(textureId, grant);
+    }
+    return grants;
+  }
+
+  private void rebalance() {
+    LongSparseArray<Integer> grants = computeGrants();
+    // Take slots away before handing them out, so two hardware codecs never overlap needlessly.
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < grants.size(); i++) {
+        VideoPlayer player = videoPlayers.get(grants.keyAt(i));
+        int grant = grants.valueAt(i);
+        if (player != null && (grant == GRANT_HARDWARE) == (pass == 1)) {
+          player.setDecoderGrant(grant);
+        }
+      }
+    }
+  }
+
+  private static int detectMaxHardwareDecoders() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      try {
+        MediaCodecInfo info =
+            MediaCodecUtil.getDecoderInfo(
+                MimeTypes.VIDEO_H264, /* secure= */ false, /* tunneling= */ false);
+        if (info != null && info.hardwareAccelerated && info.capabilities != null) {
+          int reported = info.capabilities.getMaxSupportedInstances();
+          return Math.max(1, Math.min(reported, MAX_REPORTED_HARDWARE_DECODERS));
+        }
+      } catch (MediaCodecUtil.DecoderQueryException e) {
+        // Fall through to the default.
+      }
+    }
+    return DEFAULT_MAX_HARDWARE_DECODERS;
+  }
+
+  /**
+   * Lists software video decoders ahead of hardware ones while its player holds no hardware slot.
+   * Hardware decoders stay in the list as a fallback, for secure content in particular.
+   *
+   * <p>Codecs are chosen when the video renderer is enabled, on the playback thread, so a change
+   * only applies to the next codec the player creates.
+   */
+  static final class CodecSelector implements MediaCodecSelector {
+    private volatile boolean hardwareAllowed = true;
+
+    void setHardwareAllowed(boolean hardwareAllowed) {
+      this.hardwareAllowed = hardwareAllowed;
+    }
+
+    @NonNull
+    @Override
+    public List<MediaCodecInfo> getDecoderInfos(
+        @NonNull String mimeType, boolean requiresSecureDecoder, boolean requiresTunnelingDecoder)
+        throws MediaCodecUtil.DecoderQueryException {
+      List<MediaCodecInfo> infos =
+          MediaCodecSelector.DEFAULT.getDecoderInfos(
+              mimeType, requiresSecureDecoder, requiresTunnelingDecoder);
+      if (hardwareAllowed || !MimeTypes.isVideo(mimeType)) {
+        return infos;
+      }
+      List<MediaCodecInfo> softwareFirst = new ArrayList<>(infos.size());
+      for (MediaCodecInfo info : infos) {
+        if (info.softwareOnly) {
+          softwareFirst.add(info);
+        }
+      }
+      for (MediaCodecInfo info : infos) {
+        if (!info.softwareOnly) {
+          softwareFirst.add(info);
+        }
+      }
+      return softwareFirst;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.util.Util;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Handles the calls Dart makes several times a second per player: position, seekTo, play, pause and
+ * setVolume.
+ *
+ * <p>These skip the Pigeon codec. Each request and reply has a fixed little-endian layout of
+ * primitives, and replies are written into one reused buffer, so a call allocates no message
+ * objects and boxes nothing. The engine copies a reply before {@link BinaryMessenger.BinaryReply}
+ * returns, and all calls arrive on the platform thread, so sharing the buffer is safe. Everything
+ * else stays on the Pigeon API.
+ *
+ * <p>Requests are {@link #REQUEST_BYTES} long:
+ *
+ * <pre>
+ *   0      opcode (one of the OP_ constants)
+ *   1..7   reserved
+ *   8..15  texture id, int64
+ *   16..23 argument: position in ms as int64 for seekTo, volume as float64 for setVolume
+ * </pre>
+ *
+ * <p>Replies start with a status byte, {@link #STATUS_OK} or {@link #STATUS_ERROR}. An error is
+ * followed by the UTF-8 description of the exception. A successful position reply is followed by
+ * a byte telling whether the player is live, six reserved bytes, the position in ms as int64 and
+ * the distance to the live edge in ms as int64.
+ */
+final class FastChannel implements BinaryMessenger.BinaryMessageHandler {
+  static final String NAME = "flutter.io/videoPlayer/fast";
+
+  static final byte OP_POSITION = 0;
+  static final byte OP_SEEK_TO = 1;
+  static final byte OP_PLAY = 2;
+  static final byte OP_PAUSE = 3;
+  static final byte OP_SET_VOLUME = 4;
+
+  static final byte STATUS_OK = 0;
+  static final byte STATUS_ERROR = 1;
+
+  static final int REQUEST_BYTES = 24;
+  static final int POSITION_REPLY_BYTES = 24;
+
+  private final LongSparseArray<VideoPlayer> videoPlayers;
+  private final ByteBuffer reply =
+      ByteBuffer.allocateDirect(POSITION_REPLY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+  FastChannel(@NonNull LongSparseArray<VideoPlayer> videoPlayers) {
+    this.videoPlayers = videoPlayers;
+  }
+
+  @Override
+  public void onMessage(
+      @Nullable ByteBuffer message, @NonNull BinaryMessenger.BinaryReply callback) {
+    try {
+      callback.reply(handle(message));
+    } catch (RuntimeException e) {
+      byte[] description = Util.getUtf8Bytes(e.toString());
+      ByteBuffer error = ByteBuffer.allocateDirect(1 + description.length);
+      error.put(STATUS_ERROR).put(description);
+      callback.reply(error);
+    }
+  }
+
+  @NonNull
+  private ByteBuffer handle(@Nullable ByteBuffer message) {
+    if (message == null || message.remaining() < REQUEST_BYTES) {
+      throw new IllegalArgumentException("Malformed fast channel request");
+    }
+    message.order(ByteOrder.LITTLE_ENDIAN);
+    int start = message.position();
+    byte opcode = message.get(start);
+    long textureId = message.getLong(start + 8);
+    VideoPlayer player = videoPlayers.get(textureId);
+    if (player == null) {
+      throw new IllegalStateException("No video player with texture id " + textureId);
+    }
+
+    reply.clear();
+    reply.put(STATUS_OK);
+    switch (opcode) {
+      case OP_POSITION:
+        long liveOffset = player.getLiveOffset();
+        reply.put(liveOffset == C.TIME_UNSET ? (byte) 0 : (byte) 1);
+        reply.position(8);
+        reply.putLong(player.getPosition());
+        reply.putLong(liveOffset == C.TIME_UNSET ? 0 : liveOffset);
+        // Same side effect as the Pigeon position call, which Dart polls for buffering updates.
+        player.sendBufferingUpdate();
+        break;
+      case OP_SEEK_TO:
+        player.seekTo((int) message.getLong(start + 16));
+        break;
+      case OP_PLAY:
+        player.play();
+        break;
+      case OP_PAUSE:
+        player.pause();
+        break;
+      case OP_SET_VOLUME:
+        player.setVolume(message.getDouble(start + 16));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown fast channel opcode " + opcode);
+    }
+    return reply;
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.SystemClock;
+import android.text.TextUtils;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets the network ready for hosts a player is about to open, so the first manifest request does
+ * not pay for DNS, TCP and TLS.
+ *
+ * <p>Warming a host resolves its name, which fills the system resolver cache for as long as the
+ * DNS records allow, and sends a {@code HEAD} request to its root. The response is read without
+ * disconnecting, which leaves an idle keep-alive connection in the platform's connection pool.
+ * Players use {@link HttpURLConnection} through the same pool and socket factory, so their first
+ * request to the host reuses it. A host is not warmed again for {@link #WARM_TTL_MS}.
+ *
+ * <p>The origins of the last {@link #MAX_RECENT_HOSTS} players are remembered across app starts,
+ * and {@link #warmupRecentHosts()} warms them while the app is still starting up.
+ */
+final class HostWarmer {
+  private static final String TAG = "HostWarmer";
+
+  static final String PREFERENCES = "video_player_hosts";
+  private static final String KEY_RECENT_HOSTS = "recent_hosts";
+
+  static final long WARM_TTL_MS = 60_000;
+  static final int MAX_RECENT_HOSTS = 8;
+  private static final int TIMEOUT_MS = 3000;
+  private static final int MAX_THREADS = 4;
+
+  private final SharedPreferences preferences;
+  private final Map<String, Long> warmedAtMs = new HashMap<>();
+  private final ThreadPoolExecutor executor =
+      new ThreadPoolExecutor(
+          MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+  @Nullable private List<String> recentHosts;
+
+  HostWarmer(@NonNull SharedPreferences preferences) {
+    this.preferences = preferences;
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Returns the {@code scheme://host[:port]} origin of {@code host}, which may be a URL or a bare
+   * host name, or null if it cannot be warmed. Bare host names are taken to be HTTPS.
+   */
+  @VisibleForTesting
+  @Nullable
+  static String originOf(@NonNull String host) {
+    Uri uri = Uri.parse(host.contains("://") ? host : "https://" + host);
+    String scheme = uri.getScheme();
+    if (uri.getHost() == null
+        || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+      return null;
+    }
+    String origin = scheme.toLowerCase(Locale.US) + "://" + uri.getHost().toLowerCase(Locale.US);
+    return uri.getPort() != -1 ? origin + ":" + uri.getPort() : origin;
+  }
+
+  /** Warms every host of {@code hosts} that was not warmed recently. */
+  void warmup(@NonNull List<String> hosts) {
+    for (String host : hosts) {
+      String origin = host != null ? originOf(host) : null;
+      if (origin != null && markWarmed(origin)) {
+        executor.execute(() -> warm(origin));
+      }
+    }
+  }
+
+  /** Warms the hosts of the last players, as remembered from earlier runs. */
+  void warmupRecentHosts() {
+    executor.execute(() -> warmup(getRecentHosts()));
+  }
+
+  /** Remembers the host of a player's URI for {@link #warmupRecentHosts()}. */
+  void recordHost(@NonNull Uri uri) {
+    String origin = originOf(uri.toString());
+    if (origin == null) {
+      return;
+    }
+    markWarmed(origin);
+    List<String> hosts;
+    synchronized (this) {
+      hosts = new ArrayList<>(getRecentHosts());
+      if (!hosts.isEmpty() && hosts.get(0).equals(origin)) {
+        return;
+      }
+      hosts.remove(origin);
+      hosts.add(0, origin);
+      while (hosts.size() > MAX_RECENT_HOSTS) {
+        hosts.remove(hosts.size() - 1);
+      }
+      recentHosts = hosts;
+    }
+    preferences.edit().putString(KEY_RECENT_HOSTS, TextUtils.join(" ", hosts)).apply();
+  }
+
+  @VisibleForTesting
+  synchronized List<String> getRecentHosts() {
+    if (recentHosts == null) {
+      String stored = preferences.getString(KEY_RECENT_HOSTS, "");
+      recentHosts =
+          stored.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(stored.split(" ")));
+    }
+    return recentHosts;
+  }
+
+  /** Returns whether {@code origin} is due for warming, and counts it as warm from now on. */
+  private synchronized boolean markWarmed(String origin) {
+    long nowMs = SystemClock.elapsedRealtime();
+    Long warmedMs = warmedAtMs.get(origin);
+    if (warmedMs != null && nowMs - warmedMs < WARM_TTL_MS) {
+      return false;
+    }
+    warmedAtMs.put(origin, nowMs);
+    return true;
+  }
+
+  private static void warm(String origin) {
+    try {
+      InetAddress.getAllByName(Uri.parse(origin).getHost());
+      HttpURLConnection connection = (HttpURLConnection) new URL(origin + "/").openConnection();
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      connection.setInstanceFollowRedirects(false);
+      connection.setRequestMethod("HEAD");
+      // Closing the stream rather than disconnecting hands the connection back to the pool.
+      int responseCode = connection.getResponseCode();
+      InputStream stream =
+          responseCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+      if (stream != null) {
+        stream.close();
+      }
+    } catch (IOException e) {
+      Log.d(TAG, "Warming " + origin + " failed", e);
+    }
+  }
+}
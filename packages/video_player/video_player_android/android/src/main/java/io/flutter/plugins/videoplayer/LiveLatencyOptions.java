@@ -0,0 +1,127 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.DefaultLivePlaybackSpeedControl;
+import com.google.android.exoplayer2.LivePlaybackSpeedControl;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+
+/**
+ * Per-player settings for keeping a live stream at a fixed distance from the live edge.
+ *
+ * <p>The target offset and speed bounds Dart sets are attached to the {@link MediaItem} so that
+ * they override whatever the HLS/DASH manifest advertises, and the same bounds are used as the
+ * fallback of the player's {@link LivePlaybackSpeedControl}. Whatever Dart leaves unset stays unset
+ * on the media item, so the offsets a manifest signals, such as the HOLD-BACK of HLS playlists or
+ * the service description of DASH manifests, still apply.
+ *
+ * <p>In low-latency mode the target offset defaults to the one the stream advertises: the
+ * PART-HOLD-BACK of LL-HLS playlists, whose partial segments, preload hints and blocking reloads
+ * ExoPlayer handles on its own, or the service description of low-latency DASH manifests, whose
+ * chunks it reads as they arrive. The speed control catches up faster, and playback starts with
+ * less buffered, so that joining lands near the live edge.
+ */
+final class LiveLatencyOptions {
+  /**
+   * How much the target offset grows after each rebuffer. The speed control then slowly moves the
+   * target back towards the requested offset once playback is stable again.
+   */
+  static final long TARGET_OFFSET_INCREMENT_ON_REBUFFER_MS = 1000;
+
+  static final long LOW_LATENCY_TARGET_OFFSET_INCREMENT_ON_REBUFFER_MS = 500;
+
+  /** The target offset of low-latency DASH manifests without a service description. */
+  static final long LOW_LATENCY_DASH_FALLBACK_TARGET_OFFSET_MS = 3000;
+
+  static final float LOW_LATENCY_FALLBACK_MIN_PLAYBACK_SPEED = 0.95f;
+  static final float LOW_LATENCY_FALLBACK_MAX_PLAYBACK_SPEED = 1.05f;
+  static final int LOW_LATENCY_BUFFER_FOR_PLAYBACK_MS = 1000;
+  static final int LOW_LATENCY_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS = 2000;
+
+  static final LiveLatencyOptions DEFAULT =
+      new LiveLatencyOptions(C.TIME_UNSET, C.RATE_UNSET, C.RATE_UNSET, false);
+
+  final long targetOffsetMs;
+  final float minPlaybackSpeed;
+  final float maxPlaybackSpeed;
+  final boolean lowLatency;
+
+  LiveLatencyOptions(
+      long targetOffsetMs, float minPlaybackSpeed, float maxPlaybackSpeed, boolean lowLatency) {
+    this.targetOffsetMs = targetOffsetMs;
+    this.minPlaybackSpeed = minPlaybackSpeed;
+    this.maxPlaybackSpeed = maxPlaybackSpeed;
+    this.lowLatency = lowLatency;
+  }
+
+  static @NonNull LiveLatencyOptions fromMessage(@NonNull CreateMessage arg) {
+    Long targetOffsetMs = arg.getLiveTargetOffsetMs();
+    Double minPlaybackSpeed = arg.getLiveMinPlaybackSpeed();
+    Double maxPlaybackSpeed = arg.getLiveMaxPlaybackSpeed();
+    boolean lowLatency = Boolean.TRUE.equals(arg.getLiveLowLatency());
+    return new LiveLatencyOptions(
+        targetOffsetMs != null ? targetOffsetMs : C.TIME_UNSET,
+        minPlaybackSpeed != null ? minPlaybackSpeed.floatValue() : C.RATE_UNSET,
+        maxPlaybackSpeed != null ? maxPlaybackSpeed.floatValue() : C.RATE_UNSET,
+        lowLatency);
+  }
+
+  /** The buffered duration playback starts with. */
+  int getBufferForPlaybackMs() {
+    return lowLatency
+        ? LOW_LATENCY_BUFFER_FOR_PLAYBACK_MS
+        : DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS;
+  }
+
+  /** The buffered duration playback resumes with after a rebuffer. */
+  int getBufferForPlaybackAfterRebufferMs() {
+    return lowLatency
+        ? LOW_LATENCY_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS
+        : DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS;
+  }
+
+  /** The target offset of DASH manifests that define none. */
+  long getDashFallbackTargetOffsetMs() {
+    return lowLatency
+        ? LOW_LATENCY_DASH_FALLBACK_TARGET_OFFSET_MS
+        : DashMediaSource.DEFAULT_FALLBACK_TARGET_LIVE_OFFSET_MS;
+  }
+
+  @NonNull
+  MediaItem.LiveConfiguration toMediaItemConfiguration() {
+    return new MediaItem.LiveConfiguration.Builder()
+        .setTargetOffsetMs(targetOffsetMs)
+        .setMinPlaybackSpeed(minPlaybackSpeed)
+        .setMaxPlaybackSpeed(maxPlaybackSpeed)
+        .build();
+  }
+
+  @NonNull
+  LivePlaybackSpeedControl buildSpeedControl() {
+    DefaultLivePlaybackSpeedControl.Builder builder =
+        new DefaultLivePlaybackSpeedControl.Builder()
+            .setTargetLiveOffsetIncrementOnRebufferMs(
+                lowLatency
+                    ? LOW_LATENCY_TARGET_OFFSET_INCREMENT_ON_REBUFFER_MS
+                    : TARGET_OFFSET_INCREMENT_ON_REBUFFER_MS);
+    // The fallback bounds only apply when neither the media item nor the manifest define them.
+    if (minPlaybackSpeed != C.RATE_UNSET && minPlaybackSpeed > 0 && minPlaybackSpeed <= 1) {
+      builder.setFallbackMinPlaybackSpeed(minPlaybackSpeed);
+    } else if (lowLatency) {
+      builder.setFallbackMinPlaybackSpeed(LOW_LATENCY_FALLBACK_MIN_PLAYBACK_SPEED);
+    }
+    if (maxPlaybackSpeed != C.RATE_UNSET && maxPlaybackSpeed >= 1) {
+      builder.setFallbackMaxPlaybackSpeed(maxPlaybackSpeed);
+    } else if (lowLatency) {
+      builder.setFallbackMaxPlaybackSpeed(LOW_LATENCY_FALLBACK_MAX_PLAYBACK_SPEED);
+    }
+    return builder.build();
+  }
+}
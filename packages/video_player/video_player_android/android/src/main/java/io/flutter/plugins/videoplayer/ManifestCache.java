@@ -0,0 +1,332 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifest;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifestParser;
+import com.google.android.exoplayer2.source.hls.playlist.DefaultHlsPlaylistParserFactory;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMediaPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMultivariantPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylistParserFactory;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.ParsingLoadable;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps parsed HLS playlists and DASH manifests for a while, so that a player opening a stream
+ * another player or queue item loaded moments ago skips both the request and the parse.
+ *
+ * <p>Entries are keyed on the requested URI and the player's HTTP headers. They live for the {@code
+ * max-age} of the response's {@code Cache-Control} header, and are not kept at all for {@code
+ * no-store} or {@code no-cache}. Without the header, multivariant playlists, VOD media playlists
+ * and static manifests live for {@link #getTtlMs()}, while live media playlists and dynamic
+ * manifests live for {@link #getLiveTtlMs()}, which is 0 unless Dart sets it: a live playlist
+ * changes every target duration.
+ *
+ * <p>A player takes part through the {@link DataSource.Factory} returned by {@link #wrap}. On a
+ * hit, its data source opens an empty stream without touching the network and the parsers below
+ * hand back the cached object. The data source and the parser meet on the loading thread, which
+ * runs both for one load.
+ *
+ * <p>The cache is thread-safe.
+ */
+final class ManifestCache {
+  static final long DEFAULT_TTL_MS = 60_000;
+  static final long DEFAULT_LIVE_TTL_MS = 0;
+  private static final int MAX_ENTRIES = 64;
+
+  private static final class Entry {
+    final Object manifest;
+    final long expiresAtMs;
+
+    Entry(Object manifest, long expiresAtMs) {
+      this.manifest = manifest;
+      this.expiresAtMs = expiresAtMs;
+    }
+  }
+
+  /** The last whole-resource load the current thread opened. */
+  private static final class Load {
+    final String key;
+    final Uri uri;
+    @Nullable final Object cachedManifest;
+    final long maxAgeMs;
+
+    Load(String key, Uri uri, @Nullable Object cachedManifest, long maxAgeMs) {
+      this.key = key;
+      this.uri = uri;
+      this.cachedManifest = cachedManifest;
+      this.maxAgeMs = maxAgeMs;
+    }
+  }
+
+  private final Map<String, Entry> entries =
+      new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+  private final ThreadLocal<Load> loads = new ThreadLocal<>();
+  private final HlsPlaylistParserFactory hlsPlaylistParserFactory =
+      new CachingHlsPlaylistParserFactory(new DefaultHlsPlaylistParserFactory());
+  private final ParsingLoadable.Parser<DashManifest> dashManifestParser =
+      cachingParser(new DashManifestParser(), DashManifest.class);
+  private volatile long ttlMs = DEFAULT_TTL_MS;
+  private volatile long liveTtlMs = DEFAULT_LIVE_TTL_MS;
+
+  /**
+   * Sets how long manifests without a {@code Cache-Control} header are kept, and drops what is
+   * cached. 0 stops caching them.
+   */
+  void setTtls(long ttlMs, long liveTtlMs) {
+    this.ttlMs = Math.max(0, ttlMs);
+    this.liveTtlMs = Math.max(0, liveTtlMs);
+    clear();
+  }
+
+  long getTtlMs() {
+    return ttlMs;
+  }
+
+  long getLiveTtlMs() {
+    return liveTtlMs;
+  }
+
+  synchronized void clear() {
+    entries.clear();
+  }
+
+  /** Returns a factory whose data sources serve cached manifests for {@code httpHeaders}. */
+  @NonNull
+  DataSource.Factory wrap(
+      @NonNull DataSource.Factory upstream, @NonNull Map<String, String> httpHeaders) {
+    String headersKey = new TreeMap<>(httpHeaders).toString();
+    return () -> new CachingDataSource(upstream.createDataSource(), headersKey);
+  }
+
+  @NonNull
+  HlsPlaylistParserFactory getHlsPlaylistParserFactory() {
+    return hlsPlaylistParserFactory;
+  }
+
+  @NonNull
+  ParsingLoadable.Parser<DashManifest> getDashManifestParser() {
+    return dashManifestParser;
+  }
+
+  /** Wraps {@code parser} so that it stores what it parses and skips the parse on a hit. */
+  @VisibleForTesting
+  @NonNull
+  <T> ParsingLoadable.Parser<T> cachingParser(
+      @NonNull ParsingLoadable.Parser<T> parser, @NonNull Class<T> type) {
+    return (uri, inputStream) -> {
+      Load load = loads.get();
+      loads.remove();
+      if (load == null || !load.uri.equals(uri)) {
+        return parser.parse(uri, inputStream);
+      }
+      if (load.cachedManifest != null) {
+        if (!type.isInstance(load.cachedManifest)) {
+          // The same URI was loaded as another kind of stream. The stream opened empty, so fail
+          // this attempt; the retry goes to the network.
+          remove(load.key);
+          throw new IOException("Cached manifest has the wrong type for " + uri);
+        }
+        return type.cast(load.cachedManifest);
+      }
+      T manifest = parser.parse(uri, inputStream);
+      long entryTtlMs = load.maxAgeMs != C.TIME_UNSET ? load.maxAgeMs : ttlFor(manifest);
+      if (entryTtlMs > 0) {
+        put(load.key, manifest, entryTtlMs);
+      }
+      return manifest;
+    };
+  }
+
+  private long ttlFor(Object manifest) {
+    boolean live;
+    if (manifest instanceof HlsMediaPlaylist) {
+      live = !((HlsMediaPlaylist) manifest).hasEndTag;
+    } else if (manifest instanceof DashManifest) {
+      live = ((DashManifest) manifest).dynamic;
+    } else {
+      live = false;
+    }
+    return live ? liveTtlMs : ttlMs;
+  }
+
+  @Nullable
+  private synchronized Object get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAtMs <= SystemClock.elapsedRealtime()) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.manifest;
+  }
+
+  private synchronized void put(String key, Object manifest, long entryTtlMs) {
+    entries.put(key, new Entry(manifest, SystemClock.elapsedRealtime() + entryTtlMs));
+  }
+
+  private synchronized void remove(String key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Returns the {@code max-age} of {@code headers} in milliseconds, 0 if the response must not be
+   * cached, or {@link C#TIME_UNSET} if it does not say.
+   */
+  @VisibleForTesting
+  static long parseMaxAgeMs(@Nullable Map<String, List<String>> headers) {
+    if (headers == null) {
+      return C.TIME_UNSET;
+    }
+    long maxAgeMs = C.TIME_UNSET;
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (!"Cache-Control".equalsIgnoreCase(header.getKey())) {
+        continue;
+      }
+      for (String value : header.getValue()) {
+        for (String directive : value.split(",")) {
+          directive = directive.trim().toLowerCase(Locale.US);
+          if (directive.equals("no-store") || directive.equals("no-cache")) {
+            return 0;
+          } else if (directive.startsWith("max-age=")) {
+            try {
+              maxAgeMs = Long.parseLong(directive.substring("max-age=".length()).trim()) * 1000;
+            } catch (NumberFormatException e) {
+              // Ignore a malformed max-age, as HTTP caches do.
+            }
+          }
+        }
+      }
+    }
+    return maxAgeMs;
+  }
+
+  private static boolean isWholeResourceGet(DataSpec dataSpec) {
+    return dataSpec.httpMethod == DataSpec.HTTP_METHOD_GET
+        && dataSpec.position == 0
+        && dataSpec.length == C.LENGTH_UNSET;
+  }
+
+  private final class CachingHlsPlaylistParserFactory implements HlsPlaylistParserFactory {
+    private final HlsPlaylistParserFactory delegate;
+
+    CachingHlsPlaylistParserFactory(HlsPlaylistParserFactory delegate) {
+      this.delegate = delegate;
+    }
+
+    @NonNull
+    @Override
+    public ParsingLoadable.Parser<HlsPlaylist> createPlaylistParser() {
+      return cachingParser(delegate.createPlaylistParser(), HlsPlaylist.class);
+    }
+
+    @NonNull
+    @Override
+    public ParsingLoadable.Parser<HlsPlaylist> createPlaylistParser(
+        @NonNull HlsMultivariantPlaylist multivariantPlaylist,
+        @Nullable HlsMediaPlaylist previousMediaPlaylist) {
+      return cachingParser(
+          delegate.createPlaylistParser(multivariantPlaylist, previousMediaPlaylist),
+          HlsPlaylist.class);
+    }
+  }
+
+  /** Serves an empty stream for cached URIs and notes every other whole-resource load. */
+  private final class CachingDataSource implements DataSource {
+    private final DataSource upstream;
+    private final String headersKey;
+    @Nullable private Uri cachedUri;
+
+    CachingDataSource(DataSource upstream, String headersKey) {
+      this.upstream = upstream;
+      this.headersKey = headersKey;
+    }
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {
+      upstream.addTransferListener(transferListener);
+    }
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) throws IOException {
+      loads.remove();
+      cachedUri = null;
+      if (!isWholeResourceGet(dataSpec)) {
+        return upstream.open(dataSpec);
+      }
+      String key = dataSpec.uri + "\n" + headersKey;
+      Object cached = get(key);
+      if (cached != null) {
+        cachedUri = dataSpec.uri;
+        loads.set(new Load(key, cachedUri, cached, C.TIME_UNSET));
+        return 0;
+      }
+      long length = upstream.open(dataSpec);
+      Uri uri = upstream.getUri();
+      loads.set(
+          new Load(
+              key,
+              uri != null ? uri : dataSpec.uri,
+              null,
+              parseMaxAgeMs(upstream.getResponseHeaders())));
+      return length;
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+      if (cachedUri != null) {
+        return C.RESULT_END_OF_INPUT;
+      }
+      return upstream.read(buffer, offset, length);
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return cachedUri != null ? cachedUri : upstream.getUri();
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      return cachedUri != null
+          ? Collections.<String, List<String>>emptyMap()
+          : upstream.getResponseHeaders();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (cachedUri != null) {
+        cachedUri = null;
+        return;
+      }
+      upstream.close();
+    }
+  }
+}
@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
+import com.google.android.exoplayer2.extractor.mp4.FragmentedMp4Extractor;
+import com.google.android.exoplayer2.extractor.ts.DefaultTsPayloadReaderFactory;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.hls.DefaultHlsExtractorFactory;
+import com.google.android.exoplayer2.source.hls.HlsExtractorFactory;
+import com.google.android.exoplayer2.source.hls.HlsMediaSource;
+import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
+import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import java.io.File;
+
+/**
+ * Creates the {@link MediaSource.Factory} for each content type.
+ *
+ * <p>One instance is owned by the plugin and shared by all of its players. The extractor factories
+ * are configured once here; a player only supplies its own {@link DataSource.Factory}, which
+ * carries its HTTP headers, and keeps the resulting factory for the lifetime of the player.
+ *
+ * <p>Progressive sources share a {@link ContainerExtractorsFactory}, so the container learned for
+ * one player's URL skips the sniffing for the next player on the same service.
+ *
+ * <p>HLS and DASH sources parse through a shared {@link ManifestCache}. Players that wrap their
+ * data source factory with it skip loading a manifest another player loaded shortly before.
+ */
+final class MediaSourceFactories {
+  private final HlsExtractorFactory hlsExtractorFactory = new DefaultHlsExtractorFactory();
+
+  private final ContainerExtractorsFactory progressiveExtractorsFactory =
+      new ContainerExtractorsFactory(buildProgressiveExtractorsFactory());
+
+  private final ManifestCache manifestCache = new ManifestCache();
+
+  @NonNull
+  MediaSource.Factory create(@C.ContentType int type, @NonNull DataSource.Factory dataSourceFactory) {
+    return create(type, dataSourceFactory, null);
+  }
+
+  /**
+   * Like {@link #create(int, DataSource.Factory)}, but progressive sources only try the extractor
+   * of {@code containerHint} when it is set.
+   */
+  @NonNull
+  MediaSource.Factory create(
+      @C.ContentType int type,
+      @NonNull DataSource.Factory dataSourceFactory,
+      @Nullable String containerHint) {
+    return create(type, dataSourceFactory, containerHint, LiveLatencyOptions.DEFAULT);
+  }
+
+  /**
+   * Like {@link #create(int, DataSource.Factory, String)}, with the live settings that cannot
+   * travel on the media item.
+   */
+  @NonNull
+  MediaSource.Factory create(
+      @C.ContentType int type,
+      @NonNull DataSource.Factory dataSourceFactory,
+      @Nullable String containerHint,
+      @NonNull LiveLatencyOptions liveOptions) {
+    switch (type) {
+      case C.CONTENT_TYPE_SS:
+        return new SsMediaSource.Factory(
+            new DefaultSsChunkSource.Factory(dataSourceFactory), dataSourceFactory);
+      case C.CONTENT_TYPE_DASH:
+        return new DashMediaSource.Factory(
+                new DefaultDashChunkSource.Factory(dataSourceFactory), dataSourceFactory)
+            .setManifestParser(manifestCache.getDashManifestParser())
+            .setFallbackTargetLiveOffsetMs(liveOptions.getDashFallbackTargetOffsetMs());
+      case C.CONTENT_TYPE_HLS:
+        return new HlsMediaSource.Factory(dataSourceFactory)
+            .setAllowChunklessPreparation(true)
+            .setPlaylistParserFactory(manifestCache.getHlsPlaylistParserFactory())
+            .setExtractorFactory(hlsExtractorFactory);
+      case C.CONTENT_TYPE_OTHER:
+        return new ProgressiveMediaSource.Factory(
+                dataSourceFactory, progressiveExtractorsFactory.forContainer(containerHint))
+            .setContinueLoadingCheckIntervalBytes(
+                ProgressiveMediaSource.DEFAULT_LOADING_CHECK_INTERVAL_BYTES / 2);
+      default:
+        throw new IllegalStateException("Unsupported type: " + type);
+    }
+  }
+
+  /** Turns on seek indexing of progressive TS and Matroska streams, kept in {@code directory}. */
+  void enableSeekIndex(@NonNull File directory) {
+    progressiveExtractorsFactory.setSeekIndexStore(new SeekIndexStore(directory));
+  }
+
+  @NonNull
+  ManifestCache getManifestCache() {
+    return manifestCache;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  ContainerExtractorsFactory getProgressiveExtractorsFactory() {
+    return progressiveExtractorsFactory;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  static DefaultExtractorsFactory buildProgressiveExtractorsFactory() {
+    return new DefaultExtractorsFactory()
+        //.setConstantBitrateSeekingEnabled(true)
+        //.setConstantBitrateSeekingAlwaysEnabled(true)
+        .setTsExtractorFlags(
+            DefaultTsPayloadReaderFactory.FLAG_ALLOW_NON_IDR_KEYFRAMES
+                //  | DefaultTsPayloadReaderFactory.FLAG_DETECT_ACCESS_UNITS)
+                | DefaultTsPayloadReaderFactory.FLAG_IGNORE_SPLICE_INFO_STREAM
+                | DefaultTsPayloadReaderFactory.FLAG_ENABLE_HDMV_DTS_AUDIO_STREAMS)
+        .setTsExtractorTimestampSearchBytes(1500 * TsExtractor.TS_PACKET_SIZE)
+        //.setTsExtractorTimestampSearchBytes(TsExtractor.TS_PACKET_SIZE)
+        .setFragmentedMp4ExtractorFlags(
+            FragmentedMp4Extractor.FLAG_WORKAROUND_IGNORE_EDIT_LISTS
+                | FragmentedMp4Extractor.FLAG_WORKAROUND_IGNORE_TFDT_BOX
+                | FragmentedMp4Extractor.FLAG_WORKAROUND_EVERY_VIDEO_FRAME_IS_SYNC_FRAME
+                | FragmentedMp4Extractor.FLAG_ENABLE_EMSG_TRACK)
+        .setTsExtractorMode(TsExtractor.MODE_MULTI_PMT);
+    //.setAdtsExtractorFlags(AdtsExtractor.FLAG_ENABLE_CONSTANT_BITRATE_SEEKING);
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Renderer;
+import com.google.android.exoplayer2.source.TrackGroupArray;
+import com.google.android.exoplayer2.trackselection.ExoTrackSelection;
+import com.google.android.exoplayer2.upstream.Allocator;
+import com.google.android.exoplayer2.upstream.DefaultAllocator;
+
+/**
+ * A {@link DefaultLoadControl} whose forward buffer can be capped, and whose pooled buffer memory
+ * can be handed back, while the player runs.
+ *
+ * <p>Both are called from the main thread while the playback thread loads. The cap is read on
+ * every load decision, and {@link DefaultAllocator} is synchronized.
+ *
+ * <p>Load decisions are also reported to the player's {@link NetworkPriorityScheduler.Client},
+ * which holds back less important players while this one is short of buffer.
+ */
+final class MemoryAwareLoadControl implements LoadControl {
+  private final DefaultAllocator allocator =
+      new DefaultAllocator(/* trimOnReset= */ true, C.DEFAULT_BUFFER_SEGMENT_SIZE);
+  private final DefaultLoadControl delegate;
+  @Nullable private final NetworkPriorityScheduler.Client networkClient;
+  private volatile long maxBufferUs = C.TIME_UNSET;
+  // The live offset the player aims for, which bounds what it can buffer. Unset for on demand.
+  private volatile long targetLiveOffsetUs = C.TIME_UNSET;
+
+  /** Builds the load control from {@code builder}, which must not have an allocator set. */
+  MemoryAwareLoadControl(
+      @NonNull DefaultLoadControl.Builder builder,
+      @Nullable NetworkPriorityScheduler.Client networkClient) {
+    delegate = builder.setAllocator(allocator).build();
+    this.networkClient = networkClient;
+  }
+
+  /**
+   * Stops loading once {@code maxBufferMs} of media is buffered ahead of the playback position,
+   * below the configured maximum. {@link C#TIME_UNSET} lifts the cap.
+   */
+  void setMaxBufferMs(long maxBufferMs) {
+    maxBufferUs = maxBufferMs == C.TIME_UNSET ? C.TIME_UNSET : C.msToUs(maxBufferMs);
+  }
+
+  /**
+   * Frees the buffer segments the allocator keeps pooled for reuse. Segments holding buffered
+   * media are untouched; the pool grows back to the target on the next track selection.
+   */
+  void releaseUnusedMemory() {
+    allocator.setTargetBufferSize(0);
+  }
+
+  @Override
+  public void onPrepared() {
+    delegate.onPrepared();
+  }
+
+  @Override
+  public void onTracksSelected(
+      Renderer[] renderers, TrackGroupArray trackGroups, ExoTrackSelection[] trackSelections) {
+    delegate.onTracksSelected(renderers, trackGroups, trackSelections);
+  }
+
+  @Override
+  public void onStopped() {
+    delegate.onStopped();
+    targetLiveOffsetUs = C.TIME_UNSET;
+    if (networkClient != null) {
+      networkClient.setUrgent(false);
+    }
+  }
+
+  @Override
+  public void onReleased() {
+    delegate.onReleased();
+    if (networkClient != null) {
+      networkClient.setUrgent(false);
+    }
+  }
+
+  @Override
+  public Allocator getAllocator() {
+    return allocator;
+  }
+
+  @Override
+  public long getBackBufferDurationUs() {
+    return delegate.getBackBufferDurationUs();
+  }
+
+  @Override
+  public boolean retainBackBufferFromKeyframe() {
+    return delegate.retainBackBufferFromKeyframe();
+  }
+
+  @Override
+  public boolean shouldContinueLoading(
+      long playbackPositionUs, long bufferedDurationUs, float playbackSpeed) {
+    long cap = maxBufferUs;
+    boolean continueLoading =
+        (cap == C.TIME_UNSET || bufferedDurationUs < cap)
+            && delegate.shouldContinueLoading(
+                playbackPositionUs, bufferedDurationUs, playbackSpeed);
+    if (networkClient != null) {
+      networkClient.onLoadingDecision(continueLoading, bufferedDurationUs, getTargetBufferUs(cap));
+    }
+    return continueLoading;
+  }
+
+  /** Returns the most the player can buffer ahead below the configured maximum, if anything. */
+  private long getTargetBufferUs(long cap) {
+    long liveOffsetUs = targetLiveOffsetUs;
+    if (cap == C.TIME_UNSET) {
+      return liveOffsetUs;
+    }
+    return liveOffsetUs == C.TIME_UNSET ? cap : Math.min(cap, liveOffsetUs);
+  }
+
+  @Override
+  public boolean shouldStartPlayback(
+      long bufferedDurationUs, float playbackSpeed, boolean rebuffering, long targetLiveOffsetUs) {
+    // Asked whenever the player waits for data, so before the first load decisions of each item.
+    this.targetLiveOffsetUs = targetLiveOffsetUs;
+    return delegate.shouldStartPlayback(
+        bufferedDurationUs, playbackSpeed, rebuffering, targetLiveOffsetUs);
+  }
+}
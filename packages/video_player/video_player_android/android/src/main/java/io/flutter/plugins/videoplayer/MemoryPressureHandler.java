@@ -0,0 +1,222 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import io.flutter.plugin.common.EventChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives memory back across all players when the system asks for it, in steps that degrade
+ * playback more the higher the trim level:
+ *
+ * <ol>
+ *   <li>{@link #STEP_TRIM_BUFFERS}: cap the forward buffer at {@link #TRIMMED_BUFFER_MS} and free
+ *       pooled buffer memory.
+ *   <li>{@link #STEP_MINIMIZE_BUFFERS}: cap it at {@link #MINIMAL_BUFFER_MS}, just above what
+ *       playback needs to start. Players keep no back buffer, so the forward buffer is the only
+ *       buffered media there is to give back.
+ *   <li>{@link #STEP_CAP_RESOLUTION}: keep adaptive streams at or below {@link #MAX_VIDEO_WIDTH} x
+ *       {@link #MAX_VIDEO_HEIGHT}, which shrinks decoder and frame buffers.
+ *   <li>{@link #STEP_RELEASE_PAUSED}: stop paused players, releasing their decoders and buffers.
+ *       Only applied once the app is in the background, when no player is on screen.
+ * </ol>
+ *
+ * <p>Steps are cumulative, and players created meanwhile start with the buffer and resolution caps
+ * applied. The caps are lifted once no callback came for {@link #RELIEF_DELAY_MS}. Each step, and
+ * the relief, is sent to Dart as an event naming the step, the trim level and the texture ids of
+ * the players it changed.
+ */
+final class MemoryPressureHandler implements ComponentCallbacks2, EventChannel.StreamHandler {
+  static final String CHANNEL = "flutter.io/videoPlayer/memoryEvents";
+
+  static final int STEP_NONE = 0;
+  static final int STEP_TRIM_BUFFERS = 1;
+  static final int STEP_MINIMIZE_BUFFERS = 2;
+  static final int STEP_CAP_RESOLUTION = 3;
+  static final int STEP_RELEASE_PAUSED = 4;
+
+  // onLowMemory() has no level of its own, and it also comes while the app is in the foreground,
+  // where paused players may still be on screen.
+  static final int LEVEL_LOW_MEMORY = TRIM_MEMORY_RUNNING_CRITICAL;
+
+  static final long TRIMMED_BUFFER_MS = 15_000;
+  static final long MINIMAL_BUFFER_MS = 5_000;
+  static final int MAX_VIDEO_WIDTH = 1280;
+  static final int MAX_VIDEO_HEIGHT = 720;
+  static final long RELIEF_DELAY_MS = 60_000;
+
+  private static final String[] STEP_NAMES = {
+    "restored", "trimBuffers", "minimizeBuffers", "capResolution", "releasePaused"
+  };
+
+  private final LongSparseArray<VideoPlayer> videoPlayers;
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable relief = this::restore;
+  @Nullable private EventChannel.EventSink eventSink;
+  private int step = STEP_NONE;
+
+  MemoryPressureHandler(@NonNull LongSparseArray<VideoPlayer> videoPlayers) {
+    this.videoPlayers = videoPlayers;
+  }
+
+  /** Returns the step a trim level calls for. */
+  @VisibleForTesting
+  static int stepForLevel(int level) {
+    if (level >= TRIM_MEMORY_BACKGROUND) {
+      return STEP_RELEASE_PAUSED;
+    } else if (level == TRIM_MEMORY_UI_HIDDEN) {
+      // Only says the UI went away, not that memory is short.
+      return STEP_NONE;
+    } else if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+      return STEP_CAP_RESOLUTION;
+    } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+      return STEP_MINIMIZE_BUFFERS;
+    } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+      return STEP_TRIM_BUFFERS;
+    }
+    return STEP_NONE;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    onPressure(level);
+  }
+
+  @Override
+  public void onLowMemory() {
+    onPressure(LEVEL_LOW_MEMORY);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  @VisibleForTesting
+  int getStep() {
+    return step;
+  }
+
+  private void onPressure(int level) {
+    int target = stepForLevel(level);
+    if (target == STEP_NONE) {
+      return;
+    }
+    handler.removeCallbacks(relief);
+    handler.postDelayed(relief, RELIEF_DELAY_MS);
+    // Buffers only shrink back to their pooled size over time, so free the pool on every call.
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      videoPlayers.valueAt(i).releaseUnusedMemory();
+    }
+    if (step >= target) {
+      // Players paused since the last release step hold memory again.
+      if (target == STEP_RELEASE_PAUSED) {
+        List<Long> changed = applyToAll(STEP_RELEASE_PAUSED);
+        if (!changed.isEmpty()) {
+          sendEvent(STEP_RELEASE_PAUSED, level, changed);
+        }
+      }
+      return;
+    }
+    while (step < target) {
+      step++;
+      sendEvent(step, level, applyToAll(step));
+    }
+  }
+
+  private List<Long> applyToAll(int step) {
+    List<Long> changed = new ArrayList<>();
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      if (apply(videoPlayers.valueAt(i), step)) {
+        changed.add(videoPlayers.keyAt(i));
+      }
+    }
+    return changed;
+  }
+
+  /** Applies the caps of the current step to a player created while memory is short. */
+  void applyTo(@NonNull VideoPlayer player) {
+    for (int s = STEP_TRIM_BUFFERS; s <= Math.min(step, STEP_CAP_RESOLUTION); s++) {
+      apply(player, s);
+    }
+  }
+
+  private static boolean apply(VideoPlayer player, int step) {
+    switch (step) {
+      case STEP_TRIM_BUFFERS:
+        player.setMaxBufferMs(TRIMMED_BUFFER_MS);
+        return true;
+      case STEP_MINIMIZE_BUFFERS:
+        player.setMaxBufferMs(MINIMAL_BUFFER_MS);
+        return true;
+      case STEP_CAP_RESOLUTION:
+        player.setMemoryMaxVideoSize(MAX_VIDEO_WIDTH, MAX_VIDEO_HEIGHT);
+        return true;
+      case STEP_RELEASE_PAUSED:
+        return player.releaseIfPaused();
+      default:
+        return false;
+    }
+  }
+
+  /** Lifts the buffer and resolution caps. Released players come back on their next play. */
+  @VisibleForTesting
+  void restore() {
+    handler.removeCallbacks(relief);
+    if (step == STEP_NONE) {
+      return;
+    }
+    List<Long> changed = new ArrayList<>();
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      VideoPlayer player = videoPlayers.valueAt(i);
+      player.setMaxBufferMs(C.TIME_UNSET);
+      if (step >= STEP_CAP_RESOLUTION) {
+        player.setMemoryMaxVideoSize(Integer.MAX_VALUE, Integer.MAX_VALUE);
+      }
+      changed.add(videoPlayers.keyAt(i));
+    }
+    step = STEP_NONE;
+    sendEvent(STEP_NONE, 0, changed);
+  }
+
+  /** Stops the relief timer and forgets the step, for when the plugin detaches. */
+  void release() {
+    handler.removeCallbacks(relief);
+    step = STEP_NONE;
+    eventSink = null;
+  }
+
+  private void sendEvent(int step, int level, List<Long> textureIds) {
+    if (eventSink == null) {
+      return;
+    }
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "memoryPressure");
+    event.put("step", STEP_NAMES[step]);
+    event.put("level", level);
+    event.put("textureIds", textureIds);
+    eventSink.success(event);
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink sink) {
+    eventSink = sink;
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+  }
+}
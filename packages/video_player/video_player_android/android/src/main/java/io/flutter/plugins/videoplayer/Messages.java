@@ -441,6 +441,16 @@ public class Messages {
       this.position = setterArg;
     }
 
+    private @Nullable Long liveOffset;
+
+    public @Nullable Long getLiveOffset() {
+      return liveOffset;
+    }
+
+    public void setLiveOffset(@Nullable Long setterArg) {
+      this.liveOffset = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     PositionMessage() {}
 
@@ -460,19 +470,28 @@ public class Messages {
         return this;
       }
 
+      private @Nullable Long liveOffset;
+
+      public @NonNull Builder setLiveOffset(@Nullable Long setterArg) {
+        this.liveOffset = setterArg;
+        return this;
+      }
+
       public @NonNull PositionMessage build() {
         PositionMessage pigeonReturn = new PositionMessage();
         pigeonReturn.setTextureId(textureId);
         pigeonReturn.setPosition(position);
+        pigeonReturn.setLiveOffset(liveOffset);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
       toListResult.add(textureId);
       toListResult.add(position);
+      toListResult.add(liveOffset);
       return toListResult;
     }
 
@@ -482,333 +501,1785 @@ public class Messages {
       pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
       Object position = list.get(1);
       pigeonResult.setPosition((position == null) ? null : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      Object liveOffset = list.get(2);
+      pigeonResult.setLiveOffset((liveOffset == null) ? null : ((liveOffset instanceof Integer) ? (Integer) liveOffset : (Long) liveOffset));
       return pigeonResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class CreateMessage {
-    private @Nullable String asset;
+  public static final class PlaybackStatsMessage {
+    private @Nullable Long timeToFirstFrameMs;
 
-    public @Nullable String getAsset() {
-      return asset;
+    public @Nullable Long getTimeToFirstFrameMs() {
+      return timeToFirstFrameMs;
     }
 
-    public void setAsset(@Nullable String setterArg) {
-      this.asset = setterArg;
+    public void setTimeToFirstFrameMs(@Nullable Long setterArg) {
+      this.timeToFirstFrameMs = setterArg;
     }
 
-    private @Nullable String uri;
+    private @Nullable Long joinTimeMs;
 
-    public @Nullable String getUri() {
-      return uri;
+    public @Nullable Long getJoinTimeMs() {
+      return joinTimeMs;
     }
 
-    public void setUri(@Nullable String setterArg) {
-      this.uri = setterArg;
+    public void setJoinTimeMs(@Nullable Long setterArg) {
+      this.joinTimeMs = setterArg;
     }
 
-    private @Nullable String packageName;
+    private @NonNull Long playTimeMs;
 
-    public @Nullable String getPackageName() {
-      return packageName;
+    public @NonNull Long getPlayTimeMs() {
+      return playTimeMs;
     }
 
-    public void setPackageName(@Nullable String setterArg) {
-      this.packageName = setterArg;
+    public void setPlayTimeMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playTimeMs\" is null.");
+      }
+      this.playTimeMs = setterArg;
     }
 
-    private @Nullable String formatHint;
+    private @NonNull Long rebufferCount;
 
-    public @Nullable String getFormatHint() {
-      return formatHint;
+    public @NonNull Long getRebufferCount() {
+      return rebufferCount;
     }
 
-    public void setFormatHint(@Nullable String setterArg) {
-      this.formatHint = setterArg;
+    public void setRebufferCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rebufferCount\" is null.");
+      }
+      this.rebufferCount = setterArg;
     }
 
-    private @NonNull Map<String, String> httpHeaders;
+    private @NonNull Long rebufferTimeMs;
 
-    public @NonNull Map<String, String> getHttpHeaders() {
-      return httpHeaders;
+    public @NonNull Long getRebufferTimeMs() {
+      return rebufferTimeMs;
     }
 
-    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+    public void setRebufferTimeMs(@NonNull Long setterArg) {
       if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+        throw new IllegalStateException("Nonnull field \"rebufferTimeMs\" is null.");
       }
-      this.httpHeaders = setterArg;
+      this.rebufferTimeMs = setterArg;
     }
 
-    /** Constructor is non-public to enforce null safety; use Builder. */
-    CreateMessage() {}
-
-    public static final class Builder {
-
-      private @Nullable String asset;
-
-      public @NonNull Builder setAsset(@Nullable String setterArg) {
-        this.asset = setterArg;
-        return this;
-      }
-
-      private @Nullable String uri;
-
-      public @NonNull Builder setUri(@Nullable String setterArg) {
-        this.uri = setterArg;
-        return this;
-      }
-
-      private @Nullable String packageName;
-
-      public @NonNull Builder setPackageName(@Nullable String setterArg) {
-        this.packageName = setterArg;
-        return this;
-      }
+    private @NonNull Double rebufferRatio;
 
-      private @Nullable String formatHint;
+    public @NonNull Double getRebufferRatio() {
+      return rebufferRatio;
+    }
 
-      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
-        this.formatHint = setterArg;
-        return this;
+    public void setRebufferRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rebufferRatio\" is null.");
       }
+      this.rebufferRatio = setterArg;
+    }
 
-      private @Nullable Map<String, String> httpHeaders;
+    private @NonNull Long bitrateSwitches;
 
-      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
-        this.httpHeaders = setterArg;
-        return this;
-      }
+    public @NonNull Long getBitrateSwitches() {
+      return bitrateSwitches;
+    }
 
-      public @NonNull CreateMessage build() {
-        CreateMessage pigeonReturn = new CreateMessage();
-        pigeonReturn.setAsset(asset);
-        pigeonReturn.setUri(uri);
-        pigeonReturn.setPackageName(packageName);
-        pigeonReturn.setFormatHint(formatHint);
-        pigeonReturn.setHttpHeaders(httpHeaders);
-        return pigeonReturn;
+    public void setBitrateSwitches(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bitrateSwitches\" is null.");
       }
+      this.bitrateSwitches = setterArg;
     }
 
-    @NonNull
-    ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(5);
-      toListResult.add(asset);
-      toListResult.add(uri);
-      toListResult.add(packageName);
-      toListResult.add(formatHint);
-      toListResult.add(httpHeaders);
-      return toListResult;
+    private @Nullable Long videoBitrate;
+
+    public @Nullable Long getVideoBitrate() {
+      return videoBitrate;
     }
 
-    static @NonNull CreateMessage fromList(@NonNull ArrayList<Object> list) {
-      CreateMessage pigeonResult = new CreateMessage();
-      Object asset = list.get(0);
-      pigeonResult.setAsset((String) asset);
-      Object uri = list.get(1);
-      pigeonResult.setUri((String) uri);
-      Object packageName = list.get(2);
-      pigeonResult.setPackageName((String) packageName);
-      Object formatHint = list.get(3);
-      pigeonResult.setFormatHint((String) formatHint);
-      Object httpHeaders = list.get(4);
-      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
-      return pigeonResult;
+    public void setVideoBitrate(@Nullable Long setterArg) {
+      this.videoBitrate = setterArg;
     }
-  }
 
-  /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class MixWithOthersMessage {
-    private @NonNull Boolean mixWithOthers;
+    private @NonNull Long droppedFrames;
 
-    public @NonNull Boolean getMixWithOthers() {
-      return mixWithOthers;
+    public @NonNull Long getDroppedFrames() {
+      return droppedFrames;
     }
 
-    public void setMixWithOthers(@NonNull Boolean setterArg) {
+    public void setDroppedFrames(@NonNull Long setterArg) {
       if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+        throw new IllegalStateException("Nonnull field \"droppedFrames\" is null.");
       }
-      this.mixWithOthers = setterArg;
+      this.droppedFrames = setterArg;
     }
 
-    /** Constructor is non-public to enforce null safety; use Builder. */
-    MixWithOthersMessage() {}
-
-    public static final class Builder {
-
-      private @Nullable Boolean mixWithOthers;
+    private @Nullable Long videoDecoderInitMs;
 
-      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
-        this.mixWithOthers = setterArg;
-        return this;
-      }
+    public @Nullable Long getVideoDecoderInitMs() {
+      return videoDecoderInitMs;
+    }
 
-      public @NonNull MixWithOthersMessage build() {
-        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
-        pigeonReturn.setMixWithOthers(mixWithOthers);
-        return pigeonReturn;
-      }
+    public void setVideoDecoderInitMs(@Nullable Long setterArg) {
+      this.videoDecoderInitMs = setterArg;
     }
 
-    @NonNull
-    ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(1);
-      toListResult.add(mixWithOthers);
-      return toListResult;
+    private @Nullable Long audioDecoderInitMs;
+
+    public @Nullable Long getAudioDecoderInitMs() {
+      return audioDecoderInitMs;
     }
 
-    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
-      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
-      Object mixWithOthers = list.get(0);
-      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
-      return pigeonResult;
+    public void setAudioDecoderInitMs(@Nullable Long setterArg) {
+      this.audioDecoderInitMs = setterArg;
     }
-  }
 
-  /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class GetEmbeddedSubtitlesMessage {
-    private @Nullable String language;
+    private @NonNull Long bytesLoaded;
 
-    public @Nullable String getLanguage() {
-      return language;
+    public @NonNull Long getBytesLoaded() {
+      return bytesLoaded;
     }
 
-    public void setLanguage(@Nullable String setterArg) {
-      this.language = setterArg;
+    public void setBytesLoaded(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesLoaded\" is null.");
+      }
+      this.bytesLoaded = setterArg;
     }
 
-    private @Nullable String label;
+    private @Nullable Long bandwidthEstimate;
 
-    public @Nullable String getLabel() {
-      return label;
+    public @Nullable Long getBandwidthEstimate() {
+      return bandwidthEstimate;
     }
 
-    public void setLabel(@Nullable String setterArg) {
-      this.label = setterArg;
+    public void setBandwidthEstimate(@Nullable Long setterArg) {
+      this.bandwidthEstimate = setterArg;
     }
 
-    private @NonNull Long trackIndex;
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaybackStatsMessage() {}
 
-    public @NonNull Long getTrackIndex() {
-      return trackIndex;
-    }
+    public static final class Builder {
 
-    public void setTrackIndex(@NonNull Long setterArg) {
-      if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"trackIndex\" is null.");
+      private @Nullable Long timeToFirstFrameMs;
+
+      public @NonNull Builder setTimeToFirstFrameMs(@Nullable Long setterArg) {
+        this.timeToFirstFrameMs = setterArg;
+        return this;
       }
-      this.trackIndex = setterArg;
-    }
 
-    private @NonNull Long groupIndex;
+      private @Nullable Long joinTimeMs;
 
-    public @NonNull Long getGroupIndex() {
-      return groupIndex;
-    }
+      public @NonNull Builder setJoinTimeMs(@Nullable Long setterArg) {
+        this.joinTimeMs = setterArg;
+        return this;
+      }
 
-    public void setGroupIndex(@NonNull Long setterArg) {
-      if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"groupIndex\" is null.");
+      private @Nullable Long playTimeMs;
+
+      public @NonNull Builder setPlayTimeMs(@NonNull Long setterArg) {
+        this.playTimeMs = setterArg;
+        return this;
       }
-      this.groupIndex = setterArg;
-    }
 
-    private @NonNull Long renderIndex;
+      private @Nullable Long rebufferCount;
 
-    public @NonNull Long getRenderIndex() {
-      return renderIndex;
-    }
+      public @NonNull Builder setRebufferCount(@NonNull Long setterArg) {
+        this.rebufferCount = setterArg;
+        return this;
+      }
 
-    public void setRenderIndex(@NonNull Long setterArg) {
-      if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"renderIndex\" is null.");
+      private @Nullable Long rebufferTimeMs;
+
+      public @NonNull Builder setRebufferTimeMs(@NonNull Long setterArg) {
+        this.rebufferTimeMs = setterArg;
+        return this;
       }
-      this.renderIndex = setterArg;
-    }
 
-    /** Constructor is non-public to enforce null safety; use Builder. */
-    GetEmbeddedSubtitlesMessage() {}
+      private @Nullable Double rebufferRatio;
 
-    public static final class Builder {
+      public @NonNull Builder setRebufferRatio(@NonNull Double setterArg) {
+        this.rebufferRatio = setterArg;
+        return this;
+      }
 
-      private @Nullable String language;
+      private @Nullable Long bitrateSwitches;
 
-      public @NonNull Builder setLanguage(@Nullable String setterArg) {
-        this.language = setterArg;
+      public @NonNull Builder setBitrateSwitches(@NonNull Long setterArg) {
+        this.bitrateSwitches = setterArg;
         return this;
       }
 
-      private @Nullable String label;
+      private @Nullable Long videoBitrate;
 
-      public @NonNull Builder setLabel(@Nullable String setterArg) {
-        this.label = setterArg;
+      public @NonNull Builder setVideoBitrate(@Nullable Long setterArg) {
+        this.videoBitrate = setterArg;
         return this;
       }
 
-      private @Nullable Long trackIndex;
+      private @Nullable Long droppedFrames;
 
-      public @NonNull Builder setTrackIndex(@NonNull Long setterArg) {
-        this.trackIndex = setterArg;
+      public @NonNull Builder setDroppedFrames(@NonNull Long setterArg) {
+        this.droppedFrames = setterArg;
         return this;
       }
 
-      private @Nullable Long groupIndex;
+      private @Nullable Long videoDecoderInitMs;
 
-      public @NonNull Builder setGroupIndex(@NonNull Long setterArg) {
-        this.groupIndex = setterArg;
+      public @NonNull Builder setVideoDecoderInitMs(@Nullable Long setterArg) {
+        this.videoDecoderInitMs = setterArg;
         return this;
       }
 
-      private @Nullable Long renderIndex;
+      private @Nullable Long audioDecoderInitMs;
 
-      public @NonNull Builder setRenderIndex(@NonNull Long setterArg) {
-        this.renderIndex = setterArg;
+      public @NonNull Builder setAudioDecoderInitMs(@Nullable Long setterArg) {
+        this.audioDecoderInitMs = setterArg;
         return this;
       }
 
-      public @NonNull GetEmbeddedSubtitlesMessage build() {
-        GetEmbeddedSubtitlesMessage pigeonReturn = new GetEmbeddedSubtitlesMessage();
-        pigeonReturn.setLanguage(language);
-        pigeonReturn.setLabel(label);
-        pigeonReturn.setTrackIndex(trackIndex);
-        pigeonReturn.setGroupIndex(groupIndex);
-        pigeonReturn.setRenderIndex(renderIndex);
+      private @Nullable Long bytesLoaded;
+
+      public @NonNull Builder setBytesLoaded(@NonNull Long setterArg) {
+        this.bytesLoaded = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bandwidthEstimate;
+
+      public @NonNull Builder setBandwidthEstimate(@Nullable Long setterArg) {
+        this.bandwidthEstimate = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaybackStatsMessage build() {
+        PlaybackStatsMessage pigeonReturn = new PlaybackStatsMessage();
+        pigeonReturn.setTimeToFirstFrameMs(timeToFirstFrameMs);
+        pigeonReturn.setJoinTimeMs(joinTimeMs);
+        pigeonReturn.setPlayTimeMs(playTimeMs);
+        pigeonReturn.setRebufferCount(rebufferCount);
+        pigeonReturn.setRebufferTimeMs(rebufferTimeMs);
+        pigeonReturn.setRebufferRatio(rebufferRatio);
+        pigeonReturn.setBitrateSwitches(bitrateSwitches);
+        pigeonReturn.setVideoBitrate(videoBitrate);
+        pigeonReturn.setDroppedFrames(droppedFrames);
+        pigeonReturn.setVideoDecoderInitMs(videoDecoderInitMs);
+        pigeonReturn.setAudioDecoderInitMs(audioDecoderInitMs);
+        pigeonReturn.setBytesLoaded(bytesLoaded);
+        pigeonReturn.setBandwidthEstimate(bandwidthEstimate);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(5);
-      toListResult.add(language);
-      toListResult.add(label);
-      toListResult.add(trackIndex);
-      toListResult.add(groupIndex);
-      toListResult.add(renderIndex);
+      ArrayList<Object> toListResult = new ArrayList<Object>(13);
+      toListResult.add(timeToFirstFrameMs);
+      toListResult.add(joinTimeMs);
+      toListResult.add(playTimeMs);
+      toListResult.add(rebufferCount);
+      toListResult.add(rebufferTimeMs);
+      toListResult.add(rebufferRatio);
+      toListResult.add(bitrateSwitches);
+      toListResult.add(videoBitrate);
+      toListResult.add(droppedFrames);
+      toListResult.add(videoDecoderInitMs);
+      toListResult.add(audioDecoderInitMs);
+      toListResult.add(bytesLoaded);
+      toListResult.add(bandwidthEstimate);
       return toListResult;
     }
 
-    static @NonNull GetEmbeddedSubtitlesMessage fromList(@NonNull ArrayList<Object> list) {
-      GetEmbeddedSubtitlesMessage pigeonResult = new GetEmbeddedSubtitlesMessage();
-      Object language = list.get(0);
-      pigeonResult.setLanguage((String) language);
-      Object label = list.get(1);
-      pigeonResult.setLabel((String) label);
-      Object trackIndex = list.get(2);
-      pigeonResult.setTrackIndex((trackIndex == null) ? null : ((trackIndex instanceof Integer) ? (Integer) trackIndex : (Long) trackIndex));
-      Object groupIndex = list.get(3);
-      pigeonResult.setGroupIndex((groupIndex == null) ? null : ((groupIndex instanceof Integer) ? (Integer) groupIndex : (Long) groupIndex));
-      Object renderIndex = list.get(4);
-      pigeonResult.setRenderIndex((renderIndex == null) ? null : ((renderIndex instanceof Integer) ? (Integer) renderIndex : (Long) renderIndex));
+    static @NonNull PlaybackStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlaybackStatsMessage pigeonResult = new PlaybackStatsMessage();
+      Object timeToFirstFrameMs = list.get(0);
+      pigeonResult.setTimeToFirstFrameMs((timeToFirstFrameMs == null) ? null : ((timeToFirstFrameMs instanceof Integer) ? (Integer) timeToFirstFrameMs : (Long) timeToFirstFrameMs));
+      Object joinTimeMs = list.get(1);
+      pigeonResult.setJoinTimeMs((joinTimeMs == null) ? null : ((joinTimeMs instanceof Integer) ? (Integer) joinTimeMs : (Long) joinTimeMs));
+      Object playTimeMs = list.get(2);
+      pigeonResult.setPlayTimeMs((playTimeMs == null) ? null : ((playTimeMs instanceof Integer) ? (Integer) playTimeMs : (Long) playTimeMs));
+      Object rebufferCount = list.get(3);
+      pigeonResult.setRebufferCount((rebufferCount == null) ? null : ((rebufferCount instanceof Integer) ? (Integer) rebufferCount : (Long) rebufferCount));
+      Object rebufferTimeMs = list.get(4);
+      pigeonResult.setRebufferTimeMs((rebufferTimeMs == null) ? null : ((rebufferTimeMs instanceof Integer) ? (Integer) rebufferTimeMs : (Long) rebufferTimeMs));
+      Object rebufferRatio = list.get(5);
+      pigeonResult.setRebufferRatio((Double) rebufferRatio);
+      Object bitrateSwitches = list.get(6);
+      pigeonResult.setBitrateSwitches((bitrateSwitches == null) ? null : ((bitrateSwitches instanceof Integer) ? (Integer) bitrateSwitches : (Long) bitrateSwitches));
+      Object videoBitrate = list.get(7);
+      pigeonResult.setVideoBitrate((videoBitrate == null) ? null : ((videoBitrate instanceof Integer) ? (Integer) videoBitrate : (Long) videoBitrate));
+      Object droppedFrames = list.get(8);
+      pigeonResult.setDroppedFrames((droppedFrames == null) ? null : ((droppedFrames instanceof Integer) ? (Integer) droppedFrames : (Long) droppedFrames));
+      Object videoDecoderInitMs = list.get(9);
+      pigeonResult.setVideoDecoderInitMs((videoDecoderInitMs == null) ? null : ((videoDecoderInitMs instanceof Integer) ? (Integer) videoDecoderInitMs : (Long) videoDecoderInitMs));
+      Object audioDecoderInitMs = list.get(10);
+      pigeonResult.setAudioDecoderInitMs((audioDecoderInitMs == null) ? null : ((audioDecoderInitMs instanceof Integer) ? (Integer) audioDecoderInitMs : (Long) audioDecoderInitMs));
+      Object bytesLoaded = list.get(11);
+      pigeonResult.setBytesLoaded((bytesLoaded == null) ? null : ((bytesLoaded instanceof Integer) ? (Integer) bytesLoaded : (Long) bytesLoaded));
+      Object bandwidthEstimate = list.get(12);
+      pigeonResult.setBandwidthEstimate((bandwidthEstimate == null) ? null : ((bandwidthEstimate instanceof Integer) ? (Integer) bandwidthEstimate : (Long) bandwidthEstimate));
       return pigeonResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class SetEmbeddedSubtitlesMessage {
+  public static final class CreateMessage {
+    private @Nullable String asset;
+
+    public @Nullable String getAsset() {
+      return asset;
+    }
+
+    public void setAsset(@Nullable String setterArg) {
+      this.asset = setterArg;
+    }
+
+    private @Nullable String uri;
+
+    public @Nullable String getUri() {
+      return uri;
+    }
+
+    public void setUri(@Nullable String setterArg) {
+      this.uri = setterArg;
+    }
+
+    private @Nullable String packageName;
+
+    public @Nullable String getPackageName() {
+      return packageName;
+    }
+
+    public void setPackageName(@Nullable String setterArg) {
+      this.packageName = setterArg;
+    }
+
+    private @Nullable String formatHint;
+
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    private @Nullable Long liveTargetOffsetMs;
+
+    public @Nullable Long getLiveTargetOffsetMs() {
+      return liveTargetOffsetMs;
+    }
+
+    public void setLiveTargetOffsetMs(@Nullable Long setterArg) {
+      this.liveTargetOffsetMs = setterArg;
+    }
+
+    private @Nullable Double liveMinPlaybackSpeed;
+
+    public @Nullable Double getLiveMinPlaybackSpeed() {
+      return liveMinPlaybackSpeed;
+    }
+
+    public void setLiveMinPlaybackSpeed(@Nullable Double setterArg) {
+      this.liveMinPlaybackSpeed = setterArg;
+    }
+
+    private @Nullable Double liveMaxPlaybackSpeed;
+
+    public @Nullable Double getLiveMaxPlaybackSpeed() {
+      return liveMaxPlaybackSpeed;
+    }
+
+    public void setLiveMaxPlaybackSpeed(@Nullable Double setterArg) {
+      this.liveMaxPlaybackSpeed = setterArg;
+    }
+
+    private @Nullable Boolean liveLowLatency;
+
+    public @Nullable Boolean getLiveLowLatency() {
+      return liveLowLatency;
+    }
+
+    public void setLiveLowLatency(@Nullable Boolean setterArg) {
+      this.liveLowLatency = setterArg;
+    }
+
+    private @Nullable String containerHint;
+
+    public @Nullable String getContainerHint() {
+      return containerHint;
+    }
+
+    public void setContainerHint(@Nullable String setterArg) {
+      this.containerHint = setterArg;
+    }
+
+    private @Nullable Long maxParallelConnections;
+
+    public @Nullable Long getMaxParallelConnections() {
+      return maxParallelConnections;
+    }
+
+    public void setMaxParallelConnections(@Nullable Long setterArg) {
+      this.maxParallelConnections = setterArg;
+    }
+
+    private @Nullable List<String> mirrorUris;
+
+    public @Nullable List<String> getMirrorUris() {
+      return mirrorUris;
+    }
+
+    public void setMirrorUris(@Nullable List<String> setterArg) {
+      this.mirrorUris = setterArg;
+    }
+
+    private @Nullable Long retryAttempts;
+
+    public @Nullable Long getRetryAttempts() {
+      return retryAttempts;
+    }
+
+    public void setRetryAttempts(@Nullable Long setterArg) {
+      this.retryAttempts = setterArg;
+    }
+
+    private @Nullable Long retryBackoffMs;
+
+    public @Nullable Long getRetryBackoffMs() {
+      return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(@Nullable Long setterArg) {
+      this.retryBackoffMs = setterArg;
+    }
+
+    private @Nullable List<Long> retryStatusCodes;
+
+    public @Nullable List<Long> getRetryStatusCodes() {
+      return retryStatusCodes;
+    }
+
+    public void setRetryStatusCodes(@Nullable List<Long> setterArg) {
+      this.retryStatusCodes = setterArg;
+    }
+
+    private @Nullable Long maxRecoveryAttempts;
+
+    public @Nullable Long getMaxRecoveryAttempts() {
+      return maxRecoveryAttempts;
+    }
+
+    public void setMaxRecoveryAttempts(@Nullable Long setterArg) {
+      this.maxRecoveryAttempts = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CreateMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String asset;
+
+      public @NonNull Builder setAsset(@Nullable String setterArg) {
+        this.asset = setterArg;
+        return this;
+      }
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@Nullable String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String packageName;
+
+      public @NonNull Builder setPackageName(@Nullable String setterArg) {
+        this.packageName = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable Long liveTargetOffsetMs;
+
+      public @NonNull Builder setLiveTargetOffsetMs(@Nullable Long setterArg) {
+        this.liveTargetOffsetMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Double liveMinPlaybackSpeed;
+
+      public @NonNull Builder setLiveMinPlaybackSpeed(@Nullable Double setterArg) {
+        this.liveMinPlaybackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Double liveMaxPlaybackSpeed;
+
+      public @NonNull Builder setLiveMaxPlaybackSpeed(@Nullable Double setterArg) {
+        this.liveMaxPlaybackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean liveLowLatency;
+
+      public @NonNull Builder setLiveLowLatency(@Nullable Boolean setterArg) {
+        this.liveLowLatency = setterArg;
+        return this;
+      }
+
+      private @Nullable String containerHint;
+
+      public @NonNull Builder setContainerHint(@Nullable String setterArg) {
+        this.containerHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxParallelConnections;
+
+      public @NonNull Builder setMaxParallelConnections(@Nullable Long setterArg) {
+        this.maxParallelConnections = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> mirrorUris;
+
+      public @NonNull Builder setMirrorUris(@Nullable List<String> setterArg) {
+        this.mirrorUris = setterArg;
+        return this;
+      }
+
+      private @Nullable Long retryAttempts;
+
+      public @NonNull Builder setRetryAttempts(@Nullable Long setterArg) {
+        this.retryAttempts = setterArg;
+        return this;
+      }
+
+      private @Nullable Long retryBackoffMs;
+
+      public @NonNull Builder setRetryBackoffMs(@Nullable Long setterArg) {
+        this.retryBackoffMs = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> retryStatusCodes;
+
+      public @NonNull Builder setRetryStatusCodes(@Nullable List<Long> setterArg) {
+        this.retryStatusCodes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxRecoveryAttempts;
+
+      public @NonNull Builder setMaxRecoveryAttempts(@Nullable Long setterArg) {
+        this.maxRecoveryAttempts = setterArg;
+        return this;
+      }
+
+      public @NonNull CreateMessage build() {
+        CreateMessage pigeonReturn = new CreateMessage();
+        pigeonReturn.setAsset(asset);
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPackageName(packageName);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setLiveTargetOffsetMs(liveTargetOffsetMs);
+        pigeonReturn.setLiveMinPlaybackSpeed(liveMinPlaybackSpeed);
+        pigeonReturn.setLiveMaxPlaybackSpeed(liveMaxPlaybackSpeed);
+        pigeonReturn.setLiveLowLatency(liveLowLatency);
+        pigeonReturn.setContainerHint(containerHint);
+        pigeonReturn.setMaxParallelConnections(maxParallelConnections);
+        pigeonReturn.setMirrorUris(mirrorUris);
+        pigeonReturn.setRetryAttempts(retryAttempts);
+        pigeonReturn.setRetryBackoffMs(retryBackoffMs);
+        pigeonReturn.setRetryStatusCodes(retryStatusCodes);
+        pigeonReturn.setMaxRecoveryAttempts(maxRecoveryAttempts);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(16);
+      toListResult.add(asset);
+      toListResult.add(uri);
+      toListResult.add(packageName);
+      toListResult.add(formatHint);
+      toListResult.add(httpHeaders);
+      toListResult.add(liveTargetOffsetMs);
+      toListResult.add(liveMinPlaybackSpeed);
+      toListResult.add(liveMaxPlaybackSpeed);
+      toListResult.add(liveLowLatency);
+      toListResult.add(containerHint);
+      toListResult.add(maxParallelConnections);
+      toListResult.add(mirrorUris);
+      toListResult.add(retryAttempts);
+      toListResult.add(retryBackoffMs);
+      toListResult.add(retryStatusCodes);
+      toListResult.add(maxRecoveryAttempts);
+      return toListResult;
+    }
+
+    static @NonNull CreateMessage fromList(@NonNull ArrayList<Object> list) {
+      CreateMessage pigeonResult = new CreateMessage();
+      Object asset = list.get(0);
+      pigeonResult.setAsset((String) asset);
+      Object uri = list.get(1);
+      pigeonResult.setUri((String) uri);
+      Object packageName = list.get(2);
+      pigeonResult.setPackageName((String) packageName);
+      Object formatHint = list.get(3);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object httpHeaders = list.get(4);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object liveTargetOffsetMs = list.get(5);
+      pigeonResult.setLiveTargetOffsetMs((liveTargetOffsetMs == null) ? null : ((liveTargetOffsetMs instanceof Integer) ? (Integer) liveTargetOffsetMs : (Long) liveTargetOffsetMs));
+      Object liveMinPlaybackSpeed = list.get(6);
+      pigeonResult.setLiveMinPlaybackSpeed((Double) liveMinPlaybackSpeed);
+      Object liveMaxPlaybackSpeed = list.get(7);
+      pigeonResult.setLiveMaxPlaybackSpeed((Double) liveMaxPlaybackSpeed);
+      Object liveLowLatency = list.get(8);
+      pigeonResult.setLiveLowLatency((Boolean) liveLowLatency);
+      Object containerHint = list.get(9);
+      pigeonResult.setContainerHint((String) containerHint);
+      Object maxParallelConnections = list.get(10);
+      pigeonResult.setMaxParallelConnections((maxParallelConnections == null) ? null : ((maxParallelConnections instanceof Integer) ? (Integer) maxParallelConnections : (Long) maxParallelConnections));
+      Object mirrorUris = list.get(11);
+      pigeonResult.setMirrorUris((List<String>) mirrorUris);
+      Object retryAttempts = list.get(12);
+      pigeonResult.setRetryAttempts((retryAttempts == null) ? null : ((retryAttempts instanceof Integer) ? (Integer) retryAttempts : (Long) retryAttempts));
+      Object retryBackoffMs = list.get(13);
+      pigeonResult.setRetryBackoffMs((retryBackoffMs == null) ? null : ((retryBackoffMs instanceof Integer) ? (Integer) retryBackoffMs : (Long) retryBackoffMs));
+      Object retryStatusCodes = list.get(14);
+      pigeonResult.setRetryStatusCodes((List<Long>) retryStatusCodes);
+      Object maxRecoveryAttempts = list.get(15);
+      pigeonResult.setMaxRecoveryAttempts((maxRecoveryAttempts == null) ? null : ((maxRecoveryAttempts instanceof Integer) ? (Integer) maxRecoveryAttempts : (Long) maxRecoveryAttempts));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MixWithOthersMessage {
+    private @NonNull Boolean mixWithOthers;
+
+    public @NonNull Boolean getMixWithOthers() {
+      return mixWithOthers;
+    }
+
+    public void setMixWithOthers(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+      }
+      this.mixWithOthers = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MixWithOthersMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Boolean mixWithOthers;
+
+      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
+        this.mixWithOthers = setterArg;
+        return this;
+      }
+
+      public @NonNull MixWithOthersMessage build() {
+        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
+        pigeonReturn.setMixWithOthers(mixWithOthers);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(mixWithOthers);
+      return toListResult;
+    }
+
+    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
+      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
+      Object mixWithOthers = list.get(0);
+      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class GetEmbeddedSubtitlesMessage {
+    private @Nullable String language;
+
+    public @Nullable String getLanguage() {
+      return language;
+    }
+
+    public void setLanguage(@Nullable String setterArg) {
+      this.language = setterArg;
+    }
+
+    private @Nullable String label;
+
+    public @Nullable String getLabel() {
+      return label;
+    }
+
+    public void setLabel(@Nullable String setterArg) {
+      this.label = setterArg;
+    }
+
+    private @NonNull Long trackIndex;
+
+    public @NonNull Long getTrackIndex() {
+      return trackIndex;
+    }
+
+    public void setTrackIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"trackIndex\" is null.");
+      }
+      this.trackIndex = setterArg;
+    }
+
+    private @NonNull Long groupIndex;
+
+    public @NonNull Long getGroupIndex() {
+      return groupIndex;
+    }
+
+    public void setGroupIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"groupIndex\" is null.");
+      }
+      this.groupIndex = setterArg;
+    }
+
+    private @NonNull Long renderIndex;
+
+    public @NonNull Long getRenderIndex() {
+      return renderIndex;
+    }
+
+    public void setRenderIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"renderIndex\" is null.");
+      }
+      this.renderIndex = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    GetEmbeddedSubtitlesMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String language;
+
+      public @NonNull Builder setLanguage(@Nullable String setterArg) {
+        this.language = setterArg;
+        return this;
+      }
+
+      private @Nullable String label;
+
+      public @NonNull Builder setLabel(@Nullable String setterArg) {
+        this.label = setterArg;
+        return this;
+      }
+
+      private @Nullable Long trackIndex;
+
+      public @NonNull Builder setTrackIndex(@NonNull Long setterArg) {
+        this.trackIndex = setterArg;
+        return this;
+      }
+
+      private @Nullable Long groupIndex;
+
+      public @NonNull Builder setGroupIndex(@NonNull Long setterArg) {
+        this.groupIndex = setterArg;
+        return this;
+      }
+
+      private @Nullable Long renderIndex;
+
+      public @NonNull Builder setRenderIndex(@NonNull Long setterArg) {
+        this.renderIndex = setterArg;
+        return this;
+      }
+
+      public @NonNull GetEmbeddedSubtitlesMessage build() {
+        GetEmbeddedSubtitlesMessage pigeonReturn = new GetEmbeddedSubtitlesMessage();
+        pigeonReturn.setLanguage(language);
+        pigeonReturn.setLabel(label);
+        pigeonReturn.setTrackIndex(trackIndex);
+        pigeonReturn.setGroupIndex(groupIndex);
+        pigeonReturn.setRenderIndex(renderIndex);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      toListResult.add(language);
+      toListResult.add(label);
+      toListResult.add(trackIndex);
+      toListResult.add(groupIndex);
+      toListResult.add(renderIndex);
+      return toListResult;
+    }
+
+    static @NonNull GetEmbeddedSubtitlesMessage fromList(@NonNull ArrayList<Object> list) {
+      GetEmbeddedSubtitlesMessage pigeonResult = new GetEmbeddedSubtitlesMessage();
+      Object language = list.get(0);
+      pigeonResult.setLanguage((String) language);
+      Object label = list.get(1);
+      pigeonResult.setLabel((String) label);
+      Object trackIndex = list.get(2);
+      pigeonResult.setTrackIndex((trackIndex == null) ? null : ((trackIndex instanceof Integer) ? (Integer) trackIndex : (Long) trackIndex));
+      Object groupIndex = list.get(3);
+      pigeonResult.setGroupIndex((groupIndex == null) ? null : ((groupIndex instanceof Integer) ? (Integer) groupIndex : (Long) groupIndex));
+      Object renderIndex = list.get(4);
+      pigeonResult.setRenderIndex((renderIndex == null) ? null : ((renderIndex instanceof Integer) ? (Integer) renderIndex : (Long) renderIndex));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SetEmbeddedSubtitlesMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @Nullable String language;
+
+    public @Nullable String getLanguage() {
+      return language;
+    }
+
+    public void setLanguage(@Nullable String setterArg) {
+      this.language = setterArg;
+    }
+
+    private @Nullable String label;
+
+    public @Nullable String getLabel() {
+      return label;
+    }
+
+    public void setLabel(@Nullable String setterArg) {
+      this.label = setterArg;
+    }
+
+    private @Nullable Long trackIndex;
+
+    public @Nullable Long getTrackIndex() {
+      return trackIndex;
+    }
+
+    public void setTrackIndex(@Nullable Long setterArg) {
+      this.trackIndex = setterArg;
+    }
+
+    private @Nullable Long groupIndex;
+
+    public @Nullable Long getGroupIndex() {
+      return groupIndex;
+    }
+
+    public void setGroupIndex(@Nullable Long setterArg) {
+      this.groupIndex = setterArg;
+    }
+
+    private @Nullable Long renderIndex;
+
+    public @Nullable Long getRenderIndex() {
+      return renderIndex;
+    }
+
+    public void setRenderIndex(@Nullable Long setterArg) {
+      this.renderIndex = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SetEmbeddedSubtitlesMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable String language;
+
+      public @NonNull Builder setLanguage(@Nullable String setterArg) {
+        this.language = setterArg;
+        return this;
+      }
+
+      private @Nullable String label;
+
+      public @NonNull Builder setLabel(@Nullable String setterArg) {
+        this.label = setterArg;
+        return this;
+      }
+
+      private @Nullable Long trackIndex;
+
+      public @NonNull Builder setTrackIndex(@Nullable Long setterArg) {
+        this.trackIndex = setterArg;
+        return this;
+      }
+
+      private @Nullable Long groupIndex;
+
+      public @NonNull Builder setGroupIndex(@Nullable Long setterArg) {
+        this.groupIndex = setterArg;
+        return this;
+      }
+
+      private @Nullable Long renderIndex;
+
+      public @NonNull Builder setRenderIndex(@Nullable Long setterArg) {
+        this.renderIndex = setterArg;
+        return this;
+      }
+
+      public @NonNull SetEmbeddedSubtitlesMessage build() {
+        SetEmbeddedSubtitlesMessage pigeonReturn = new SetEmbeddedSubtitlesMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setLanguage(language);
+        pigeonReturn.setLabel(label);
+        pigeonReturn.setTrackIndex(trackIndex);
+        pigeonReturn.setGroupIndex(groupIndex);
+        pigeonReturn.setRenderIndex(renderIndex);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(textureId);
+      toListResult.add(language);
+      toListResult.add(label);
+      toListResult.add(trackIndex);
+      toListResult.add(groupIndex);
+      toListResult.add(renderIndex);
+      return toListResult;
+    }
+
+    static @NonNull SetEmbeddedSubtitlesMessage fromList(@NonNull ArrayList<Object> list) {
+      SetEmbeddedSubtitlesMessage pigeonResult = new SetEmbeddedSubtitlesMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object language = list.get(1);
+      pigeonResult.setLanguage((String) language);
+      Object label = list.get(2);
+      pigeonResult.setLabel((String) label);
+      Object trackIndex = list.get(3);
+      pigeonResult.setTrackIndex((trackIndex == null) ? null : ((trackIndex instanceof Integer) ? (Integer) trackIndex : (Long) trackIndex));
+      Object groupIndex = list.get(4);
+      pigeonResult.setGroupIndex((groupIndex == null) ? null : ((groupIndex instanceof Integer) ? (Integer) groupIndex : (Long) groupIndex));
+      Object renderIndex = list.get(5);
+      pigeonResult.setRenderIndex((renderIndex == null) ? null : ((renderIndex instanceof Integer) ? (Integer) renderIndex : (Long) renderIndex));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class QueueItemMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable String formatHint;
+
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    QueueItemMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      public @NonNull QueueItemMessage build() {
+        QueueItemMessage pigeonReturn = new QueueItemMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      return toListResult;
+    }
+
+    static @NonNull QueueItemMessage fromList(@NonNull ArrayList<Object> list) {
+      QueueItemMessage pigeonResult = new QueueItemMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(1);
+      pigeonResult.setFormatHint((String) formatHint);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class QueueMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull List<QueueItemMessage> items;
+
+    public @NonNull List<QueueItemMessage> getItems() {
+      return items;
+    }
+
+    public void setItems(@NonNull List<QueueItemMessage> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"items\" is null.");
+      }
+      this.items = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    QueueMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable List<QueueItemMessage> items;
+
+      public @NonNull Builder setItems(@NonNull List<QueueItemMessage> setterArg) {
+        this.items = setterArg;
+        return this;
+      }
+
+      public @NonNull QueueMessage build() {
+        QueueMessage pigeonReturn = new QueueMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setItems(items);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(items);
+      return toListResult;
+    }
+
+    static @NonNull QueueMessage fromList(@NonNull ArrayList<Object> list) {
+      QueueMessage pigeonResult = new QueueMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object items = list.get(1);
+      pigeonResult.setItems((List<QueueItemMessage>) items);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadMessage {
+    private @NonNull String id;
+
+    public @NonNull String getId() {
+      return id;
+    }
+
+    public void setId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"id\" is null.");
+      }
+      this.id = setterArg;
+    }
+
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable String formatHint;
+
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    private @Nullable Long maxVideoBitrate;
+
+    public @Nullable Long getMaxVideoBitrate() {
+      return maxVideoBitrate;
+    }
+
+    public void setMaxVideoBitrate(@Nullable Long setterArg) {
+      this.maxVideoBitrate = setterArg;
+    }
+
+    private @Nullable Long maxVideoHeight;
+
+    public @Nullable Long getMaxVideoHeight() {
+      return maxVideoHeight;
+    }
+
+    public void setMaxVideoHeight(@Nullable Long setterArg) {
+      this.maxVideoHeight = setterArg;
+    }
+
+    private @Nullable List<String> audioLanguages;
+
+    public @Nullable List<String> getAudioLanguages() {
+      return audioLanguages;
+    }
+
+    public void setAudioLanguages(@Nullable List<String> setterArg) {
+      this.audioLanguages = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String id;
+
+      public @NonNull Builder setId(@NonNull String setterArg) {
+        this.id = setterArg;
+        return this;
+      }
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoBitrate;
+
+      public @NonNull Builder setMaxVideoBitrate(@Nullable Long setterArg) {
+        this.maxVideoBitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoHeight;
+
+      public @NonNull Builder setMaxVideoHeight(@Nullable Long setterArg) {
+        this.maxVideoHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> audioLanguages;
+
+      public @NonNull Builder setAudioLanguages(@Nullable List<String> setterArg) {
+        this.audioLanguages = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadMessage build() {
+        DownloadMessage pigeonReturn = new DownloadMessage();
+        pigeonReturn.setId(id);
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setMaxVideoBitrate(maxVideoBitrate);
+        pigeonReturn.setMaxVideoHeight(maxVideoHeight);
+        pigeonReturn.setAudioLanguages(audioLanguages);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(id);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      toListResult.add(httpHeaders);
+      toListResult.add(maxVideoBitrate);
+      toListResult.add(maxVideoHeight);
+      toListResult.add(audioLanguages);
+      return toListResult;
+    }
+
+    static @NonNull DownloadMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadMessage pigeonResult = new DownloadMessage();
+      Object id = list.get(0);
+      pigeonResult.setId((String) id);
+      Object uri = list.get(1);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(2);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object httpHeaders = list.get(3);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object maxVideoBitrate = list.get(4);
+      pigeonResult.setMaxVideoBitrate((maxVideoBitrate == null) ? null : ((maxVideoBitrate instanceof Integer) ? (Integer) maxVideoBitrate : (Long) maxVideoBitrate));
+      Object maxVideoHeight = list.get(5);
+      pigeonResult.setMaxVideoHeight((maxVideoHeight == null) ? null : ((maxVideoHeight instanceof Integer) ? (Integer) maxVideoHeight : (Long) maxVideoHeight));
+      Object audioLanguages = list.get(6);
+      pigeonResult.setAudioLanguages((List<String>) audioLanguages);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadIdMessage {
+    private @NonNull String id;
+
+    public @NonNull String getId() {
+      return id;
+    }
+
+    public void setId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"id\" is null.");
+      }
+      this.id = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadIdMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String id;
+
+      public @NonNull Builder setId(@NonNull String setterArg) {
+        this.id = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadIdMessage build() {
+        DownloadIdMessage pigeonReturn = new DownloadIdMessage();
+        pigeonReturn.setId(id);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(id);
+      return toListResult;
+    }
+
+    static @NonNull DownloadIdMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadIdMessage pigeonResult = new DownloadIdMessage();
+      Object id = list.get(0);
+      pigeonResult.setId((String) id);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadStateMessage {
+    private @NonNull String id;
+
+    public @NonNull String getId() {
+      return id;
+    }
+
+    public void setId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"id\" is null.");
+      }
+      this.id = setterArg;
+    }
+
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long state;
+
+    public @NonNull Long getState() {
+      return state;
+    }
+
+    public void setState(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"state\" is null.");
+      }
+      this.state = setterArg;
+    }
+
+    private @Nullable Double percentDownloaded;
+
+    public @Nullable Double getPercentDownloaded() {
+      return percentDownloaded;
+    }
+
+    public void setPercentDownloaded(@Nullable Double setterArg) {
+      this.percentDownloaded = setterArg;
+    }
+
+    private @NonNull Long bytesDownloaded;
+
+    public @NonNull Long getBytesDownloaded() {
+      return bytesDownloaded;
+    }
+
+    public void setBytesDownloaded(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesDownloaded\" is null.");
+      }
+      this.bytesDownloaded = setterArg;
+    }
+
+    private @Nullable Long failureReason;
+
+    public @Nullable Long getFailureReason() {
+      return failureReason;
+    }
+
+    public void setFailureReason(@Nullable Long setterArg) {
+      this.failureReason = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadStateMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String id;
+
+      public @NonNull Builder setId(@NonNull String setterArg) {
+        this.id = setterArg;
+        return this;
+      }
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long state;
+
+      public @NonNull Builder setState(@NonNull Long setterArg) {
+        this.state = setterArg;
+        return this;
+      }
+
+      private @Nullable Double percentDownloaded;
+
+      public @NonNull Builder setPercentDownloaded(@Nullable Double setterArg) {
+        this.percentDownloaded = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytesDownloaded;
+
+      public @NonNull Builder setBytesDownloaded(@NonNull Long setterArg) {
+        this.bytesDownloaded = setterArg;
+        return this;
+      }
+
+      private @Nullable Long failureReason;
+
+      public @NonNull Builder setFailureReason(@Nullable Long setterArg) {
+        this.failureReason = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadStateMessage build() {
+        DownloadStateMessage pigeonReturn = new DownloadStateMessage();
+        pigeonReturn.setId(id);
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setState(state);
+        pigeonReturn.setPercentDownloaded(percentDownloaded);
+        pigeonReturn.setBytesDownloaded(bytesDownloaded);
+        pigeonReturn.setFailureReason(failureReason);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(id);
+      toListResult.add(uri);
+      toListResult.add(state);
+      toListResult.add(percentDownloaded);
+      toListResult.add(bytesDownloaded);
+      toListResult.add(failureReason);
+      return toListResult;
+    }
+
+    static @NonNull DownloadStateMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadStateMessage pigeonResult = new DownloadStateMessage();
+      Object id = list.get(0);
+      pigeonResult.setId((String) id);
+      Object uri = list.get(1);
+      pigeonResult.setUri((String) uri);
+      Object state = list.get(2);
+      pigeonResult.setState((state == null) ? null : ((state instanceof Integer) ? (Integer) state : (Long) state));
+      Object percentDownloaded = list.get(3);
+      pigeonResult.setPercentDownloaded((Double) percentDownloaded);
+      Object bytesDownloaded = list.get(4);
+      pigeonResult.setBytesDownloaded((bytesDownloaded == null) ? null : ((bytesDownloaded instanceof Integer) ? (Integer) bytesDownloaded : (Long) bytesDownloaded));
+      Object failureReason = list.get(5);
+      pigeonResult.setFailureReason((failureReason == null) ? null : ((failureReason instanceof Integer) ? (Integer) failureReason : (Long) failureReason));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadSettingsMessage {
+    private @Nullable Boolean paused;
+
+    public @Nullable Boolean getPaused() {
+      return paused;
+    }
+
+    public void setPaused(@Nullable Boolean setterArg) {
+      this.paused = setterArg;
+    }
+
+    private @Nullable Long maxParallelDownloads;
+
+    public @Nullable Long getMaxParallelDownloads() {
+      return maxParallelDownloads;
+    }
+
+    public void setMaxParallelDownloads(@Nullable Long setterArg) {
+      this.maxParallelDownloads = setterArg;
+    }
+
+    public static final class Builder {
+
+      private @Nullable Boolean paused;
+
+      public @NonNull Builder setPaused(@Nullable Boolean setterArg) {
+        this.paused = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxParallelDownloads;
+
+      public @NonNull Builder setMaxParallelDownloads(@Nullable Long setterArg) {
+        this.maxParallelDownloads = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadSettingsMessage build() {
+        DownloadSettingsMessage pigeonReturn = new DownloadSettingsMessage();
+        pigeonReturn.setPaused(paused);
+        pigeonReturn.setMaxParallelDownloads(maxParallelDownloads);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(paused);
+      toListResult.add(maxParallelDownloads);
+      return toListResult;
+    }
+
+    static @NonNull DownloadSettingsMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadSettingsMessage pigeonResult = new DownloadSettingsMessage();
+      Object paused = list.get(0);
+      pigeonResult.setPaused((Boolean) paused);
+      Object maxParallelDownloads = list.get(1);
+      pigeonResult.setMaxParallelDownloads((maxParallelDownloads == null) ? null : ((maxParallelDownloads instanceof Integer) ? (Integer) maxParallelDownloads : (Long) maxParallelDownloads));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class QueueIndexMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long index;
+
+    public @NonNull Long getIndex() {
+      return index;
+    }
+
+    public void setIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"index\" is null.");
+      }
+      this.index = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    QueueIndexMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long index;
+
+      public @NonNull Builder setIndex(@NonNull Long setterArg) {
+        this.index = setterArg;
+        return this;
+      }
+
+      public @NonNull QueueIndexMessage build() {
+        QueueIndexMessage pigeonReturn = new QueueIndexMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIndex(index);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(index);
+      return toListResult;
+    }
+
+    static @NonNull QueueIndexMessage fromList(@NonNull ArrayList<Object> list) {
+      QueueIndexMessage pigeonResult = new QueueIndexMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object index = list.get(1);
+      pigeonResult.setIndex((index == null) ? null : ((index instanceof Integer) ? (Integer) index : (Long) index));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class AudioOnlyMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Boolean audioOnly;
+
+    public @NonNull Boolean getAudioOnly() {
+      return audioOnly;
+    }
+
+    public void setAudioOnly(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioOnly\" is null.");
+      }
+      this.audioOnly = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    AudioOnlyMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean audioOnly;
+
+      public @NonNull Builder setAudioOnly(@NonNull Boolean setterArg) {
+        this.audioOnly = setterArg;
+        return this;
+      }
+
+      public @NonNull AudioOnlyMessage build() {
+        AudioOnlyMessage pigeonReturn = new AudioOnlyMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setAudioOnly(audioOnly);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(audioOnly);
+      return toListResult;
+    }
+
+    static @NonNull AudioOnlyMessage fromList(@NonNull ArrayList<Object> list) {
+      AudioOnlyMessage pigeonResult = new AudioOnlyMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object audioOnly = list.get(1);
+      pigeonResult.setAudioOnly((Boolean) audioOnly);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DecoderPriorityMessage {
     private @NonNull Long textureId;
 
     public @NonNull Long getTextureId() {
@@ -822,58 +2293,163 @@ public class Messages {
       this.textureId = setterArg;
     }
 
-    private @Nullable String language;
+    private @NonNull Long priority;
 
-    public @Nullable String getLanguage() {
-      return language;
+    public @NonNull Long getPriority() {
+      return priority;
     }
 
-    public void setLanguage(@Nullable String setterArg) {
-      this.language = setterArg;
+    public void setPriority(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"priority\" is null.");
+      }
+      this.priority = setterArg;
     }
 
-    private @Nullable String label;
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DecoderPriorityMessage() {}
 
-    public @Nullable String getLabel() {
-      return label;
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      public @NonNull Builder setPriority(@NonNull Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
+      public @NonNull DecoderPriorityMessage build() {
+        DecoderPriorityMessage pigeonReturn = new DecoderPriorityMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setPriority(priority);
+        return pigeonReturn;
+      }
     }
 
-    public void setLabel(@Nullable String setterArg) {
-      this.label = setterArg;
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(priority);
+      return toListResult;
     }
 
-    private @Nullable Long trackIndex;
+    static @NonNull DecoderPriorityMessage fromList(@NonNull ArrayList<Object> list) {
+      DecoderPriorityMessage pigeonResult = new DecoderPriorityMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object priority = list.get(1);
+      pigeonResult.setPriority((priority == null) ? null : ((priority instanceof Integer) ? (Integer) priority : (Long) priority));
+      return pigeonResult;
+    }
+  }
 
-    public @Nullable Long getTrackIndex() {
-      return trackIndex;
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DecoderBudgetMessage {
+    private @Nullable Long maxHardwareDecoders;
+
+    public @Nullable Long getMaxHardwareDecoders() {
+      return maxHardwareDecoders;
     }
 
-    public void setTrackIndex(@Nullable Long setterArg) {
-      this.trackIndex = setterArg;
+    public void setMaxHardwareDecoders(@Nullable Long setterArg) {
+      this.maxHardwareDecoders = setterArg;
     }
 
-    private @Nullable Long groupIndex;
+    public static final class Builder {
 
-    public @Nullable Long getGroupIndex() {
-      return groupIndex;
+      private @Nullable Long maxHardwareDecoders;
+
+      public @NonNull Builder setMaxHardwareDecoders(@Nullable Long setterArg) {
+        this.maxHardwareDecoders = setterArg;
+        return this;
+      }
+
+      public @NonNull DecoderBudgetMessage build() {
+        DecoderBudgetMessage pigeonReturn = new DecoderBudgetMessage();
+        pigeonReturn.setMaxHardwareDecoders(maxHardwareDecoders);
+        return pigeonReturn;
+      }
     }
 
-    public void setGroupIndex(@Nullable Long setterArg) {
-      this.groupIndex = setterArg;
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxHardwareDecoders);
+      return toListResult;
     }
 
-    private @Nullable Long renderIndex;
+    static @NonNull DecoderBudgetMessage fromList(@NonNull ArrayList<Object> list) {
+      DecoderBudgetMessage pigeonResult = new DecoderBudgetMessage();
+      Object maxHardwareDecoders = list.get(0);
+      pigeonResult.setMaxHardwareDecoders((maxHardwareDecoders == null) ? null : ((maxHardwareDecoders instanceof Integer) ? (Integer) maxHardwareDecoders : (Long) maxHardwareDecoders));
+      return pigeonResult;
+    }
+  }
 
-    public @Nullable Long getRenderIndex() {
-      return renderIndex;
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ViewportMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
     }
 
-    public void setRenderIndex(@Nullable Long setterArg) {
-      this.renderIndex = setterArg;
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Double width;
+
+    public @NonNull Double getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Double height;
+
+    public @NonNull Double getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Double devicePixelRatio;
+
+    public @NonNull Double getDevicePixelRatio() {
+      return devicePixelRatio;
+    }
+
+    public void setDevicePixelRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"devicePixelRatio\" is null.");
+      }
+      this.devicePixelRatio = setterArg;
     }
 
     /** Constructor is non-public to enforce null safety; use Builder. */
-    SetEmbeddedSubtitlesMessage() {}
+    ViewportMessage() {}
 
     public static final class Builder {
 
@@ -884,79 +2460,243 @@ public class Messages {
         return this;
       }
 
-      private @Nullable String language;
+      private @Nullable Double width;
 
-      public @NonNull Builder setLanguage(@Nullable String setterArg) {
-        this.language = setterArg;
+      public @NonNull Builder setWidth(@NonNull Double setterArg) {
+        this.width = setterArg;
         return this;
       }
 
-      private @Nullable String label;
+      private @Nullable Double height;
 
-      public @NonNull Builder setLabel(@Nullable String setterArg) {
-        this.label = setterArg;
+      public @NonNull Builder setHeight(@NonNull Double setterArg) {
+        this.height = setterArg;
         return this;
       }
 
-      private @Nullable Long trackIndex;
+      private @Nullable Double devicePixelRatio;
 
-      public @NonNull Builder setTrackIndex(@Nullable Long setterArg) {
-        this.trackIndex = setterArg;
+      public @NonNull Builder setDevicePixelRatio(@NonNull Double setterArg) {
+        this.devicePixelRatio = setterArg;
         return this;
       }
 
-      private @Nullable Long groupIndex;
+      public @NonNull ViewportMessage build() {
+        ViewportMessage pigeonReturn = new ViewportMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setDevicePixelRatio(devicePixelRatio);
+        return pigeonReturn;
+      }
+    }
 
-      public @NonNull Builder setGroupIndex(@Nullable Long setterArg) {
-        this.groupIndex = setterArg;
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(textureId);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(devicePixelRatio);
+      return toListResult;
+    }
+
+    static @NonNull ViewportMessage fromList(@NonNull ArrayList<Object> list) {
+      ViewportMessage pigeonResult = new ViewportMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object width = list.get(1);
+      pigeonResult.setWidth((Double) width);
+      Object height = list.get(2);
+      pigeonResult.setHeight((Double) height);
+      Object devicePixelRatio = list.get(3);
+      pigeonResult.setDevicePixelRatio((Double) devicePixelRatio);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class NetworkPriorityMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long priority;
+
+    public @NonNull Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"priority\" is null.");
+      }
+      this.priority = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    NetworkPriorityMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
         return this;
       }
 
-      private @Nullable Long renderIndex;
+      private @Nullable Long priority;
 
-      public @NonNull Builder setRenderIndex(@Nullable Long setterArg) {
-        this.renderIndex = setterArg;
+      public @NonNull Builder setPriority(@NonNull Long setterArg) {
+        this.priority = setterArg;
         return this;
       }
 
-      public @NonNull SetEmbeddedSubtitlesMessage build() {
-        SetEmbeddedSubtitlesMessage pigeonReturn = new SetEmbeddedSubtitlesMessage();
+      public @NonNull NetworkPriorityMessage build() {
+        NetworkPriorityMessage pigeonReturn = new NetworkPriorityMessage();
         pigeonReturn.setTextureId(textureId);
-        pigeonReturn.setLanguage(language);
-        pigeonReturn.setLabel(label);
-        pigeonReturn.setTrackIndex(trackIndex);
-        pigeonReturn.setGroupIndex(groupIndex);
-        pigeonReturn.setRenderIndex(renderIndex);
+        pigeonReturn.setPriority(priority);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
       toListResult.add(textureId);
-      toListResult.add(language);
-      toListResult.add(label);
-      toListResult.add(trackIndex);
-      toListResult.add(groupIndex);
-      toListResult.add(renderIndex);
+      toListResult.add(priority);
       return toListResult;
     }
 
-    static @NonNull SetEmbeddedSubtitlesMessage fromList(@NonNull ArrayList<Object> list) {
-      SetEmbeddedSubtitlesMessage pigeonResult = new SetEmbeddedSubtitlesMessage();
+    static @NonNull NetworkPriorityMessage fromList(@NonNull ArrayList<Object> list) {
+      NetworkPriorityMessage pigeonResult = new NetworkPriorityMessage();
       Object textureId = list.get(0);
       pigeonResult.setTextureId((textureId == null) ? null : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
-      Object language = list.get(1);
-      pigeonResult.setLanguage((String) language);
-      Object label = list.get(2);
-      pigeonResult.setLabel((String) label);
-      Object trackIndex = list.get(3);
-      pigeonResult.setTrackIndex((trackIndex == null) ? null : ((trackIndex instanceof Integer) ? (Integer) trackIndex : (Long) trackIndex));
-      Object groupIndex = list.get(4);
-      pigeonResult.setGroupIndex((groupIndex == null) ? null : ((groupIndex instanceof Integer) ? (Integer) groupIndex : (Long) groupIndex));
-      Object renderIndex = list.get(5);
-      pigeonResult.setRenderIndex((renderIndex == null) ? null : ((renderIndex instanceof Integer) ? (Integer) renderIndex : (Long) renderIndex));
+      Object priority = list.get(1);
+      pigeonResult.setPriority((priority == null) ? null : ((priority instanceof Integer) ? (Integer) priority : (Long) priority));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class WarmupMessage {
+    private @NonNull List<String> hosts;
+
+    public @NonNull List<String> getHosts() {
+      return hosts;
+    }
+
+    public void setHosts(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hosts\" is null.");
+      }
+      this.hosts = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    WarmupMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<String> hosts;
+
+      public @NonNull Builder setHosts(@NonNull List<String> setterArg) {
+        this.hosts = setterArg;
+        return this;
+      }
+
+      public @NonNull WarmupMessage build() {
+        WarmupMessage pigeonReturn = new WarmupMessage();
+        pigeonReturn.setHosts(hosts);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(hosts);
+      return toListResult;
+    }
+
+    static @NonNull WarmupMessage fromList(@NonNull ArrayList<Object> list) {
+      WarmupMessage pigeonResult = new WarmupMessage();
+      Object hosts = list.get(0);
+      pigeonResult.setHosts((List<String>) hosts);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ManifestCacheMessage {
+    private @Nullable Long ttlMs;
+
+    public @Nullable Long getTtlMs() {
+      return ttlMs;
+    }
+
+    public void setTtlMs(@Nullable Long setterArg) {
+      this.ttlMs = setterArg;
+    }
+
+    private @Nullable Long liveTtlMs;
+
+    public @Nullable Long getLiveTtlMs() {
+      return liveTtlMs;
+    }
+
+    public void setLiveTtlMs(@Nullable Long setterArg) {
+      this.liveTtlMs = setterArg;
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long ttlMs;
+
+      public @NonNull Builder setTtlMs(@Nullable Long setterArg) {
+        this.ttlMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long liveTtlMs;
+
+      public @NonNull Builder setLiveTtlMs(@Nullable Long setterArg) {
+        this.liveTtlMs = setterArg;
+        return this;
+      }
+
+      public @NonNull ManifestCacheMessage build() {
+        ManifestCacheMessage pigeonReturn = new ManifestCacheMessage();
+        pigeonReturn.setTtlMs(ttlMs);
+        pigeonReturn.setLiveTtlMs(liveTtlMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(ttlMs);
+      toListResult.add(liveTtlMs);
+      return toListResult;
+    }
+
+    static @NonNull ManifestCacheMessage fromList(@NonNull ArrayList<Object> list) {
+      ManifestCacheMessage pigeonResult = new ManifestCacheMessage();
+      Object ttlMs = list.get(0);
+      pigeonResult.setTtlMs((ttlMs == null) ? null : ((ttlMs instanceof Integer) ? (Integer) ttlMs : (Long) ttlMs));
+      Object liveTtlMs = list.get(1);
+      pigeonResult.setLiveTtlMs((liveTtlMs == null) ? null : ((liveTtlMs instanceof Integer) ? (Integer) liveTtlMs : (Long) liveTtlMs));
       return pigeonResult;
     }
   }
@@ -970,25 +2710,55 @@ public class Messages {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return AudioOnlyMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 129:
-          return GetEmbeddedSubtitlesMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 130:
-          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DecoderBudgetMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 131:
-          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DecoderPriorityMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 132:
-          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DownloadIdMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 133:
-          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DownloadMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 134:
-          return SetEmbeddedSubtitlesMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DownloadSettingsMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 135:
-          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return DownloadStateMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 136:
-          return TrackMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return GetEmbeddedSubtitlesMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 137:
+          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return ManifestCacheMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return NetworkPriorityMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return PlaybackStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return QueueIndexMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return QueueItemMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return QueueMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return SetEmbeddedSubtitlesMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 148:
+          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 149:
+          return TrackMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 150:
+          return ViewportMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 151:
           return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 152:
+          return WarmupMessage.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -996,36 +2766,81 @@ public class Messages {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof AudioOnlyMessage) {
         stream.write(128);
+        writeValue(stream, ((AudioOnlyMessage) value).toList());
+      } else if (value instanceof CreateMessage) {
+        stream.write(129);
         writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof DecoderBudgetMessage) {
+        stream.write(130);
+        writeValue(stream, ((DecoderBudgetMessage) value).toList());
+      } else if (value instanceof DecoderPriorityMessage) {
+        stream.write(131);
+        writeValue(stream, ((DecoderPriorityMessage) value).toList());
+      } else if (value instanceof DownloadIdMessage) {
+        stream.write(132);
+        writeValue(stream, ((DownloadIdMessage) value).toList());
+      } else if (value instanceof DownloadMessage) {
+        stream.write(133);
+        writeValue(stream, ((DownloadMessage) value).toList());
+      } else if (value instanceof DownloadSettingsMessage) {
+        stream.write(134);
+        writeValue(stream, ((DownloadSettingsMessage) value).toList());
+      } else if (value instanceof DownloadStateMessage) {
+        stream.write(135);
+        writeValue(stream, ((DownloadStateMessage) value).toList());
       } else if (value instanceof GetEmbeddedSubtitlesMessage) {
-        stream.write(129);
+        stream.write(136);
         writeValue(stream, ((GetEmbeddedSubtitlesMessage) value).toList());
       } else if (value instanceof LoopingMessage) {
-        stream.write(130);
+        stream.write(137);
         writeValue(stream, ((LoopingMessage) value).toList());
+      } else if (value instanceof ManifestCacheMessage) {
+        stream.write(138);
+        writeValue(stream, ((ManifestCacheMessage) value).toList());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(131);
+        stream.write(139);
         writeValue(stream, ((MixWithOthersMessage) value).toList());
+      } else if (value instanceof NetworkPriorityMessage) {
+        stream.write(140);
+        writeValue(stream, ((NetworkPriorityMessage) value).toList());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(132);
+        stream.write(141);
         writeValue(stream, ((PlaybackSpeedMessage) value).toList());
+      } else if (value instanceof PlaybackStatsMessage) {
+        stream.write(142);
+        writeValue(stream, ((PlaybackStatsMessage) value).toList());
       } else if (value instanceof PositionMessage) {
-        stream.write(133);
+        stream.write(143);
         writeValue(stream, ((PositionMessage) value).toList());
+      } else if (value instanceof QueueIndexMessage) {
+        stream.write(144);
+        writeValue(stream, ((QueueIndexMessage) value).toList());
+      } else if (value instanceof QueueItemMessage) {
+        stream.write(145);
+        writeValue(stream, ((QueueItemMessage) value).toList());
+      } else if (value instanceof QueueMessage) {
+        stream.write(146);
+        writeValue(stream, ((QueueMessage) value).toList());
       } else if (value instanceof SetEmbeddedSubtitlesMessage) {
-        stream.write(134);
+        stream.write(147);
         writeValue(stream, ((SetEmbeddedSubtitlesMessage) value).toList());
       } else if (value instanceof TextureMessage) {
-        stream.write(135);
+        stream.write(148);
         writeValue(stream, ((TextureMessage) value).toList());
       } else if (value instanceof TrackMessage) {
-        stream.write(136);
+        stream.write(149);
         writeValue(stream, ((TrackMessage) value).toList());
+      } else if (value instanceof ViewportMessage) {
+        stream.write(150);
+        writeValue(stream, ((ViewportMessage) value).toList());
       } else if (value instanceof VolumeMessage) {
-        stream.write(137);
+        stream.write(151);
         writeValue(stream, ((VolumeMessage) value).toList());
+      } else if (value instanceof WarmupMessage) {
+        stream.write(152);
+        writeValue(stream, ((WarmupMessage) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -1067,10 +2882,31 @@ public class Messages {
     @NonNull 
     PositionMessage position(@NonNull TextureMessage msg);
 
+    @NonNull 
+    PlaybackStatsMessage getStats(@NonNull TextureMessage msg);
+
     void seekTo(@NonNull PositionMessage msg);
 
     void pause(@NonNull TextureMessage msg);
 
+    void suspend(@NonNull TextureMessage msg);
+
+    void resume(@NonNull TextureMessage msg);
+
+    void setAudioOnly(@NonNull AudioOnlyMessage msg);
+
+    void setDecoderPriority(@NonNull DecoderPriorityMessage msg);
+
+    void setDecoderBudget(@NonNull DecoderBudgetMessage msg);
+
+    void setViewportSize(@NonNull ViewportMessage msg);
+
+    void setManifestCache(@NonNull ManifestCacheMessage msg);
+
+    void warmup(@NonNull WarmupMessage msg);
+
+    void setNetworkPriority(@NonNull NetworkPriorityMessage msg);
+
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
     @NonNull 
@@ -1078,6 +2914,21 @@ public class Messages {
 
     void setEmbeddedSubtitles(@NonNull SetEmbeddedSubtitlesMessage msg);
 
+    void setQueue(@NonNull QueueMessage msg);
+
+    void addToQueue(@NonNull QueueMessage msg);
+
+    void skipToIndex(@NonNull QueueIndexMessage msg);
+
+    void startDownload(@NonNull DownloadMessage msg);
+
+    void removeDownload(@NonNull DownloadIdMessage msg);
+
+    @NonNull 
+    List<DownloadStateMessage> getDownloads();
+
+    void setDownloadSettings(@NonNull DownloadSettingsMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -1087,13 +2938,229 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  api.initialize();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CreateMessage msgArg = (CreateMessage) args.get(0);
+                try {
+                  TextureMessage output = api.create(msgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  api.dispose(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                try {
+                  api.setLooping(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                try {
+                  api.setVolume(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrack", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TrackMessage msgArg = (TrackMessage) args.get(0);
+                try {
+                  api.setAudioTrack(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrackByIndex", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TrackMessage msgArg = (TrackMessage) args.get(0);
+                try {
+                  api.setAudioTrackByIndex(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getAudioTracks", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  List<String> output = api.getAudioTracks(msgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrack", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TrackMessage msgArg = (TrackMessage) args.get(0);
+                try {
+                  api.setVideoTrack(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrackByIndex", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TrackMessage msgArg = (TrackMessage) args.get(0);
                 try {
-                  api.initialize();
+                  api.setVideoTrackByIndex(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1109,15 +3176,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getVideoTracks", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                CreateMessage msgArg = (CreateMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  TextureMessage output = api.create(msgArg);
+                  List<String> output = api.getVideoTracks(msgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1133,15 +3200,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
                 try {
-                  api.dispose(msgArg);
+                  api.setPlaybackSpeed(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1157,15 +3224,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setLooping(msgArg);
+                  api.play(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1181,16 +3248,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.position", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setVolume(msgArg);
-                  wrapped.add(0, null);
+                  PositionMessage output = api.position(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -1205,15 +3272,39 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrack", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getStats", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TrackMessage msgArg = (TrackMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setAudioTrack(msgArg);
+                  PlaybackStatsMessage output = api.getStats(msgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PositionMessage msgArg = (PositionMessage) args.get(0);
+                try {
+                  api.seekTo(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1229,15 +3320,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrackByIndex", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TrackMessage msgArg = (TrackMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setAudioTrackByIndex(msgArg);
+                  api.pause(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1253,7 +3344,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getAudioTracks", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.suspend", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1261,8 +3352,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  List<String> output = api.getAudioTracks(msgArg);
-                  wrapped.add(0, output);
+                  api.suspend(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -1277,15 +3368,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrack", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.resume", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TrackMessage msgArg = (TrackMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setVideoTrack(msgArg);
+                  api.resume(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1301,15 +3392,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrackByIndex", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioOnly", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TrackMessage msgArg = (TrackMessage) args.get(0);
+                AudioOnlyMessage msgArg = (AudioOnlyMessage) args.get(0);
                 try {
-                  api.setVideoTrackByIndex(msgArg);
+                  api.setAudioOnly(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1325,16 +3416,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getVideoTracks", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderPriority", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                DecoderPriorityMessage msgArg = (DecoderPriorityMessage) args.get(0);
                 try {
-                  List<String> output = api.getVideoTracks(msgArg);
-                  wrapped.add(0, output);
+                  api.setDecoderPriority(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -1349,15 +3440,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderBudget", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
+                DecoderBudgetMessage msgArg = (DecoderBudgetMessage) args.get(0);
                 try {
-                  api.setPlaybackSpeed(msgArg);
+                  api.setDecoderBudget(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1373,15 +3464,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setViewportSize", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                ViewportMessage msgArg = (ViewportMessage) args.get(0);
                 try {
-                  api.play(msgArg);
+                  api.setViewportSize(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1397,16 +3488,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.position", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setManifestCache", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                ManifestCacheMessage msgArg = (ManifestCacheMessage) args.get(0);
                 try {
-                  PositionMessage output = api.position(msgArg);
-                  wrapped.add(0, output);
+                  api.setManifestCache(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -1421,15 +3512,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.warmup", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PositionMessage msgArg = (PositionMessage) args.get(0);
+                WarmupMessage msgArg = (WarmupMessage) args.get(0);
                 try {
-                  api.seekTo(msgArg);
+                  api.warmup(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1445,15 +3536,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setNetworkPriority", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                NetworkPriorityMessage msgArg = (NetworkPriorityMessage) args.get(0);
                 try {
-                  api.pause(msgArg);
+                  api.setNetworkPriority(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1528,6 +3619,172 @@ public class Messages {
                   api.setEmbeddedSubtitles(msgArg);
                   wrapped.add(0, null);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setQueue", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                QueueMessage msgArg = (QueueMessage) args.get(0);
+                try {
+                  api.setQueue(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.addToQueue", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                QueueMessage msgArg = (QueueMessage) args.get(0);
+                try {
+                  api.addToQueue(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.skipToIndex", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                QueueIndexMessage msgArg = (QueueIndexMessage) args.get(0);
+                try {
+                  api.skipToIndex(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.startDownload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DownloadMessage msgArg = (DownloadMessage) args.get(0);
+                try {
+                  api.startDownload(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DownloadIdMessage msgArg = (DownloadIdMessage) args.get(0);
+                try {
+                  api.removeDownload(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  List<DownloadStateMessage> output = api.getDownloads();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setDownloadSettings", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DownloadSettingsMessage msgArg = (DownloadSettingsMessage) args.get(0);
+                try {
+                  api.setDownloadSettings(msgArg);
+                  wrapped.add(0, null);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
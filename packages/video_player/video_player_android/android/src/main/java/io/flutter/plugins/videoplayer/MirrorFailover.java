@@ -0,0 +1,323 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSourceUtil;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultLoadErrorHandlingPolicy;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
+import com.google.android.exoplayer2.upstream.LoadErrorHandlingPolicy;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Retries failed loads of one player with backoff, and moves them to a mirror of the stream on
+ * another CDN when its current one keeps failing.
+ *
+ * <p>A load that fails with a retryable error, a connection error or one of the configured status
+ * codes, counts against the mirror in use. ExoPlayer retries it after {@link #getBackoffMs()},
+ * doubling with every further error. Once {@link #getAttempts()} loads in a row failed on the same
+ * mirror, the data source switches to the next mirror and retries there at once; playback only
+ * fails after every mirror had its attempts. Other status codes are not retried.
+ *
+ * <p>Mirrors are given as the URL of the same stream on each CDN. The part the URL shares with the
+ * primary URL at the end, from a path separator on, is taken to be the same on both, so any
+ * request below the primary URL's prefix, manifest or segment, is sent below the mirror's prefix
+ * instead. Requests elsewhere, such as to a key server, are left alone.
+ */
+final class MirrorFailover {
+  static final int DEFAULT_ATTEMPTS = 3;
+  static final long DEFAULT_BACKOFF_MS = 1000;
+  static final List<Integer> DEFAULT_STATUS_CODES = Arrays.asList(408, 429, 500, 502, 503, 504);
+  private static final long MAX_BACKOFF_MS = 30_000;
+
+  interface Listener {
+    /** Called on a loading thread when loads move from {@code from} to {@code to}. */
+    void onFailover(@NonNull String from, @NonNull String to, @NonNull IOException reason);
+  }
+
+  // primaryPrefixes[0] and mirrorPrefixes[0] are both the primary's own prefix.
+  private final String[] primaryPrefixes;
+  private final String[] mirrorPrefixes;
+  private final int attempts;
+  private final long backoffMs;
+  private final Set<Integer> statusCodes;
+  @Nullable private final Listener listener;
+  private final LoadErrorHandlingPolicy loadErrorHandlingPolicy = new RetryPolicy();
+  private int activeIndex;
+  private int consecutiveFailures;
+
+  MirrorFailover(
+      @NonNull String primaryUri,
+      @NonNull List<String> mirrorUris,
+      int attempts,
+      long backoffMs,
+      @NonNull List<Integer> statusCodes,
+      @Nullable Listener listener) {
+    int count = mirrorUris.size() + 1;
+    primaryPrefixes = new String[count];
+    mirrorPrefixes = new String[count];
+    primaryPrefixes[0] = primaryUri;
+    mirrorPrefixes[0] = primaryUri;
+    for (int i = 1; i < count; i++) {
+      String mirrorUri = mirrorUris.get(i - 1);
+      int suffix = sharedSuffixLength(primaryUri, mirrorUri);
+      if (suffix == 0) {
+        // Nothing in common but maybe the file name: map the hosts.
+        primaryPrefixes[i] = primaryUri.substring(0, pathStart(primaryUri));
+        mirrorPrefixes[i] = mirrorUri.substring(0, pathStart(mirrorUri));
+      } else {
+        primaryPrefixes[i] = primaryUri.substring(0, primaryUri.length() - suffix);
+        mirrorPrefixes[i] = mirrorUri.substring(0, mirrorUri.length() - suffix);
+      }
+    }
+    this.attempts = Math.max(1, attempts);
+    this.backoffMs = Math.max(0, backoffMs);
+    this.statusCodes = new HashSet<>(statusCodes);
+    this.listener = listener;
+  }
+
+  /** Builds the failover of a player from the mirrors and retry settings of {@code message}. */
+  @NonNull
+  static MirrorFailover fromMessage(@NonNull CreateMessage message, @Nullable Listener listener) {
+    List<String> mirrorUris = new ArrayList<>();
+    if (message.getMirrorUris() != null) {
+      for (String mirrorUri : message.getMirrorUris()) {
+        if (mirrorUri != null) {
+          mirrorUris.add(mirrorUri);
+        }
+      }
+    }
+    List<Integer> statusCodes = DEFAULT_STATUS_CODES;
+    if (message.getRetryStatusCodes() != null) {
+      statusCodes = new ArrayList<>();
+      for (Long statusCode : message.getRetryStatusCodes()) {
+        if (statusCode != null) {
+          statusCodes.add(statusCode.intValue());
+        }
+      }
+    }
+    return new MirrorFailover(
+        message.getUri(),
+        mirrorUris,
+        message.getRetryAttempts() == null
+            ? DEFAULT_ATTEMPTS
+            : message.getRetryAttempts().intValue(),
+        message.getRetryBackoffMs() == null ? DEFAULT_BACKOFF_MS : message.getRetryBackoffMs(),
+        statusCodes,
+        listener);
+  }
+
+  /**
+   * Returns the length of the end {@code a} and {@code b} share, starting at a path separator that
+   * comes after the host, or 0 if they share no such part.
+   */
+  @VisibleForTesting
+  static int sharedSuffixLength(@NonNull String a, @NonNull String b) {
+    int aPath = pathStart(a);
+    int bPath = pathStart(b);
+    int length = 0;
+    while (length < a.length() - aPath
+        && length < b.length() - bPath
+        && a.charAt(a.length() - 1 - length) == b.charAt(b.length() - 1 - length)) {
+      length++;
+    }
+    // Back off to the separator the shared part starts at.
+    while (length > 0 && a.charAt(a.length() - length) != '/') {
+      length--;
+    }
+    return length;
+  }
+
+  private static int pathStart(String uri) {
+    int scheme = uri.indexOf("://");
+    int path = uri.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+    return path < 0 ? uri.length() : path;
+  }
+
+  int getAttempts() {
+    return attempts;
+  }
+
+  long getBackoffMs() {
+    return backoffMs;
+  }
+
+  int getMirrorCount() {
+    return primaryPrefixes.length;
+  }
+
+  synchronized int getActiveIndex() {
+    return activeIndex;
+  }
+
+  @NonNull
+  LoadErrorHandlingPolicy getLoadErrorHandlingPolicy() {
+    return loadErrorHandlingPolicy;
+  }
+
+  /** Returns a factory whose data sources load from the active mirror. */
+  @NonNull
+  DataSource.Factory wrap(@NonNull DataSource.Factory upstreamFactory) {
+    return () -> new FailoverDataSource(upstreamFactory.createDataSource());
+  }
+
+  /** Returns {@code uri}, which may point at any mirror, moved to the mirror at {@code index}. */
+  @VisibleForTesting
+  @NonNull
+  String rewrite(@NonNull String uri, int index) {
+    String primaryForm = uri;
+    for (int i = 1; i < mirrorPrefixes.length; i++) {
+      if (uri.startsWith(mirrorPrefixes[i])) {
+        primaryForm = primaryPrefixes[i] + uri.substring(mirrorPrefixes[i].length());
+        break;
+      }
+    }
+    if (index == 0 || !primaryForm.startsWith(primaryPrefixes[index])) {
+      return primaryForm;
+    }
+    return mirrorPrefixes[index] + primaryForm.substring(primaryPrefixes[index].length());
+  }
+
+  /** Returns whether {@code e} is worth retrying, on the same mirror or on another one. */
+  @VisibleForTesting
+  boolean isRetryable(@NonNull IOException e) {
+    if (e instanceof HttpDataSource.InvalidResponseCodeException) {
+      return statusCodes.contains(((HttpDataSource.InvalidResponseCodeException) e).responseCode);
+    }
+    return e instanceof HttpDataSource.HttpDataSourceException
+        && !(e instanceof HttpDataSource.InvalidContentTypeException)
+        && !(e instanceof HttpDataSource.CleartextNotPermittedException);
+  }
+
+  /**
+   * Counts a retryable failure against the mirror at {@code index}, and returns whether loads moved
+   * to another mirror since it was picked.
+   */
+  @VisibleForTesting
+  boolean onLoadFailed(int index, @NonNull IOException reason) {
+    String from;
+    String to;
+    synchronized (this) {
+      if (index != activeIndex) {
+        return true;
+      }
+      consecutiveFailures++;
+      if (consecutiveFailures < attempts || mirrorPrefixes.length == 1) {
+        return false;
+      }
+      consecutiveFailures = 0;
+      activeIndex = (activeIndex + 1) % mirrorPrefixes.length;
+      from = mirrorPrefixes[index];
+      to = mirrorPrefixes[activeIndex];
+    }
+    if (listener != null) {
+      listener.onFailover(from, to, reason);
+    }
+    return true;
+  }
+
+  private synchronized void onLoadSucceeded(int index) {
+    if (index == activeIndex) {
+      consecutiveFailures = 0;
+    }
+  }
+
+  private final class RetryPolicy extends DefaultLoadErrorHandlingPolicy {
+    @Override
+    public long getRetryDelayMsFor(@NonNull LoadErrorInfo loadErrorInfo) {
+      IOException e = loadErrorInfo.exception;
+      if (e instanceof HttpDataSource.InvalidResponseCodeException && !isRetryable(e)) {
+        return C.TIME_UNSET;
+      }
+      if (isRetryable(e)) {
+        int doublings = Math.min(loadErrorInfo.errorCount - 1, 15);
+        return Math.min(backoffMs << doublings, MAX_BACKOFF_MS);
+      }
+      return super.getRetryDelayMsFor(loadErrorInfo);
+    }
+
+    @Override
+    public int getMinimumLoadableRetryCount(int dataType) {
+      return Math.max(
+          super.getMinimumLoadableRetryCount(dataType), attempts * getMirrorCount());
+    }
+  }
+
+  private final class FailoverDataSource implements DataSource {
+    private final DataSource upstream;
+    private int index;
+
+    FailoverDataSource(DataSource upstream) {
+      this.upstream = upstream;
+    }
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {
+      upstream.addTransferListener(transferListener);
+    }
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) throws IOException {
+      String uri = dataSpec.uri.toString();
+      for (int tries = 1; ; tries++) {
+        index = getActiveIndex();
+        try {
+          long length = upstream.open(dataSpec.withUri(Uri.parse(rewrite(uri, index))));
+          onLoadSucceeded(index);
+          return length;
+        } catch (IOException e) {
+          if (tries >= getMirrorCount() || !isRetryable(e) || !onLoadFailed(index, e)) {
+            throw e;
+          }
+          // Moved to another mirror: try it now rather than after a backoff.
+          DataSourceUtil.closeQuietly(upstream);
+        }
+      }
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+      try {
+        return upstream.read(buffer, offset, length);
+      } catch (IOException e) {
+        if (isRetryable(e)) {
+          onLoadFailed(index, e);
+        }
+        throw e;
+      }
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return upstream.getUri();
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      return upstream.getResponseHeaders();
+    }
+
+    @Override
+    public void close() throws IOException {
+      upstream.close();
+    }
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lets the network loads of more important players go first.
+ *
+ * <p>Every player has a priority, {@link #PRIORITY_NORMAL} unless Dart says otherwise. A player is
+ * urgent while it is loading with less than {@link #URGENT_BUFFER_MS} buffered ahead, or less than
+ * half of its buffer target when that is smaller: a live stream cannot buffer past the live edge,
+ * and a memory cap stops the buffer short too. While any player is urgent, the HTTP reads of
+ * players with a lower priority wait before opening a request and between reads, so a focused
+ * player refilling its buffer gets the bandwidth that background tiles and preloads would take.
+ *
+ * <p>Each wait ends after {@link #MAX_WAIT_MS} at the latest, so lower priorities are slowed down
+ * rather than stopped: playlist refreshes of background live tiles still get through while the
+ * focused player is short of buffer. Reads that do not have to wait only check a volatile field.
+ */
+final class NetworkPriorityScheduler {
+  static final int PRIORITY_BACKGROUND = 0;
+  static final int PRIORITY_NORMAL = 1;
+  static final int PRIORITY_FOREGROUND = 2;
+
+  static final long URGENT_BUFFER_MS = 15_000;
+  private static final long URGENT_BUFFER_US = URGENT_BUFFER_MS * 1000;
+  static final long MAX_WAIT_MS = 250;
+
+  // Guarded by this.
+  private final int[] urgentCounts = new int[PRIORITY_FOREGROUND + 1];
+  private volatile int highestUrgentPriority = -1;
+
+  @NonNull
+  Client newClient() {
+    return new Client();
+  }
+
+  @VisibleForTesting
+  int getHighestUrgentPriority() {
+    return highestUrgentPriority;
+  }
+
+  /**
+   * Blocks until no player with a priority above {@code priority} is urgent, or for {@link
+   * #MAX_WAIT_MS}.
+   */
+  @VisibleForTesting
+  void awaitTurn(int priority) throws InterruptedIOException {
+    if (highestUrgentPriority <= priority) {
+      return;
+    }
+    // System.nanoTime rather than SystemClock, which does not move in tests.
+    long deadlineNs = System.nanoTime() + MAX_WAIT_MS * 1_000_000;
+    synchronized (this) {
+      long remainingNs;
+      while (highestUrgentPriority > priority
+          && (remainingNs = deadlineNs - System.nanoTime()) > 0) {
+        try {
+          wait(remainingNs / 1_000_000, (int) (remainingNs % 1_000_000));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
+        }
+      }
+    }
+  }
+
+  private synchronized void addUrgent(int priority) {
+    urgentCounts[priority]++;
+    updateHighestUrgentPriority();
+  }
+
+  private synchronized void removeUrgent(int priority) {
+    urgentCounts[priority]--;
+    updateHighestUrgentPriority();
+    notifyAll();
+  }
+
+  private void updateHighestUrgentPriority() {
+    int highest = -1;
+    for (int priority = 0; priority < urgentCounts.length; priority++) {
+      if (urgentCounts[priority] > 0) {
+        highest = priority;
+      }
+    }
+    highestUrgentPriority = highest;
+  }
+
+  /** The share of one player. */
+  final class Client {
+    private volatile int priority = PRIORITY_NORMAL;
+    // Guarded by the scheduler.
+    private boolean urgent;
+
+    private Client() {}
+
+    void setPriority(int priority) {
+      if (priority < PRIORITY_BACKGROUND || priority > PRIORITY_FOREGROUND) {
+        throw new IllegalArgumentException("Unknown network priority " + priority);
+      }
+      synchronized (NetworkPriorityScheduler.this) {
+        if (urgent) {
+          removeUrgent(this.priority);
+          addUrgent(priority);
+        }
+        this.priority = priority;
+      }
+    }
+
+    int getPriority() {
+      return priority;
+    }
+
+    /**
+     * Called by the load control whenever the player decides whether to keep loading, with the
+     * most it can buffer ahead, or {@link C#TIME_UNSET} if only the load control's own maximum
+     * applies.
+     */
+    void onLoadingDecision(boolean continueLoading, long bufferedDurationUs, long targetBufferUs) {
+      long urgentBelowUs =
+          targetBufferUs == C.TIME_UNSET
+              ? URGENT_BUFFER_US
+              : Math.min(URGENT_BUFFER_US, targetBufferUs / 2);
+      setUrgent(continueLoading && bufferedDurationUs < urgentBelowUs);
+    }
+
+    void setUrgent(boolean urgent) {
+      synchronized (NetworkPriorityScheduler.this) {
+        if (this.urgent == urgent) {
+          return;
+        }
+        this.urgent = urgent;
+        if (urgent) {
+          addUrgent(priority);
+        } else {
+          removeUrgent(priority);
+        }
+      }
+    }
+
+    /** Stops holding back other players, for when the player goes away. */
+    void release() {
+      setUrgent(false);
+    }
+
+    /** Returns a factory whose data sources wait for more urgent players. */
+    @NonNull
+    DataSource.Factory wrap(@NonNull DataSource.Factory upstreamFactory) {
+      return () -> new PrioritizedDataSource(upstreamFactory.createDataSource(), this);
+    }
+  }
+
+  private final class PrioritizedDataSource implements DataSource {
+    private final DataSource upstream;
+    private final Client client;
+
+    PrioritizedDataSource(DataSource upstream, Client client) {
+      this.upstream = upstream;
+      this.client = client;
+    }
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {
+      upstream.addTransferListener(transferListener);
+    }
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) throws IOException {
+      awaitTurn(client.getPriority());
+      return upstream.open(dataSpec);
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+      awaitTurn(client.getPriority());
+      return upstream.read(buffer, offset, length);
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return upstream.getUri();
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      return upstream.getResponseHeaders();
+    }
+
+    @Override
+    public void close() throws IOException {
+      upstream.close();
+    }
+  }
+}
@@ -0,0 +1,401 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultRenderersFactory;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.offline.DefaultDownloadIndex;
+import com.google.android.exoplayer2.offline.DefaultDownloaderFactory;
+import com.google.android.exoplayer2.offline.Download;
+import com.google.android.exoplayer2.offline.DownloadCursor;
+import com.google.android.exoplayer2.offline.DownloadHelper;
+import com.google.android.exoplayer2.offline.DownloadManager;
+import com.google.android.exoplayer2.offline.DownloadRequest;
+import com.google.android.exoplayer2.offline.Downloader;
+import com.google.android.exoplayer2.offline.DownloaderFactory;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultDataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.NoOpCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import com.google.android.exoplayer2.util.MimeTypes;
+import com.google.android.exoplayer2.util.Util;
+import io.flutter.plugins.videoplayer.Messages.DownloadMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadStateMessage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Downloads HLS, DASH, Smooth Streaming and progressive media for offline playback.
+ *
+ * <p>Built on ExoPlayer's {@link DownloadManager}: the queue lives in a database next to the
+ * download cache, so queued and half-finished downloads resume the next time the plugin is attached
+ * after the process died, unless the app paused them. Segments of one download are fetched in
+ * parallel on a shared pool, and {@link DownloadManager#setMaxParallelDownloads} caps how many
+ * downloads run at once. There is no foreground service: downloads run while the app process is
+ * alive.
+ *
+ * <p>The content type is worked out the same way as for playback, and each download keeps the HTTP
+ * headers it was started with in {@link DownloadRequest#data}, so that resumed downloads send them
+ * too. Completed downloads are played back by {@link VideoPlayer} from the cache alone.
+ *
+ * <p>There is one instance per process, since a {@link SimpleCache} folder can only be opened once.
+ * All methods are called on the main thread.
+ */
+final class OfflineDownloads implements DownloadManager.Listener {
+  private static final String TAG = "OfflineDownloads";
+  private static final String DIRECTORY = "video_player_downloads";
+  private static final int SEGMENT_DOWNLOAD_THREADS = 4;
+  private static final long PROGRESS_INTERVAL_MS = 1000;
+  @VisibleForTesting static final String PREFERENCES = "video_player_downloads";
+  @VisibleForTesting static final String KEY_PAUSED = "paused";
+
+  @Nullable private static OfflineDownloads instance;
+
+  private final Context context;
+  private final SharedPreferences preferences;
+  private final Cache cache;
+  private final DownloadManager downloadManager;
+  private final ExecutorService segmentExecutor =
+      Executors.newFixedThreadPool(SEGMENT_DOWNLOAD_THREADS);
+  private final Map<String, Download> downloadsByUri = new HashMap<>();
+  private final Map<String, DownloadHelper> preparingHelpers = new HashMap<>();
+  private final QueuingEventSink eventSink = new QueuingEventSink();
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private boolean listening;
+  private final Runnable progressUpdater = this::sendProgress;
+
+  /**
+   * Returns the instance, opening the download store if {@code create} is set or if it exists on
+   * disk. Apps that never download pay nothing for this subsystem.
+   */
+  @Nullable
+  static synchronized OfflineDownloads getInstance(@NonNull Context context, boolean create) {
+    if (instance == null
+        && (create || new File(context.getApplicationContext().getFilesDir(), DIRECTORY).exists())) {
+      instance = new OfflineDownloads(context.getApplicationContext());
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  OfflineDownloads(Context context) {
+    this.context = context;
+    preferences = context.getSharedPreferences(PREFERENCES, Context.MODE_PRIVATE);
+    File directory = new File(context.getFilesDir(), DIRECTORY);
+    StandaloneDatabaseProvider databaseProvider = new StandaloneDatabaseProvider(context);
+    cache = new SimpleCache(new File(directory, "media"), new NoOpCacheEvictor(), databaseProvider);
+    downloadManager =
+        new DownloadManager(
+            context, new DefaultDownloadIndex(databaseProvider), new HeaderDownloaderFactory());
+    downloadManager.addListener(this);
+    // A new DownloadManager starts paused: carry on as the last session left it.
+    if (!preferences.getBoolean(KEY_PAUSED, false)) {
+      downloadManager.resumeDownloads();
+    }
+    loadCompletedDownloads();
+  }
+
+  /** Sends download events to {@code sink}, or stops sending them if it is null. */
+  void setEventSink(@Nullable io.flutter.plugin.common.EventChannel.EventSink sink) {
+    eventSink.setDelegate(sink);
+    listening = sink != null;
+    handler.removeCallbacks(progressUpdater);
+    if (listening) {
+      sendProgress();
+    }
+  }
+
+  /**
+   * Queues a download. Adaptive streams are prepared first, so that the renditions matching the
+   * message can be picked.
+   */
+  void start(@NonNull DownloadMessage arg, @NonNull ContentTypeResolver contentTypeResolver) {
+    Uri uri = Uri.parse(arg.getUri());
+    String formatHint = arg.getFormatHint();
+    int type = VideoPlayer.inferContentType(uri, formatHint, contentTypeResolver);
+    if (formatHint == null
+        && type == C.CONTENT_TYPE_OTHER
+        && contentTypeResolver.shouldProbe(uri)) {
+      contentTypeResolver.resolve(
+          uri,
+          buildUpstreamDataSourceFactory(arg.getHttpHeaders()),
+          resolvedType -> prepare(arg, uri, resolvedType));
+    } else {
+      prepare(arg, uri, type);
+    }
+  }
+
+  void remove(@NonNull String id) {
+    DownloadHelper helper = preparingHelpers.remove(id);
+    if (helper != null) {
+      helper.release();
+    }
+    downloadManager.removeDownload(id);
+  }
+
+  /** Pauses or resumes all downloads, now and in later sessions. */
+  void setPaused(boolean paused) {
+    preferences.edit().putBoolean(KEY_PAUSED, paused).apply();
+    if (paused) {
+      downloadManager.pauseDownloads();
+    } else {
+      downloadManager.resumeDownloads();
+    }
+  }
+
+  @VisibleForTesting
+  boolean isPaused() {
+    return downloadManager.getDownloadsPaused();
+  }
+
+  void setMaxParallelDownloads(int maxParallelDownloads) {
+    downloadManager.setMaxParallelDownloads(maxParallelDownloads);
+  }
+
+  @NonNull
+  List<DownloadStateMessage> getDownloads() {
+    List<DownloadStateMessage> downloads = new ArrayList<>();
+    try (DownloadCursor cursor = downloadManager.getDownloadIndex().getDownloads()) {
+      while (cursor.moveToNext()) {
+        downloads.add(toMessage(cursor.getDownload()));
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to query downloads", e);
+    }
+    return downloads;
+  }
+
+  /** Returns the request of the completed download of {@code uri}, if there is one. */
+  @Nullable
+  DownloadRequest getCompletedRequest(@NonNull String uri) {
+    Download download = downloadsByUri.get(uri);
+    return download != null && download.state == Download.STATE_COMPLETED ? download.request : null;
+  }
+
+  /**
+   * Returns a factory that only reads from the download cache. There is no upstream, so playing a
+   * download never touches the network.
+   */
+  @NonNull
+  DataSource.Factory buildCacheOnlyDataSourceFactory() {
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(null)
+        .setCacheWriteDataSinkFactory(null);
+  }
+
+  @Override
+  public void onDownloadChanged(
+      @NonNull DownloadManager downloadManager,
+      @NonNull Download download,
+      @Nullable Exception finalException) {
+    downloadsByUri.put(download.request.uri.toString(), download);
+    sendDownload(download, "downloadChanged");
+    if (download.state == Download.STATE_DOWNLOADING) {
+      scheduleProgress();
+    }
+  }
+
+  @Override
+  public void onDownloadRemoved(
+      @NonNull DownloadManager downloadManager, @NonNull Download download) {
+    downloadsByUri.remove(download.request.uri.toString());
+    sendDownload(download, "downloadRemoved");
+  }
+
+  private void prepare(DownloadMessage arg, Uri uri, int type) {
+    String id = arg.getId();
+    Map<String, String> httpHeaders = arg.getHttpHeaders();
+    MediaItem mediaItem =
+        new MediaItem.Builder().setUri(uri).setMimeType(mimeTypeFor(type)).build();
+    DefaultTrackSelector.Parameters.Builder parameters =
+        DownloadHelper.getDefaultTrackSelectorParameters(context).buildUpon();
+    if (arg.getMaxVideoBitrate() != null) {
+      parameters.setMaxVideoBitrate(arg.getMaxVideoBitrate().intValue());
+    }
+    if (arg.getMaxVideoHeight() != null) {
+      parameters.setMaxVideoSize(Integer.MAX_VALUE, arg.getMaxVideoHeight().intValue());
+    }
+    DownloadHelper helper =
+        DownloadHelper.forMediaItem(
+            mediaItem,
+            parameters.build(),
+            new DefaultRenderersFactory(context),
+            buildUpstreamDataSourceFactory(httpHeaders));
+    preparingHelpers.put(id, helper);
+    helper.prepare(
+        new DownloadHelper.Callback() {
+          @Override
+          public void onPrepared(@NonNull DownloadHelper helper) {
+            if (preparingHelpers.remove(id) != helper) {
+              return;
+            }
+            List<String> audioLanguages = arg.getAudioLanguages();
+            if (type != C.CONTENT_TYPE_OTHER && audioLanguages != null) {
+              helper.addAudioLanguagesToSelection(audioLanguages.toArray(new String[0]));
+            }
+            downloadManager.addDownload(helper.getDownloadRequest(id, encodeHeaders(httpHeaders)));
+            helper.release();
+          }
+
+          @Override
+          public void onPrepareError(@NonNull DownloadHelper helper, @NonNull IOException e) {
+            preparingHelpers.remove(id);
+            helper.release();
+            Log.w(TAG, "Failed to prepare download " + id, e);
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "downloadChanged");
+            event.put("id", id);
+            event.put("uri", uri.toString());
+            event.put("state", Download.STATE_FAILED);
+            event.put("failureReason", Download.FAILURE_REASON_UNKNOWN);
+            eventSink.success(event);
+          }
+        });
+  }
+
+  private void loadCompletedDownloads() {
+    try (DownloadCursor cursor =
+        downloadManager.getDownloadIndex().getDownloads(Download.STATE_COMPLETED)) {
+      while (cursor.moveToNext()) {
+        Download download = cursor.getDownload();
+        downloadsByUri.put(download.request.uri.toString(), download);
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to load completed downloads", e);
+    }
+  }
+
+  private void scheduleProgress() {
+    if (listening) {
+      handler.removeCallbacks(progressUpdater);
+      handler.postDelayed(progressUpdater, PROGRESS_INTERVAL_MS);
+    }
+  }
+
+  private void sendProgress() {
+    boolean downloading = false;
+    for (Download download : downloadManager.getCurrentDownloads()) {
+      if (download.state == Download.STATE_DOWNLOADING) {
+        downloading = true;
+        sendDownload(download, "downloadProgress");
+      }
+    }
+    if (downloading) {
+      scheduleProgress();
+    }
+  }
+
+  private void sendDownload(Download download, String eventName) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", eventName);
+    event.put("id", download.request.id);
+    event.put("uri", download.request.uri.toString());
+    event.put("state", download.state);
+    event.put("bytesDownloaded", download.getBytesDownloaded());
+    float percent = download.getPercentDownloaded();
+    if (percent != C.PERCENTAGE_UNSET) {
+      event.put("percentDownloaded", (double) percent);
+    }
+    if (download.state == Download.STATE_FAILED) {
+      event.put("failureReason", download.failureReason);
+    }
+    eventSink.success(event);
+  }
+
+  private static DownloadStateMessage toMessage(Download download) {
+    float percent = download.getPercentDownloaded();
+    return new DownloadStateMessage.Builder()
+        .setId(download.request.id)
+        .setUri(download.request.uri.toString())
+        .setState((long) download.state)
+        .setPercentDownloaded(percent == C.PERCENTAGE_UNSET ? null : (double) percent)
+        .setBytesDownloaded(download.getBytesDownloaded())
+        .setFailureReason(
+            download.state == Download.STATE_FAILED ? (long) download.failureReason : null)
+        .build();
+  }
+
+  @Nullable
+  private static String mimeTypeFor(int type) {
+    switch (type) {
+      case C.CONTENT_TYPE_DASH:
+        return MimeTypes.APPLICATION_MPD;
+      case C.CONTENT_TYPE_HLS:
+        return MimeTypes.APPLICATION_M3U8;
+      case C.CONTENT_TYPE_SS:
+        return MimeTypes.APPLICATION_SS;
+      default:
+        return null;
+    }
+  }
+
+  private DataSource.Factory buildUpstreamDataSourceFactory(Map<String, String> httpHeaders) {
+    DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+    VideoPlayer.applyHttpHeaders(httpDataSourceFactory, httpHeaders);
+    return new DefaultDataSource.Factory(context, httpDataSourceFactory);
+  }
+
+  private static byte[] encodeHeaders(Map<String, String> httpHeaders) {
+    return Util.getUtf8Bytes(new JSONObject(httpHeaders).toString());
+  }
+
+  private static Map<String, String> decodeHeaders(byte[] data) {
+    Map<String, String> httpHeaders = new HashMap<>();
+    if (data.length == 0) {
+      return httpHeaders;
+    }
+    try {
+      JSONObject json = new JSONObject(Util.fromUtf8Bytes(data));
+      Iterator<String> keys = json.keys();
+      while (keys.hasNext()) {
+        String key = keys.next();
+        httpHeaders.put(key, json.getString(key));
+      }
+    } catch (JSONException e) {
+      Log.w(TAG, "Ignoring unreadable download headers", e);
+    }
+    return httpHeaders;
+  }
+
+  /** Builds each downloader with the HTTP headers stored in its request. */
+  private final class HeaderDownloaderFactory implements DownloaderFactory {
+    @NonNull
+    @Override
+    public Downloader createDownloader(@NonNull DownloadRequest request) {
+      CacheDataSource.Factory cacheDataSourceFactory =
+          new CacheDataSource.Factory()
+              .setCache(cache)
+              .setUpstreamDataSourceFactory(
+                  buildUpstreamDataSourceFactory(decodeHeaders(request.data)));
+      return new DefaultDownloaderFactory(cacheDataSourceFactory, segmentExecutor)
+          .createDownloader(request);
+    }
+  }
+}
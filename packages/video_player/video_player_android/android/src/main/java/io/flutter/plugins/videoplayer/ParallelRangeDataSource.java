@@ -0,0 +1,403 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSourceUtil;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Reads a progressive HTTP resource over several connections at once, for origins that throttle
+ * each connection below the bitrate of the file.
+ *
+ * <p>{@link #open} requests the first {@link Factory#getChunkSize()} bytes as a range and streams
+ * them straight through, so playback starts as fast as over one connection. The total length comes
+ * from that response's {@code Content-Range}; servers that send none are read over one connection,
+ * now and for the rest of the player's life. The following chunks are loaded as parallel range
+ * requests into a ring of chunk buffers and handed out in order, a chunk being readable while it
+ * is still loading. At most one chunk more than there are connections is held, whether loaded or
+ * loading.
+ *
+ * <p>The number of connections starts at {@link #INITIAL_CONNECTIONS} and follows the throughput
+ * of each chunk's connection: as long as adding a connection does not slow the others down, the
+ * origin is limiting each connection rather than the link being full, and another one is added,
+ * up to the maximum. When connections slow down to half of the best seen, one is taken away. The
+ * count is kept by the {@link Factory}, so it carries over to the loads after a seek.
+ */
+final class ParallelRangeDataSource implements DataSource {
+  static final int DEFAULT_CHUNK_SIZE = 2 * 1024 * 1024;
+  static final int INITIAL_CONNECTIONS = 2;
+  // Connections at or above this share of the best throughput seen are not slowed down by others.
+  private static final double KEEP_GROWING_RATIO = 0.8;
+  private static final double SHRINK_RATIO = 0.5;
+
+  /** Creates the data sources of one player, and keeps what they learn about the origin. */
+  static final class Factory implements DataSource.Factory {
+    private final DataSource.Factory upstreamFactory;
+    private final int maxConnections;
+    private final int chunkSize;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private int connections;
+    private double bestBytesPerMs;
+    private volatile boolean rangesUnsupported;
+
+    Factory(@NonNull DataSource.Factory upstreamFactory, int maxConnections) {
+      this(upstreamFactory, maxConnections, DEFAULT_CHUNK_SIZE);
+    }
+
+    @VisibleForTesting
+    Factory(@NonNull DataSource.Factory upstreamFactory, int maxConnections, int chunkSize) {
+      this.upstreamFactory = upstreamFactory;
+      this.maxConnections = Math.max(1, maxConnections);
+      this.chunkSize = chunkSize;
+      this.connections = Math.min(INITIAL_CONNECTIONS, this.maxConnections);
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new ParallelRangeDataSource(this);
+    }
+
+    int getChunkSize() {
+      return chunkSize;
+    }
+
+    synchronized int getConnections() {
+      return connections;
+    }
+
+    /**
+     * Stops the chunk loads still in flight and their threads, for when the player goes away. Data
+     * sources opened afterwards fail on their first parallel chunk.
+     */
+    void release() {
+      executor.shutdownNow();
+    }
+
+    @VisibleForTesting
+    boolean isReleased() {
+      return executor.isTerminated();
+    }
+
+    /** Adjusts the connection count to the throughput of a chunk loaded in {@code elapsedMs}. */
+    @VisibleForTesting
+    synchronized void onChunkLoaded(long bytes, long elapsedMs) {
+      double bytesPerMs = (double) bytes / Math.max(1, elapsedMs);
+      bestBytesPerMs = Math.max(bestBytesPerMs, bytesPerMs);
+      if (bytesPerMs >= bestBytesPerMs * KEEP_GROWING_RATIO) {
+        connections = Math.min(connections + 1, maxConnections);
+      } else if (bytesPerMs < bestBytesPerMs * SHRINK_RATIO) {
+        connections = Math.max(connections - 1, 1);
+      }
+    }
+  }
+
+  /** A range loaded by a worker. Guarded by its {@link Load}. */
+  private static final class Chunk {
+    final long position;
+    final int length;
+    final byte[] data;
+    int loaded;
+    @Nullable IOException error;
+
+    Chunk(long position, int length, byte[] data) {
+      this.position = position;
+      this.length = length;
+      this.data = data;
+    }
+  }
+
+  /** The state of one {@link #open}, which its workers keep using after a close. */
+  private final class Load {
+    final DataSpec dataSpec;
+    final long end;
+    final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+    final ArrayDeque<byte[]> freeBuffers = new ArrayDeque<>();
+    long nextPosition;
+    int loading;
+    boolean closed;
+
+    Load(DataSpec dataSpec, long nextPosition, long end) {
+      this.dataSpec = dataSpec;
+      this.nextPosition = nextPosition;
+      this.end = end;
+    }
+
+    /** Starts loading the next chunks, as far as the connection count and the window allow. */
+    synchronized void schedule() {
+      int connections = factory.getConnections();
+      while (!closed
+          && nextPosition < end
+          && loading < connections
+          && chunks.size() <= connections) {
+        int length = (int) Math.min(factory.getChunkSize(), end - nextPosition);
+        byte[] data = freeBuffers.isEmpty() ? new byte[factory.getChunkSize()] : freeBuffers.pop();
+        Chunk chunk = new Chunk(nextPosition, length, data);
+        chunks.add(chunk);
+        nextPosition += length;
+        loading++;
+        try {
+          factory.executor.execute(() -> loadChunk(chunk));
+        } catch (RejectedExecutionException e) {
+          chunk.error = new InterruptedIOException("Released");
+          loading--;
+          notifyAll();
+          return;
+        }
+      }
+    }
+
+    private void loadChunk(Chunk chunk) {
+      long startMs = SystemClock.elapsedRealtime();
+      DataSource source = createUpstream();
+      IOException error = null;
+      try {
+        source.open(dataSpec.subrange(chunk.position - dataSpec.position, chunk.length));
+        int loaded = 0;
+        while (loaded < chunk.length && !isClosed()) {
+          int read = source.read(chunk.data, loaded, chunk.length - loaded);
+          if (read == C.RESULT_END_OF_INPUT) {
+            throw new EOFException();
+          }
+          loaded += read;
+          synchronized (this) {
+            chunk.loaded = loaded;
+            notifyAll();
+          }
+        }
+      } catch (IOException e) {
+        error = e;
+      } finally {
+        DataSourceUtil.closeQuietly(source);
+      }
+      if (error == null && !isClosed()) {
+        factory.onChunkLoaded(chunk.length, SystemClock.elapsedRealtime() - startMs);
+      }
+      synchronized (this) {
+        chunk.error = error;
+        loading--;
+        notifyAll();
+      }
+      schedule();
+    }
+
+    /** Copies bytes at {@code position} into {@code buffer}, waiting for them if needed. */
+    synchronized int read(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      Chunk chunk = chunks.peek();
+      if (chunk == null) {
+        // The chunk is always scheduled before the reader gets to it.
+        throw new IllegalStateException("No chunk at " + position);
+      }
+      int chunkOffset = (int) (position - chunk.position);
+      while (chunk.loaded <= chunkOffset) {
+        if (chunk.error != null) {
+          throw chunk.error;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
+        }
+      }
+      int copied = Math.min(length, chunk.loaded - chunkOffset);
+      System.arraycopy(chunk.data, chunkOffset, buffer, offset, copied);
+      if (chunkOffset + copied == chunk.length) {
+        chunks.pop();
+        freeBuffers.push(chunk.data);
+        schedule();
+      }
+      return copied;
+    }
+
+    synchronized boolean isClosed() {
+      return closed;
+    }
+
+    synchronized void close() {
+      closed = true;
+      chunks.clear();
+      freeBuffers.clear();
+      notifyAll();
+    }
+  }
+
+  private final Factory factory;
+  private final List<TransferListener> transferListeners = new ArrayList<>();
+  // The connection of a single-connection read, or of the first chunk.
+  @Nullable private DataSource upstream;
+  @Nullable private Load load;
+  @Nullable private Uri uri;
+  private Map<String, List<String>> responseHeaders = Collections.emptyMap();
+  private long readPosition;
+  private long firstChunkEnd;
+
+  private ParallelRangeDataSource(Factory factory) {
+    this.factory = factory;
+  }
+
+  @Override
+  public void addTransferListener(@NonNull TransferListener transferListener) {
+    transferListeners.add(transferListener);
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    String scheme = dataSpec.uri.getScheme();
+    boolean http = "http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme);
+    long chunkSize = factory.getChunkSize();
+    if (!http
+        || factory.rangesUnsupported
+        || factory.maxConnections == 1
+        || dataSpec.httpMethod != DataSpec.HTTP_METHOD_GET
+        || (dataSpec.length != C.LENGTH_UNSET && dataSpec.length <= chunkSize)) {
+      return openSingle(dataSpec);
+    }
+
+    long firstLength =
+        dataSpec.length == C.LENGTH_UNSET ? chunkSize : Math.min(chunkSize, dataSpec.length);
+    upstream = createUpstream();
+    long opened = upstream.open(dataSpec.subrange(0, firstLength));
+    long totalLength = parseTotalLength(upstream.getResponseHeaders());
+    if (totalLength == C.LENGTH_UNSET || opened == C.LENGTH_UNSET) {
+      factory.rangesUnsupported = true;
+      DataSourceUtil.closeQuietly(upstream);
+      return openSingle(dataSpec);
+    }
+    uri = upstream.getUri();
+    responseHeaders = upstream.getResponseHeaders();
+    long end =
+        dataSpec.length == C.LENGTH_UNSET
+            ? totalLength
+            : Math.min(totalLength, dataSpec.position + dataSpec.length);
+    readPosition = dataSpec.position;
+    firstChunkEnd = dataSpec.position + opened;
+    // Later chunks go straight to where the first one was redirected.
+    DataSpec chunkSpec = uri != null ? dataSpec.buildUpon().setUri(uri).build() : dataSpec;
+    load = new Load(chunkSpec, firstChunkEnd, end);
+    load.schedule();
+    return end - dataSpec.position;
+  }
+
+  private long openSingle(DataSpec dataSpec) throws IOException {
+    upstream = createUpstream();
+    long length = upstream.open(dataSpec);
+    uri = upstream.getUri();
+    responseHeaders = upstream.getResponseHeaders();
+    return length;
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (load == null) {
+      return upstream == null ? C.RESULT_END_OF_INPUT : upstream.read(buffer, offset, length);
+    }
+    if (readPosition >= load.end) {
+      return C.RESULT_END_OF_INPUT;
+    }
+    int read;
+    if (readPosition < firstChunkEnd) {
+      read =
+          upstream.read(buffer, offset, (int) Math.min(length, firstChunkEnd - readPosition));
+      if (read == C.RESULT_END_OF_INPUT) {
+        throw new EOFException();
+      }
+      if (readPosition + read == firstChunkEnd) {
+        // Hand the connection back to the pool while the workers carry on.
+        DataSourceUtil.closeQuietly(upstream);
+        upstream = null;
+      }
+    } else {
+      read = load.read(readPosition, buffer, offset, length);
+    }
+    readPosition += read;
+    return read;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    return uri;
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return responseHeaders;
+  }
+
+  @Override
+  public void close() throws IOException {
+    uri = null;
+    responseHeaders = Collections.emptyMap();
+    if (load != null) {
+      load.close();
+      load = null;
+    }
+    if (upstream != null) {
+      try {
+        upstream.close();
+      } finally {
+        upstream = null;
+      }
+    }
+  }
+
+  private DataSource createUpstream() {
+    DataSource source = factory.upstreamFactory.createDataSource();
+    for (TransferListener listener : transferListeners) {
+      source.addTransferListener(listener);
+    }
+    return source;
+  }
+
+  /**
+   * Returns the total length in a {@code Content-Range} response header, or {@link
+   * C#LENGTH_UNSET} if there is none or it does not give one.
+   */
+  @VisibleForTesting
+  static long parseTotalLength(@NonNull Map<String, List<String>> headers) {
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (!"Content-Range".equalsIgnoreCase(header.getKey()) || header.getValue().isEmpty()) {
+        continue;
+      }
+      String value = header.getValue().get(0);
+      int slash = value.lastIndexOf('/');
+      if (slash < 0) {
+        return C.LENGTH_UNSET;
+      }
+      try {
+        return Long.parseLong(value.substring(slash + 1).trim());
+      } catch (NumberFormatException e) {
+        // "*" when the server does not know the length.
+        return C.LENGTH_UNSET;
+      }
+    }
+    return C.LENGTH_UNSET;
+  }
+}
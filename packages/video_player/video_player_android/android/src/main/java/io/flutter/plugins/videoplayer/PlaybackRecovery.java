@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.PlaybackException;
+import com.google.android.exoplayer2.upstream.HttpDataSource.InvalidResponseCodeException;
+
+/**
+ * Decides whether a player error can be recovered from in place, and how.
+ *
+ * <p>A live stream that fell behind the live window is prepared again at the live edge. Transient
+ * network, timeout and decoder errors, and HTTP statuses a server may answer differently next time
+ * (5xx, 408 and 429), are prepared again at the position playback stopped at, after a backoff that
+ * doubles with every attempt. Everything else, and any error once {@link #getMaxAttempts()}
+ * recoveries in a row did not hold, is handed to Dart. Recoveries count as in a row until the
+ * player was playing for {@link #STABLE_MS} since the last error, as told by {@link
+ * #onPlayingChanged}.
+ */
+final class PlaybackRecovery {
+  static final int DEFAULT_MAX_ATTEMPTS = 3;
+  static final long STABLE_MS = 30_000;
+  private static final long INITIAL_BACKOFF_MS = 500;
+  private static final long MAX_BACKOFF_MS = 8_000;
+
+  /** Hand the error to Dart. */
+  static final int ACTION_FAIL = 0;
+  /** Prepare again at the default position, which is the live edge of a live stream. */
+  static final int ACTION_RESTART_AT_LIVE_EDGE = 1;
+  /** Prepare again at the current position. */
+  static final int ACTION_RESTART_AT_POSITION = 2;
+
+  private final int maxAttempts;
+  private int attempts;
+  private long playedSinceErrorMs;
+  private long playingSinceMs = C.TIME_UNSET;
+
+  PlaybackRecovery(int maxAttempts) {
+    this.maxAttempts = Math.max(0, maxAttempts);
+  }
+
+  int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  int getAttempts() {
+    return attempts;
+  }
+
+  /** Tells whether the player is playing at {@code nowMs}. */
+  void onPlayingChanged(boolean playing, long nowMs) {
+    if (playing) {
+      if (playingSinceMs == C.TIME_UNSET) {
+        playingSinceMs = nowMs;
+      }
+    } else if (playingSinceMs != C.TIME_UNSET) {
+      playedSinceErrorMs += nowMs - playingSinceMs;
+      playingSinceMs = C.TIME_UNSET;
+    }
+  }
+
+  /**
+   * Returns what to do about {@code error} at {@code nowMs}, counting the attempt if it is
+   * recovered from.
+   */
+  int onError(@NonNull PlaybackException error, long nowMs) {
+    int action = classify(error);
+    if (action == ACTION_FAIL) {
+      return ACTION_FAIL;
+    }
+    long playedMs =
+        playedSinceErrorMs + (playingSinceMs == C.TIME_UNSET ? 0 : nowMs - playingSinceMs);
+    if (attempts > 0 && playedMs >= STABLE_MS) {
+      attempts = 0;
+    }
+    playedSinceErrorMs = 0;
+    if (playingSinceMs != C.TIME_UNSET) {
+      playingSinceMs = nowMs;
+    }
+    if (attempts >= maxAttempts) {
+      attempts = 0;
+      return ACTION_FAIL;
+    }
+    attempts++;
+    return action;
+  }
+
+  /** Returns how long to wait before the attempt {@link #onError} just counted. */
+  long getBackoffMs(int action) {
+    if (action == ACTION_RESTART_AT_LIVE_EDGE) {
+      // The live edge has moved on already; waiting only loses more of the window.
+      return 0;
+    }
+    return Math.min(INITIAL_BACKOFF_MS << Math.min(attempts - 1, 10), MAX_BACKOFF_MS);
+  }
+
+  @VisibleForTesting
+  static int classify(@NonNull PlaybackException error) {
+    if (error.errorCode == PlaybackException.ERROR_CODE_IO_BAD_HTTP_STATUS) {
+      Throwable cause = error.getCause();
+      int responseCode =
+          cause instanceof InvalidResponseCodeException
+              ? ((InvalidResponseCodeException) cause).responseCode
+              : 0;
+      // A missing or forbidden resource answers the same way every time.
+      if (responseCode < 500 && responseCode != 408 && responseCode != 429) {
+        return ACTION_FAIL;
+      }
+    }
+    return classify(error.errorCode);
+  }
+
+  private static int classify(@PlaybackException.ErrorCode int errorCode) {
+    switch (errorCode) {
+      case PlaybackException.ERROR_CODE_BEHIND_LIVE_WINDOW:
+        return ACTION_RESTART_AT_LIVE_EDGE;
+      case PlaybackException.ERROR_CODE_TIMEOUT:
+      case PlaybackException.ERROR_CODE_IO_UNSPECIFIED:
+      case PlaybackException.ERROR_CODE_IO_NETWORK_CONNECTION_FAILED:
+      case PlaybackException.ERROR_CODE_IO_NETWORK_CONNECTION_TIMEOUT:
+      case PlaybackException.ERROR_CODE_IO_BAD_HTTP_STATUS:
+      case PlaybackException.ERROR_CODE_DECODER_INIT_FAILED:
+      case PlaybackException.ERROR_CODE_DECODING_FAILED:
+      case PlaybackException.ERROR_CODE_AUDIO_TRACK_INIT_FAILED:
+      case PlaybackException.ERROR_CODE_AUDIO_TRACK_WRITE_FAILED:
+        return ACTION_RESTART_AT_POSITION;
+      default:
+        // Unsupported formats, parsing, DRM and missing files fail the same way every time.
+        return ACTION_FAIL;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.LoadEventInfo;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+
+/**
+ * Collects quality of experience figures for one player.
+ *
+ * <ul>
+ *   <li>Time to first frame is measured from the creation of the collector, which happens with the
+ *       player.
+ *   <li>Join time runs from the first time playback is requested to the first time it plays.
+ *   <li>Rebuffers are the times the player runs out of data after it joined, while playback is
+ *       requested; the ratio is rebuffer time over rebuffer plus play time.
+ *   <li>Bitrate switches count changes of the video format being loaded.
+ * </ul>
+ *
+ * <p>All callbacks arrive on the main thread, where {@link #snapshot} is called too.
+ */
+final class QoeStatsCollector implements AnalyticsListener {
+  private final long createdAtMs = SystemClock.elapsedRealtime();
+
+  private long firstFrameAtMs = C.TIME_UNSET;
+  private long joinStartedAtMs = C.TIME_UNSET;
+  private long joinTimeMs = C.TIME_UNSET;
+
+  private boolean playWhenReady;
+  private boolean playing;
+  private long playingSinceMs = C.TIME_UNSET;
+  private long playTimeMs;
+
+  private int rebufferCount;
+  private long rebufferingSinceMs = C.TIME_UNSET;
+  private long rebufferTimeMs;
+
+  private int videoBitrate = Format.NO_VALUE;
+  private int bitrateSwitches;
+  private long droppedFrames;
+  private long videoDecoderInitMs = C.TIME_UNSET;
+  private long audioDecoderInitMs = C.TIME_UNSET;
+  private long bytesLoaded;
+  private long bandwidthEstimate = C.LENGTH_UNSET;
+
+  @Override
+  public void onRenderedFirstFrame(
+      @NonNull EventTime eventTime, @NonNull Object output, long renderTimeMs) {
+    if (firstFrameAtMs == C.TIME_UNSET) {
+      firstFrameAtMs = eventTime.realtimeMs;
+    }
+  }
+
+  @Override
+  public void onPlayWhenReadyChanged(
+      @NonNull EventTime eventTime, boolean playWhenReady, int reason) {
+    this.playWhenReady = playWhenReady;
+    if (playWhenReady && joinStartedAtMs == C.TIME_UNSET) {
+      joinStartedAtMs = eventTime.realtimeMs;
+    }
+    if (!playWhenReady) {
+      endRebuffer(eventTime.realtimeMs);
+    }
+  }
+
+  @Override
+  public void onIsPlayingChanged(@NonNull EventTime eventTime, boolean isPlaying) {
+    long nowMs = eventTime.realtimeMs;
+    if (isPlaying) {
+      if (joinTimeMs == C.TIME_UNSET && joinStartedAtMs != C.TIME_UNSET) {
+        joinTimeMs = nowMs - joinStartedAtMs;
+      }
+      playingSinceMs = nowMs;
+    } else if (playingSinceMs != C.TIME_UNSET) {
+      playTimeMs += nowMs - playingSinceMs;
+      playingSinceMs = C.TIME_UNSET;
+    }
+    playing = isPlaying;
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    long nowMs = eventTime.realtimeMs;
+    if (state == Player.STATE_BUFFERING) {
+      // Only stalls after the first successful start count as rebuffers.
+      if (joinTimeMs != C.TIME_UNSET && playWhenReady && rebufferingSinceMs == C.TIME_UNSET) {
+        rebufferCount++;
+        rebufferingSinceMs = nowMs;
+      }
+    } else {
+      endRebuffer(nowMs);
+    }
+  }
+
+  @Override
+  public void onDownstreamFormatChanged(
+      @NonNull EventTime eventTime, @NonNull MediaLoadData mediaLoadData) {
+    Format format = mediaLoadData.trackFormat;
+    if (mediaLoadData.trackType != C.TRACK_TYPE_VIDEO || format == null) {
+      return;
+    }
+    if (videoBitrate != Format.NO_VALUE && format.bitrate != videoBitrate) {
+      bitrateSwitches++;
+    }
+    videoBitrate = format.bitrate;
+  }
+
+  @Override
+  public void onDroppedVideoFrames(@NonNull EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+  }
+
+  @Override
+  public void onVideoDecoderInitialized(
+      @NonNull EventTime eventTime,
+      @NonNull String decoderName,
+      long initializedTimestampMs,
+      long initializationDurationMs) {
+    videoDecoderInitMs = initializationDurationMs;
+  }
+
+  @Override
+  public void onAudioDecoderInitialized(
+      @NonNull EventTime eventTime,
+      @NonNull String decoderName,
+      long initializedTimestampMs,
+      long initializationDurationMs) {
+    audioDecoderInitMs = initializationDurationMs;
+  }
+
+  @Override
+  public void onLoadCompleted(
+      @NonNull EventTime eventTime,
+      @NonNull LoadEventInfo loadEventInfo,
+      @NonNull MediaLoadData mediaLoadData) {
+    bytesLoaded += loadEventInfo.bytesLoaded;
+  }
+
+  @Override
+  public void onBandwidthEstimate(
+      @NonNull EventTime eventTime,
+      int totalLoadTimeMs,
+      long totalBytesLoaded,
+      long bitrateEstimate) {
+    bandwidthEstimate = bitrateEstimate;
+  }
+
+  /** Returns the figures so far, counting an ongoing play or rebuffer period up to now. */
+  @NonNull
+  PlaybackStatsMessage snapshot() {
+    long nowMs = SystemClock.elapsedRealtime();
+    long playTimeMs =
+        this.playTimeMs + (playing && playingSinceMs != C.TIME_UNSET ? nowMs - playingSinceMs : 0);
+    long rebufferTimeMs =
+        this.rebufferTimeMs
+            + (rebufferingSinceMs != C.TIME_UNSET ? nowMs - rebufferingSinceMs : 0);
+    long watchedMs = playTimeMs + rebufferTimeMs;
+    return new PlaybackStatsMessage.Builder()
+        .setTimeToFirstFrameMs(
+            firstFrameAtMs == C.TIME_UNSET ? null : firstFrameAtMs - createdAtMs)
+        .setJoinTimeMs(valueOrNull(joinTimeMs))
+        .setPlayTimeMs(playTimeMs)
+        .setRebufferCount((long) rebufferCount)
+        .setRebufferTimeMs(rebufferTimeMs)
+        .setRebufferRatio(watchedMs == 0 ? 0.0 : (double) rebufferTimeMs / watchedMs)
+        .setBitrateSwitches((long) bitrateSwitches)
+        .setVideoBitrate(videoBitrate == Format.NO_VALUE ? null : (long) videoBitrate)
+        .setDroppedFrames(droppedFrames)
+        .setVideoDecoderInitMs(valueOrNull(videoDecoderInitMs))
+        .setAudioDecoderInitMs(valueOrNull(audioDecoderInitMs))
+        .setBytesLoaded(bytesLoaded)
+        .setBandwidthEstimate(bandwidthEstimate == C.LENGTH_UNSET ? null : bandwidthEstimate)
+        .build();
+  }
+
+  private void endRebuffer(long nowMs) {
+    if (rebufferingSinceMs != C.TIME_UNSET) {
+      rebufferTimeMs += nowMs - rebufferingSinceMs;
+      rebufferingSinceMs = C.TIME_UNSET;
+    }
+  }
+
+  @Nullable
+  private static Long valueOrNull(long timeMs) {
+    return timeMs == C.TIME_UNSET ? null : timeMs;
+  }
+}
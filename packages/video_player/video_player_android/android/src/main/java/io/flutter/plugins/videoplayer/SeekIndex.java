@@ -0,0 +1,181 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.extractor.SeekMap;
+import com.google.android.exoplayer2.extractor.SeekPoint;
+import com.google.android.exoplayer2.util.Util;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Sync sample times and the byte offsets to start reading from to reach them, for one progressive
+ * stream.
+ *
+ * <p>Entries are sorted by time and by position. An index is {@link #complete} once the stream was
+ * read from its first to its last byte, in which case its duration is exact.
+ */
+final class SeekIndex {
+  private static final int VERSION = 1;
+
+  final long contentLength;
+  final boolean complete;
+  final long durationUs;
+  private final long[] timesUs;
+  private final long[] positions;
+
+  SeekIndex(
+      long contentLength,
+      boolean complete,
+      long durationUs,
+      @NonNull long[] timesUs,
+      @NonNull long[] positions) {
+    this.contentLength = contentLength;
+    this.complete = complete;
+    this.durationUs = durationUs;
+    this.timesUs = timesUs;
+    this.positions = positions;
+  }
+
+  int size() {
+    return timesUs.length;
+  }
+
+  long getLastPosition() {
+    return positions.length == 0 ? 0 : positions[positions.length - 1];
+  }
+
+  /**
+   * Returns a {@link SeekMap} backed by this index. Seeks past the last entry of an incomplete
+   * index are extrapolated from the average byte rate of the indexed part.
+   */
+  @NonNull
+  SeekMap toSeekMap() {
+    return new SeekMap() {
+      @Override
+      public boolean isSeekable() {
+        return true;
+      }
+
+      @Override
+      public long getDurationUs() {
+        if (complete) {
+          return durationUs;
+        }
+        long lastTimeUs = timesUs[timesUs.length - 1];
+        long lastPosition = positions[positions.length - 1];
+        if (contentLength == C.LENGTH_UNSET || lastPosition == 0) {
+          return C.TIME_UNSET;
+        }
+        return Util.scaleLargeTimestamp(contentLength, lastTimeUs, lastPosition);
+      }
+
+      @NonNull
+      @Override
+      public SeekPoints getSeekPoints(long timeUs) {
+        int index = Util.binarySearchFloor(timesUs, timeUs, true, true);
+        SeekPoint floor = new SeekPoint(timesUs[index], positions[index]);
+        if (floor.timeUs == timeUs) {
+          return new SeekPoints(floor);
+        }
+        if (index < timesUs.length - 1) {
+          return new SeekPoints(floor, new SeekPoint(timesUs[index + 1], positions[index + 1]));
+        }
+        if (complete || timeUs < floor.timeUs || floor.timeUs <= 0) {
+          return new SeekPoints(floor);
+        }
+        // Past the indexed part: guess from the byte rate observed so far.
+        long position =
+            floor.position
+                + Util.scaleLargeTimestamp(timeUs - floor.timeUs, floor.position, floor.timeUs);
+        if (contentLength != C.LENGTH_UNSET) {
+          position = Math.min(position, contentLength - 1);
+        }
+        return new SeekPoints(new SeekPoint(timeUs, position));
+      }
+    };
+  }
+
+  void writeTo(@NonNull DataOutputStream output) throws IOException {
+    output.writeInt(VERSION);
+    output.writeLong(contentLength);
+    output.writeBoolean(complete);
+    output.writeLong(durationUs);
+    output.writeInt(timesUs.length);
+    for (int i = 0; i < timesUs.length; i++) {
+      output.writeLong(timesUs[i]);
+      output.writeLong(positions[i]);
+    }
+  }
+
+  @NonNull
+  static SeekIndex readFrom(@NonNull DataInputStream input) throws IOException {
+    int version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported seek index version: " + version);
+    }
+    long contentLength = input.readLong();
+    boolean complete = input.readBoolean();
+    long durationUs = input.readLong();
+    int size = input.readInt();
+    if (size <= 0) {
+      throw new IOException("Empty seek index");
+    }
+    long[] timesUs = new long[size];
+    long[] positions = new long[size];
+    for (int i = 0; i < size; i++) {
+      timesUs[i] = input.readLong();
+      positions[i] = input.readLong();
+    }
+    return new SeekIndex(contentLength, complete, durationUs, timesUs, positions);
+  }
+
+  /** Collects the entries of a {@link SeekIndex} while a stream is read from its start. */
+  static final class Builder {
+    private long[] timesUs = new long[64];
+    private long[] positions = new long[64];
+    private int size;
+
+    /** Adds an entry if it lies after the last one in both time and position. */
+    void add(long timeUs, long position) {
+      if (size > 0 && (timeUs <= timesUs[size - 1] || position < positions[size - 1])) {
+        return;
+      }
+      if (size == timesUs.length) {
+        timesUs = Arrays.copyOf(timesUs, size * 2);
+        positions = Arrays.copyOf(positions, size * 2);
+      }
+      timesUs[size] = timeUs;
+      positions[size] = position;
+      size++;
+    }
+
+    long getLastTimeUs() {
+      return size == 0 ? C.TIME_UNSET : timesUs[size - 1];
+    }
+
+    long getLastPosition() {
+      return size == 0 ? 0 : positions[size - 1];
+    }
+
+    int size() {
+      return size;
+    }
+
+    @NonNull
+    SeekIndex build(long contentLength, boolean complete, long durationUs) {
+      return new SeekIndex(
+          contentLength,
+          complete,
+          durationUs,
+          Arrays.copyOf(timesUs, size),
+          Arrays.copyOf(positions, size));
+    }
+  }
+}
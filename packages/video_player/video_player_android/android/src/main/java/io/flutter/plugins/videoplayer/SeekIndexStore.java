@@ -0,0 +1,140 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.util.AtomicFile;
+import com.google.android.exoplayer2.util.Util;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@link SeekIndex} files on disk, one per stream version.
+ *
+ * <p>A stream version is its URL plus whatever the server says identifies the content: the {@code
+ * ETag}, or the {@code Last-Modified} date and the length when there is no ETag. Streams without
+ * either are not indexed, since a changed file would make the stored offsets wrong.
+ *
+ * <p>Reads and writes happen on the extractor's loading thread.
+ */
+final class SeekIndexStore {
+  private static final String TAG = "SeekIndexStore";
+  private static final int MAX_FILES = 200;
+
+  private final File directory;
+
+  SeekIndexStore(@NonNull File directory) {
+    this.directory = directory;
+  }
+
+  /** Returns the key of the stream at {@code uri}, or null if it cannot be told apart. */
+  @Nullable
+  static String keyFor(@NonNull Uri uri, @NonNull Map<String, List<String>> responseHeaders) {
+    String etag = firstHeader(responseHeaders, "ETag");
+    String version;
+    if (etag != null) {
+      version = etag;
+    } else {
+      String lastModified = firstHeader(responseHeaders, "Last-Modified");
+      String contentLength = firstHeader(responseHeaders, "Content-Length");
+      if (lastModified == null || contentLength == null) {
+        return null;
+      }
+      version = lastModified + "|" + contentLength;
+    }
+    return uri + "|" + version;
+  }
+
+  @Nullable
+  SeekIndex load(@NonNull String key) {
+    File file = fileFor(key);
+    if (!file.exists()) {
+      return null;
+    }
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new AtomicFile(file).openRead()))) {
+      SeekIndex index = SeekIndex.readFrom(input);
+      // Touch the file so that pruning drops the least recently used indexes first.
+      file.setLastModified(System.currentTimeMillis());
+      return index;
+    } catch (IOException e) {
+      Log.w(TAG, "Dropping unreadable seek index", e);
+      file.delete();
+      return null;
+    }
+  }
+
+  void save(@NonNull String key, @NonNull SeekIndex index) {
+    if (!directory.exists() && !directory.mkdirs()) {
+      Log.w(TAG, "Cannot create " + directory);
+      return;
+    }
+    AtomicFile file = new AtomicFile(fileFor(key));
+    OutputStream stream = null;
+    try {
+      stream = file.startWrite();
+      DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+      index.writeTo(output);
+      output.flush();
+      file.endWrite(output);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to write seek index", e);
+      Util.closeQuietly(stream);
+      return;
+    }
+    prune();
+  }
+
+  private void prune() {
+    File[] files = directory.listFiles();
+    if (files == null || files.length <= MAX_FILES) {
+      return;
+    }
+    Arrays.sort(
+        files,
+        (a, b) -> {
+          long difference = b.lastModified() - a.lastModified();
+          return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+        });
+    for (int i = MAX_FILES; i < files.length; i++) {
+      files[i].delete();
+    }
+  }
+
+  private File fileFor(String key) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(Util.getUtf8Bytes(key));
+      return new File(directory, Util.toHexString(digest) + ".idx");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Android release ships SHA-1.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Nullable
+  private static String firstHeader(Map<String, List<String>> headers, String name) {
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())
+          && header.getValue() != null
+          && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+}
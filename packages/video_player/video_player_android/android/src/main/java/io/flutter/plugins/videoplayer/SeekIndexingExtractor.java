@@ -0,0 +1,362 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ExtractorOutput;
+import com.google.android.exoplayer2.extractor.ForwardingExtractorInput;
+import com.google.android.exoplayer2.extractor.PositionHolder;
+import com.google.android.exoplayer2.extractor.SeekMap;
+import com.google.android.exoplayer2.extractor.TrackOutput;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import com.google.android.exoplayer2.upstream.DataReader;
+import com.google.android.exoplayer2.util.ParsableByteArray;
+import java.io.IOException;
+
+/**
+ * Builds a {@link SeekIndex} for a progressive MPEG-TS or Matroska stream while it plays, and uses
+ * the stored index of earlier sessions for exact seeks.
+ *
+ * <p>Without an index, a TS stream of known length gets its duration from a read near the end of
+ * the file and every seek is a binary search over byte positions, with a re-read per step; a
+ * Matroska file without cues cannot seek at all. The index records, for one sync sample per {@link
+ * #MIN_INTERVAL_US}, a byte position from which the extractor reaches that sample. It is only
+ * collected while the stream is read contiguously from its first byte, so that sample times and
+ * positions come from the same timeline.
+ *
+ * <p>When an index is stored for the stream:
+ *
+ * <ul>
+ *   <li>TS streams with a complete index hide their length from {@link TsExtractor}, which skips
+ *       the duration read and the binary search seeker, and seek through the index in one request.
+ *   <li>Matroska streams without cues seek through the index, extrapolating past its end.
+ * </ul>
+ */
+final class SeekIndexingExtractor implements Extractor {
+  static final long MIN_INTERVAL_US = 1_000_000;
+
+  /**
+   * How far ahead of the packet it parses {@link TsExtractor} may have read. The position of the
+   * input is lowered by this much so that it never lies past the packet that starts a sample.
+   */
+  private static final int TS_READ_AHEAD_BYTES = 50 * TsExtractor.TS_PACKET_SIZE;
+
+  /** Number of recent reads that a sample's first byte can be traced back to. */
+  private static final int MAX_CHECKPOINTS = 4096;
+
+  private static final byte[] MATROSKA_CLUSTER_ID = {0x1F, 0x43, (byte) 0xB6, 0x75};
+
+  private final Extractor extractor;
+  private final boolean matroska;
+  private final SeekIndexStore store;
+  private final String key;
+  // The last index written for the stream, and the one used for seeking, if it is usable.
+  @Nullable private SeekIndex saved;
+  @Nullable private SeekIndex stored;
+  private final SeekIndex.Builder builder = new SeekIndex.Builder();
+  private final byte[] peekBuffer = new byte[MATROSKA_CLUSTER_ID.length];
+
+  private boolean indexing = true;
+  private boolean complete;
+  private long contentLength = C.LENGTH_UNSET;
+  private long largestTimeUs = C.TIME_UNSET;
+  private int indexedTrackId = C.INDEX_UNSET;
+  private int indexedTrackType = C.TRACK_TYPE_UNKNOWN;
+  @Nullable private IndexedTrackOutput indexedTrackOutput;
+
+  private int readCount;
+  private long readStartPosition;
+  private boolean readStartsAtCluster;
+
+  @Nullable private ExtractorInput lastInput;
+  @Nullable private ExtractorInput lengthHidingInput;
+
+  SeekIndexingExtractor(
+      @NonNull Extractor extractor,
+      boolean matroska,
+      @NonNull SeekIndexStore store,
+      @NonNull String key) {
+    this.extractor = extractor;
+    this.matroska = matroska;
+    this.store = store;
+    this.key = key;
+  }
+
+  @Override
+  public boolean sniff(@NonNull ExtractorInput input) throws IOException {
+    return extractor.sniff(input);
+  }
+
+  @Override
+  public void init(@NonNull ExtractorOutput output) {
+    // Only the extractor that recognized the stream is initialized, so this is the one place where
+    // loading the index is not wasted.
+    saved = store.load(key);
+    // A partial TS index is of no use for seeking: the binary search seeker would override it.
+    stored = saved != null && (saved.complete || matroska) ? saved : null;
+    // Keep extending a partial index; a complete one has nothing left to learn.
+    indexing = saved == null || !saved.complete;
+    extractor.init(new IndexingOutput(output));
+  }
+
+  @Override
+  public int read(@NonNull ExtractorInput input, @NonNull PositionHolder seekPosition)
+      throws IOException {
+    if (contentLength == C.LENGTH_UNSET) {
+      contentLength = input.getLength();
+    }
+    if (indexing) {
+      readCount++;
+      readStartPosition = input.getPosition();
+      readStartsAtCluster = matroska && startsWithCluster(input);
+    }
+    int result = extractor.read(hideLengthIfIndexed(input), seekPosition);
+    if (result == Extractor.RESULT_END_OF_INPUT && indexing) {
+      complete = true;
+      indexing = false;
+      save();
+    }
+    return result;
+  }
+
+  @Override
+  public void seek(long position, long timeUs) {
+    if (position != 0 || timeUs != 0) {
+      // Sample times after a seek are only as good as the seek target, so stop collecting.
+      indexing = false;
+    }
+    if (indexedTrackOutput != null) {
+      indexedTrackOutput.resetCheckpoints();
+    }
+    extractor.seek(position, timeUs);
+  }
+
+  @Override
+  public void release() {
+    save();
+    extractor.release();
+  }
+
+  private ExtractorInput hideLengthIfIndexed(ExtractorInput input) {
+    if (matroska || stored == null) {
+      return input;
+    }
+    if (input != lastInput) {
+      lastInput = input;
+      lengthHidingInput =
+          new ForwardingExtractorInput(input) {
+            @Override
+            public long getLength() {
+              return C.LENGTH_UNSET;
+            }
+          };
+    }
+    return lengthHidingInput;
+  }
+
+  private boolean startsWithCluster(ExtractorInput input) throws IOException {
+    boolean peeked = input.peekFully(peekBuffer, 0, peekBuffer.length, true);
+    input.resetPeekPosition();
+    if (!peeked) {
+      return false;
+    }
+    for (int i = 0; i < peekBuffer.length; i++) {
+      if (peekBuffer[i] != MATROSKA_CLUSTER_ID[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void save() {
+    if (builder.size() == 0) {
+      return;
+    }
+    boolean extendsSaved =
+        saved == null
+            || builder.getLastPosition() > saved.getLastPosition()
+            || (complete && !saved.complete);
+    if (!extendsSaved) {
+      return;
+    }
+    saved = builder.build(contentLength, complete, complete ? largestTimeUs : C.TIME_UNSET);
+    store.save(key, saved);
+  }
+
+  private void onSyncSample(long timeUs, long position) {
+    long lastTimeUs = builder.getLastTimeUs();
+    if (lastTimeUs == C.TIME_UNSET || timeUs >= lastTimeUs + MIN_INTERVAL_US) {
+      builder.add(timeUs, position);
+    }
+  }
+
+  private final class IndexingOutput implements ExtractorOutput {
+    private final ExtractorOutput output;
+
+    IndexingOutput(ExtractorOutput output) {
+      this.output = output;
+    }
+
+    @NonNull
+    @Override
+    public TrackOutput track(int id, int type) {
+      TrackOutput trackOutput = output.track(id, type);
+      // Index the first video track, or the first audio track of audio-only streams.
+      boolean preferred =
+          indexedTrackId == C.INDEX_UNSET
+              || (type == C.TRACK_TYPE_VIDEO && indexedTrackType != C.TRACK_TYPE_VIDEO);
+      if (!preferred || (type != C.TRACK_TYPE_VIDEO && type != C.TRACK_TYPE_AUDIO)) {
+        return new TimedTrackOutput(trackOutput);
+      }
+      indexedTrackId = id;
+      indexedTrackType = type;
+      indexedTrackOutput = new IndexedTrackOutput(trackOutput, id);
+      return indexedTrackOutput;
+    }
+
+    @Override
+    public void endTracks() {
+      output.endTracks();
+    }
+
+    @Override
+    public void seekMap(@NonNull SeekMap seekMap) {
+      output.seekMap(stored != null && !seekMap.isSeekable() ? stored.toSeekMap() : seekMap);
+    }
+  }
+
+  /** Keeps track of the largest sample time, which is the duration once the stream ended. */
+  private class TimedTrackOutput implements TrackOutput {
+    final TrackOutput output;
+
+    TimedTrackOutput(TrackOutput output) {
+      this.output = output;
+    }
+
+    @Override
+    public void format(@NonNull Format format) {
+      output.format(format);
+    }
+
+    @Override
+    public int sampleData(
+        @NonNull DataReader input,
+        int length,
+        boolean allowEndOfInput,
+        @SampleDataPart int sampleDataPart)
+        throws IOException {
+      return output.sampleData(input, length, allowEndOfInput, sampleDataPart);
+    }
+
+    @Override
+    public void sampleData(
+        @NonNull ParsableByteArray data, int length, @SampleDataPart int sampleDataPart) {
+      output.sampleData(data, length, sampleDataPart);
+    }
+
+    @Override
+    public void sampleMetadata(
+        long timeUs, int flags, int size, int offset, @Nullable CryptoData cryptoData) {
+      if (indexing && timeUs > largestTimeUs) {
+        largestTimeUs = timeUs;
+      }
+      output.sampleMetadata(timeUs, flags, size, offset, cryptoData);
+    }
+  }
+
+  /**
+   * Traces the first byte of each sync sample back to the read it arrived in, and records the
+   * position of the input at the start of that read.
+   */
+  private final class IndexedTrackOutput extends TimedTrackOutput {
+    private final int id;
+    private final long[] checkpointBytes = new long[MAX_CHECKPOINTS];
+    private final long[] checkpointPositions = new long[MAX_CHECKPOINTS];
+    private final boolean[] checkpointAtCluster = new boolean[MAX_CHECKPOINTS];
+    private int checkpointCount;
+    private int checkpointEnd;
+    private int lastCheckpointRead = -1;
+    private long totalBytes;
+
+    IndexedTrackOutput(TrackOutput output, int id) {
+      super(output);
+      this.id = id;
+    }
+
+    void resetCheckpoints() {
+      checkpointCount = 0;
+      checkpointEnd = 0;
+      lastCheckpointRead = -1;
+    }
+
+    @Override
+    public int sampleData(
+        @NonNull DataReader input,
+        int length,
+        boolean allowEndOfInput,
+        @SampleDataPart int sampleDataPart)
+        throws IOException {
+      maybeAddCheckpoint();
+      int bytesAppended = output.sampleData(input, length, allowEndOfInput, sampleDataPart);
+      if (bytesAppended > 0) {
+        totalBytes += bytesAppended;
+      }
+      return bytesAppended;
+    }
+
+    @Override
+    public void sampleData(
+        @NonNull ParsableByteArray data, int length, @SampleDataPart int sampleDataPart) {
+      maybeAddCheckpoint();
+      output.sampleData(data, length, sampleDataPart);
+      totalBytes += length;
+    }
+
+    @Override
+    public void sampleMetadata(
+        long timeUs, int flags, int size, int offset, @Nullable CryptoData cryptoData) {
+      if (indexing && id == indexedTrackId && (flags & C.BUFFER_FLAG_KEY_FRAME) != 0) {
+        long position = positionOfSampleStart(totalBytes - offset - size);
+        if (position != C.POSITION_UNSET) {
+          onSyncSample(timeUs, position);
+        }
+      }
+      super.sampleMetadata(timeUs, flags, size, offset, cryptoData);
+    }
+
+    private void maybeAddCheckpoint() {
+      if (!indexing || lastCheckpointRead == readCount) {
+        return;
+      }
+      lastCheckpointRead = readCount;
+      checkpointBytes[checkpointEnd] = totalBytes;
+      checkpointPositions[checkpointEnd] = readStartPosition;
+      checkpointAtCluster[checkpointEnd] = readStartsAtCluster;
+      checkpointEnd = (checkpointEnd + 1) % MAX_CHECKPOINTS;
+      checkpointCount = Math.min(checkpointCount + 1, MAX_CHECKPOINTS);
+    }
+
+    private long positionOfSampleStart(long sampleStartBytes) {
+      for (int i = 1; i <= checkpointCount; i++) {
+        int checkpoint = (checkpointEnd - i + MAX_CHECKPOINTS) % MAX_CHECKPOINTS;
+        if (checkpointBytes[checkpoint] <= sampleStartBytes) {
+          if (matroska) {
+            // Matroska can only resume parsing at a cluster.
+            return checkpointAtCluster[checkpoint]
+                ? checkpointPositions[checkpoint]
+                : C.POSITION_UNSET;
+          }
+          return Math.max(0, checkpointPositions[checkpoint] - TS_READ_AHEAD_BYTES);
+        }
+      }
+      return C.POSITION_UNSET;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Build;
+import android.os.Trace;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.LoadEventInfo;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.util.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Times the startup of one player, from {@code create} to its first rendered frame.
+ *
+ * <p>Startup is split in two kinds of phases:
+ *
+ * <ul>
+ *   <li>Sections: synchronous steps on the platform thread, such as building the renderers. Each is
+ *       written as a {@link Trace} section and its duration is kept.
+ *   <li>Milestones: asynchronous points such as the manifest being loaded. The time from the start
+ *       of {@code create} is kept for each, and on API 29+ the time from each milestone to the
+ *       next is written as an async trace section, so the whole startup lines up in a system trace.
+ * </ul>
+ *
+ * <p>Milestones that do not apply to a stream, like the manifest of a progressive file, are left
+ * out. Everything happens on the main thread.
+ */
+final class StartupTrace implements AnalyticsListener {
+  static final String SECTION_CREATE = "create";
+  static final String SECTION_SHARED_PREFERENCES = "sharedPreferences";
+  static final String SECTION_RENDERERS = "renderers";
+  static final String SECTION_TRACK_SELECTOR = "trackSelector";
+  static final String SECTION_EXO_PLAYER = "exoPlayer";
+  static final String SECTION_BUILD_MEDIA_SOURCE = "buildMediaSource";
+  static final String SECTION_PREPARE = "prepare";
+
+  static final String MILESTONE_CONTENT_TYPE_PROBED = "contentTypeProbed";
+  static final String MILESTONE_PREPARED = "prepared";
+  static final String MILESTONE_MANIFEST_LOADED = "manifestLoaded";
+  static final String MILESTONE_FIRST_SEGMENT_LOADED = "firstSegmentLoaded";
+  static final String MILESTONE_READY = "ready";
+  static final String MILESTONE_FIRST_FRAME = "firstFrame";
+
+  private static final String TRACE_PREFIX = "VideoPlayer.";
+  private static final AtomicInteger nextCookie = new AtomicInteger();
+
+  private final Clock clock;
+  private final long startMs;
+  private final int cookie = nextCookie.incrementAndGet();
+  private final Map<String, Long> sectionsMs = new LinkedHashMap<>();
+  private final Map<String, Long> milestonesMs = new LinkedHashMap<>();
+  private final Deque<Long> openSectionStartsMs = new ArrayDeque<>();
+  @Nullable private String openAsyncSection;
+
+  StartupTrace() {
+    this(Clock.DEFAULT);
+  }
+
+  @VisibleForTesting
+  StartupTrace(@NonNull Clock clock) {
+    this.clock = clock;
+    startMs = clock.elapsedRealtime();
+  }
+
+  /** Opens a section; sections nest and must be closed in reverse order with {@link #end}. */
+  void begin(@NonNull String section) {
+    openSectionStartsMs.push(clock.elapsedRealtime());
+    if (Build.VERSION.SDK_INT >= 18) {
+      Trace.beginSection(TRACE_PREFIX + section);
+    }
+  }
+
+  void end(@NonNull String section) {
+    if (Build.VERSION.SDK_INT >= 18) {
+      Trace.endSection();
+    }
+    long durationMs = clock.elapsedRealtime() - openSectionStartsMs.pop();
+    Long earlierMs = sectionsMs.get(section);
+    sectionsMs.put(section, earlierMs == null ? durationMs : earlierMs + durationMs);
+  }
+
+  /** Records {@code milestone} the first time it is reached. */
+  void mark(@NonNull String milestone) {
+    if (milestonesMs.containsKey(milestone) || isComplete()) {
+      return;
+    }
+    milestonesMs.put(milestone, clock.elapsedRealtime() - startMs);
+    endAsyncSection();
+    if (!isComplete() && Build.VERSION.SDK_INT >= 29) {
+      openAsyncSection = TRACE_PREFIX + "after " + milestone;
+      Trace.beginAsyncSection(openAsyncSection, cookie);
+    }
+  }
+
+  boolean isComplete() {
+    return milestonesMs.containsKey(MILESTONE_FIRST_FRAME);
+  }
+
+  /**
+   * Returns the breakdown so far as {@code sections}, the duration of each section in
+   * milliseconds, and {@code milestones}, the milliseconds from the start of {@code create} to
+   * each milestone.
+   */
+  @NonNull
+  Map<String, Object> toMap() {
+    Map<String, Object> breakdown = new HashMap<>();
+    breakdown.put("sections", new HashMap<>(sectionsMs));
+    breakdown.put("milestones", new HashMap<>(milestonesMs));
+    return breakdown;
+  }
+
+  /** Closes the open async section, if the player goes away before its first frame. */
+  void release() {
+    endAsyncSection();
+  }
+
+  @Override
+  public void onLoadCompleted(
+      @NonNull EventTime eventTime,
+      @NonNull LoadEventInfo loadEventInfo,
+      @NonNull MediaLoadData mediaLoadData) {
+    if (mediaLoadData.dataType == C.DATA_TYPE_MANIFEST) {
+      mark(MILESTONE_MANIFEST_LOADED);
+    } else if (mediaLoadData.dataType == C.DATA_TYPE_MEDIA) {
+      mark(MILESTONE_FIRST_SEGMENT_LOADED);
+    }
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    if (state == Player.STATE_READY) {
+      mark(MILESTONE_READY);
+    }
+  }
+
+  @Override
+  public void onRenderedFirstFrame(
+      @NonNull EventTime eventTime, @NonNull Object output, long renderTimeMs) {
+    mark(MILESTONE_FIRST_FRAME);
+  }
+
+  private void endAsyncSection() {
+    if (openAsyncSection != null && Build.VERSION.SDK_INT >= 29) {
+      Trace.endAsyncSection(openAsyncSection, cookie);
+    }
+    openAsyncSection = null;
+  }
+}
@@ -10,9 +10,14 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.DefaultRenderersFactory;
@@ -22,29 +27,15 @@ import com.google.android.exoplayer2.MediaItem;
 import com.google.android.exoplayer2.PlaybackException;
 import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player.Listener;
-import com.google.android.exoplayer2.extractor.ts.DefaultTsPayloadReaderFactory;
-import com.google.android.exoplayer2.source.DefaultMediaSourceFactory;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.DefaultLoadControl;
-import com.google.android.exoplayer2.LoadControl;
 import com.google.android.exoplayer2.RendererCapabilities;
 import com.google.android.exoplayer2.Tracks;
-import com.google.android.exoplayer2.extractor.ts.AdtsExtractor;
-import com.google.android.exoplayer2.extractor.ts.TsExtractor;
 import com.google.android.exoplayer2.audio.AudioAttributes;
+import com.google.android.exoplayer2.offline.DownloadRequest;
 import com.google.android.exoplayer2.source.MediaSource;
-import com.google.android.exoplayer2.extractor.mp4.FragmentedMp4Extractor;
-import com.google.android.exoplayer2.source.ProgressiveMediaSource;
-import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
 import com.google.android.exoplayer2.source.TrackGroup;
 import com.google.android.exoplayer2.source.TrackGroupArray;
-import com.google.android.exoplayer2.source.dash.DashMediaSource;
-import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
-import com.google.android.exoplayer2.source.hls.HlsMediaSource;
-import com.google.android.exoplayer2.source.hls.HlsExtractorFactory;
-import com.google.android.exoplayer2.source.hls.DefaultHlsExtractorFactory;
-import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
-import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
 import com.google.android.exoplayer2.text.CueGroup;
 import com.google.android.exoplayer2.trackselection.DefaultTrackSelector.Parameters;
 import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
@@ -65,6 +56,7 @@ import com.google.android.exoplayer2.util.Util;
 import com.google.common.collect.ImmutableList;
 
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
 import io.flutter.view.TextureRegistry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -78,6 +70,8 @@ final class VideoPlayer {
   private static final String FORMAT_DASH = "dash";
   private static final String FORMAT_HLS = "hls";
   private static final String FORMAT_OTHER = "other";
+  private static final long DEFAULT_STATS_INTERVAL_MS = 1000;
+  private static final long MIN_STATS_INTERVAL_MS = 100;
 
   private ExoPlayer exoPlayer;
 
@@ -101,7 +95,47 @@ final class VideoPlayer {
 
   private boolean enableExtensions = false;
   private DefaultTrackSelector trackSelector;
+  @Nullable private MemoryAwareLoadControl loadControl;
+  // Stopped by the memory pressure handler while paused; prepared again on the next play.
+  private boolean releasedForMemory = false;
+  private boolean suspended = false;
+  private boolean audioOnly = false;
+  // What play() and pause() asked for while suspended, applied on resume().
+  private boolean playWhenResumed = false;
+  private final DecoderBudget.CodecSelector codecSelector = new DecoderBudget.CodecSelector();
+  private int decoderGrant = DecoderBudget.GRANT_HARDWARE;
+  // Video is disabled until the renderer released its codec, so it picks a new one when enabled.
+  private boolean reinitializingVideo = false;
+  private int memoryMaxVideoWidth = Integer.MAX_VALUE;
+  private int memoryMaxVideoHeight = Integer.MAX_VALUE;
   private Context context;
+  private LiveLatencyOptions liveOptions = LiveLatencyOptions.DEFAULT;
+  private DataSource.Factory mediaDataSourceFactory;
+  @Nullable private NetworkPriorityScheduler.Client networkClient;
+  // Retries network loads and moves them between CDN mirrors; null for local files.
+  @Nullable private MirrorFailover failover;
+  // Reads progressive items over parallel range requests; null reads them over one connection.
+  @Nullable private DataSource.Factory progressiveDataSourceFactory;
+  @Nullable private ParallelRangeDataSource.Factory parallelRangeFactory;
+  private MediaSourceFactories mediaSourceFactories;
+  // Applies to the initial item only; queued items may be in other containers and are sniffed.
+  @Nullable private String containerHint;
+  private ContentTypeResolver contentTypeResolver;
+  private boolean disposed = false;
+  // Non-null until the initial item is set, which can wait for a content type probe. Queue edits
+  // made in the meantime collect here and are set together with it.
+  @Nullable private List<MediaSource> pendingQueue;
+  private int pendingStartIndex = 0;
+  // Built on first use from the plugin's shared factories, then reused for queued items.
+  private final SparseArray<MediaSource.Factory> mediaSourceFactoriesByType = new SparseArray<>();
+  private final QoeStatsCollector statsCollector = new QoeStatsCollector();
+  private final StartupTrace startupTrace;
+  private final Handler statsHandler = new Handler(Looper.getMainLooper());
+  @Nullable private EventChannel statsChannel;
+  @Nullable private Runnable statsPusher;
+  private PlaybackRecovery recovery = new PlaybackRecovery(PlaybackRecovery.DEFAULT_MAX_ATTEMPTS);
+  private final Handler recoveryHandler = new Handler(Looper.getMainLooper());
+  @Nullable private Runnable pendingRecovery;
 
   VideoPlayer(
           Context context,
@@ -109,29 +143,54 @@ final class VideoPlayer {
           TextureRegistry.SurfaceTextureEntry textureEntry,
           String dataSource,
           String formatHint,
+          @Nullable String containerHint,
+          int maxParallelConnections,
+          int maxRecoveryAttempts,
           @NonNull Map<String, String> httpHeaders,
+          @NonNull LiveLatencyOptions liveOptions,
+          @NonNull MediaSourceFactories mediaSourceFactories,
+          @NonNull ContentTypeResolver contentTypeResolver,
+          @NonNull NetworkPriorityScheduler.Client networkClient,
+          @Nullable MirrorFailover failover,
+          @Nullable OfflineDownloads offlineDownloads,
+          @NonNull StartupTrace startupTrace,
           VideoPlayerOptions options) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
     this.context = context;
-
+    this.liveOptions = liveOptions;
+    this.mediaSourceFactories = mediaSourceFactories;
+    this.containerHint = containerHint;
+    this.contentTypeResolver = contentTypeResolver;
+    this.networkClient = networkClient;
+    this.failover = failover;
+    this.recovery = new PlaybackRecovery(maxRecoveryAttempts);
+    this.startupTrace = startupTrace;
+
+    startupTrace.begin(StartupTrace.SECTION_SHARED_PREFERENCES);
     SharedPreferences sharedPref = context.getSharedPreferences("FlutterSharedPreferences",Context.MODE_PRIVATE);
     enableExtensions = sharedPref.getBoolean("flutter.USE_LIB", false);
+    startupTrace.end(StartupTrace.SECTION_SHARED_PREFERENCES);
 
+    startupTrace.begin(StartupTrace.SECTION_RENDERERS);
     DefaultRenderersFactory renderersFactory;
     if(enableExtensions){
       Log.d("INIT FFMPEG", "SI ESTENSIONI");
       renderersFactory = new DefaultRenderersFactory(context)
               .setEnableDecoderFallback(true)
+              .setMediaCodecSelector(codecSelector)
               .setExtensionRendererMode(DefaultRenderersFactory.EXTENSION_RENDERER_MODE_PREFER).forceEnableMediaCodecAsynchronousQueueing();
     }else {
       Log.d("INIT FFMPEG", "NO ESTENSIONI");
       renderersFactory = new DefaultRenderersFactory(context)
               .setEnableDecoderFallback(true)
+              .setMediaCodecSelector(codecSelector)
               .setExtensionRendererMode(DefaultRenderersFactory.EXTENSION_RENDERER_MODE_OFF);
     }
+    startupTrace.end(StartupTrace.SECTION_RENDERERS);
 
+    startupTrace.begin(StartupTrace.SECTION_TRACK_SELECTOR);
     this.trackSelector = new DefaultTrackSelector(context);
     DefaultTrackSelector.Parameters.Builder tsParamsBuilder = trackSelector.buildUponParameters()
             .setAllowAudioMixedChannelCountAdaptiveness(true)
@@ -143,39 +202,110 @@ final class VideoPlayer {
             .setExceedVideoConstraintsIfNecessary(true)
             .setExceedRendererCapabilitiesIfNecessary(true);
     trackSelector.setParameters(tsParamsBuilder);
+    startupTrace.end(StartupTrace.SECTION_TRACK_SELECTOR);
 
-    DefaultMediaSourceFactory mediaSourceFactory = new DefaultMediaSourceFactory(context)
-            .setLiveTargetOffsetMs(5000);
-
-    LoadControl loadControl = new DefaultLoadControl.Builder()
+    startupTrace.begin(StartupTrace.SECTION_EXO_PLAYER);
+    loadControl = new MemoryAwareLoadControl(new DefaultLoadControl.Builder()
             //.setBufferDurationsMs(10000, 120000, 200, 700) //minBufferMs, maxBufferMs, bufferForPlaybackMs, bufferForPlaybackAfterRebufferMs
             //.setBufferDurationsMs(32*1024, 64*1024, 1024, 1024) //minBufferMs, maxBufferMs, bufferForPlaybackMs, bufferForPlaybackAfterRebufferMs
-            .setBufferDurationsMs(50000 , 50000 , DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS, DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS)
+            .setBufferDurationsMs(50000 , 50000 , liveOptions.getBufferForPlaybackMs(), liveOptions.getBufferForPlaybackAfterRebufferMs())
             .setTargetBufferBytes(C.LENGTH_UNSET)
-            .setPrioritizeTimeOverSizeThresholds(false)
-            .build();
+            .setPrioritizeTimeOverSizeThresholds(false),
+            networkClient);
 
     ExoPlayer exoPlayer = new ExoPlayer.Builder(context)
-            .setMediaSourceFactory(mediaSourceFactory)
             .setUseLazyPreparation(true)
             .setLoadControl(loadControl)
+            .setLivePlaybackSpeedControl(liveOptions.buildSpeedControl())
             .setTrackSelector(trackSelector)
             .setRenderersFactory(renderersFactory)
             .build();
     exoPlayer.setVideoScalingMode(C.VIDEO_SCALING_MODE_SCALE_TO_FIT);
+    startupTrace.end(StartupTrace.SECTION_EXO_PLAYER);
 
     Uri uri = Uri.parse(dataSource);
 
     buildHttpDataSourceFactory(httpHeaders);
+    DataSource.Factory networkDataSourceFactory = networkClient.wrap(httpDataSourceFactory);
+    if (failover != null) {
+      networkDataSourceFactory = failover.wrap(networkDataSourceFactory);
+    }
     DataSource.Factory dataSourceFactory =
-            new DefaultDataSource.Factory(context, httpDataSourceFactory);
+            new DefaultDataSource.Factory(context, networkDataSourceFactory);
+    mediaDataSourceFactory =
+            mediaSourceFactories.getManifestCache().wrap(dataSourceFactory, httpHeaders);
+    if (maxParallelConnections > 1) {
+      parallelRangeFactory =
+              new ParallelRangeDataSource.Factory(networkDataSourceFactory, maxParallelConnections);
+      progressiveDataSourceFactory = new DefaultDataSource.Factory(context, parallelRangeFactory);
+    }
 
-    MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint);
+    pendingQueue = new ArrayList<>();
+    setUpVideoPlayer(exoPlayer, new QueuingEventSink());
 
-    exoPlayer.setMediaSource(mediaSource);
-    exoPlayer.prepare();
+    DownloadRequest download =
+            offlineDownloads != null ? offlineDownloads.getCompletedRequest(dataSource) : null;
+    int type = inferContentType(uri, formatHint);
+    if (download != null) {
+      // Downloaded: read the downloaded renditions back from the download cache, without any
+      // network access. Queued items keep using the network factories.
+      startupTrace.begin(StartupTrace.SECTION_BUILD_MEDIA_SOURCE);
+      MediaItem mediaItem =
+              download.toMediaItem()
+                      .buildUpon()
+                      .setLiveConfiguration(liveOptions.toMediaItemConfiguration())
+                      .build();
+      MediaSource mediaSource =
+              mediaSourceFactories
+                      .create(
+                              Util.inferContentTypeForUriAndMimeType(download.uri, download.mimeType),
+                              offlineDownloads.buildCacheOnlyDataSourceFactory(),
+                              containerHint)
+                      .createMediaSource(mediaItem);
+      startupTrace.end(StartupTrace.SECTION_BUILD_MEDIA_SOURCE);
+      prepare(mediaSource);
+    } else if (formatHint == null
+            && type == C.CONTENT_TYPE_OTHER
+            && contentTypeResolver != null
+            && contentTypeResolver.shouldProbe(uri)) {
+      // Nothing is known about this URL yet: ask the server before committing to progressive
+      // sniffing. The player stays idle until the answer comes back.
+      contentTypeResolver.resolve(
+              uri,
+              networkDataSourceFactory,
+              resolvedType -> {
+                startupTrace.mark(StartupTrace.MILESTONE_CONTENT_TYPE_PROBED);
+                if (!disposed) {
+                  prepare(buildInitialMediaSource(uri, resolvedType));
+                }
+              });
+    } else {
+      prepare(buildInitialMediaSource(uri, type));
+    }
+  }
 
-    setUpVideoPlayer(exoPlayer, new QueuingEventSink());
+  private MediaSource buildInitialMediaSource(Uri uri, int type) {
+    startupTrace.begin(StartupTrace.SECTION_BUILD_MEDIA_SOURCE);
+    MediaSource mediaSource = buildMediaSource(uri, type, containerHint);
+    startupTrace.end(StartupTrace.SECTION_BUILD_MEDIA_SOURCE);
+    return mediaSource;
+  }
+
+  private void prepare(MediaSource mediaSource) {
+    startupTrace.begin(StartupTrace.SECTION_PREPARE);
+    List<MediaSource> queued = pendingQueue;
+    if (queued == null || queued.isEmpty()) {
+      exoPlayer.setMediaSource(mediaSource);
+    } else {
+      List<MediaSource> playlist = new ArrayList<>(queued.size() + 1);
+      playlist.add(mediaSource);
+      playlist.addAll(queued);
+      exoPlayer.setMediaSources(playlist, pendingStartIndex, C.TIME_UNSET);
+    }
+    pendingQueue = null;
+    exoPlayer.prepare();
+    startupTrace.end(StartupTrace.SECTION_PREPARE);
+    startupTrace.mark(StartupTrace.MILESTONE_PREPARED);
   }
 
   // Constructor used to directly test members of this class.
@@ -191,12 +321,22 @@ final class VideoPlayer {
     this.textureEntry = textureEntry;
     this.options = options;
     this.httpDataSourceFactory = httpDataSourceFactory;
+    this.mediaDataSourceFactory = httpDataSourceFactory;
+    this.mediaSourceFactories = new MediaSourceFactories();
+    this.startupTrace = new StartupTrace();
 
     setUpVideoPlayer(exoPlayer, eventSink);
   }
 
   @VisibleForTesting
   public void buildHttpDataSourceFactory(@NonNull Map<String, String> httpHeaders) {
+    applyHttpHeaders(httpDataSourceFactory, httpHeaders);
+  }
+
+  /** Sets the user agent and request headers of the app on {@code httpDataSourceFactory}. */
+  static void applyHttpHeaders(
+          @NonNull DefaultHttpDataSource.Factory httpDataSourceFactory,
+          @NonNull Map<String, String> httpHeaders) {
     final boolean httpHeadersNotEmpty = !httpHeaders.isEmpty();
     final String userAgent =
             httpHeadersNotEmpty && httpHeaders.containsKey(USER_AGENT)
@@ -210,11 +350,25 @@ final class VideoPlayer {
     }
   }
 
-  private MediaSource buildMediaSource(
-          Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint) {
+  /**
+   * Returns the content type from {@code formatHint}, or guesses it from the URI. Extension-less
+   * URIs fall back to the plugin's probe cache before being treated as progressive.
+   */
+  private int inferContentType(Uri uri, String formatHint) {
+    return inferContentType(uri, formatHint, contentTypeResolver);
+  }
+
+  static int inferContentType(
+          Uri uri, @Nullable String formatHint, @Nullable ContentTypeResolver contentTypeResolver) {
     int type;
     if (formatHint == null) {
       type = Util.inferContentType(uri);
+      if (type == C.CONTENT_TYPE_OTHER && contentTypeResolver != null) {
+        Integer cachedType = contentTypeResolver.getCached(uri);
+        if (cachedType != null) {
+          type = cachedType;
+        }
+      }
     } else {
       switch (formatHint) {
         case FORMAT_SS:
@@ -234,49 +388,81 @@ final class VideoPlayer {
           break;
       }
     }
-    switch (type) {
-      case C.CONTENT_TYPE_SS:
-        return new SsMediaSource.Factory(
-                new DefaultSsChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory)
-                .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_DASH:
-        return new DashMediaSource.Factory(
-                new DefaultDashChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory)
-                .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_HLS:
-        HlsExtractorFactory hlsFactory = new DefaultHlsExtractorFactory();
-        //.setTsExtractorFlags(DefaultTsPayloadReaderFactory.FLAG_ALLOW_NON_IDR_KEYFRAMES);
-        //| HlsExtractorFactory.FLAG_DETECT_ACCESS_UNITS)
-        return new HlsMediaSource.Factory(mediaDataSourceFactory)
-                .setAllowChunklessPreparation(true)
-                .setExtractorFactory(hlsFactory)
-                .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_OTHER:
-        DefaultExtractorsFactory extractorsFactory = new DefaultExtractorsFactory()
-                //.setConstantBitrateSeekingEnabled(true)
-                //.setConstantBitrateSeekingAlwaysEnabled(true)
-                .setTsExtractorFlags(DefaultTsPayloadReaderFactory.FLAG_ALLOW_NON_IDR_KEYFRAMES
-                        //  | DefaultTsPayloadReaderFactory.FLAG_DETECT_ACCESS_UNITS)
-                        | DefaultTsPayloadReaderFactory.FLAG_IGNORE_SPLICE_INFO_STREAM
-                        | DefaultTsPayloadReaderFactory.FLAG_ENABLE_HDMV_DTS_AUDIO_STREAMS
-                )
-                .setTsExtractorTimestampSearchBytes(1500 * TsExtractor.TS_PACKET_SIZE)
-                //.setTsExtractorTimestampSearchBytes(TsExtractor.TS_PACKET_SIZE)
-                .setFragmentedMp4ExtractorFlags(FragmentedMp4Extractor.FLAG_WORKAROUND_IGNORE_EDIT_LISTS |
-                        FragmentedMp4Extractor.FLAG_WORKAROUND_IGNORE_TFDT_BOX |
-                        FragmentedMp4Extractor.FLAG_WORKAROUND_EVERY_VIDEO_FRAME_IS_SYNC_FRAME |
-                        FragmentedMp4Extractor.FLAG_ENABLE_EMSG_TRACK)
-                .setTsExtractorMode(TsExtractor.MODE_MULTI_PMT);
-        //.setAdtsExtractorFlags(AdtsExtractor.FLAG_ENABLE_CONSTANT_BITRATE_SEEKING);
-
-        return new ProgressiveMediaSource.Factory(mediaDataSourceFactory, extractorsFactory)
-                .setContinueLoadingCheckIntervalBytes(ProgressiveMediaSource.DEFAULT_LOADING_CHECK_INTERVAL_BYTES / 2)
-                .createMediaSource(MediaItem.fromUri(uri));
-      default:
-      {
-        throw new IllegalStateException("Unsupported type: " + type);
-      }
+    return type;
+  }
+
+  private MediaSource buildMediaSource(Uri uri, String formatHint) {
+    return buildMediaSource(uri, inferContentType(uri, formatHint));
+  }
+
+  private MediaSource buildMediaSource(Uri uri, int type) {
+    return buildMediaSource(uri, type, null);
+  }
+
+  /**
+   * Builds a source for {@code uri}. A progressive source with a {@code containerHint} only reads
+   * that container, so it gets a factory of its own instead of the one shared by the queue.
+   */
+  private MediaSource buildMediaSource(Uri uri, int type, @Nullable String containerHint) {
+    // The live configuration has to travel on the media item: the sources below are built with
+    // their own factories, so nothing set on the player's default media source factory reaches them.
+    MediaItem mediaItem =
+            new MediaItem.Builder()
+                    .setUri(uri)
+                    .setLiveConfiguration(liveOptions.toMediaItemConfiguration())
+                    .build();
+    if (containerHint != null && type == C.CONTENT_TYPE_OTHER) {
+      return createMediaSourceFactory(type, containerHint).createMediaSource(mediaItem);
+    }
+    MediaSource.Factory mediaSourceFactory = mediaSourceFactoriesByType.get(type);
+    if (mediaSourceFactory == null) {
+      mediaSourceFactory = createMediaSourceFactory(type, null);
+      mediaSourceFactoriesByType.put(type, mediaSourceFactory);
+    }
+    return mediaSourceFactory.createMediaSource(mediaItem);
+  }
+
+  private MediaSource.Factory createMediaSourceFactory(int type, @Nullable String containerHint) {
+    DataSource.Factory dataSourceFactory =
+            type == C.CONTENT_TYPE_OTHER && progressiveDataSourceFactory != null
+                    ? progressiveDataSourceFactory
+                    : mediaDataSourceFactory;
+    MediaSource.Factory mediaSourceFactory =
+            mediaSourceFactories.create(type, dataSourceFactory, containerHint, liveOptions);
+    if (failover != null) {
+      mediaSourceFactory.setLoadErrorHandlingPolicy(failover.getLoadErrorHandlingPolicy());
     }
+    return mediaSourceFactory;
+  }
+
+  /**
+   * Prepares the player again after {@code error} if that may get it going, keeping the texture and
+   * the event channel. Returns false if the error should go to Dart instead.
+   */
+  private boolean recover(PlaybackException error) {
+    int action = recovery.onError(error, SystemClock.elapsedRealtime());
+    if (action == PlaybackRecovery.ACTION_FAIL) {
+      return false;
+    }
+    Log.w("VideoPlayer", "Recovering from " + error.getErrorCodeName(), error);
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "recovering");
+    event.put("errorCode", error.errorCode);
+    event.put("attempt", recovery.getAttempts());
+    eventSink.success(event);
+    pendingRecovery =
+            () -> {
+              pendingRecovery = null;
+              if (disposed) {
+                return;
+              }
+              if (action == PlaybackRecovery.ACTION_RESTART_AT_LIVE_EDGE) {
+                exoPlayer.seekToDefaultPosition();
+              }
+              exoPlayer.prepare();
+            };
+    recoveryHandler.postDelayed(pendingRecovery, recovery.getBackoffMs(action));
+    return true;
   }
 
   private void setUpVideoPlayer(ExoPlayer exoPlayer, QueuingEventSink eventSink) {
@@ -313,6 +499,14 @@ final class VideoPlayer {
                 }
               }
 
+              @Override
+              public void onIsLoadingChanged(boolean isLoading) {
+                // The load control is not asked again once the whole source is loaded.
+                if (!isLoading && networkClient != null) {
+                  networkClient.setUrgent(false);
+                }
+              }
+
               @Override
               public void onPlaybackStateChanged(final int playbackState) {
                 if (playbackState == Player.STATE_BUFFERING) {
@@ -321,6 +515,7 @@ final class VideoPlayer {
                 } else if (playbackState == Player.STATE_READY) {
                   if (!isInitialized) {
                     isInitialized = true;
+                    startupTrace.mark(StartupTrace.MILESTONE_READY);
                     sendInitialized();
                   }
                 } else if (playbackState == Player.STATE_ENDED) {
@@ -337,6 +532,9 @@ final class VideoPlayer {
               @Override
               public void onPlayerError(@NonNull final PlaybackException error) {
                 setBuffering(false);
+                if (recover(error)) {
+                  return;
+                }
                 if (eventSink != null) {
                   Throwable cause = error.getCause();
                   if (cause instanceof HttpDataSource.HttpDataSourceException) {
@@ -362,8 +560,32 @@ final class VideoPlayer {
                 }
               }
 
+              @Override
+              public void onMediaItemTransition(
+                      @Nullable MediaItem mediaItem, @Player.MediaItemTransitionReason int reason) {
+                if (pendingQueue != null) {
+                  // Setting the initial item is not a move within the queue.
+                  return;
+                }
+                Map<String, Object> event = new HashMap<>();
+                event.put("event", "mediaItemTransition");
+                event.put("index", exoPlayer.getCurrentMediaItemIndex());
+                event.put("reason", reason);
+                eventSink.success(event);
+              }
+
+              @Override
+              public void onTracksChanged(@NonNull Tracks tracks) {
+                if (reinitializingVideo && !tracks.isTypeSelected(C.TRACK_TYPE_VIDEO)) {
+                  // The old codec is released; enabling video again picks one for the new grant.
+                  reinitializingVideo = false;
+                  updateVideoTracks();
+                }
+              }
+
               @Override
               public void onIsPlayingChanged(boolean isPlaying) {
+                recovery.onPlayingChanged(isPlaying, SystemClock.elapsedRealtime());
                 if (eventSink != null) {
                   Map<String, Object> event = new HashMap<>();
                   event.put("event", "isPlayingStateUpdate");
@@ -393,6 +615,8 @@ final class VideoPlayer {
                 }
               }
             });
+    exoPlayer.addAnalyticsListener(statsCollector);
+    exoPlayer.addAnalyticsListener(startupTrace);
   }
 
   void sendBufferingUpdate() {
@@ -411,13 +635,118 @@ final class VideoPlayer {
   }
 
   void play() {
+    if (suspended) {
+      playWhenResumed = true;
+      return;
+    }
+    if (releasedForMemory) {
+      // stop() kept the media items and the position, so this resumes where playback paused.
+      releasedForMemory = false;
+      exoPlayer.prepare();
+    }
     exoPlayer.setPlayWhenReady(true);
   }
 
   void pause() {
+    playWhenResumed = false;
     exoPlayer.setPlayWhenReady(false);
   }
 
+  /**
+   * Pauses a player that went off-screen and frees its video decoder and surface, but keeps its
+   * media source, manifest and buffered audio, so {@link #resume()} shows a frame again without
+   * starting over. Play and pause calls made meanwhile take effect on resume.
+   */
+  void suspend() {
+    if (suspended) {
+      return;
+    }
+    suspended = true;
+    playWhenResumed = exoPlayer.getPlayWhenReady();
+    exoPlayer.setPlayWhenReady(false);
+    updateVideoTracks();
+    exoPlayer.clearVideoSurface(surface);
+  }
+
+  /**
+   * Reattaches the surface and re-enables video from the current position. The renderer shows the
+   * first frame from the nearest keyframe even while paused.
+   */
+  void resume() {
+    if (!suspended) {
+      return;
+    }
+    suspended = false;
+    if (!audioOnly) {
+      exoPlayer.setVideoSurface(surface);
+    }
+    updateVideoTracks();
+    if (playWhenResumed) {
+      play();
+    }
+  }
+
+  /**
+   * Keeps playing the audio only, for background listening, or brings the video back.
+   *
+   * <p>Sources with separate video streams, such as DASH and HLS with separate audio renditions,
+   * stop loading video. HLS variants with muxed audio keep loading, since the audio comes from
+   * them, but nothing decodes their video. Video comes back from the next keyframe without
+   * recreating the player.
+   */
+  void setAudioOnly(boolean audioOnly) {
+    if (this.audioOnly == audioOnly) {
+      return;
+    }
+    this.audioOnly = audioOnly;
+    if (audioOnly) {
+      exoPlayer.clearVideoSurface(surface);
+    } else if (!suspended) {
+      exoPlayer.setVideoSurface(surface);
+    }
+    updateVideoTracks();
+  }
+
+  /**
+   * Applies the decoder the {@link DecoderBudget} granted: a hardware one, a software one at a
+   * lower resolution, or none. A playing player moving between hardware and software gets its
+   * video renderer cycled so that the new choice takes effect now.
+   */
+  void setDecoderGrant(int grant) {
+    if (grant == decoderGrant) {
+      return;
+    }
+    boolean hardware = grant == DecoderBudget.GRANT_HARDWARE;
+    boolean hardwareChanged = hardware != (decoderGrant == DecoderBudget.GRANT_HARDWARE);
+    decoderGrant = grant;
+    codecSelector.setHardwareAllowed(hardware);
+    updateMaxVideoSize();
+    if (grant != DecoderBudget.GRANT_NONE
+            && hardwareChanged
+            && exoPlayer.getCurrentTracks().isTypeSelected(C.TRACK_TYPE_VIDEO)) {
+      reinitializingVideo = true;
+    }
+    updateVideoTracks();
+  }
+
+  /**
+   * Disables the video tracks while suspended, in audio-only mode, without a decoder grant or
+   * while the renderer is being cycled. That disables the video renderer, which releases its codec, and stops video
+   * loading for sources with separate video streams.
+   */
+  private void updateVideoTracks() {
+    boolean disabled =
+            suspended
+                    || audioOnly
+                    || decoderGrant == DecoderBudget.GRANT_NONE
+                    || reinitializingVideo;
+    exoPlayer.setTrackSelectionParameters(
+            exoPlayer.getTrackSelectionParameters()
+                    .buildUpon()
+                    .setTrackTypeDisabled(C.TRACK_TYPE_VIDEO, disabled)
+                    .build());
+  }
+
   void setLooping(boolean value) {
     exoPlayer.setRepeatMode(value ? REPEAT_MODE_ALL : REPEAT_MODE_OFF);
   }
@@ -631,6 +960,53 @@ final class VideoPlayer {
 
 
 
+  /**
+   * Replaces every item queued after the one currently playing.
+   *
+   * <p>The current item keeps playing untouched. The player is built with lazy preparation, so the
+   * next item is prepared and buffered as soon as the loader reaches the end of the current one,
+   * which gives a gapless transition without a second player.
+   */
+  void setQueue(@NonNull List<Messages.QueueItemMessage> items) {
+    if (pendingQueue != null) {
+      // Queue index i + 1 is pendingQueue.get(i), the initial item being index 0.
+      pendingQueue.subList(pendingStartIndex, pendingQueue.size()).clear();
+    } else {
+      int nextIndex = exoPlayer.getCurrentMediaItemIndex() + 1;
+      int count = exoPlayer.getMediaItemCount();
+      if (nextIndex < count) {
+        exoPlayer.removeMediaItems(nextIndex, count);
+      }
+    }
+    addToQueue(items);
+  }
+
+  void addToQueue(@NonNull List<Messages.QueueItemMessage> items) {
+    List<MediaSource> mediaSources = new ArrayList<>(items.size());
+    for (Messages.QueueItemMessage item : items) {
+      mediaSources.add(
+              buildMediaSource(Uri.parse(item.getUri()), item.getFormatHint()));
+    }
+    if (pendingQueue != null) {
+      pendingQueue.addAll(mediaSources);
+      return;
+    }
+    exoPlayer.addMediaSources(mediaSources);
+  }
+
+  void skipToIndex(int index) {
+    int count = pendingQueue != null ? pendingQueue.size() + 1 : exoPlayer.getMediaItemCount();
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException(
+              "Queue index " + index + " out of range [0, " + count + ")");
+    }
+    if (pendingQueue != null) {
+      pendingStartIndex = index;
+      return;
+    }
+    exoPlayer.seekToDefaultPosition(index);
+  }
+
   void setPlaybackSpeed(double value) {
     // We do not need to consider pitch and skipSilence for now as we do not handle them and
     // therefore never diverge from the default values.
@@ -639,6 +1015,99 @@ final class VideoPlayer {
     exoPlayer.setPlaybackParameters(playbackParameters);
   }
 
+  @VisibleForTesting
+  @Nullable
+  Surface getSurface() {
+    return surface;
+  }
+
+  /**
+   * Stops loading once {@code maxBufferMs} of media is buffered ahead, or lifts that cap for
+   * {@link C#TIME_UNSET}. Media already buffered beyond the cap is played out, not dropped.
+   */
+  void setMaxBufferMs(long maxBufferMs) {
+    if (loadControl != null) {
+      loadControl.setMaxBufferMs(maxBufferMs);
+    }
+  }
+
+  /** Frees the buffer memory the player pooled for reuse but is not using. */
+  void releaseUnusedMemory() {
+    if (loadControl != null) {
+      loadControl.releaseUnusedMemory();
+    }
+  }
+
+  /**
+   * Keeps adaptive streams at or below {@code maxWidth} x {@code maxHeight} while memory is short.
+   * {@link Integer#MAX_VALUE} lifts the cap.
+   */
+  void setMemoryMaxVideoSize(int maxWidth, int maxHeight) {
+    memoryMaxVideoWidth = maxWidth;
+    memoryMaxVideoHeight = maxHeight;
+    updateMaxVideoSize();
+  }
+
+  /** Applies the smallest of the memory cap and the cap of a software decoder grant. */
+  private void updateMaxVideoSize() {
+    if (trackSelector == null) {
+      return;
+    }
+    int maxWidth = memoryMaxVideoWidth;
+    int maxHeight = memoryMaxVideoHeight;
+    if (decoderGrant == DecoderBudget.GRANT_SOFTWARE) {
+      maxWidth = Math.min(maxWidth, DecoderBudget.SOFTWARE_MAX_WIDTH);
+      maxHeight = Math.min(maxHeight, DecoderBudget.SOFTWARE_MAX_HEIGHT);
+    }
+    trackSelector.setParameters(
+            trackSelector.buildUponParameters().setMaxVideoSize(maxWidth, maxHeight));
+  }
+
+  /**
+   * Sizes adaptive video for a widget of {@code width} x {@code height} logical pixels: tracks
+   * bigger than the smallest one covering it in physical pixels are left out. An empty size sizes
+   * it for the display again.
+   *
+   * <p>The default buffer size of the texture is left alone: MediaCodec sizes the buffers of its
+   * output surface to the decoded video, so it would not change the frames the player produces.
+   */
+  void setViewportSize(double width, double height, double devicePixelRatio) {
+    int widthPx = (int) Math.ceil(width * devicePixelRatio);
+    int heightPx = (int) Math.ceil(height * devicePixelRatio);
+    TrackSelectionParameters.Builder parameters =
+            exoPlayer.getTrackSelectionParameters().buildUpon();
+    if (widthPx <= 0 || heightPx <= 0) {
+      parameters.setViewportSizeToPhysicalDisplaySize(
+              context, /* viewportOrientationMayChange= */ true);
+    } else {
+      // The widget does not rotate with the display, so neither does its viewport.
+      parameters.setViewportSize(widthPx, heightPx, /* viewportOrientationMayChange= */ false);
+    }
+    exoPlayer.setTrackSelectionParameters(parameters.build());
+  }
+
+  /** Sets how this player's network loads rank against those of other players. */
+  void setNetworkPriority(int priority) {
+    if (networkClient != null) {
+      networkClient.setPriority(priority);
+    }
+  }
+
+  /**
+   * Stops a paused player, which releases its decoders and buffers but keeps its media and
+   * position, and returns whether it did. The next {@link #play()} prepares it again.
+   */
+  boolean releaseIfPaused() {
+    if (releasedForMemory
+            || exoPlayer.getPlayWhenReady()
+            || exoPlayer.getPlaybackState() == Player.STATE_IDLE) {
+      return false;
+    }
+    exoPlayer.stop();
+    releasedForMemory = true;
+    return true;
+  }
+
   void seekTo(int location) {
     exoPlayer.seekTo(location);
   }
@@ -647,6 +1116,14 @@ final class VideoPlayer {
     return exoPlayer.getCurrentPosition();
   }
 
+  /** Returns the distance to the live edge in milliseconds, or {@link C#TIME_UNSET} if not live. */
+  long getLiveOffset() {
+    if (!exoPlayer.isCurrentMediaItemLive()) {
+      return C.TIME_UNSET;
+    }
+    return exoPlayer.getCurrentLiveOffset();
+  }
+
   @SuppressWarnings("SuspiciousNameCombination")
   @VisibleForTesting
   void sendInitialized() {
@@ -701,6 +1178,9 @@ final class VideoPlayer {
       Map<String, Object> event = new HashMap<>();
       event.put("event", "initialized");
       event.put("duration", exoPlayer.getDuration());
+      // Usually sent before the first frame is rendered; that milestone is in the system trace and
+      // in the time to first frame of the stats.
+      event.put("startup", startupTrace.toMap());
 
       if (exoPlayer.getVideoFormat() != null) {
         Format videoFormat = exoPlayer.getVideoFormat();
@@ -817,7 +1297,62 @@ final class VideoPlayer {
     trackSelector.setParameters(parametersBuilder);
   }
 
+  @NonNull
+  PlaybackStatsMessage getStats() {
+    return statsCollector.snapshot();
+  }
+
+  /**
+   * Pushes a stats snapshot on {@code channel} while it is listened to, at the interval in
+   * milliseconds given as the listen argument.
+   */
+  void setStatsChannel(@NonNull EventChannel channel) {
+    statsChannel = channel;
+    channel.setStreamHandler(
+            new EventChannel.StreamHandler() {
+              @Override
+              public void onListen(Object arguments, EventChannel.EventSink sink) {
+                stopStatsPush();
+                long intervalMs =
+                        arguments instanceof Number
+                                ? Math.max(((Number) arguments).longValue(), MIN_STATS_INTERVAL_MS)
+                                : DEFAULT_STATS_INTERVAL_MS;
+                statsPusher =
+                        new Runnable() {
+                          @Override
+                          public void run() {
+                            sink.success(statsCollector.snapshot().toList());
+                            statsHandler.postDelayed(this, intervalMs);
+                          }
+                        };
+                statsHandler.post(statsPusher);
+              }
+
+              @Override
+              public void onCancel(Object arguments) {
+                stopStatsPush();
+              }
+            });
+  }
+
+  private void stopStatsPush() {
+    if (statsPusher != null) {
+      statsHandler.removeCallbacks(statsPusher);
+      statsPusher = null;
+    }
+  }
+
   void dispose() {
+    disposed = true;
+    startupTrace.release();
+    stopStatsPush();
+    if (pendingRecovery != null) {
+      recoveryHandler.removeCallbacks(pendingRecovery);
+      pendingRecovery = null;
+    }
+    if (statsChannel != null) {
+      statsChannel.setStreamHandler(null);
+    }
     if (isInitialized) {
       exoPlayer.stop();
     }
@@ -829,5 +1364,11 @@ final class VideoPlayer {
     if (exoPlayer != null) {
       exoPlayer.release();
     }
+    if (parallelRangeFactory != null) {
+      parallelRangeFactory.release();
+    }
+    if (networkClient != null) {
+      networkClient.release();
+    }
   }
 }
@@ -5,24 +5,46 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
+import android.net.Uri;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.LongSparseArray;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.AudioOnlyMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderBudgetMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderPriorityMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadIdMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadSettingsMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadStateMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.ManifestCacheMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
+import io.flutter.plugins.videoplayer.Messages.NetworkPriorityMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.QueueIndexMessage;
+import io.flutter.plugins.videoplayer.Messages.QueueMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.plugins.videoplayer.Messages.TrackMessage;
+import io.flutter.plugins.videoplayer.Messages.ViewportMessage;
+import io.flutter.plugins.videoplayer.Messages.WarmupMessage;
 import io.flutter.view.TextureRegistry;
+import java.io.File;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
@@ -34,9 +56,55 @@ import java.util.ArrayList;
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private static final String TAG = "VideoPlayerPlugin";
+  private static final String DOWNLOAD_EVENTS_CHANNEL = "flutter.io/videoPlayer/downloadEvents";
+  private static final String FAILOVER_EVENTS_CHANNEL = "flutter.io/videoPlayer/failoverEvents";
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
+  private final FastChannel fastChannel = new FastChannel(videoPlayers);
+  private final MemoryPressureHandler memoryPressureHandler =
+      new MemoryPressureHandler(videoPlayers);
+  private final DecoderBudget decoderBudget = new DecoderBudget(videoPlayers);
+  private final NetworkPriorityScheduler networkScheduler = new NetworkPriorityScheduler();
   private FlutterState flutterState;
   private final VideoPlayerOptions options = new VideoPlayerOptions();
+  private final MediaSourceFactories mediaSourceFactories = new MediaSourceFactories();
+  private final ContentTypeResolver contentTypeResolver = new ContentTypeResolver();
+  // Opened on attach only if the app downloaded before, otherwise on the first download call.
+  @Nullable private OfflineDownloads offlineDownloads;
+  // Created on attach, which is when the preferences of recent hosts can be read.
+  @Nullable private HostWarmer hostWarmer;
+  @Nullable private EventChannel.EventSink downloadEventSink;
+  private final EventChannel.StreamHandler downloadEventsHandler =
+      new EventChannel.StreamHandler() {
+        @Override
+        public void onListen(Object o, EventChannel.EventSink sink) {
+          downloadEventSink = sink;
+          if (offlineDownloads != null) {
+            offlineDownloads.setEventSink(sink);
+          }
+        }
+
+        @Override
+        public void onCancel(Object o) {
+          downloadEventSink = null;
+          if (offlineDownloads != null) {
+            offlineDownloads.setEventSink(null);
+          }
+        }
+      };
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  @Nullable private EventChannel.EventSink failoverEventSink;
+  private final EventChannel.StreamHandler failoverEventsHandler =
+      new EventChannel.StreamHandler() {
+        @Override
+        public void onListen(Object o, EventChannel.EventSink sink) {
+          failoverEventSink = sink;
+        }
+
+        @Override
+        public void onCancel(Object o) {
+          failoverEventSink = null;
+        }
+      };
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -50,6 +118,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             registrar::lookupKeyForAsset,
             registrar::lookupKeyForAsset,
             registrar.textures());
+    mediaSourceFactories.enableSeekIndex(seekIndexDirectory(registrar.context()));
+    offlineDownloads = OfflineDownloads.getInstance(registrar.context(), false);
+    startHostWarmer(registrar.context());
+    registrar.context().getApplicationContext().registerComponentCallbacks(memoryPressureHandler);
     flutterState.startListening(this, registrar.messenger());
   }
 
@@ -88,9 +160,23 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             injector.flutterLoader()::getLookupKeyForAsset,
             injector.flutterLoader()::getLookupKeyForAsset,
             binding.getTextureRegistry());
+    mediaSourceFactories.enableSeekIndex(seekIndexDirectory(binding.getApplicationContext()));
+    offlineDownloads = OfflineDownloads.getInstance(binding.getApplicationContext(), false);
+    startHostWarmer(binding.getApplicationContext());
+    binding.getApplicationContext().registerComponentCallbacks(memoryPressureHandler);
     flutterState.startListening(this, binding.getBinaryMessenger());
   }
 
+  private void startHostWarmer(Context context) {
+    hostWarmer =
+        new HostWarmer(context.getSharedPreferences(HostWarmer.PREFERENCES, Context.MODE_PRIVATE));
+    hostWarmer.warmupRecentHosts();
+  }
+
+  private static File seekIndexDirectory(Context context) {
+    return new File(context.getCacheDir(), "video_player_seek_index");
+  }
+
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
     if (flutterState == null) {
@@ -98,6 +184,11 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     }
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
+    binding.getApplicationContext().unregisterComponentCallbacks(memoryPressureHandler);
+    memoryPressureHandler.release();
+    if (offlineDownloads != null) {
+      offlineDownloads.setEventSink(null);
+    }
     initialize();
   }
 
@@ -106,6 +197,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    decoderBudget.clear();
   }
 
   private void onDestroy() {
@@ -122,6 +214,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   }
 
   public @NonNull TextureMessage create(@NonNull CreateMessage arg) {
+    StartupTrace startupTrace = new StartupTrace();
+    startupTrace.begin(StartupTrace.SECTION_CREATE);
     TextureRegistry.SurfaceTextureEntry handle =
         flutterState.textureRegistry.createSurfaceTexture();
     EventChannel eventChannel =
@@ -144,10 +238,23 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               handle,
               "asset:///" + assetLookupKey,
               null,
+              null,
+              1,
+              maxRecoveryAttempts(arg),
               new HashMap<>(),
+              LiveLatencyOptions.DEFAULT,
+              mediaSourceFactories,
+              contentTypeResolver,
+              networkScheduler.newClient(),
+              null,
+              null,
+              startupTrace,
               options);
     } else {
       Map<String, String> httpHeaders = arg.getHttpHeaders();
+      if (hostWarmer != null) {
+        hostWarmer.recordHost(Uri.parse(arg.getUri()));
+      }
       player =
           new VideoPlayer(
               flutterState.applicationContext,
@@ -155,14 +262,65 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               handle,
               arg.getUri(),
               arg.getFormatHint(),
+              arg.getContainerHint(),
+              arg.getMaxParallelConnections() == null
+                  ? 1
+                  : arg.getMaxParallelConnections().intValue(),
+              maxRecoveryAttempts(arg),
               httpHeaders,
+              LiveLatencyOptions.fromMessage(arg),
+              mediaSourceFactories,
+              contentTypeResolver,
+              networkScheduler.newClient(),
+              MirrorFailover.fromMessage(arg, failoverListener(handle.id())),
+              offlineDownloads,
+              startupTrace,
               options);
     }
+    player.setStatsChannel(
+        new EventChannel(
+            flutterState.binaryMessenger, "flutter.io/videoPlayer/statsEvents" + handle.id()));
+    memoryPressureHandler.applyTo(player);
     videoPlayers.put(handle.id(), player);
+    decoderBudget.add(handle.id());
+    startupTrace.end(StartupTrace.SECTION_CREATE);
 
     return new TextureMessage.Builder().setTextureId(handle.id()).build();
   }
 
+  private static int maxRecoveryAttempts(@NonNull CreateMessage arg) {
+    return arg.getMaxRecoveryAttempts() == null
+        ? PlaybackRecovery.DEFAULT_MAX_ATTEMPTS
+        : arg.getMaxRecoveryAttempts().intValue();
+  }
+
+  /** Reports the mirror switches of the player {@code textureId} on the failover channel. */
+  private MirrorFailover.Listener failoverListener(long textureId) {
+    return (from, to, reason) -> {
+      Map<String, Object> event = new HashMap<>();
+      event.put("textureId", textureId);
+      event.put("from", from);
+      event.put("to", to);
+      event.put("reason", String.valueOf(reason.getMessage()));
+      if (reason instanceof HttpDataSource.InvalidResponseCodeException) {
+        event.put(
+            "statusCode", ((HttpDataSource.InvalidResponseCodeException) reason).responseCode);
+      }
+      mainHandler.post(
+          () -> {
+            if (failoverEventSink != null) {
+              failoverEventSink.success(event);
+            }
+          });
+    };
+  }
+
+  @VisibleForTesting
+  @Nullable
+  VideoPlayer getVideoPlayer(long textureId) {
+    return videoPlayers.get(textureId);
+  }
+
   public ArrayList<String> getAudioTracks(TextureMessage arg)
   {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
@@ -204,6 +362,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.dispose();
     videoPlayers.remove(arg.getTextureId());
+    decoderBudget.remove(arg.getTextureId());
   }
 
   public void setLooping(@NonNull LoopingMessage arg) {
@@ -228,10 +387,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
   public @NonNull PositionMessage position(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    long liveOffset = player.getLiveOffset();
     PositionMessage result =
         new PositionMessage.Builder()
             .setPosition(player.getPosition())
             .setTextureId(arg.getTextureId())
+            .setLiveOffset(liveOffset == C.TIME_UNSET ? null : liveOffset)
             .build();
     player.sendBufferingUpdate();
     return result;
@@ -242,11 +403,77 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     player.seekTo(arg.getPosition().intValue());
   }
 
+  @Override
+  public @NonNull PlaybackStatsMessage getStats(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return player.getStats();
+  }
+
   public void pause(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.pause();
   }
 
+  @Override
+  public void suspend(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.suspend();
+  }
+
+  @Override
+  public void resume(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.resume();
+  }
+
+  @Override
+  public void setAudioOnly(@NonNull AudioOnlyMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setAudioOnly(arg.getAudioOnly());
+  }
+
+  @Override
+  public void setDecoderPriority(@NonNull DecoderPriorityMessage arg) {
+    decoderBudget.setPriority(arg.getTextureId(), arg.getPriority().intValue());
+  }
+
+  @Override
+  public void setDecoderBudget(@NonNull DecoderBudgetMessage arg) {
+    Long maxHardwareDecoders = arg.getMaxHardwareDecoders();
+    decoderBudget.setMaxHardwareDecoders(
+        maxHardwareDecoders == null ? 0 : maxHardwareDecoders.intValue());
+  }
+
+  @Override
+  public void setViewportSize(@NonNull ViewportMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setViewportSize(arg.getWidth(), arg.getHeight(), arg.getDevicePixelRatio());
+  }
+
+  @Override
+  public void setNetworkPriority(@NonNull NetworkPriorityMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setNetworkPriority(arg.getPriority().intValue());
+  }
+
+  @Override
+  public void warmup(@NonNull WarmupMessage arg) {
+    if (hostWarmer != null) {
+      hostWarmer.warmup(arg.getHosts());
+    }
+  }
+
+  @Override
+  public void setManifestCache(@NonNull ManifestCacheMessage arg) {
+    Long ttlMs = arg.getTtlMs();
+    Long liveTtlMs = arg.getLiveTtlMs();
+    mediaSourceFactories
+        .getManifestCache()
+        .setTtls(
+            ttlMs == null ? ManifestCache.DEFAULT_TTL_MS : ttlMs,
+            liveTtlMs == null ? ManifestCache.DEFAULT_LIVE_TTL_MS : liveTtlMs);
+  }
+
   @Override
   public void setMixWithOthers(@NonNull MixWithOthersMessage arg) {
     options.mixWithOthers = arg.getMixWithOthers();
@@ -264,6 +491,61 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     player.setEmbeddedSubtitles(arg.getTrackIndex(), arg.getGroupIndex(), arg.getRenderIndex());
   }
 
+  @Override
+  public void setQueue(@NonNull QueueMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setQueue(arg.getItems());
+  }
+
+  @Override
+  public void addToQueue(@NonNull QueueMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.addToQueue(arg.getItems());
+  }
+
+  @Override
+  public void skipToIndex(@NonNull QueueIndexMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.skipToIndex(arg.getIndex().intValue());
+  }
+
+  @Override
+  public void startDownload(@NonNull DownloadMessage arg) {
+    requireOfflineDownloads().start(arg, contentTypeResolver);
+  }
+
+  @Override
+  public void removeDownload(@NonNull DownloadIdMessage arg) {
+    if (offlineDownloads != null) {
+      offlineDownloads.remove(arg.getId());
+    }
+  }
+
+  @NonNull
+  @Override
+  public List<DownloadStateMessage> getDownloads() {
+    return offlineDownloads == null ? new ArrayList<>() : offlineDownloads.getDownloads();
+  }
+
+  @Override
+  public void setDownloadSettings(@NonNull DownloadSettingsMessage arg) {
+    OfflineDownloads downloads = requireOfflineDownloads();
+    if (arg.getPaused() != null) {
+      downloads.setPaused(arg.getPaused());
+    }
+    if (arg.getMaxParallelDownloads() != null) {
+      downloads.setMaxParallelDownloads(arg.getMaxParallelDownloads().intValue());
+    }
+  }
+
+  private OfflineDownloads requireOfflineDownloads() {
+    if (offlineDownloads == null) {
+      offlineDownloads = OfflineDownloads.getInstance(flutterState.applicationContext, true);
+      offlineDownloads.setEventSink(downloadEventSink);
+    }
+    return offlineDownloads;
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -294,10 +576,21 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
     void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
       AndroidVideoPlayerApi.setup(messenger, methodCallHandler);
+      messenger.setMessageHandler(FastChannel.NAME, methodCallHandler.fastChannel);
+      new EventChannel(messenger, DOWNLOAD_EVENTS_CHANNEL)
+          .setStreamHandler(methodCallHandler.downloadEventsHandler);
+      new EventChannel(messenger, MemoryPressureHandler.CHANNEL)
+          .setStreamHandler(methodCallHandler.memoryPressureHandler);
+      new EventChannel(messenger, FAILOVER_EVENTS_CHANNEL)
+          .setStreamHandler(methodCallHandler.failoverEventsHandler);
     }
 
     void stopListening(BinaryMessenger messenger) {
       AndroidVideoPlayerApi.setup(messenger, null);
+      messenger.setMessageHandler(FastChannel.NAME, null);
+      new EventChannel(messenger, DOWNLOAD_EVENTS_CHANNEL).setStreamHandler(null);
+      new EventChannel(messenger, MemoryPressureHandler.CHANNEL).setStreamHandler(null);
+      new EventChannel(messenger, FAILOVER_EVENTS_CHANNEL).setStreamHandler(null);
     }
   }
 }
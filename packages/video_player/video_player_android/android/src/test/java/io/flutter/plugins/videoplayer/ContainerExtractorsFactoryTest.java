@@ -0,0 +1,122 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.extractor.DefaultExtractorInput;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ContainerExtractorsFactoryTest {
+  private final Uri uri = Uri.parse("http://iptv.example.com/live/user/pass/1234");
+  private final ContainerExtractorsFactory factory =
+      new ContainerExtractorsFactory(MediaSourceFactories.buildProgressiveExtractorsFactory());
+
+  @Test
+  public void containerHintBuildsOnlyTheMatchingExtractor() {
+    Extractor[] extractors =
+        factory.forContainer("ts").createExtractors(uri, Collections.emptyMap());
+
+    assertEquals(1, extractors.length);
+    assertTrue(extractors[0] instanceof TsExtractor);
+  }
+
+  @Test
+  public void unknownContainerHintSniffsEverything() {
+    Extractor[] extractors =
+        factory.forContainer("avi2").createExtractors(uri, Collections.emptyMap());
+
+    assertEquals(
+        MediaSourceFactories.buildProgressiveExtractorsFactory().createExtractors().length,
+        extractors.length);
+  }
+
+  @Test
+  public void noContainerHintUsesTheLearningFactory() {
+    assertSame(factory, factory.forContainer(null));
+    assertNull(factory.getContainer(ContentTypeResolver.cacheKey(uri)));
+  }
+
+  @Test
+  public void learnedContainerIsTriedFirstOnTheNextOpen() throws IOException {
+    Uri nextChannel = Uri.parse("http://iptv.example.com/live/user/pass/5678");
+    Extractor[] unlearned = factory.createExtractors(nextChannel, Collections.emptyMap());
+    assertFalse(unlearned[0].sniff(tsInput()));
+
+    assertEquals("ts", learn(uri));
+
+    assertEquals("ts", factory.getContainer(ContentTypeResolver.cacheKey(nextChannel)));
+    Extractor[] learned = factory.createExtractors(nextChannel, Collections.emptyMap());
+    assertEquals(unlearned.length, learned.length);
+    assertTrue(learned[0].sniff(tsInput()));
+  }
+
+  @Test
+  public void leastRecentlyUsedServicesAreForgotten() throws IOException {
+    Uri first = serviceUri(0);
+    Uri second = serviceUri(1);
+    learn(first);
+    learn(second);
+    for (int i = 2; i < ContainerExtractorsFactory.MAX_ENTRIES; i++) {
+      learn(serviceUri(i));
+    }
+    // Opening the first service again makes the second one the oldest.
+    factory.createExtractors(first, Collections.emptyMap());
+    assertEquals("ts", factory.getContainer(ContentTypeResolver.cacheKey(first)));
+
+    learn(serviceUri(ContainerExtractorsFactory.MAX_ENTRIES));
+
+    assertEquals("ts", factory.getContainer(ContentTypeResolver.cacheKey(first)));
+    assertNull(factory.getContainer(ContentTypeResolver.cacheKey(second)));
+  }
+
+  private static Uri serviceUri(int index) {
+    return Uri.parse("http://cdn-" + index + ".example.com/live/stream");
+  }
+
+  /**
+   * Sniffs a TS stream from {@code uri} the way the progressive source does, and returns what the
+   * factory learned for it.
+   */
+  private String learn(Uri uri) throws IOException {
+    for (Extractor extractor : factory.createExtractors(uri, Collections.emptyMap())) {
+      try {
+        if (extractor.sniff(tsInput())) {
+          break;
+        }
+      } catch (EOFException e) {
+        // Too short for this container.
+      }
+    }
+    return factory.getContainer(ContentTypeResolver.cacheKey(uri));
+  }
+
+  /** Returns an input of empty TS packets, which only the TS extractor recognizes. */
+  private static ExtractorInput tsInput() throws IOException {
+    byte[] data = new byte[10 * TsExtractor.TS_PACKET_SIZE];
+    for (int i = 0; i < data.length; i += TsExtractor.TS_PACKET_SIZE) {
+      data[i] = TsExtractor.TS_SYNC_BYTE;
+    }
+    ByteArrayDataSource dataSource = new ByteArrayDataSource(data);
+    dataSource.open(new DataSpec(Uri.EMPTY));
+    return new DefaultExtractorInput(dataSource, 0, data.length);
+  }
+}
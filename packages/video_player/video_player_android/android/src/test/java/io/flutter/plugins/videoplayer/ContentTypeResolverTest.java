@@ -0,0 +1,197 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ContentTypeResolverTest {
+  @Test
+  public void cacheKeyGroupsUrlsOfTheSameService() {
+    assertEquals(
+        ContentTypeResolver.cacheKey(Uri.parse("http://iptv.example.com:8080/live/user/pass/1234")),
+        ContentTypeResolver.cacheKey(
+            Uri.parse("http://iptv.example.com:8080/live/user/pass/5678?token=abc")));
+    assertFalse(
+        ContentTypeResolver.cacheKey(Uri.parse("http://iptv.example.com/live/1234"))
+            .equals(ContentTypeResolver.cacheKey(Uri.parse("http://iptv.example.com/movie/1234"))));
+  }
+
+  @Test
+  public void typeForMimeType() {
+    assertEquals(
+        C.CONTENT_TYPE_HLS,
+        ContentTypeResolver.typeForMimeType("application/vnd.apple.mpegURL; charset=UTF-8"));
+    assertEquals(C.CONTENT_TYPE_DASH, ContentTypeResolver.typeForMimeType("application/dash+xml"));
+    assertEquals(C.CONTENT_TYPE_OTHER, ContentTypeResolver.typeForMimeType("video/mp2t"));
+    assertEquals(C.CONTENT_TYPE_OTHER, ContentTypeResolver.typeForMimeType(null));
+  }
+
+  @Test
+  public void typeForContent() {
+    assertEquals(C.CONTENT_TYPE_HLS, typeForContent("\uFEFF#EXTM3U\n#EXT-X-VERSION:3\n"));
+    assertEquals(
+        C.CONTENT_TYPE_DASH, typeForContent("<?xml version=\"1.0\"?>\n<MPD type=\"dynamic\">"));
+    assertEquals(C.CONTENT_TYPE_OTHER, typeForContent("G@\u0000\u0010"));
+  }
+
+  @Test
+  public void cachedTypesExpire() {
+    Uri uri = Uri.parse("https://cdn.example.com/channel/42");
+    ContentTypeResolver resolver = new ContentTypeResolver(0);
+    resolver.put(uri, C.CONTENT_TYPE_HLS);
+    assertNull(resolver.getCached(uri));
+
+    resolver = new ContentTypeResolver();
+    resolver.put(uri, C.CONTENT_TYPE_HLS);
+    assertEquals(
+        Integer.valueOf(C.CONTENT_TYPE_HLS),
+        resolver.getCached(Uri.parse("https://cdn.example.com/channel/43")));
+    assertTrue(ContentTypeResolver.canProbe(uri));
+    assertFalse(ContentTypeResolver.canProbe(Uri.parse("file:///sdcard/movie")));
+  }
+
+  @Test
+  public void cachedOtherIsNotProbedAgain() {
+    ContentTypeResolver resolver = new ContentTypeResolver();
+    Uri uri = Uri.parse("https://cdn.example.com/vod/42");
+    assertTrue(resolver.shouldProbe(uri));
+
+    resolver.put(uri, C.CONTENT_TYPE_OTHER);
+
+    assertFalse(resolver.shouldProbe(Uri.parse("https://cdn.example.com/vod/43")));
+    assertFalse(resolver.shouldProbe(Uri.parse("file:///sdcard/movie")));
+  }
+
+  @Test
+  public void successfulProbesAreCached() throws Exception {
+    try (ShapedHttpServer server =
+        new ShapedHttpServer(new ShapedHttpServer.Profile.Builder().build())) {
+      server.addFixture("/live/7", "#EXTM3U\n#EXT-X-VERSION:3\n", "text/plain");
+      ContentTypeResolver resolver = new ContentTypeResolver();
+
+      List<Integer> results = resolve(resolver, server.uri("/live/7"));
+
+      assertEquals(Collections.singletonList(C.CONTENT_TYPE_HLS), results);
+      assertEquals(
+          Integer.valueOf(C.CONTENT_TYPE_HLS),
+          resolver.getCached(Uri.parse(server.uri("/live/8"))));
+    }
+  }
+
+  @Test
+  public void errorAnswersDoNotReplaceTheCachedType() throws Exception {
+    try (ShapedHttpServer server =
+        new ShapedHttpServer(new ShapedHttpServer.Profile.Builder().build())) {
+      ContentTypeResolver resolver = new ContentTypeResolver();
+      resolver.put(Uri.parse(server.uri("/live/1")), C.CONTENT_TYPE_HLS);
+
+      // Nothing is served at this path, so the probe gets a 404.
+      List<Integer> results = resolve(resolver, server.uri("/live/2"));
+
+      assertEquals(Collections.singletonList(C.CONTENT_TYPE_OTHER), results);
+      assertEquals(
+          Integer.valueOf(C.CONTENT_TYPE_HLS),
+          resolver.getCached(Uri.parse(server.uri("/live/3"))));
+    }
+  }
+
+  @Test
+  public void concurrentProbesOfOneEntryShareARequest() throws Exception {
+    try (ShapedHttpServer server =
+        new ShapedHttpServer(new ShapedHttpServer.Profile.Builder().setLatencyMs(200).build())) {
+      server.addFixture("/live/1", "#EXTM3U\n", "application/vnd.apple.mpegurl");
+      ContentTypeResolver resolver = new ContentTypeResolver();
+      List<Integer> results = new ArrayList<>();
+
+      resolver.resolve(Uri.parse(server.uri("/live/1")), httpFactory(), results::add);
+      resolver.resolve(Uri.parse(server.uri("/live/2")), httpFactory(), results::add);
+      await(results, 2);
+
+      assertEquals(2, results.size());
+      assertEquals(Integer.valueOf(C.CONTENT_TYPE_HLS), results.get(0));
+      assertEquals(Integer.valueOf(C.CONTENT_TYPE_HLS), results.get(1));
+      assertEquals(1, server.getRequestCount());
+    }
+  }
+
+  @Test
+  public void contentTypeHeaderDecidesWithoutTheBody() throws Exception {
+    try (ShapedHttpServer server =
+        new ShapedHttpServer(new ShapedHttpServer.Profile.Builder().build())) {
+      server.addFixture("/vod/1", "not a manifest", "application/dash+xml; charset=UTF-8");
+
+      List<Integer> results = resolve(new ContentTypeResolver(), server.uri("/vod/1"));
+
+      assertEquals(Collections.singletonList(C.CONTENT_TYPE_DASH), results);
+    }
+  }
+
+  @Test
+  public void probesGoThroughTheCallersDataSource() throws Exception {
+    try (ShapedHttpServer server =
+        new ShapedHttpServer(new ShapedHttpServer.Profile.Builder().build())) {
+      server.addFixture("/live/1", "#EXTM3U\n", "text/plain");
+      AtomicInteger created = new AtomicInteger();
+      DataSource.Factory http = httpFactory();
+      DataSource.Factory factory =
+          () -> {
+            created.incrementAndGet();
+            return http.createDataSource();
+          };
+      List<Integer> results = new ArrayList<>();
+
+      new ContentTypeResolver().resolve(Uri.parse(server.uri("/live/1")), factory, results::add);
+      await(results, 1);
+
+      assertEquals(Collections.singletonList(C.CONTENT_TYPE_HLS), results);
+      assertEquals(1, created.get());
+    }
+  }
+
+  private static List<Integer> resolve(ContentTypeResolver resolver, String uri)
+      throws InterruptedException {
+    List<Integer> results = new ArrayList<>();
+    resolver.resolve(Uri.parse(uri), httpFactory(), results::add);
+    await(results, 1);
+    return results;
+  }
+
+  private static DataSource.Factory httpFactory() {
+    DefaultHttpDataSource.Factory factory = new DefaultHttpDataSource.Factory();
+    VideoPlayer.applyHttpHeaders(factory, Collections.emptyMap());
+    return factory;
+  }
+
+  /** Runs the main looper, where results are delivered, until {@code count} came in. */
+  private static void await(List<Integer> results, int count) throws InterruptedException {
+    long deadlineMs = System.currentTimeMillis() + 10_000;
+    while (results.size() < count && System.currentTimeMillis() < deadlineMs) {
+      Thread.sleep(10);
+      PluginHarness.idleMainLooper();
+    }
+  }
+
+  private static int typeForContent(String content) {
+    byte[] data = content.getBytes(Charset.forName("UTF-8"));
+    return ContentTypeResolver.typeForContent(data, data.length);
+  }
+}
@@ -0,0 +1,75 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import android.util.LongSparseArray;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class DecoderBudgetTest {
+  private final LongSparseArray<VideoPlayer> players = new LongSparseArray<>();
+  private DecoderBudget budget;
+
+  @Before
+  public void before() {
+    budget = new DecoderBudget(players);
+    budget.setMaxHardwareDecoders(2);
+    for (long textureId = 1; textureId <= 4; textureId++) {
+      players.put(textureId, mock(VideoPlayer.class));
+      budget.add(textureId);
+    }
+  }
+
+  @Test
+  public void oldestPlayersGetHardwareOnEqualPriority() {
+    LongSparseArray<Integer> grants = budget.computeGrants();
+
+    assertEquals(DecoderBudget.GRANT_HARDWARE, (int) grants.get(1));
+    assertEquals(DecoderBudget.GRANT_HARDWARE, (int) grants.get(2));
+    assertEquals(DecoderBudget.GRANT_SOFTWARE, (int) grants.get(3));
+    assertEquals(DecoderBudget.GRANT_SOFTWARE, (int) grants.get(4));
+  }
+
+  @Test
+  public void focusedPlayerTakesASlotAndBackgroundPlayersGetNone() {
+    budget.setPriority(4, DecoderBudget.PRIORITY_FOCUSED);
+    budget.setPriority(1, DecoderBudget.PRIORITY_BACKGROUND);
+
+    LongSparseArray<Integer> grants = budget.computeGrants();
+    assertEquals(DecoderBudget.GRANT_NONE, (int) grants.get(1));
+    assertEquals(DecoderBudget.GRANT_HARDWARE, (int) grants.get(2));
+    assertEquals(DecoderBudget.GRANT_SOFTWARE, (int) grants.get(3));
+    assertEquals(DecoderBudget.GRANT_HARDWARE, (int) grants.get(4));
+    verify(players.get(1)).setDecoderGrant(DecoderBudget.GRANT_NONE);
+  }
+
+  @Test
+  public void slotsAreTakenBackBeforeTheyAreHandedOut() {
+    VideoPlayer losing = players.get(2);
+    VideoPlayer gaining = players.get(3);
+    InOrder order = inOrder(losing, gaining);
+
+    budget.setPriority(3, DecoderBudget.PRIORITY_FOCUSED);
+
+    order.verify(losing).setDecoderGrant(DecoderBudget.GRANT_SOFTWARE);
+    order.verify(gaining).setDecoderGrant(DecoderBudget.GRANT_HARDWARE);
+  }
+
+  @Test
+  public void removingAPlayerFreesItsSlot() {
+    budget.remove(1);
+
+    assertEquals(DecoderBudget.GRANT_HARDWARE, (int) budget.computeGrants().get(3));
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.util.LongSparseArray;
+import com.google.android.exoplayer2.C;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class FastChannelTest {
+  private VideoPlayer player;
+  private FastChannel fastChannel;
+  private ByteBuffer reply;
+
+  @Before
+  public void before() {
+    player = mock(VideoPlayer.class);
+    LongSparseArray<VideoPlayer> players = new LongSparseArray<>();
+    players.put(7, player);
+    fastChannel = new FastChannel(players);
+  }
+
+  @Test
+  public void positionRepliesWithFixedLayout() {
+    when(player.getPosition()).thenReturn(754_321L);
+    when(player.getLiveOffset()).thenReturn(4_000L);
+
+    send(FastChannel.OP_POSITION, 7, 0);
+
+    assertEquals(FastChannel.POSITION_REPLY_BYTES, reply.position());
+    assertEquals(FastChannel.STATUS_OK, reply.get(0));
+    assertEquals(1, reply.get(1));
+    assertEquals(754_321L, reply.getLong(8));
+    assertEquals(4_000L, reply.getLong(16));
+    verify(player).sendBufferingUpdate();
+  }
+
+  @Test
+  public void positionOfNonLiveMediaHasNoLiveOffset() {
+    when(player.getLiveOffset()).thenReturn(C.TIME_UNSET);
+
+    send(FastChannel.OP_POSITION, 7, 0);
+
+    assertEquals(0, reply.get(1));
+  }
+
+  @Test
+  public void seekToAndSetVolumeReadTheArgument() {
+    send(FastChannel.OP_SEEK_TO, 7, 12_345L);
+    verify(player).seekTo(12_345);
+    assertEquals(1, reply.position());
+
+    ByteBuffer request = request(FastChannel.OP_SET_VOLUME, 7);
+    request.putDouble(16, 0.7);
+    fastChannel.onMessage(request, buffer -> reply = buffer);
+    verify(player).setVolume(0.7);
+  }
+
+  @Test
+  public void unknownPlayerRepliesWithAnError() {
+    send(FastChannel.OP_PLAY, 8, 0);
+
+    assertEquals(FastChannel.STATUS_ERROR, reply.get(0));
+  }
+
+  private void send(byte opcode, long textureId, long argument) {
+    ByteBuffer request = request(opcode, textureId);
+    request.putLong(16, argument);
+    fastChannel.onMessage(request, buffer -> reply = buffer.order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  private static ByteBuffer request(byte opcode, long textureId) {
+    ByteBuffer request =
+        ByteBuffer.allocateDirect(FastChannel.REQUEST_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    request.put(0, opcode);
+    request.putLong(8, textureId);
+    return request;
+  }
+}
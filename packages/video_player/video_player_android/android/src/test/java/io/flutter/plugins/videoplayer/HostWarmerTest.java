@@ -0,0 +1,61 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import androidx.test.core.app.ApplicationProvider;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class HostWarmerTest {
+  private SharedPreferences preferences;
+
+  @Before
+  public void before() {
+    preferences =
+        ApplicationProvider.<Context>getApplicationContext()
+            .getSharedPreferences(HostWarmer.PREFERENCES, Context.MODE_PRIVATE);
+  }
+
+  @Test
+  public void originsKeepSchemeHostAndPort() {
+    assertEquals("https://cdn.example.com", HostWarmer.originOf("CDN.example.com"));
+    assertEquals(
+        "http://cdn.example.com:8080", HostWarmer.originOf("http://cdn.example.com:8080/a.m3u8"));
+    assertNull(HostWarmer.originOf("file:///sdcard/video.mp4"));
+  }
+
+  @Test
+  public void recentHostsSurviveARestartMostRecentFirst() {
+    HostWarmer warmer = new HostWarmer(preferences);
+    warmer.recordHost(Uri.parse("https://a.example.com/live.m3u8"));
+    warmer.recordHost(Uri.parse("https://b.example.com/vod.mpd"));
+    warmer.recordHost(Uri.parse("https://a.example.com/other.m3u8"));
+
+    assertEquals(
+        Arrays.asList("https://a.example.com", "https://b.example.com"),
+        new HostWarmer(preferences).getRecentHosts());
+  }
+
+  @Test
+  public void onlyTheLastHostsAreRemembered() {
+    HostWarmer warmer = new HostWarmer(preferences);
+    for (int i = 0; i <= HostWarmer.MAX_RECENT_HOSTS; i++) {
+      warmer.recordHost(Uri.parse("https://host" + i + ".example.com/"));
+    }
+
+    assertEquals(HostWarmer.MAX_RECENT_HOSTS, warmer.getRecentHosts().size());
+    assertEquals("https://host8.example.com", warmer.getRecentHosts().get(0));
+  }
+}
@@ -0,0 +1,63 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import java.util.HashMap;
+import org.junit.Test;
+
+public class LiveLatencyOptionsTest {
+  @Test
+  public void defaultModeUsesTheOffsetOfTheStream() {
+    LiveLatencyOptions options = LiveLatencyOptions.fromMessage(message().build());
+
+    assertFalse(options.lowLatency);
+    assertEquals(C.TIME_UNSET, options.targetOffsetMs);
+    assertEquals(MediaItem.LiveConfiguration.UNSET, options.toMediaItemConfiguration());
+    assertEquals(
+        DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS, options.getBufferForPlaybackMs());
+    assertEquals(
+        DashMediaSource.DEFAULT_FALLBACK_TARGET_LIVE_OFFSET_MS,
+        options.getDashFallbackTargetOffsetMs());
+  }
+
+  @Test
+  public void lowLatencyModeUsesTheOffsetOfTheStream() {
+    LiveLatencyOptions options =
+        LiveLatencyOptions.fromMessage(message().setLiveLowLatency(true).build());
+
+    assertTrue(options.lowLatency);
+    assertEquals(C.TIME_UNSET, options.targetOffsetMs);
+    assertEquals(C.TIME_UNSET, options.toMediaItemConfiguration().targetOffsetMs);
+    assertEquals(
+        LiveLatencyOptions.LOW_LATENCY_BUFFER_FOR_PLAYBACK_MS, options.getBufferForPlaybackMs());
+    assertEquals(
+        LiveLatencyOptions.LOW_LATENCY_DASH_FALLBACK_TARGET_OFFSET_MS,
+        options.getDashFallbackTargetOffsetMs());
+  }
+
+  @Test
+  public void lowLatencyModeKeepsAnExplicitOffset() {
+    LiveLatencyOptions options =
+        LiveLatencyOptions.fromMessage(
+            message().setLiveLowLatency(true).setLiveTargetOffsetMs(2000L).build());
+
+    assertEquals(2000L, options.targetOffsetMs);
+  }
+
+  private static CreateMessage.Builder message() {
+    return new CreateMessage.Builder()
+        .setUri("https://example.com/live.m3u8")
+        .setHttpHeaders(new HashMap<>());
+  }
+}
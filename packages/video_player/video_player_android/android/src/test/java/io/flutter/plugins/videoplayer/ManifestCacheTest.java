@@ -0,0 +1,123 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.ParsingLoadable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ManifestCacheTest {
+  private static final Uri URI = Uri.parse("https://example.com/master.m3u8");
+
+  private final ManifestCache cache = new ManifestCache();
+  private DataSource upstream;
+  private ParsingLoadable.Parser<String> parser;
+  private int parses;
+
+  @Before
+  public void before() throws IOException {
+    upstream = mock(DataSource.class);
+    when(upstream.open(any())).thenReturn(10L);
+    when(upstream.getUri()).thenReturn(URI);
+    when(upstream.getResponseHeaders()).thenReturn(Collections.emptyMap());
+    parser =
+        cache.cachingParser(
+            (uri, inputStream) -> {
+              parses++;
+              return "manifest";
+            },
+            String.class);
+  }
+
+  @Test
+  public void secondLoadSkipsFetchAndParse() throws IOException {
+    DataSource.Factory factory = cache.wrap(() -> upstream, new HashMap<>());
+
+    assertEquals("manifest", load(factory));
+    assertEquals("manifest", load(factory));
+
+    verify(upstream, times(1)).open(any());
+    assertEquals(1, parses);
+  }
+
+  @Test
+  public void otherHeadersMiss() throws IOException {
+    load(cache.wrap(() -> upstream, new HashMap<>()));
+    load(cache.wrap(() -> upstream, Collections.singletonMap("Authorization", "token")));
+
+    verify(upstream, times(2)).open(any());
+    assertEquals(2, parses);
+  }
+
+  @Test
+  public void noStoreResponsesAreNotCached() throws IOException {
+    Map<String, List<String>> headers =
+        Collections.singletonMap("cache-control", Collections.singletonList("no-store"));
+    when(upstream.getResponseHeaders()).thenReturn(headers);
+    DataSource.Factory factory = cache.wrap(() -> upstream, new HashMap<>());
+
+    load(factory);
+    load(factory);
+
+    assertEquals(2, parses);
+  }
+
+  @Test
+  public void zeroTtlTurnsCachingOff() throws IOException {
+    cache.setTtls(0, 0);
+    DataSource.Factory factory = cache.wrap(() -> upstream, new HashMap<>());
+
+    load(factory);
+    load(factory);
+
+    assertEquals(2, parses);
+  }
+
+  @Test
+  public void parsesMaxAge() {
+    assertEquals(C.TIME_UNSET, ManifestCache.parseMaxAgeMs(Collections.emptyMap()));
+    assertEquals(
+        6000,
+        ManifestCache.parseMaxAgeMs(
+            Collections.singletonMap(
+                "Cache-Control", Collections.singletonList("public, max-age=6"))));
+    assertEquals(
+        0,
+        ManifestCache.parseMaxAgeMs(
+            Collections.singletonMap(
+                "Cache-Control", Collections.singletonList("max-age=6, no-cache"))));
+  }
+
+  /** Loads {@link #URI} the way a {@link ParsingLoadable} does. */
+  private String load(DataSource.Factory factory) throws IOException {
+    DataSource dataSource = factory.createDataSource();
+    try {
+      dataSource.open(new DataSpec(URI));
+      return parser.parse(dataSource.getUri(), new ByteArrayInputStream(new byte[0]));
+    } finally {
+      dataSource.close();
+    }
+  }
+}
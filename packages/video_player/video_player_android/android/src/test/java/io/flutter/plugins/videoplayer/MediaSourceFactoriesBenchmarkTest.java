@@ -0,0 +1,107 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertNotNull;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.hls.DefaultHlsExtractorFactory;
+import com.google.android.exoplayer2.source.hls.HlsMediaSource;
+import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
+import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+/**
+ * Compares building every media source factory per player, as {@code buildMediaSource} used to,
+ * with asking the plugin's shared {@link MediaSourceFactories}.
+ *
+ * <p>This is a coarse startup microbenchmark: it prints the per-create cost of each path but never
+ * asserts on timings, so it does not fail on a slow machine.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MediaSourceFactoriesBenchmarkTest {
+  private static final int WARMUP_ITERATIONS = 200;
+  private static final int MEASURED_ITERATIONS = 2000;
+  private static final int[] CONTENT_TYPES = {
+    C.CONTENT_TYPE_SS, C.CONTENT_TYPE_DASH, C.CONTENT_TYPE_HLS, C.CONTENT_TYPE_OTHER
+  };
+
+  private final MediaItem mediaItem = MediaItem.fromUri("https://example.com/stream");
+
+  @Test
+  public void createsSourcesForEveryTypeFromOneSharedInstance() {
+    MediaSourceFactories factories = new MediaSourceFactories();
+    for (int type : CONTENT_TYPES) {
+      assertNotNull(
+          factories.create(type, new DefaultHttpDataSource.Factory()).createMediaSource(mediaItem));
+      assertNotNull(
+          factories.create(type, new DefaultHttpDataSource.Factory()).createMediaSource(mediaItem));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void unsupportedTypeThrows() {
+    new MediaSourceFactories().create(-1, new DefaultHttpDataSource.Factory());
+  }
+
+  @Test
+  public void perCreateCost() {
+    MediaSourceFactories factories = new MediaSourceFactories();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      buildUnshared(new DefaultHttpDataSource.Factory());
+      buildShared(factories, new DefaultHttpDataSource.Factory());
+    }
+
+    long unsharedNanos = 0;
+    long sharedNanos = 0;
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      DataSource.Factory dataSourceFactory = new DefaultHttpDataSource.Factory();
+      long start = System.nanoTime();
+      buildUnshared(dataSourceFactory);
+      unsharedNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      buildShared(factories, dataSourceFactory);
+      sharedNanos += System.nanoTime() - start;
+    }
+
+    System.out.printf(
+        "MediaSourceFactories per create (all content types): unshared %d ns, shared %d ns%n",
+        unsharedNanos / MEASURED_ITERATIONS, sharedNanos / MEASURED_ITERATIONS);
+  }
+
+  private void buildShared(MediaSourceFactories factories, DataSource.Factory dataSourceFactory) {
+    for (int type : CONTENT_TYPES) {
+      factories.create(type, dataSourceFactory).createMediaSource(mediaItem);
+    }
+  }
+
+  /** Mirrors the factory setup {@code buildMediaSource} did for every player before sharing. */
+  private MediaSource buildUnshared(DataSource.Factory dataSourceFactory) {
+    new SsMediaSource.Factory(new DefaultSsChunkSource.Factory(dataSourceFactory), dataSourceFactory)
+        .createMediaSource(mediaItem);
+    new DashMediaSource.Factory(
+            new DefaultDashChunkSource.Factory(dataSourceFactory), dataSourceFactory)
+        .createMediaSource(mediaItem);
+    new HlsMediaSource.Factory(dataSourceFactory)
+        .setAllowChunklessPreparation(true)
+        .setExtractorFactory(new DefaultHlsExtractorFactory())
+        .createMediaSource(mediaItem);
+    return new ProgressiveMediaSource.Factory(
+            dataSourceFactory, MediaSourceFactories.buildProgressiveExtractorsFactory())
+        .setContinueLoadingCheckIntervalBytes(
+            ProgressiveMediaSource.DEFAULT_LOADING_CHECK_INTERVAL_BYTES / 2)
+        .createMediaSource(mediaItem);
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_BACKGROUND;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_COMPLETE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.util.LongSparseArray;
+import com.google.android.exoplayer2.C;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MemoryPressureHandlerTest {
+  private VideoPlayer playing;
+  private VideoPlayer paused;
+  private EventChannel.EventSink sink;
+  private MemoryPressureHandler handler;
+
+  @Before
+  public void before() {
+    playing = mock(VideoPlayer.class);
+    paused = mock(VideoPlayer.class);
+    when(paused.releaseIfPaused()).thenReturn(true);
+    LongSparseArray<VideoPlayer> players = new LongSparseArray<>();
+    players.put(1, playing);
+    players.put(2, paused);
+    handler = new MemoryPressureHandler(players);
+    sink = mock(EventChannel.EventSink.class);
+    handler.onListen(null, sink);
+  }
+
+  @Test
+  public void levelsMapToSteps() {
+    assertEquals(
+        MemoryPressureHandler.STEP_TRIM_BUFFERS,
+        MemoryPressureHandler.stepForLevel(TRIM_MEMORY_RUNNING_MODERATE));
+    assertEquals(
+        MemoryPressureHandler.STEP_MINIMIZE_BUFFERS,
+        MemoryPressureHandler.stepForLevel(TRIM_MEMORY_RUNNING_LOW));
+    assertEquals(
+        MemoryPressureHandler.STEP_CAP_RESOLUTION,
+        MemoryPressureHandler.stepForLevel(TRIM_MEMORY_RUNNING_CRITICAL));
+    assertEquals(
+        MemoryPressureHandler.STEP_NONE, MemoryPressureHandler.stepForLevel(TRIM_MEMORY_UI_HIDDEN));
+    assertEquals(
+        MemoryPressureHandler.STEP_RELEASE_PAUSED,
+        MemoryPressureHandler.stepForLevel(TRIM_MEMORY_BACKGROUND));
+    assertEquals(
+        MemoryPressureHandler.STEP_RELEASE_PAUSED,
+        MemoryPressureHandler.stepForLevel(TRIM_MEMORY_COMPLETE));
+  }
+
+  @Test
+  public void criticalLevelAppliesEveryStepUpToResolutionAndReportsEach() {
+    handler.onTrimMemory(TRIM_MEMORY_RUNNING_CRITICAL);
+
+    assertEquals(MemoryPressureHandler.STEP_CAP_RESOLUTION, handler.getStep());
+    verify(playing).releaseUnusedMemory();
+    verify(playing).setMaxBufferMs(MemoryPressureHandler.TRIMMED_BUFFER_MS);
+    verify(playing).setMaxBufferMs(MemoryPressureHandler.MINIMAL_BUFFER_MS);
+    verify(playing)
+        .setMemoryMaxVideoSize(
+            MemoryPressureHandler.MAX_VIDEO_WIDTH, MemoryPressureHandler.MAX_VIDEO_HEIGHT);
+    verify(paused, never()).releaseIfPaused();
+
+    List<Map<String, Object>> events = sentEvents(3);
+    assertEquals("trimBuffers", events.get(0).get("step"));
+    assertEquals("minimizeBuffers", events.get(1).get("step"));
+    assertEquals("capResolution", events.get(2).get("step"));
+    assertEquals(TRIM_MEMORY_RUNNING_CRITICAL, events.get(2).get("level"));
+    assertEquals(Arrays.asList(1L, 2L), events.get(2).get("textureIds"));
+  }
+
+  @Test
+  public void backgroundReleasesOnlyPausedPlayers() {
+    handler.onTrimMemory(TRIM_MEMORY_BACKGROUND);
+
+    List<Map<String, Object>> events = sentEvents(4);
+    assertEquals("releasePaused", events.get(3).get("step"));
+    assertEquals(Collections.singletonList(2L), events.get(3).get("textureIds"));
+  }
+
+  @Test
+  public void repeatedCallsOnlyReportPlayersReleasedSince() {
+    handler.onTrimMemory(TRIM_MEMORY_RUNNING_LOW);
+    handler.onTrimMemory(TRIM_MEMORY_RUNNING_MODERATE);
+    sentEvents(2);
+
+    handler.onLowMemory();
+    handler.onTrimMemory(TRIM_MEMORY_COMPLETE);
+    when(paused.releaseIfPaused()).thenReturn(false);
+    handler.onTrimMemory(TRIM_MEMORY_COMPLETE);
+
+    // capResolution and releasePaused once; the second release changed nothing.
+    sentEvents(4);
+    verify(playing, times(5)).releaseUnusedMemory();
+  }
+
+  @Test
+  public void lowMemoryKeepsPausedPlayersThatMayBeOnScreen() {
+    handler.onLowMemory();
+
+    assertEquals(MemoryPressureHandler.STEP_CAP_RESOLUTION, handler.getStep());
+    verify(paused, never()).releaseIfPaused();
+    List<Map<String, Object>> events = sentEvents(3);
+    assertEquals("capResolution", events.get(2).get("step"));
+  }
+
+  @Test
+  public void restoreLiftsCapsAndAppliesToNewPlayers() {
+    handler.onTrimMemory(TRIM_MEMORY_RUNNING_CRITICAL);
+    VideoPlayer created = mock(VideoPlayer.class);
+    handler.applyTo(created);
+    verify(created).setMaxBufferMs(MemoryPressureHandler.MINIMAL_BUFFER_MS);
+
+    handler.restore();
+
+    assertEquals(MemoryPressureHandler.STEP_NONE, handler.getStep());
+    verify(playing).setMaxBufferMs(C.TIME_UNSET);
+    verify(playing).setMemoryMaxVideoSize(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    assertEquals("restored", sentEvents(4).get(3).get("step"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> sentEvents(int count) {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(sink, times(count)).success(captor.capture());
+    return (List<Map<String, Object>>) (List<?>) captor.getAllValues();
+  }
+}
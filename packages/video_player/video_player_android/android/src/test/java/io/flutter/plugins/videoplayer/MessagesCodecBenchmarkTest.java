@@ -0,0 +1,589 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.AudioOnlyMessage;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderBudgetMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderPriorityMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadIdMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadSettingsMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadStateMessage;
+import io.flutter.plugins.videoplayer.Messages.GetEmbeddedSubtitlesMessage;
+import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.ManifestCacheMessage;
+import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
+import io.flutter.plugins.videoplayer.Messages.NetworkPriorityMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.QueueIndexMessage;
+import io.flutter.plugins.videoplayer.Messages.QueueItemMessage;
+import io.flutter.plugins.videoplayer.Messages.QueueMessage;
+import io.flutter.plugins.videoplayer.Messages.SetEmbeddedSubtitlesMessage;
+import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackMessage;
+import io.flutter.plugins.videoplayer.Messages.ViewportMessage;
+import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
+import io.flutter.plugins.videoplayer.Messages.WarmupMessage;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Measures the Pigeon codec of {@link AndroidVideoPlayerApi}: encoding and decoding every message
+ * type the way a channel call carries it, and the whole round trip through the handlers that
+ * {@link AndroidVideoPlayerApi#setup} registers, from the encoded call to the encoded reply.
+ *
+ * <p>Runs on the host JVM with the unit tests, or alone with {@code ./gradlew testDebugUnitTest
+ * --tests '*MessagesCodecBenchmarkTest'}. Each case prints its throughput, the bytes it allocates
+ * per operation and the size of the encoded message. Allocations are read from the HotSpot thread
+ * allocation counter and print as -1 on JVMs without one. Nothing asserts on the figures, so a slow
+ * machine does not fail the build.
+ */
+public class MessagesCodecBenchmarkTest {
+  private static final int WARMUP_OPS = 20_000;
+  private static final int MEASURED_OPS = 100_000;
+
+  private final MessageCodec<Object> codec = AndroidVideoPlayerApi.getCodec();
+  private final AllocationCounter allocations = AllocationCounter.create();
+  // Keeps the JIT from dropping the measured work.
+  private long sink;
+
+  @Test
+  public void everyMessageSurvivesARoundTrip() {
+    for (Map.Entry<String, Object> sample : messages().entrySet()) {
+      ByteBuffer encoded = encodeCall(sample.getValue());
+      encoded.rewind();
+      List<?> decoded = (List<?>) codec.decodeMessage(encoded);
+      assertEquals(sample.getKey(), sample.getValue().getClass(), decoded.get(0).getClass());
+    }
+  }
+
+  @Test
+  public void encodeAndDecode() {
+    System.out.println("Messages codec, per message type:");
+    for (Map.Entry<String, Object> sample : messages().entrySet()) {
+      Object message = sample.getValue();
+      ByteBuffer encoded = encodeCall(message);
+      int wireBytes = encoded.position();
+
+      run("encode " + sample.getKey(), wireBytes, () -> sink += encodeCall(message).position());
+      run(
+          "decode " + sample.getKey(),
+          wireBytes,
+          () -> {
+            encoded.rewind();
+            sink += ((List<?>) codec.decodeMessage(encoded)).size();
+          });
+    }
+  }
+
+  @Test
+  public void handlerDispatch() {
+    Map<String, BinaryMessenger.BinaryMessageHandler> handlers = new HashMap<>();
+    BinaryMessenger messenger = mock(BinaryMessenger.class);
+    doAnswer(
+            invocation -> {
+              handlers.put(invocation.getArgument(0), invocation.getArgument(1));
+              return null;
+            })
+        .when(messenger)
+        .setMessageHandler(anyString(), any());
+    AndroidVideoPlayerApi.setup(messenger, new StubApi());
+
+    ByteBuffer[] lastReply = new ByteBuffer[1];
+    BinaryMessenger.BinaryReply reply = replyBuffer -> lastReply[0] = replyBuffer;
+
+    System.out.println("AndroidVideoPlayerApi.setup handlers, call to reply:");
+    for (Map.Entry<String, Object> call : calls().entrySet()) {
+      String channel = "dev.flutter.pigeon.AndroidVideoPlayerApi." + call.getKey();
+      BinaryMessenger.BinaryMessageHandler handler = handlers.get(channel);
+      assertNotNull(channel, handler);
+      ByteBuffer encoded = call.getValue() == null ? null : encodeCall(call.getValue());
+      int wireBytes = encoded == null ? 0 : encoded.position();
+
+      run(
+          "dispatch " + call.getKey(),
+          wireBytes,
+          () -> {
+            if (encoded != null) {
+              encoded.rewind();
+            }
+            handler.onMessage(encoded, reply);
+            sink += lastReply[0].position();
+          });
+    }
+  }
+
+  private ByteBuffer encodeCall(Object message) {
+    // Channel calls carry their arguments as a list, as in the generated Dart side.
+    ArrayList<Object> args = new ArrayList<>(1);
+    args.add(message);
+    return codec.encodeMessage(args);
+  }
+
+  private void run(String name, int wireBytes, Runnable op) {
+    for (int i = 0; i < WARMUP_OPS; i++) {
+      op.run();
+    }
+    long allocatedBefore = allocations.currentThreadBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_OPS; i++) {
+      op.run();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocatedAfter = allocations.currentThreadBytes();
+
+    long bytesPerOp = allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / MEASURED_OPS;
+    System.out.printf(
+        "  %-40s %,14.0f ops/s %8d B/op %6d B on the wire%n",
+        name, MEASURED_OPS * 1e9 / elapsedNanos, bytesPerOp, wireBytes);
+  }
+
+  /** One sample of every message type, keyed by its name. */
+  private static Map<String, Object> messages() {
+    Map<String, Object> messages = new LinkedHashMap<>();
+    messages.put("TextureMessage", texture());
+    messages.put("PositionMessage", position());
+    messages.put("VolumeMessage", volume());
+    messages.put("LoopingMessage", looping());
+    messages.put("PlaybackSpeedMessage", playbackSpeed());
+    messages.put("TrackMessage", track());
+    messages.put("MixWithOthersMessage", mixWithOthers());
+    messages.put("PlaybackStatsMessage", stats());
+    messages.put("CreateMessage", create());
+    messages.put("GetEmbeddedSubtitlesMessage", embeddedSubtitle());
+    messages.put("SetEmbeddedSubtitlesMessage", setEmbeddedSubtitles());
+    messages.put("QueueItemMessage", queueItem());
+    messages.put("QueueMessage", queue());
+    messages.put("QueueIndexMessage", queueIndex());
+    messages.put("DownloadMessage", download());
+    messages.put("DownloadIdMessage", downloadId());
+    messages.put("DownloadStateMessage", downloadState());
+    messages.put("DownloadSettingsMessage", downloadSettings());
+    messages.put("DecoderPriorityMessage", decoderPriority());
+    messages.put("DecoderBudgetMessage", decoderBudget());
+    messages.put("ViewportMessage", viewport());
+    messages.put("AudioOnlyMessage", audioOnly());
+    messages.put("ManifestCacheMessage", manifestCache());
+    messages.put("WarmupMessage", warmupHosts());
+    messages.put("NetworkPriorityMessage", networkPriority());
+    return messages;
+  }
+
+  /** The argument of every channel, keyed by method name; null for methods without one. */
+  private static Map<String, Object> calls() {
+    Map<String, Object> calls = new LinkedHashMap<>();
+    calls.put("initialize", null);
+    calls.put("create", create());
+    calls.put("dispose", texture());
+    calls.put("setLooping", looping());
+    calls.put("setVolume", volume());
+    calls.put("setAudioTrack", track());
+    calls.put("setAudioTrackByIndex", track());
+    calls.put("getAudioTracks", texture());
+    calls.put("setVideoTrack", track());
+    calls.put("setVideoTrackByIndex", track());
+    calls.put("getVideoTracks", texture());
+    calls.put("setPlaybackSpeed", playbackSpeed());
+    calls.put("play", texture());
+    calls.put("position", texture());
+    calls.put("getStats", texture());
+    calls.put("seekTo", position());
+    calls.put("pause", texture());
+    calls.put("setMixWithOthers", mixWithOthers());
+    calls.put("getEmbeddedSubtitles", texture());
+    calls.put("setEmbeddedSubtitles", setEmbeddedSubtitles());
+    calls.put("setQueue", queue());
+    calls.put("addToQueue", queue());
+    calls.put("skipToIndex", queueIndex());
+    calls.put("startDownload", download());
+    calls.put("removeDownload", downloadId());
+    calls.put("getDownloads", null);
+    calls.put("setDownloadSettings", downloadSettings());
+    calls.put("suspend", texture());
+    calls.put("resume", texture());
+    calls.put("setDecoderPriority", decoderPriority());
+    calls.put("setDecoderBudget", decoderBudget());
+    calls.put("setViewportSize", viewport());
+    calls.put("setAudioOnly", audioOnly());
+    calls.put("setManifestCache", manifestCache());
+    calls.put("warmup", warmupHosts());
+    calls.put("setNetworkPriority", networkPriority());
+    return calls;
+  }
+
+  private static TextureMessage texture() {
+    return new TextureMessage.Builder().setTextureId(1L).build();
+  }
+
+  private static PositionMessage position() {
+    return new PositionMessage.Builder()
+        .setTextureId(1L)
+        .setPosition(754_321L)
+        .setLiveOffset(4_000L)
+        .build();
+  }
+
+  private static VolumeMessage volume() {
+    return new VolumeMessage.Builder().setTextureId(1L).setVolume(0.5).build();
+  }
+
+  private static LoopingMessage looping() {
+    return new LoopingMessage.Builder().setTextureId(1L).setIsLooping(true).build();
+  }
+
+  private static PlaybackSpeedMessage playbackSpeed() {
+    return new PlaybackSpeedMessage.Builder().setTextureId(1L).setSpeed(1.25).build();
+  }
+
+  private static TrackMessage track() {
+    return new TrackMessage.Builder().setTextureId(1L).setTrackName("English").setIndex(1L).build();
+  }
+
+  private static MixWithOthersMessage mixWithOthers() {
+    return new MixWithOthersMessage.Builder().setMixWithOthers(false).build();
+  }
+
+  private static PlaybackStatsMessage stats() {
+    return new PlaybackStatsMessage.Builder()
+        .setTimeToFirstFrameMs(812L)
+        .setJoinTimeMs(640L)
+        .setPlayTimeMs(120_000L)
+        .setRebufferCount(2L)
+        .setRebufferTimeMs(1_800L)
+        .setRebufferRatio(0.0148)
+        .setBitrateSwitches(5L)
+        .setVideoBitrate(2_500_000L)
+        .setDroppedFrames(12L)
+        .setVideoDecoderInitMs(45L)
+        .setAudioDecoderInitMs(8L)
+        .setBytesLoaded(48_000_000L)
+        .setBandwidthEstimate(9_000_000L)
+        .build();
+  }
+
+  private static CreateMessage create() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("User-Agent", "ExoPlayer");
+    headers.put("Authorization", "Bearer 0123456789abcdef");
+    return new CreateMessage.Builder()
+        .setUri("https://example.com/live/master.m3u8")
+        .setFormatHint("hls")
+        .setHttpHeaders(headers)
+        .setLiveTargetOffsetMs(6_000L)
+        .setLiveMinPlaybackSpeed(0.97)
+        .setLiveMaxPlaybackSpeed(1.03)
+        .build();
+  }
+
+  private static GetEmbeddedSubtitlesMessage embeddedSubtitle() {
+    return new GetEmbeddedSubtitlesMessage.Builder()
+        .setLanguage("en")
+        .setLabel("English")
+        .setTrackIndex(0L)
+        .setGroupIndex(3L)
+        .setRenderIndex(2L)
+        .build();
+  }
+
+  private static SetEmbeddedSubtitlesMessage setEmbeddedSubtitles() {
+    return new SetEmbeddedSubtitlesMessage.Builder()
+        .setTextureId(1L)
+        .setLanguage("en")
+        .setLabel("English")
+        .setTrackIndex(0L)
+        .setGroupIndex(3L)
+        .setRenderIndex(2L)
+        .build();
+  }
+
+  private static QueueItemMessage queueItem() {
+    return new QueueItemMessage.Builder()
+        .setUri("https://example.com/episode-2.mp4")
+        .setFormatHint("other")
+        .build();
+  }
+
+  private static QueueIndexMessage queueIndex() {
+    return new QueueIndexMessage.Builder().setTextureId(1L).setIndex(2L).build();
+  }
+
+  private static QueueMessage queue() {
+    return new QueueMessage.Builder()
+        .setTextureId(1L)
+        .setItems(Arrays.asList(queueItem(), queueItem(), queueItem()))
+        .build();
+  }
+
+  private static DownloadMessage download() {
+    return new DownloadMessage.Builder()
+        .setId("episode-1")
+        .setUri("https://example.com/episode-1/manifest.mpd")
+        .setFormatHint("dash")
+        .setHttpHeaders(Collections.singletonMap("Authorization", "Bearer 0123456789abcdef"))
+        .setMaxVideoHeight(720L)
+        .setAudioLanguages(Arrays.asList("en", "it"))
+        .build();
+  }
+
+  private static DownloadIdMessage downloadId() {
+    return new DownloadIdMessage.Builder().setId("episode-1").build();
+  }
+
+  private static DownloadStateMessage downloadState() {
+    return new DownloadStateMessage.Builder()
+        .setId("episode-1")
+        .setUri("https://example.com/episode-1/manifest.mpd")
+        .setState(2L)
+        .setPercentDownloaded(42.5)
+        .setBytesDownloaded(123_456_789L)
+        .build();
+  }
+
+  private static DownloadSettingsMessage downloadSettings() {
+    return new DownloadSettingsMessage.Builder()
+        .setPaused(false)
+        .setMaxParallelDownloads(2L)
+        .build();
+  }
+
+  private static DecoderPriorityMessage decoderPriority() {
+    return new DecoderPriorityMessage.Builder().setTextureId(1L).setPriority(2L).build();
+  }
+
+  private static DecoderBudgetMessage decoderBudget() {
+    return new DecoderBudgetMessage.Builder().setMaxHardwareDecoders(2L).build();
+  }
+
+  private static ViewportMessage viewport() {
+    return new ViewportMessage.Builder()
+        .setTextureId(1L)
+        .setWidth(360.0)
+        .setHeight(202.5)
+        .setDevicePixelRatio(3.0)
+        .build();
+  }
+
+  private static AudioOnlyMessage audioOnly() {
+    return new AudioOnlyMessage.Builder().setTextureId(1L).setAudioOnly(true).build();
+  }
+
+  private static ManifestCacheMessage manifestCache() {
+    return new ManifestCacheMessage.Builder().setTtlMs(60_000L).setLiveTtlMs(2_000L).build();
+  }
+
+  private static WarmupMessage warmupHosts() {
+    return new WarmupMessage.Builder()
+        .setHosts(Arrays.asList("https://cdn1.example.com", "https://cdn2.example.com"))
+        .build();
+  }
+
+  private static NetworkPriorityMessage networkPriority() {
+    return new NetworkPriorityMessage.Builder().setTextureId(1L).setPriority(2L).build();
+  }
+
+  /** Answers every call with a fixed value, so only the generated code is measured. */
+  private static final class StubApi implements AndroidVideoPlayerApi {
+    private final TextureMessage texture = texture();
+    private final PositionMessage position = position();
+    private final PlaybackStatsMessage stats = stats();
+    private final List<String> tracks = Arrays.asList("English", "Italiano");
+    private final List<GetEmbeddedSubtitlesMessage> subtitles =
+        Collections.singletonList(embeddedSubtitle());
+    private final List<DownloadStateMessage> downloads = Collections.singletonList(downloadState());
+
+    @Override
+    public void initialize() {}
+
+    @NonNull
+    @Override
+    public TextureMessage create(@NonNull CreateMessage msg) {
+      return texture;
+    }
+
+    @Override
+    public void dispose(@NonNull TextureMessage msg) {}
+
+    @Override
+    public void setLooping(@NonNull LoopingMessage msg) {}
+
+    @Override
+    public void setVolume(@NonNull VolumeMessage msg) {}
+
+    @Override
+    public void setAudioTrack(@NonNull TrackMessage msg) {}
+
+    @Override
+    public void setAudioTrackByIndex(@NonNull TrackMessage msg) {}
+
+    @NonNull
+    @Override
+    public List<String> getAudioTracks(@NonNull TextureMessage msg) {
+      return tracks;
+    }
+
+    @Override
+    public void setVideoTrack(@NonNull TrackMessage msg) {}
+
+    @Override
+    public void setVideoTrackByIndex(@NonNull TrackMessage msg) {}
+
+    @NonNull
+    @Override
+    public List<String> getVideoTracks(@NonNull TextureMessage msg) {
+      return tracks;
+    }
+
+    @Override
+    public void setPlaybackSpeed(@NonNull PlaybackSpeedMessage msg) {}
+
+    @Override
+    public void play(@NonNull TextureMessage msg) {}
+
+    @NonNull
+    @Override
+    public PositionMessage position(@NonNull TextureMessage msg) {
+      return position;
+    }
+
+    @NonNull
+    @Override
+    public PlaybackStatsMessage getStats(@NonNull TextureMessage msg) {
+      return stats;
+    }
+
+    @Override
+    public void seekTo(@NonNull PositionMessage msg) {}
+
+    @Override
+    public void pause(@NonNull TextureMessage msg) {}
+
+    @Override
+    public void setMixWithOthers(@NonNull MixWithOthersMessage msg) {}
+
+    @NonNull
+    @Override
+    public List<GetEmbeddedSubtitlesMessage> getEmbeddedSubtitles(@NonNull TextureMessage msg) {
+      return subtitles;
+    }
+
+    @Override
+    public void setEmbeddedSubtitles(@NonNull SetEmbeddedSubtitlesMessage msg) {}
+
+    @Override
+    public void setQueue(@NonNull QueueMessage msg) {}
+
+    @Override
+    public void addToQueue(@NonNull QueueMessage msg) {}
+
+    @Override
+    public void skipToIndex(@NonNull QueueIndexMessage msg) {}
+
+    @Override
+    public void startDownload(@NonNull DownloadMessage msg) {}
+
+    @Override
+    public void removeDownload(@NonNull DownloadIdMessage msg) {}
+
+    @NonNull
+    @Override
+    public List<DownloadStateMessage> getDownloads() {
+      return downloads;
+    }
+
+    @Override
+    public void setDownloadSettings(@NonNull DownloadSettingsMessage msg) {}
+
+    @Override
+    public void suspend(@NonNull TextureMessage msg) {}
+
+    @Override
+    public void resume(@NonNull TextureMessage msg) {}
+
+    @Override
+    public void setDecoderPriority(@NonNull DecoderPriorityMessage msg) {}
+
+    @Override
+    public void setDecoderBudget(@NonNull DecoderBudgetMessage msg) {}
+
+    @Override
+    public void setViewportSize(@NonNull ViewportMessage msg) {}
+
+    @Override
+    public void setAudioOnly(@NonNull AudioOnlyMessage msg) {}
+
+    @Override
+    public void setManifestCache(@NonNull ManifestCacheMessage msg) {}
+
+    @Override
+    public void warmup(@NonNull WarmupMessage msg) {}
+
+    @Override
+    public void setNetworkPriority(@NonNull NetworkPriorityMessage msg) {}
+  }
+
+  /**
+   * Reads the bytes allocated by the current thread from {@code com.sun.management.ThreadMXBean},
+   * looked up reflectively since the test classpath is built against android.jar.
+   */
+  private static final class AllocationCounter {
+    @Nullable private final Object bean;
+    @Nullable private final Method getThreadAllocatedBytes;
+
+    private AllocationCounter(@Nullable Object bean, @Nullable Method getThreadAllocatedBytes) {
+      this.bean = bean;
+      this.getThreadAllocatedBytes = getThreadAllocatedBytes;
+    }
+
+    static AllocationCounter create() {
+      try {
+        Object bean =
+            Class.forName("java.lang.management.ManagementFactory")
+                .getMethod("getThreadMXBean")
+                .invoke(null);
+        Method method =
+            Class.forName("com.sun.management.ThreadMXBean")
+                .getMethod("getThreadAllocatedBytes", long.class);
+        return new AllocationCounter(bean, method);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return new AllocationCounter(null, null);
+      }
+    }
+
+    /** Returns the bytes the current thread allocated so far, or -1 if the JVM cannot tell. */
+    long currentThreadBytes() {
+      if (bean == null || getThreadAllocatedBytes == null) {
+        return -1;
+      }
+      try {
+        return (Long) getThreadAllocatedBytes.invoke(bean, Thread.currentThread().getId());
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return -1;
+      }
+    }
+  }
+}
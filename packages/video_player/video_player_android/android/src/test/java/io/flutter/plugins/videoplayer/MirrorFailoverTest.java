@@ -0,0 +1,181 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.source.LoadEventInfo;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
+import com.google.android.exoplayer2.upstream.LoadErrorHandlingPolicy;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MirrorFailoverTest {
+  private static final String PRIMARY = "https://a.example.com/x/live/master.m3u8";
+  private static final String MIRROR = "https://b.example.com/live/master.m3u8";
+
+  private final List<String> opened = new ArrayList<>();
+  private final List<String> failovers = new ArrayList<>();
+
+  @Test
+  public void rewritesRequestsBelowThePrimaryToTheMirror() {
+    MirrorFailover failover = newFailover(3);
+
+    assertEquals(
+        "https://b.example.com/live/segment1.ts",
+        failover.rewrite("https://a.example.com/x/live/segment1.ts", 1));
+    assertEquals(
+        "https://a.example.com/x/live/segment1.ts",
+        failover.rewrite("https://b.example.com/live/segment1.ts", 0));
+    assertEquals(
+        "https://keys.example.com/key", failover.rewrite("https://keys.example.com/key", 1));
+  }
+
+  @Test
+  public void mapsTheHostsWhenNothingElseIsShared() {
+    MirrorFailover failover =
+        new MirrorFailover(
+            "https://a.example.com/one.mpd",
+            Collections.singletonList("https://b.example.com/two.mpd"),
+            3,
+            1000,
+            MirrorFailover.DEFAULT_STATUS_CODES,
+            null);
+
+    assertEquals(
+        "https://b.example.com/video/1.m4s",
+        failover.rewrite("https://a.example.com/video/1.m4s", 1));
+  }
+
+  @Test
+  public void switchesToTheMirrorAfterTheAttempts() throws IOException {
+    MirrorFailover failover = newFailover(2);
+    DataSource dataSource = failover.wrap(FailingPrimary::new).createDataSource();
+
+    try {
+      dataSource.open(new DataSpec(Uri.parse(PRIMARY)));
+      fail();
+    } catch (HttpDataSource.InvalidResponseCodeException e) {
+      assertEquals(503, e.responseCode);
+    }
+    dataSource.close();
+    assertTrue(failovers.isEmpty());
+
+    dataSource.open(new DataSpec(Uri.parse(PRIMARY)));
+    assertEquals(1, failover.getActiveIndex());
+    assertEquals(MIRROR, opened.get(opened.size() - 1));
+    assertEquals(
+        Collections.singletonList("https://a.example.com/x -> https://b.example.com"), failovers);
+  }
+
+  @Test
+  public void otherStatusCodesAreNotRetried() {
+    MirrorFailover failover = newFailover(1);
+    IOException notFound = responseCodeException(404);
+
+    assertFalse(failover.isRetryable(notFound));
+    assertEquals(
+        C.TIME_UNSET,
+        failover.getLoadErrorHandlingPolicy().getRetryDelayMsFor(loadErrorInfo(notFound, 1)));
+  }
+
+  @Test
+  public void backoffDoublesWithEveryError() {
+    MirrorFailover failover = newFailover(3);
+    LoadErrorHandlingPolicy policy = failover.getLoadErrorHandlingPolicy();
+    IOException unavailable = responseCodeException(503);
+
+    assertEquals(1000, policy.getRetryDelayMsFor(loadErrorInfo(unavailable, 1)));
+    assertEquals(4000, policy.getRetryDelayMsFor(loadErrorInfo(unavailable, 3)));
+    assertTrue(policy.getMinimumLoadableRetryCount(C.DATA_TYPE_MEDIA) >= 6);
+  }
+
+  private MirrorFailover newFailover(int attempts) {
+    return new MirrorFailover(
+        PRIMARY,
+        Collections.singletonList(MIRROR),
+        attempts,
+        1000,
+        MirrorFailover.DEFAULT_STATUS_CODES,
+        (from, to, reason) -> failovers.add(from + " -> " + to));
+  }
+
+  private static HttpDataSource.InvalidResponseCodeException responseCodeException(int code) {
+    return new HttpDataSource.InvalidResponseCodeException(
+        code,
+        null,
+        null,
+        Collections.emptyMap(),
+        new DataSpec(Uri.parse(PRIMARY)),
+        new byte[0]);
+  }
+
+  private static LoadErrorHandlingPolicy.LoadErrorInfo loadErrorInfo(
+      IOException exception, int errorCount) {
+    return new LoadErrorHandlingPolicy.LoadErrorInfo(
+        new LoadEventInfo(0, new DataSpec(Uri.parse(PRIMARY)), 0),
+        new MediaLoadData(C.DATA_TYPE_MEDIA),
+        exception,
+        errorCount);
+  }
+
+  /** Answers 503 below the primary's host and serves everything else. */
+  private final class FailingPrimary implements DataSource {
+    @Nullable private Uri uri;
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {}
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) throws IOException {
+      opened.add(dataSpec.uri.toString());
+      if ("a.example.com".equals(dataSpec.uri.getHost())) {
+        throw responseCodeException(503);
+      }
+      uri = dataSpec.uri;
+      return 0;
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) {
+      return C.RESULT_END_OF_INPUT;
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return uri;
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public void close() {
+      uri = null;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.C;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class NetworkPrioritySchedulerTest {
+  private static final long SHORT_BUFFER_US = 1_000_000;
+  private static final long FULL_BUFFER_US = 30_000_000;
+  private static final long LIVE_OFFSET_US = 3_000_000;
+
+  private final NetworkPriorityScheduler scheduler = new NetworkPriorityScheduler();
+
+  @Test
+  public void playersAreUrgentOnlyWhileShortOfBuffer() {
+    NetworkPriorityScheduler.Client focused = scheduler.newClient();
+    focused.setPriority(NetworkPriorityScheduler.PRIORITY_FOREGROUND);
+
+    focused.onLoadingDecision(true, SHORT_BUFFER_US, C.TIME_UNSET);
+    assertEquals(
+        NetworkPriorityScheduler.PRIORITY_FOREGROUND, scheduler.getHighestUrgentPriority());
+
+    focused.onLoadingDecision(true, FULL_BUFFER_US, C.TIME_UNSET);
+    assertEquals(-1, scheduler.getHighestUrgentPriority());
+
+    focused.onLoadingDecision(false, SHORT_BUFFER_US, C.TIME_UNSET);
+    assertEquals(-1, scheduler.getHighestUrgentPriority());
+  }
+
+  @Test
+  public void liveClientsAreUrgentOnlyWhileShortOfTheirOffset() {
+    NetworkPriorityScheduler.Client focused = scheduler.newClient();
+    focused.setPriority(NetworkPriorityScheduler.PRIORITY_FOREGROUND);
+
+    // Two seconds is as much as a live stream three seconds behind the edge usually holds.
+    focused.onLoadingDecision(true, 2_000_000, LIVE_OFFSET_US);
+    assertEquals(-1, scheduler.getHighestUrgentPriority());
+
+    focused.onLoadingDecision(true, 500_000, LIVE_OFFSET_US);
+    assertEquals(
+        NetworkPriorityScheduler.PRIORITY_FOREGROUND, scheduler.getHighestUrgentPriority());
+  }
+
+  @Test
+  public void priorityChangesMoveTheUrgentRegistration() {
+    NetworkPriorityScheduler.Client client = scheduler.newClient();
+    client.onLoadingDecision(true, SHORT_BUFFER_US, C.TIME_UNSET);
+    assertEquals(NetworkPriorityScheduler.PRIORITY_NORMAL, scheduler.getHighestUrgentPriority());
+
+    client.setPriority(NetworkPriorityScheduler.PRIORITY_BACKGROUND);
+    assertEquals(
+        NetworkPriorityScheduler.PRIORITY_BACKGROUND, scheduler.getHighestUrgentPriority());
+
+    client.release();
+    assertEquals(-1, scheduler.getHighestUrgentPriority());
+  }
+
+  @Test
+  public void lowerPrioritiesWaitUntilTheUrgentPlayerCaughtUp() throws Exception {
+    NetworkPriorityScheduler.Client focused = scheduler.newClient();
+    focused.setPriority(NetworkPriorityScheduler.PRIORITY_FOREGROUND);
+    focused.onLoadingDecision(true, SHORT_BUFFER_US, C.TIME_UNSET);
+
+    // The focused player itself and equal priorities go ahead.
+    scheduler.awaitTurn(NetworkPriorityScheduler.PRIORITY_FOREGROUND);
+
+    CountDownLatch proceeded = new CountDownLatch(1);
+    Thread background =
+        new Thread(
+            () -> {
+              try {
+                scheduler.awaitTurn(NetworkPriorityScheduler.PRIORITY_BACKGROUND);
+                proceeded.countDown();
+              } catch (Exception e) {
+                // Left counted up; the assertion below fails.
+              }
+            });
+    background.start();
+    assertFalse(proceeded.await(100, TimeUnit.MILLISECONDS));
+
+    focused.onLoadingDecision(true, FULL_BUFFER_US, C.TIME_UNSET);
+    assertTrue(proceeded.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void lowerPrioritiesAreOnlyHeldBackForAWhile() throws Exception {
+    // A focused live player that never gets past a few hundred milliseconds of buffer.
+    NetworkPriorityScheduler.Client focused = scheduler.newClient();
+    focused.setPriority(NetworkPriorityScheduler.PRIORITY_FOREGROUND);
+    focused.onLoadingDecision(true, 300_000, LIVE_OFFSET_US);
+
+    for (int i = 0; i < 3; i++) {
+      long startNs = System.nanoTime();
+      scheduler.awaitTurn(NetworkPriorityScheduler.PRIORITY_BACKGROUND);
+      long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+      assertTrue(waitedMs >= NetworkPriorityScheduler.MAX_WAIT_MS - 10);
+      assertTrue(waitedMs < 5 * NetworkPriorityScheduler.MAX_WAIT_MS);
+    }
+    assertEquals(
+        NetworkPriorityScheduler.PRIORITY_FOREGROUND, scheduler.getHighestUrgentPriority());
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.offline.Download;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.videoplayer.Messages.DownloadMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadStateMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class OfflineDownloadsTest {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final SharedPreferences preferences =
+      context.getSharedPreferences(OfflineDownloads.PREFERENCES, Context.MODE_PRIVATE);
+
+  @Test
+  public void downloadsRunUnlessTheAppPausedThem() {
+    OfflineDownloads downloads = new OfflineDownloads(context);
+    assertFalse(downloads.isPaused());
+
+    downloads.setPaused(true);
+
+    assertTrue(downloads.isPaused());
+    assertTrue(preferences.getBoolean(OfflineDownloads.KEY_PAUSED, false));
+  }
+
+  @Test
+  public void pausedDownloadsStayPausedInTheNextSession() {
+    preferences.edit().putBoolean(OfflineDownloads.KEY_PAUSED, true).commit();
+
+    OfflineDownloads downloads = new OfflineDownloads(context);
+    assertTrue(downloads.isPaused());
+
+    downloads.setPaused(false);
+
+    assertFalse(downloads.isPaused());
+    assertFalse(preferences.getBoolean(OfflineDownloads.KEY_PAUSED, true));
+  }
+
+  @Test
+  public void startedDownloadsAreListedUntilRemoved() throws InterruptedException {
+    OfflineDownloads downloads = new OfflineDownloads(context);
+    // Paused, the download stays queued instead of going to the network.
+    downloads.setPaused(true);
+    List<Map<?, ?>> events = new ArrayList<>();
+    downloads.setEventSink(
+        new EventChannel.EventSink() {
+          @Override
+          public void success(Object event) {
+            events.add((Map<?, ?>) event);
+          }
+
+          @Override
+          public void error(String errorCode, String errorMessage, Object errorDetails) {}
+
+          @Override
+          public void endOfStream() {}
+        });
+
+    downloads.start(
+        new DownloadMessage.Builder()
+            .setId("movie")
+            .setUri("https://cdn.example.com/movie.mp4")
+            .setFormatHint("other")
+            .setHttpHeaders(new HashMap<>())
+            .build(),
+        new ContentTypeResolver());
+    await(() -> downloads.getDownloads().size() == 1 && !events.isEmpty());
+
+    DownloadStateMessage download = downloads.getDownloads().get(0);
+    assertEquals("movie", download.getId());
+    assertEquals("https://cdn.example.com/movie.mp4", download.getUri());
+    assertEquals(Long.valueOf(Download.STATE_QUEUED), download.getState());
+    assertEquals("downloadChanged", events.get(0).get("event"));
+    assertEquals("movie", events.get(0).get("id"));
+    assertEquals(Download.STATE_QUEUED, events.get(0).get("state"));
+
+    downloads.remove("movie");
+    await(() -> "downloadRemoved".equals(events.get(events.size() - 1).get("event")));
+
+    assertTrue(downloads.getDownloads().isEmpty());
+    assertEquals("movie", events.get(events.size() - 1).get("id"));
+  }
+
+  /** Runs the main looper, where the download manager reports back, until {@code condition}. */
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadlineMs = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadlineMs) {
+      Thread.sleep(10);
+      PluginHarness.idleMainLooper();
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+}
@@ -0,0 +1,212 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ParallelRangeDataSourceTest {
+  private static final Uri URI = Uri.parse("https://example.com/movie.mkv");
+  private static final int CHUNK_SIZE = 1000;
+
+  private final byte[] content = new byte[10 * CHUNK_SIZE + 123];
+  private final AtomicInteger opens = new AtomicInteger();
+
+  public ParallelRangeDataSourceTest() {
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void readsTheWholeResourceInOrder() throws IOException {
+    DataSource dataSource =
+        new ParallelRangeDataSource.Factory(() -> new RangeServer(true), 4, CHUNK_SIZE)
+            .createDataSource();
+
+    assertEquals(content.length, dataSource.open(new DataSpec(URI)));
+    assertArrayEquals(content, readAll(dataSource));
+    assertEquals(11, opens.get());
+  }
+
+  @Test
+  public void readsFromAPosition() throws IOException {
+    DataSource dataSource =
+        new ParallelRangeDataSource.Factory(() -> new RangeServer(true), 4, CHUNK_SIZE)
+            .createDataSource();
+
+    dataSource.open(new DataSpec.Builder().setUri(URI).setPosition(2500).build());
+    assertArrayEquals(Arrays.copyOfRange(content, 2500, content.length), readAll(dataSource));
+  }
+
+  @Test
+  public void serversWithoutRangesAreReadOverOneConnection() throws IOException {
+    ParallelRangeDataSource.Factory factory =
+        new ParallelRangeDataSource.Factory(() -> new RangeServer(false), 4, CHUNK_SIZE);
+    DataSource dataSource = factory.createDataSource();
+
+    dataSource.open(new DataSpec(URI));
+    assertArrayEquals(content, readAll(dataSource));
+
+    dataSource = factory.createDataSource();
+    dataSource.open(new DataSpec(URI));
+    readAll(dataSource);
+    // The probe and the fallback, then a single request.
+    assertEquals(3, opens.get());
+  }
+
+  @Test
+  public void releaseStopsTheChunkLoadsInFlight() throws Exception {
+    // Chunk loads after the first one hang until their thread is interrupted.
+    CountDownLatch never = new CountDownLatch(1);
+    ParallelRangeDataSource.Factory factory =
+        new ParallelRangeDataSource.Factory(() -> new RangeServer(true, never), 4, CHUNK_SIZE);
+    DataSource dataSource = factory.createDataSource();
+    dataSource.open(new DataSpec(URI));
+
+    factory.release();
+
+    assertThrows(IOException.class, () -> readAll(dataSource));
+    long deadlineMs = System.currentTimeMillis() + 10_000;
+    while (!factory.isReleased() && System.currentTimeMillis() < deadlineMs) {
+      Thread.sleep(10);
+    }
+    assertTrue(factory.isReleased());
+  }
+
+  @Test
+  public void connectionsGrowWhileThroughputHolds() {
+    ParallelRangeDataSource.Factory factory =
+        new ParallelRangeDataSource.Factory(() -> new RangeServer(true), 4, CHUNK_SIZE);
+    assertEquals(ParallelRangeDataSource.INITIAL_CONNECTIONS, factory.getConnections());
+
+    factory.onChunkLoaded(1000, 100);
+    factory.onChunkLoaded(1000, 110);
+    assertEquals(4, factory.getConnections());
+
+    factory.onChunkLoaded(1000, 300);
+    assertEquals(3, factory.getConnections());
+  }
+
+  @Test
+  public void parsesTheTotalLength() {
+    assertEquals(
+        1234,
+        ParallelRangeDataSource.parseTotalLength(
+            Collections.singletonMap(
+                "content-range", Collections.singletonList("bytes 0-999/1234"))));
+    assertEquals(
+        C.LENGTH_UNSET,
+        ParallelRangeDataSource.parseTotalLength(
+            Collections.singletonMap("Content-Range", Collections.singletonList("bytes 0-999/*"))));
+  }
+
+  private static byte[] readAll(DataSource dataSource) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[333];
+    int read;
+    while ((read = dataSource.read(buffer, 0, buffer.length)) != C.RESULT_END_OF_INPUT) {
+      output.write(buffer, 0, read);
+    }
+    dataSource.close();
+    return output.toByteArray();
+  }
+
+  /** Serves {@link #content} like an HTTP data source, with or without range support. */
+  private final class RangeServer implements DataSource {
+    private final boolean supportsRanges;
+    // Reads past the first chunk wait for it, if set.
+    @Nullable private final CountDownLatch chunkGate;
+    private Map<String, List<String>> headers = Collections.emptyMap();
+    private int position;
+    private int end;
+
+    RangeServer(boolean supportsRanges) {
+      this(supportsRanges, null);
+    }
+
+    RangeServer(boolean supportsRanges, @Nullable CountDownLatch chunkGate) {
+      this.supportsRanges = supportsRanges;
+      this.chunkGate = chunkGate;
+    }
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {}
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) {
+      opens.incrementAndGet();
+      position = (int) dataSpec.position;
+      end =
+          dataSpec.length == C.LENGTH_UNSET
+              ? content.length
+              : (int) Math.min(content.length, dataSpec.position + dataSpec.length);
+      if (supportsRanges) {
+        headers =
+            Collections.singletonMap(
+                "Content-Range",
+                Collections.singletonList(
+                    "bytes " + position + "-" + (end - 1) + "/" + content.length));
+      }
+      return end - position;
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+      if (chunkGate != null && position >= CHUNK_SIZE) {
+        try {
+          chunkGate.await();
+        } catch (InterruptedException e) {
+          throw new InterruptedIOException();
+        }
+      }
+      if (position == end) {
+        return C.RESULT_END_OF_INPUT;
+      }
+      int read = Math.min(length, end - position);
+      System.arraycopy(content, position, buffer, offset, read);
+      position += read;
+      return read;
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return URI;
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      return headers;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
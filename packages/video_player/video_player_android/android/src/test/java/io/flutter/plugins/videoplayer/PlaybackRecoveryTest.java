@@ -0,0 +1,125 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.PlaybackException;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.HttpDataSource.InvalidResponseCodeException;
+import com.google.android.exoplayer2.util.Util;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaybackRecoveryTest {
+  @Test
+  public void classifiesErrors() {
+    assertEquals(
+        PlaybackRecovery.ACTION_RESTART_AT_LIVE_EDGE,
+        PlaybackRecovery.classify(error(PlaybackException.ERROR_CODE_BEHIND_LIVE_WINDOW)));
+    assertEquals(
+        PlaybackRecovery.ACTION_RESTART_AT_POSITION,
+        PlaybackRecovery.classify(
+            error(PlaybackException.ERROR_CODE_IO_NETWORK_CONNECTION_FAILED)));
+    assertEquals(
+        PlaybackRecovery.ACTION_RESTART_AT_POSITION,
+        PlaybackRecovery.classify(error(PlaybackException.ERROR_CODE_DECODING_FAILED)));
+    assertEquals(
+        PlaybackRecovery.ACTION_FAIL,
+        PlaybackRecovery.classify(
+            error(PlaybackException.ERROR_CODE_PARSING_CONTAINER_MALFORMED)));
+  }
+
+  @Test
+  public void retriesOnlyHttpStatusesThatMayChange() {
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, classifyHttpStatus(503));
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, classifyHttpStatus(500));
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, classifyHttpStatus(408));
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, classifyHttpStatus(429));
+    assertEquals(PlaybackRecovery.ACTION_FAIL, classifyHttpStatus(404));
+    assertEquals(PlaybackRecovery.ACTION_FAIL, classifyHttpStatus(403));
+    assertEquals(PlaybackRecovery.ACTION_FAIL, classifyHttpStatus(410));
+    // Without the response there is nothing to say it may change.
+    assertEquals(
+        PlaybackRecovery.ACTION_FAIL,
+        PlaybackRecovery.classify(error(PlaybackException.ERROR_CODE_IO_BAD_HTTP_STATUS)));
+  }
+
+  @Test
+  public void failsOnceTheAttemptsAreUsedUp() {
+    PlaybackRecovery recovery = new PlaybackRecovery(2);
+    PlaybackException networkError =
+        error(PlaybackException.ERROR_CODE_IO_NETWORK_CONNECTION_FAILED);
+
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, recovery.onError(networkError, 0));
+    assertEquals(500, recovery.getBackoffMs(PlaybackRecovery.ACTION_RESTART_AT_POSITION));
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, recovery.onError(networkError, 1000));
+    assertEquals(1000, recovery.getBackoffMs(PlaybackRecovery.ACTION_RESTART_AT_POSITION));
+    assertEquals(PlaybackRecovery.ACTION_FAIL, recovery.onError(networkError, 2000));
+  }
+
+  @Test
+  public void attemptsResetAfterStablePlayback() {
+    PlaybackRecovery recovery = new PlaybackRecovery(1);
+    PlaybackException behindLiveWindow = error(PlaybackException.ERROR_CODE_BEHIND_LIVE_WINDOW);
+
+    assertEquals(
+        PlaybackRecovery.ACTION_RESTART_AT_LIVE_EDGE, recovery.onError(behindLiveWindow, 0));
+    assertEquals(0, recovery.getBackoffMs(PlaybackRecovery.ACTION_RESTART_AT_LIVE_EDGE));
+    recovery.onPlayingChanged(true, 1000);
+    recovery.onPlayingChanged(false, 1000 + PlaybackRecovery.STABLE_MS / 2);
+    recovery.onPlayingChanged(true, 60_000);
+
+    assertEquals(
+        PlaybackRecovery.ACTION_RESTART_AT_LIVE_EDGE,
+        recovery.onError(behindLiveWindow, 60_000 + PlaybackRecovery.STABLE_MS / 2));
+  }
+
+  @Test
+  public void timeWithoutPlaybackDoesNotResetTheAttempts() {
+    PlaybackRecovery recovery = new PlaybackRecovery(1);
+    PlaybackException networkError =
+        error(PlaybackException.ERROR_CODE_IO_NETWORK_CONNECTION_FAILED);
+
+    assertEquals(PlaybackRecovery.ACTION_RESTART_AT_POSITION, recovery.onError(networkError, 0));
+    // Stuck buffering after the restart: the clock moves on but nothing plays.
+    recovery.onPlayingChanged(true, 1000);
+    recovery.onPlayingChanged(false, 2000);
+
+    assertEquals(
+        PlaybackRecovery.ACTION_FAIL,
+        recovery.onError(networkError, 10 * PlaybackRecovery.STABLE_MS));
+  }
+
+  @Test
+  public void zeroAttemptsReportsEveryError() {
+    PlaybackRecovery recovery = new PlaybackRecovery(0);
+
+    assertEquals(
+        PlaybackRecovery.ACTION_FAIL,
+        recovery.onError(error(PlaybackException.ERROR_CODE_BEHIND_LIVE_WINDOW), 0));
+  }
+
+  private static int classifyHttpStatus(int responseCode) {
+    InvalidResponseCodeException cause =
+        new InvalidResponseCodeException(
+            responseCode,
+            null,
+            null,
+            Collections.emptyMap(),
+            new DataSpec(Uri.parse("https://cdn.example.com/live/segment.ts")),
+            Util.EMPTY_BYTE_ARRAY);
+    return PlaybackRecovery.classify(
+        new PlaybackException(null, cause, PlaybackException.ERROR_CODE_IO_BAD_HTTP_STATUS));
+  }
+
+  private static PlaybackException error(@PlaybackException.ErrorCode int errorCode) {
+    return new PlaybackException(null, null, errorCode);
+  }
+}
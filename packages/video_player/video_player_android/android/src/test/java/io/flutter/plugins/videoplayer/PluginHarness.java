@@ -0,0 +1,143 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.graphics.SurfaceTexture;
+import android.os.Looper;
+import androidx.test.core.app.ApplicationProvider;
+import io.flutter.FlutterInjector;
+import io.flutter.embedding.engine.loader.FlutterLoader;
+import io.flutter.embedding.engine.plugins.FlutterPlugin.FlutterPluginBinding;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.view.TextureRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Attaches a real {@link VideoPlayerPlugin} to a fake engine on Robolectric: a messenger that
+ * records which channels have handlers and a texture registry that tracks unreleased textures.
+ *
+ * <p>The mocks record no invocations, so long-running tests do not grow the heap through them.
+ * Call {@link #close} when done.
+ */
+final class PluginHarness {
+  final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
+  /** Handlers registered on the messenger, by channel name. */
+  final Map<String, BinaryMessenger.BinaryMessageHandler> handlers = new HashMap<>();
+  /** Ids of the textures created and not released yet. */
+  final Set<Long> liveTextures = new HashSet<>();
+
+  private final FlutterPluginBinding binding;
+  private long nextTextureId;
+
+  PluginHarness() {
+    FlutterInjector.setInstance(
+        new FlutterInjector.Builder().setFlutterLoader(mock(FlutterLoader.class)).build());
+
+    BinaryMessenger messenger = mock(BinaryMessenger.class, withSettings().stubOnly());
+    doAnswer(
+            invocation -> {
+              String channel = invocation.getArgument(0);
+              BinaryMessenger.BinaryMessageHandler handler = invocation.getArgument(1);
+              if (handler == null) {
+                handlers.remove(channel);
+              } else {
+                handlers.put(channel, handler);
+              }
+              return null;
+            })
+        .when(messenger)
+        .setMessageHandler(anyString(), any());
+
+    TextureRegistry textureRegistry = mock(TextureRegistry.class, withSettings().stubOnly());
+    when(textureRegistry.createSurfaceTexture()).thenAnswer(invocation -> createTextureEntry());
+
+    binding = mock(FlutterPluginBinding.class, withSettings().stubOnly());
+    when(binding.getApplicationContext()).thenReturn(ApplicationProvider.getApplicationContext());
+    when(binding.getBinaryMessenger()).thenReturn(messenger);
+    when(binding.getTextureRegistry()).thenReturn(textureRegistry);
+
+    plugin.onAttachedToEngine(binding);
+  }
+
+  void detach() {
+    plugin.onDetachedFromEngine(binding);
+  }
+
+  void close() {
+    FlutterInjector.reset();
+  }
+
+  static void idleMainLooper() {
+    shadowOf(Looper.getMainLooper()).idle();
+  }
+
+  /** Returns {@code durationMs} of 8 kHz mono 16-bit silence as a WAV file. */
+  static byte[] silentWav(int durationMs) {
+    int sampleRate = 8000;
+    int dataBytes = sampleRate * 2 * durationMs / 1000;
+    ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+    header.put(ascii("RIFF")).putInt(36 + dataBytes).put(ascii("WAVE"));
+    header
+        .put(ascii("fmt "))
+        .putInt(16)
+        .putShort((short) 1) // PCM
+        .putShort((short) 1) // Mono
+        .putInt(sampleRate)
+        .putInt(sampleRate * 2)
+        .putShort((short) 2)
+        .putShort((short) 16);
+    header.put(ascii("data")).putInt(dataBytes);
+    ByteArrayOutputStream wav = new ByteArrayOutputStream(44 + dataBytes);
+    try {
+      wav.write(header.array());
+      wav.write(new byte[dataBytes]);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return wav.toByteArray();
+  }
+
+  private static byte[] ascii(String value) {
+    byte[] bytes = new byte[value.length()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) value.charAt(i);
+    }
+    return bytes;
+  }
+
+  private TextureRegistry.SurfaceTextureEntry createTextureEntry() {
+    long id = nextTextureId++;
+    SurfaceTexture surfaceTexture = new SurfaceTexture(0);
+    TextureRegistry.SurfaceTextureEntry entry =
+        mock(TextureRegistry.SurfaceTextureEntry.class, withSettings().stubOnly());
+    when(entry.id()).thenReturn(id);
+    when(entry.surfaceTexture()).thenReturn(surfaceTexture);
+    doAnswer(
+            invocation -> {
+              liveTextures.remove(id);
+              surfaceTexture.release();
+              return null;
+            })
+        .when(entry)
+        .release();
+    liveTextures.add(id);
+    return entry;
+  }
+}
@@ -0,0 +1,139 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import android.os.SystemClock;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.Timeline;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class QoeStatsCollectorTest {
+  // The clock of the test does not move on its own, so the collector is created at startMs.
+  private long startMs;
+  private QoeStatsCollector collector;
+
+  @Before
+  public void before() {
+    startMs = SystemClock.elapsedRealtime();
+    collector = new QoeStatsCollector();
+  }
+
+  @Test
+  public void emptyBeforeAnyPlayback() {
+    PlaybackStatsMessage stats = collector.snapshot();
+
+    assertNull(stats.getTimeToFirstFrameMs());
+    assertNull(stats.getJoinTimeMs());
+    assertEquals(0L, (long) stats.getPlayTimeMs());
+    assertEquals(0.0, stats.getRebufferRatio(), 0.0);
+    assertNull(stats.getVideoBitrate());
+    assertNull(stats.getBandwidthEstimate());
+  }
+
+  @Test
+  public void measuresStartupRebuffersAndPlayTime() {
+    collector.onPlayWhenReadyChanged(
+        at(100), true, Player.PLAY_WHEN_READY_CHANGE_REASON_USER_REQUEST);
+    // Buffering before the first start is part of the join time, not a rebuffer.
+    collector.onPlaybackStateChanged(at(100), Player.STATE_BUFFERING);
+    collector.onRenderedFirstFrame(at(400), new Object(), 400);
+    collector.onPlaybackStateChanged(at(500), Player.STATE_READY);
+    collector.onIsPlayingChanged(at(500), true);
+
+    collector.onPlaybackStateChanged(at(2500), Player.STATE_BUFFERING);
+    collector.onIsPlayingChanged(at(2500), false);
+    collector.onPlaybackStateChanged(at(3000), Player.STATE_READY);
+    collector.onIsPlayingChanged(at(3000), true);
+    collector.onIsPlayingChanged(at(5000), false);
+
+    PlaybackStatsMessage stats = collector.snapshot();
+    assertEquals(Long.valueOf(400), stats.getTimeToFirstFrameMs());
+    assertEquals(Long.valueOf(400), stats.getJoinTimeMs());
+    assertEquals(Long.valueOf(4000), stats.getPlayTimeMs());
+    assertEquals(Long.valueOf(1), stats.getRebufferCount());
+    assertEquals(Long.valueOf(500), stats.getRebufferTimeMs());
+    assertEquals(500.0 / 4500.0, stats.getRebufferRatio(), 1e-9);
+  }
+
+  @Test
+  public void pausingEndsARebuffer() {
+    collector.onPlayWhenReadyChanged(
+        at(0), true, Player.PLAY_WHEN_READY_CHANGE_REASON_USER_REQUEST);
+    collector.onIsPlayingChanged(at(0), true);
+    collector.onPlaybackStateChanged(at(1000), Player.STATE_BUFFERING);
+    collector.onIsPlayingChanged(at(1000), false);
+    collector.onPlayWhenReadyChanged(
+        at(1200), false, Player.PLAY_WHEN_READY_CHANGE_REASON_USER_REQUEST);
+    // Still buffering, but the user is not waiting for it any more.
+    collector.onPlaybackStateChanged(at(9000), Player.STATE_READY);
+
+    PlaybackStatsMessage stats = collector.snapshot();
+    assertEquals(Long.valueOf(1), stats.getRebufferCount());
+    assertEquals(Long.valueOf(200), stats.getRebufferTimeMs());
+  }
+
+  @Test
+  public void countsVideoBitrateSwitchesAndDroppedFrames() {
+    collector.onDownstreamFormatChanged(at(0), videoLoad(1_000_000));
+    collector.onDownstreamFormatChanged(at(0), audioLoad(128_000));
+    collector.onDownstreamFormatChanged(at(1000), videoLoad(2_500_000));
+    collector.onDownstreamFormatChanged(at(2000), videoLoad(2_500_000));
+    collector.onDownstreamFormatChanged(at(3000), videoLoad(1_000_000));
+    collector.onDroppedVideoFrames(at(1000), 3, 1000);
+    collector.onDroppedVideoFrames(at(2000), 4, 1000);
+    collector.onBandwidthEstimate(at(2000), 1000, 500_000, 4_000_000);
+
+    PlaybackStatsMessage stats = collector.snapshot();
+    assertEquals(Long.valueOf(2), stats.getBitrateSwitches());
+    assertEquals(Long.valueOf(1_000_000), stats.getVideoBitrate());
+    assertEquals(Long.valueOf(7), stats.getDroppedFrames());
+    assertEquals(Long.valueOf(4_000_000), stats.getBandwidthEstimate());
+  }
+
+  private EventTime at(long offsetMs) {
+    return new EventTime(
+        startMs + offsetMs,
+        Timeline.EMPTY,
+        0,
+        null,
+        C.TIME_UNSET,
+        Timeline.EMPTY,
+        0,
+        null,
+        C.TIME_UNSET,
+        0);
+  }
+
+  private static MediaLoadData videoLoad(int bitrate) {
+    return load(C.TRACK_TYPE_VIDEO, bitrate);
+  }
+
+  private static MediaLoadData audioLoad(int bitrate) {
+    return load(C.TRACK_TYPE_AUDIO, bitrate);
+  }
+
+  private static MediaLoadData load(int trackType, int bitrate) {
+    return new MediaLoadData(
+        C.DATA_TYPE_MEDIA,
+        trackType,
+        new Format.Builder().setPeakBitrate(bitrate).build(),
+        C.SELECTION_REASON_ADAPTIVE,
+        null,
+        0,
+        1000);
+  }
+}
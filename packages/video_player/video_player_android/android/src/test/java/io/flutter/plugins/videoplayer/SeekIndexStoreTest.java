@@ -0,0 +1,99 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.extractor.SeekMap;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class SeekIndexStoreTest {
+  private static final Uri URI = Uri.parse("https://cdn.example.com/movies/film.ts");
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void keyNeedsSomethingThatIdentifiesTheContent() {
+    assertNull(SeekIndexStore.keyFor(URI, Collections.emptyMap()));
+    Map<String, List<String>> lastModified =
+        headers("Last-Modified", "Mon, 19 Oct 2026 08:00:00 GMT");
+    assertNull(SeekIndexStore.keyFor(URI, lastModified));
+
+    lastModified.put("Content-Length", Collections.singletonList("2000000"));
+    assertNotNull(SeekIndexStore.keyFor(URI, lastModified));
+    assertNotEquals(
+        SeekIndexStore.keyFor(URI, headers("ETag", "\"v1\"")),
+        SeekIndexStore.keyFor(URI, headers("etag", "\"v2\"")));
+  }
+
+  @Test
+  public void savedIndexIsLoadedByTheNextSession() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    String key = SeekIndexStore.keyFor(URI, headers("ETag", "\"v1\""));
+    new SeekIndexStore(directory).save(key, index());
+
+    SeekIndex loaded = new SeekIndexStore(directory).load(key);
+
+    assertNotNull(loaded);
+    assertEquals(4, loaded.size());
+    assertEquals(2_000_000, loaded.contentLength);
+    assertTrue(loaded.complete);
+    SeekMap.SeekPoints points = loaded.toSeekMap().getSeekPoints(2_500_000);
+    assertEquals(2_000_000, points.first.timeUs);
+    assertEquals(500_000, points.first.position);
+    assertNull(
+        new SeekIndexStore(directory)
+            .load(SeekIndexStore.keyFor(URI, headers("ETag", "\"v2\""))));
+  }
+
+  @Test
+  public void unreadableIndexIsDropped() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    SeekIndexStore store = new SeekIndexStore(directory);
+    String key = SeekIndexStore.keyFor(URI, headers("ETag", "\"v1\""));
+    store.save(key, index());
+    File[] files = directory.listFiles();
+    assertNotNull(files);
+    assertEquals(1, files.length);
+    try (FileOutputStream output = new FileOutputStream(files[0])) {
+      output.write(new byte[] {0, 0, 0, 42});
+    }
+
+    assertNull(store.load(key));
+    assertFalse(files[0].exists());
+  }
+
+  private static Map<String, List<String>> headers(String name, String value) {
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put(name, Collections.singletonList(value));
+    return headers;
+  }
+
+  private static SeekIndex index() {
+    SeekIndex.Builder builder = new SeekIndex.Builder();
+    for (int i = 0; i < 4; i++) {
+      builder.add(i * 1_000_000L, i * 250_000L);
+    }
+    return builder.build(2_000_000, true, 3_500_000);
+  }
+}
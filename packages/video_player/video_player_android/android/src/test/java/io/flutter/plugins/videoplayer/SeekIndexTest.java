@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.extractor.SeekMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+public class SeekIndexTest {
+  @Test
+  public void builderKeepsEntriesOrdered() {
+    SeekIndex.Builder builder = new SeekIndex.Builder();
+    builder.add(0, 0);
+    builder.add(1_000_000, 500_000);
+    builder.add(900_000, 600_000);
+    builder.add(2_000_000, 400_000);
+
+    assertEquals(2, builder.size());
+    assertEquals(500_000, builder.getLastPosition());
+  }
+
+  @Test
+  public void completeIndexSeeksToTheSyncSampleBeforeTheTarget() {
+    SeekMap seekMap = index(true).toSeekMap();
+
+    assertEquals(3_500_000, seekMap.getDurationUs());
+    SeekMap.SeekPoints points = seekMap.getSeekPoints(1_500_000);
+    assertEquals(1_000_000, points.first.timeUs);
+    assertEquals(250_000, points.first.position);
+    assertEquals(2_000_000, points.second.timeUs);
+    assertEquals(3_000_000, seekMap.getSeekPoints(10_000_000).first.timeUs);
+  }
+
+  @Test
+  public void partialIndexExtrapolatesPastItsEnd() {
+    SeekMap seekMap = index(false).toSeekMap();
+
+    assertEquals(8_000_000, seekMap.getDurationUs());
+    SeekMap.SeekPoints points = seekMap.getSeekPoints(6_000_000);
+    assertEquals(6_000_000, points.first.timeUs);
+    assertEquals(1_500_000, points.first.position);
+  }
+
+  @Test
+  public void survivesARoundTrip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    index(true).writeTo(new DataOutputStream(bytes));
+
+    SeekIndex index =
+        SeekIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    assertEquals(4, index.size());
+    assertEquals(2_000_000, index.contentLength);
+    assertEquals(750_000, index.getLastPosition());
+    assertEquals(3_500_000, index.toSeekMap().getDurationUs());
+  }
+
+  private static SeekIndex index(boolean complete) {
+    SeekIndex.Builder builder = new SeekIndex.Builder();
+    for (int i = 0; i < 4; i++) {
+      builder.add(i * 1_000_000L, i * 250_000L);
+    }
+    return builder.build(2_000_000, complete, complete ? 3_500_000 : C.TIME_UNSET);
+  }
+}
@@ -0,0 +1,239 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.extractor.DefaultExtractorInput;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ExtractorOutput;
+import com.google.android.exoplayer2.extractor.PositionHolder;
+import com.google.android.exoplayer2.extractor.SeekMap;
+import com.google.android.exoplayer2.extractor.TrackOutput;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataReader;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.util.ParsableByteArray;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class SeekIndexingExtractorTest {
+  private static final String KEY = "https://cdn.example.com/movies/film|\"v1\"";
+  private static final int PACKET_BYTES = 20_000;
+  private static final int PACKET_COUNT = 10;
+  private static final byte[] MATROSKA_CLUSTER_ID = {0x1F, 0x43, (byte) 0xB6, 0x75};
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private SeekIndexStore store;
+
+  @Before
+  public void before() throws IOException {
+    store = new SeekIndexStore(temporaryFolder.newFolder());
+  }
+
+  @Test
+  public void matroskaRecordsTheClusterOfEachSyncSample() throws IOException {
+    readToEnd(new SeekIndexingExtractor(new PacketExtractor(), true, store, KEY));
+
+    SeekIndex index = store.load(KEY);
+    assertNotNull(index);
+    assertTrue(index.complete);
+    assertEquals(PACKET_COUNT, index.size());
+    assertEquals((PACKET_COUNT - 1) * C.MICROS_PER_SECOND, index.durationUs);
+    for (int i = 0; i < PACKET_COUNT; i++) {
+      SeekMap.SeekPoints points = index.toSeekMap().getSeekPoints(i * C.MICROS_PER_SECOND);
+      assertEquals(i * C.MICROS_PER_SECOND, points.first.timeUs);
+      assertEquals((long) i * PACKET_BYTES, points.first.position);
+    }
+  }
+
+  @Test
+  public void tsRecordsAPositionAtOrBeforeEachSyncSample() throws IOException {
+    readToEnd(new SeekIndexingExtractor(new PacketExtractor(), false, store, KEY));
+
+    SeekIndex index = store.load(KEY);
+    assertNotNull(index);
+    assertEquals(PACKET_COUNT, index.size());
+    for (int i = 1; i < PACKET_COUNT; i++) {
+      long position = index.toSeekMap().getSeekPoints(i * C.MICROS_PER_SECOND).first.position;
+      // The TS extractor may have read ahead of the packet it parses, so the index backs off.
+      assertTrue(position <= (long) i * PACKET_BYTES);
+      assertTrue(position > (long) (i - 1) * PACKET_BYTES);
+    }
+  }
+
+  @Test
+  public void storedIndexIsUsedByTheNextSession() throws IOException {
+    readToEnd(new SeekIndexingExtractor(new PacketExtractor(), false, store, KEY));
+
+    PacketExtractor extractor = new PacketExtractor();
+    RecordingOutput output = new RecordingOutput();
+    SeekIndexingExtractor nextSession = new SeekIndexingExtractor(extractor, false, store, KEY);
+    nextSession.init(output);
+    nextSession.read(input(), new PositionHolder());
+
+    assertNotNull(output.seekMap);
+    assertTrue(output.seekMap.isSeekable());
+    assertEquals((PACKET_COUNT - 1) * C.MICROS_PER_SECOND, output.seekMap.getDurationUs());
+    // A complete index takes over from the duration read and the binary search of TsExtractor.
+    assertEquals(C.LENGTH_UNSET, extractor.lastInputLength);
+  }
+
+  @Test
+  public void seekingStopsTheIndexing() throws IOException {
+    SeekIndexingExtractor extractor =
+        new SeekIndexingExtractor(new PacketExtractor(), true, store, KEY);
+    extractor.init(new RecordingOutput());
+    ExtractorInput input = input();
+    extractor.read(input, new PositionHolder());
+    extractor.seek(5L * PACKET_BYTES, 5 * C.MICROS_PER_SECOND);
+    extractor.release();
+
+    SeekIndex index = store.load(KEY);
+    assertNotNull(index);
+    assertFalse(index.complete);
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  public void nothingIsStoredWithoutSyncSamples() {
+    SeekIndexingExtractor extractor =
+        new SeekIndexingExtractor(new PacketExtractor(), true, store, KEY);
+    extractor.init(new RecordingOutput());
+    extractor.release();
+
+    assertNull(store.load(KEY));
+  }
+
+  private static void readToEnd(Extractor extractor) throws IOException {
+    extractor.init(new RecordingOutput());
+    ExtractorInput input = input();
+    PositionHolder positionHolder = new PositionHolder();
+    int result = Extractor.RESULT_CONTINUE;
+    while (result == Extractor.RESULT_CONTINUE) {
+      result = extractor.read(input, positionHolder);
+    }
+    assertEquals(Extractor.RESULT_END_OF_INPUT, result);
+    extractor.release();
+  }
+
+  /** Returns a stream of packets that each start with a Matroska cluster id. */
+  private static ExtractorInput input() throws IOException {
+    byte[] data = new byte[PACKET_COUNT * PACKET_BYTES];
+    for (int i = 0; i < PACKET_COUNT; i++) {
+      System.arraycopy(
+          MATROSKA_CLUSTER_ID, 0, data, i * PACKET_BYTES, MATROSKA_CLUSTER_ID.length);
+    }
+    ByteArrayDataSource dataSource = new ByteArrayDataSource(data);
+    dataSource.open(new DataSpec(Uri.EMPTY));
+    return new DefaultExtractorInput(dataSource, 0, data.length);
+  }
+
+  /**
+   * Reads one packet per call into a video track, as one key frame one second after the previous
+   * one.
+   */
+  private static final class PacketExtractor implements Extractor {
+    private TrackOutput trackOutput;
+    long lastInputLength;
+
+    @Override
+    public boolean sniff(@NonNull ExtractorInput input) {
+      return true;
+    }
+
+    @Override
+    public void init(@NonNull ExtractorOutput output) {
+      trackOutput = output.track(0, C.TRACK_TYPE_VIDEO);
+      output.endTracks();
+      output.seekMap(new SeekMap.Unseekable(C.TIME_UNSET));
+    }
+
+    @Override
+    public int read(@NonNull ExtractorInput input, @NonNull PositionHolder seekPosition)
+        throws IOException {
+      lastInputLength = input.getLength();
+      long packet = input.getPosition() / PACKET_BYTES;
+      int remaining = PACKET_BYTES;
+      while (remaining > 0) {
+        int read = trackOutput.sampleData(input, remaining, true);
+        if (read == C.RESULT_END_OF_INPUT) {
+          return Extractor.RESULT_END_OF_INPUT;
+        }
+        remaining -= read;
+      }
+      trackOutput.sampleMetadata(
+          packet * C.MICROS_PER_SECOND, C.BUFFER_FLAG_KEY_FRAME, PACKET_BYTES, 0, null);
+      return Extractor.RESULT_CONTINUE;
+    }
+
+    @Override
+    public void seek(long position, long timeUs) {}
+
+    @Override
+    public void release() {}
+  }
+
+  private static final class RecordingOutput implements ExtractorOutput {
+    @Nullable SeekMap seekMap;
+
+    @NonNull
+    @Override
+    public TrackOutput track(int id, int type) {
+      return new DiscardingTrackOutput();
+    }
+
+    @Override
+    public void endTracks() {}
+
+    @Override
+    public void seekMap(@NonNull SeekMap seekMap) {
+      this.seekMap = seekMap;
+    }
+  }
+
+  private static final class DiscardingTrackOutput implements TrackOutput {
+    private final byte[] scratch = new byte[PACKET_BYTES];
+
+    @Override
+    public void format(@NonNull Format format) {}
+
+    @Override
+    public int sampleData(
+        @NonNull DataReader input,
+        int length,
+        boolean allowEndOfInput,
+        @SampleDataPart int sampleDataPart)
+        throws IOException {
+      return input.read(scratch, 0, Math.min(length, scratch.length));
+    }
+
+    @Override
+    public void sampleData(
+        @NonNull ParsableByteArray data, int length, @SampleDataPart int sampleDataPart) {
+      data.skipBytes(length);
+    }
+
+    @Override
+    public void sampleMetadata(
+        long timeUs, int flags, int size, int offset, @Nullable CryptoData cryptoData) {}
+  }
+}
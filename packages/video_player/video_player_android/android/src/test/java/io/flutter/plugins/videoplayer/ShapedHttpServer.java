@@ -0,0 +1,406 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A loopback HTTP/1.1 server for benchmarks that serves in-memory fixtures under network
+ * conditions set by a {@link Profile}: bandwidth, latency, jitter, injected errors and dropped
+ * connections, and bandwidth changes scripted over time.
+ *
+ * <p>Fixtures can be anything a stream needs: HLS playlists and segments, DASH manifests or
+ * progressive files. GET and HEAD are supported, including single byte ranges, which is all
+ * ExoPlayer's data sources ask for. Every response closes its connection, so each request pays
+ * the latency again, like a cold CDN edge.
+ *
+ * <p>Random decisions come from a seeded generator, so a run can be repeated.
+ */
+final class ShapedHttpServer implements Closeable {
+  private static final Charset ASCII = Charset.forName("US-ASCII");
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+  private static final int CHUNK_BYTES = 4096;
+
+  /** Network conditions of a {@link ShapedHttpServer}. */
+  static final class Profile {
+    /** Bytes per second per connection, or 0 for no limit. */
+    final long bandwidthBytesPerSecond;
+    /** Delay before the response headers. */
+    final long latencyMs;
+    /** Up to this much is added to {@link #latencyMs}, uniformly at random. */
+    final long jitterMs;
+    /** Chance that a request is answered with a 503. */
+    final double errorRate;
+    /** Chance that a response body is cut off halfway by closing the connection. */
+    final double dropRate;
+    final long seed;
+
+    private Profile(Builder builder) {
+      bandwidthBytesPerSecond = builder.bandwidthBytesPerSecond;
+      latencyMs = builder.latencyMs;
+      jitterMs = builder.jitterMs;
+      errorRate = builder.errorRate;
+      dropRate = builder.dropRate;
+      seed = builder.seed;
+    }
+
+    static final class Builder {
+      private long bandwidthBytesPerSecond;
+      private long latencyMs;
+      private long jitterMs;
+      private double errorRate;
+      private double dropRate;
+      private long seed = 1;
+
+      @NonNull
+      Builder setBandwidthBytesPerSecond(long bandwidthBytesPerSecond) {
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+        return this;
+      }
+
+      @NonNull
+      Builder setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+      }
+
+      @NonNull
+      Builder setJitterMs(long jitterMs) {
+        this.jitterMs = jitterMs;
+        return this;
+      }
+
+      @NonNull
+      Builder setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+      }
+
+      @NonNull
+      Builder setDropRate(double dropRate) {
+        this.dropRate = dropRate;
+        return this;
+      }
+
+      @NonNull
+      Builder setSeed(long seed) {
+        this.seed = seed;
+        return this;
+      }
+
+      @NonNull
+      Profile build() {
+        return new Profile(this);
+      }
+    }
+  }
+
+  private static final class Fixture {
+    final byte[] body;
+    final String contentType;
+
+    Fixture(byte[] body, String contentType) {
+      this.body = body;
+      this.contentType = contentType;
+    }
+  }
+
+  private static final class BandwidthStep {
+    final long atMs;
+    final long bytesPerSecond;
+
+    BandwidthStep(long atMs, long bytesPerSecond) {
+      this.atMs = atMs;
+      this.bytesPerSecond = bytesPerSecond;
+    }
+  }
+
+  private final Profile profile;
+  private final Random random;
+  private final Map<String, Fixture> fixtures = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> forcedFailures = new ConcurrentHashMap<>();
+  private final List<BandwidthStep> bandwidthSteps = new ArrayList<>();
+  private final ExecutorService connections = Executors.newCachedThreadPool();
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger failedRequests = new AtomicInteger();
+  private final AtomicLong bytesServed = new AtomicLong();
+  private final ServerSocket serverSocket;
+  private final long startedAtMs;
+
+  ShapedHttpServer(@NonNull Profile profile) throws IOException {
+    this.profile = profile;
+    this.random = new Random(profile.seed);
+    serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+    startedAtMs = System.currentTimeMillis();
+    connections.execute(this::acceptLoop);
+  }
+
+  /** Serves {@code body} at {@code path}, which starts with a slash. */
+  void addFixture(@NonNull String path, @NonNull byte[] body, @NonNull String contentType) {
+    fixtures.put(path, new Fixture(body, contentType));
+  }
+
+  /** Serves {@code body} at {@code path} as UTF-8 text, for playlists and manifests. */
+  void addFixture(@NonNull String path, @NonNull String body, @NonNull String contentType) {
+    addFixture(path, body.getBytes(Charset.forName("UTF-8")), contentType);
+  }
+
+  /**
+   * From {@code atMs} after the server started, limits each connection to {@code bytesPerSecond},
+   * or lifts the limit if it is 0. Steps replace the profile's bandwidth in the order of their
+   * times.
+   */
+  synchronized void scheduleBandwidth(long atMs, long bytesPerSecond) {
+    int index = 0;
+    while (index < bandwidthSteps.size() && bandwidthSteps.get(index).atMs <= atMs) {
+      index++;
+    }
+    bandwidthSteps.add(index, new BandwidthStep(atMs, bytesPerSecond));
+  }
+
+  /** Answers the next {@code count} requests for {@code path} with a 503. */
+  void failNext(@NonNull String path, int count) {
+    forcedFailures.put(path, new AtomicInteger(count));
+  }
+
+  @NonNull
+  String uri(@NonNull String path) {
+    return "http://127.0.0.1:" + serverSocket.getLocalPort() + path;
+  }
+
+  int getRequestCount() {
+    return requests.get();
+  }
+
+  int getFailedRequestCount() {
+    return failedRequests.get();
+  }
+
+  long getBytesServed() {
+    return bytesServed.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    connections.shutdownNow();
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.execute(() -> serve(socket));
+      } catch (IOException e) {
+        // Closed.
+        return;
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (Socket connection = socket) {
+      BufferedReader reader =
+          new BufferedReader(new InputStreamReader(connection.getInputStream(), ASCII));
+      String requestLine = reader.readLine();
+      if (requestLine == null) {
+        return;
+      }
+      String rangeHeader = null;
+      String line = reader.readLine();
+      while (line != null && !line.isEmpty()) {
+        int colon = line.indexOf(':');
+        if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Range")) {
+          rangeHeader = line.substring(colon + 1).trim();
+        }
+        line = reader.readLine();
+      }
+      requests.incrementAndGet();
+      respond(connection.getOutputStream(), requestLine.split(" "), rangeHeader);
+    } catch (SocketException e) {
+      // The client went away, or the server is closing.
+    } catch (IOException | InterruptedException e) {
+      // Dropped on purpose or interrupted by close().
+    }
+  }
+
+  private void respond(OutputStream output, String[] requestLine, @Nullable String rangeHeader)
+      throws IOException, InterruptedException {
+    Thread.sleep(nextLatencyMs());
+    if (requestLine.length < 2) {
+      writeStatus(output, 400, "Bad Request");
+      return;
+    }
+    boolean head = requestLine[0].equals("HEAD");
+    String path = requestLine[1];
+    int query = path.indexOf('?');
+    if (query >= 0) {
+      path = path.substring(0, query);
+    }
+    Fixture fixture = fixtures.get(path);
+    if (fixture == null) {
+      writeStatus(output, 404, "Not Found");
+      return;
+    }
+    if (shouldFail(path)) {
+      failedRequests.incrementAndGet();
+      writeStatus(output, 503, "Service Unavailable");
+      return;
+    }
+
+    int length = fixture.body.length;
+    int start = 0;
+    int end = length - 1;
+    boolean partial = false;
+    if (rangeHeader != null) {
+      Matcher matcher = RANGE.matcher(rangeHeader);
+      if (matcher.matches()) {
+        start = Integer.parseInt(matcher.group(1));
+        if (!matcher.group(2).isEmpty()) {
+          end = Math.min(end, Integer.parseInt(matcher.group(2)));
+        }
+        if (start >= length) {
+          writeHeaders(
+              output,
+              "416 Range Not Satisfiable",
+              fixture.contentType,
+              0,
+              "Content-Range: bytes */" + length);
+          return;
+        }
+        partial = true;
+      }
+    }
+    int count = end - start + 1;
+    writeHeaders(
+        output,
+        partial ? "206 Partial Content" : "200 OK",
+        fixture.contentType,
+        count,
+        partial ? "Content-Range: bytes " + start + "-" + end + "/" + length : null);
+    if (head) {
+      return;
+    }
+    // A dropped response stops halfway through its body, as when a connection resets.
+    int stopAt = random(profile.dropRate) ? start + count / 2 : end + 1;
+    writeShaped(output, fixture.body, start, stopAt);
+  }
+
+  private void writeShaped(OutputStream output, byte[] body, int from, int to)
+      throws IOException, InterruptedException {
+    long startedNanos = System.nanoTime();
+    long written = 0;
+    for (int offset = from; offset < to; offset += CHUNK_BYTES) {
+      int chunk = Math.min(CHUNK_BYTES, to - offset);
+      output.write(body, offset, chunk);
+      output.flush();
+      written += chunk;
+      bytesServed.addAndGet(chunk);
+      long bytesPerSecond = currentBandwidth();
+      if (bytesPerSecond > 0) {
+        long dueNanos = written * 1_000_000_000L / bytesPerSecond;
+        long aheadNanos = dueNanos - (System.nanoTime() - startedNanos);
+        if (aheadNanos > 0) {
+          Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+        }
+      }
+    }
+  }
+
+  private synchronized long currentBandwidth() {
+    long elapsedMs = System.currentTimeMillis() - startedAtMs;
+    long bytesPerSecond = profile.bandwidthBytesPerSecond;
+    for (BandwidthStep step : bandwidthSteps) {
+      if (step.atMs > elapsedMs) {
+        break;
+      }
+      bytesPerSecond = step.bytesPerSecond;
+    }
+    return bytesPerSecond;
+  }
+
+  private boolean shouldFail(String path) {
+    AtomicInteger forced = forcedFailures.get(path);
+    if (forced != null && forced.getAndDecrement() > 0) {
+      return true;
+    }
+    return random(profile.errorRate);
+  }
+
+  private long nextLatencyMs() {
+    long jitterMs;
+    synchronized (random) {
+      jitterMs = profile.jitterMs > 0 ? (long) (random.nextDouble() * profile.jitterMs) : 0;
+    }
+    return profile.latencyMs + jitterMs;
+  }
+
+  private boolean random(double chance) {
+    if (chance <= 0) {
+      return false;
+    }
+    synchronized (random) {
+      return random.nextDouble() < chance;
+    }
+  }
+
+  private static void writeStatus(OutputStream output, int code, String reason)
+      throws IOException {
+    writeHeaders(output, code + " " + reason, "text/plain", 0, null);
+  }
+
+  private static void writeHeaders(
+      OutputStream output,
+      String status,
+      String contentType,
+      int contentLength,
+      @Nullable String extraHeader)
+      throws IOException {
+    StringBuilder headers = new StringBuilder();
+    headers.append("HTTP/1.1 ").append(status).append("\r\n");
+    headers.append("Content-Type: ").append(contentType).append("\r\n");
+    headers.append("Content-Length: ").append(contentLength).append("\r\n");
+    headers.append("Accept-Ranges: bytes\r\n");
+    if (extraHeader != null) {
+      headers.append(extraHeader).append("\r\n");
+    }
+    headers.append("Connection: close\r\n\r\n");
+    output.write(headers.toString().getBytes(ASCII));
+    output.flush();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.US,
+        "%d requests (%d failed), %d bytes",
+        getRequestCount(),
+        getFailedRequestCount(),
+        getBytesServed());
+  }
+}
@@ -0,0 +1,142 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+/**
+ * Plays a stream from a {@link ShapedHttpServer} through the whole plugin pipeline, from {@code
+ * create} and {@code buildMediaSource} to ExoPlayer, under several network profiles, and prints
+ * startup and stall figures for each.
+ *
+ * <p>The fixture is a progressive WAV file, since Robolectric has no video decoders: time to first
+ * frame only shows up for fixtures with video, so the startup figure to compare is time to ready.
+ * Nothing asserts on the figures, so a slow machine does not fail the build.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ShapedStreamingBenchmarkTest {
+  private static final String MEDIA_PATH = "/media/silence.wav";
+  // 16 KB/s of audio, so 8 KB/s cannot keep up and 48 KB/s can.
+  private static final byte[] MEDIA = PluginHarness.silentWav(20_000);
+  private static final long OBSERVE_MS = 8_000;
+  private static final long TICK_MS = 10;
+
+  private PluginHarness harness;
+
+  @Before
+  public void before() {
+    harness = new PluginHarness();
+  }
+
+  @After
+  public void after() {
+    harness.close();
+  }
+
+  @Test
+  public void shapedNetworkScenarios() throws IOException, InterruptedException {
+    System.out.println(
+        "Shaped streaming: scenario, time to ready, join time, time to first frame, rebuffers,"
+            + " rebuffer time, bytes loaded, server");
+    run("loopback", new ShapedHttpServer.Profile.Builder().build(), null);
+    run(
+        "dsl",
+        new ShapedHttpServer.Profile.Builder()
+            .setBandwidthBytesPerSecond(250_000)
+            .setLatencyMs(30)
+            .setJitterMs(10)
+            .build(),
+        null);
+    run(
+        "3g",
+        new ShapedHttpServer.Profile.Builder()
+            .setBandwidthBytesPerSecond(48_000)
+            .setLatencyMs(150)
+            .setJitterMs(80)
+            .build(),
+        null);
+    run(
+        "drop to 8 KB/s after 2 s",
+        new ShapedHttpServer.Profile.Builder().setBandwidthBytesPerSecond(64_000).build(),
+        server -> server.scheduleBandwidth(2_000, 8_000));
+    run(
+        "flaky: 20% errors, 10% drops",
+        new ShapedHttpServer.Profile.Builder()
+            .setBandwidthBytesPerSecond(128_000)
+            .setLatencyMs(40)
+            .setErrorRate(0.2)
+            .setDropRate(0.1)
+            .build(),
+        null);
+  }
+
+  private interface Script {
+    void apply(ShapedHttpServer server);
+  }
+
+  private void run(String scenario, ShapedHttpServer.Profile profile, @Nullable Script script)
+      throws IOException, InterruptedException {
+    try (ShapedHttpServer server = new ShapedHttpServer(profile)) {
+      server.addFixture(MEDIA_PATH, MEDIA, "audio/wav");
+      if (script != null) {
+        script.apply(server);
+      }
+
+      long startNanos = System.nanoTime();
+      TextureMessage texture =
+          harness.plugin.create(
+              new CreateMessage.Builder()
+                  .setUri(server.uri(MEDIA_PATH))
+                  .setHttpHeaders(new HashMap<>())
+                  .build());
+      VideoPlayer player = harness.plugin.getVideoPlayer(texture.getTextureId());
+      harness.plugin.play(texture);
+
+      long readyMs = -1;
+      for (long elapsedMs = 0; elapsedMs < OBSERVE_MS; elapsedMs += TICK_MS) {
+        // ExoPlayer runs on Robolectric's clock, so keep it in step with the real network.
+        Thread.sleep(TICK_MS);
+        shadowOf(Looper.getMainLooper()).idleFor(TICK_MS, TimeUnit.MILLISECONDS);
+        if (readyMs < 0 && player != null && player.isInitialized) {
+          readyMs = (System.nanoTime() - startNanos) / 1_000_000;
+        }
+      }
+      PlaybackStatsMessage stats = harness.plugin.getStats(texture);
+      harness.plugin.dispose(texture);
+      PluginHarness.idleMainLooper();
+
+      System.out.printf(
+          "  %-30s %8s %8s %8s %3d %8s %9d  %s%n",
+          scenario,
+          readyMs < 0 ? "never" : readyMs + " ms",
+          orNa(stats.getJoinTimeMs()),
+          orNa(stats.getTimeToFirstFrameMs()),
+          stats.getRebufferCount(),
+          stats.getRebufferTimeMs() + " ms",
+          stats.getBytesLoaded(),
+          server);
+      assertTrue(scenario + " never reached the server", server.getRequestCount() > 0);
+    }
+  }
+
+  private static String orNa(@Nullable Long ms) {
+    return ms == null ? "n/a" : ms + " ms";
+  }
+}
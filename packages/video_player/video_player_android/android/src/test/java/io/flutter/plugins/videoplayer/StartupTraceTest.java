@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import com.google.android.exoplayer2.source.LoadEventInfo;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.util.Clock;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class StartupTraceTest {
+  private final EventTime eventTime = mock(EventTime.class);
+  private final LoadEventInfo loadEventInfo = mock(LoadEventInfo.class);
+  private long nowMs = 10_000;
+  private StartupTrace trace;
+
+  @Before
+  public void before() {
+    Clock clock = mock(Clock.class);
+    when(clock.elapsedRealtime()).thenAnswer(invocation -> nowMs);
+    trace = new StartupTrace(clock);
+  }
+
+  @Test
+  public void sectionsKeepTheirDurationsAndAddUpWhenRepeated() {
+    trace.begin(StartupTrace.SECTION_CREATE);
+    nowMs += 5;
+    trace.begin(StartupTrace.SECTION_RENDERERS);
+    nowMs += 20;
+    trace.end(StartupTrace.SECTION_RENDERERS);
+    nowMs += 3;
+    trace.end(StartupTrace.SECTION_CREATE);
+    trace.begin(StartupTrace.SECTION_RENDERERS);
+    nowMs += 7;
+    trace.end(StartupTrace.SECTION_RENDERERS);
+
+    Map<?, ?> sections = (Map<?, ?>) trace.toMap().get("sections");
+    assertEquals(28L, sections.get(StartupTrace.SECTION_CREATE));
+    assertEquals(27L, sections.get(StartupTrace.SECTION_RENDERERS));
+  }
+
+  @Test
+  public void milestonesAreTimedFromTheStartOfCreate() {
+    nowMs += 30;
+    trace.mark(StartupTrace.MILESTONE_PREPARED);
+    nowMs += 90;
+    trace.onLoadCompleted(eventTime, loadEventInfo, load(C.DATA_TYPE_MANIFEST));
+    nowMs += 150;
+    trace.onLoadCompleted(eventTime, loadEventInfo, load(C.DATA_TYPE_MEDIA));
+    nowMs += 40;
+    // Later segments do not move the milestone.
+    trace.onLoadCompleted(eventTime, loadEventInfo, load(C.DATA_TYPE_MEDIA));
+    trace.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    nowMs += 10;
+    trace.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    assertFalse(trace.isComplete());
+    nowMs += 15;
+    trace.onRenderedFirstFrame(eventTime, new Object(), nowMs);
+
+    assertTrue(trace.isComplete());
+    Map<?, ?> milestones = (Map<?, ?>) trace.toMap().get("milestones");
+    assertEquals(30L, milestones.get(StartupTrace.MILESTONE_PREPARED));
+    assertEquals(120L, milestones.get(StartupTrace.MILESTONE_MANIFEST_LOADED));
+    assertEquals(270L, milestones.get(StartupTrace.MILESTONE_FIRST_SEGMENT_LOADED));
+    assertEquals(320L, milestones.get(StartupTrace.MILESTONE_READY));
+    assertEquals(335L, milestones.get(StartupTrace.MILESTONE_FIRST_FRAME));
+    assertEquals(5, milestones.size());
+  }
+
+  @Test
+  public void nothingIsMarkedAfterTheFirstFrame() {
+    nowMs += 100;
+    trace.onRenderedFirstFrame(eventTime, new Object(), nowMs);
+    nowMs += 100;
+    trace.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+
+    Map<?, ?> milestones = (Map<?, ?>) trace.toMap().get("milestones");
+    assertEquals(1, milestones.size());
+    assertEquals(100L, milestones.get(StartupTrace.MILESTONE_FIRST_FRAME));
+  }
+
+  private static MediaLoadData load(int dataType) {
+    return new MediaLoadData(dataType);
+  }
+}
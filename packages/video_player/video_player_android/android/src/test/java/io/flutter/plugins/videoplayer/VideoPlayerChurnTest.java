@@ -0,0 +1,179 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import android.view.Surface;
+import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+/**
+ * Zaps through players the way a channel list does: create, play, seek and dispose, many times
+ * over, through {@link VideoPlayerPlugin} with real ExoPlayer instances and a local media file.
+ *
+ * <p>After every cycle it checks that the texture, the surface and the player's event channel
+ * handlers are released, and at the end that no ExoPlayer playback thread is left and that
+ * detaching clears every channel. Heap growth and per-cycle latency are printed, not asserted, so a
+ * slow machine does not fail the build.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class VideoPlayerChurnTest {
+  private static final int CYCLES = 1000;
+  // Cycles run before the heap baseline is taken, so class loading and JIT warmup are not counted.
+  private static final int WARMUP_CYCLES = 50;
+  private static final String PLAYBACK_THREAD_NAME = "ExoPlayer:Playback";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private PluginHarness harness;
+  private VideoPlayerPlugin plugin;
+  private String mediaUri;
+
+  @Before
+  public void before() throws IOException {
+    File media = temporaryFolder.newFile("silence.wav");
+    try (FileOutputStream output = new FileOutputStream(media)) {
+      output.write(PluginHarness.silentWav(500));
+    }
+    mediaUri = Uri.fromFile(media).toString();
+    harness = new PluginHarness();
+    plugin = harness.plugin;
+  }
+
+  @After
+  public void after() {
+    harness.close();
+  }
+
+  @Test
+  public void createPlaySeekDisposeCyclesReleaseEverything() throws InterruptedException {
+    int baselinePlaybackThreads = countPlaybackThreads();
+    CreateMessage createMessage =
+        new CreateMessage.Builder().setUri(mediaUri).setHttpHeaders(new HashMap<>()).build();
+    long[] cycleNanos = new long[CYCLES];
+    long heapBaseline = 0;
+
+    for (int i = 0; i < CYCLES; i++) {
+      if (i == WARMUP_CYCLES) {
+        heapBaseline = usedHeapAfterGc();
+      }
+      long start = System.nanoTime();
+
+      TextureMessage texture = plugin.create(createMessage);
+      long textureId = texture.getTextureId();
+      VideoPlayer player = plugin.getVideoPlayer(textureId);
+      assertNotNull(player);
+      Surface surface = player.getSurface();
+      assertNotNull(surface);
+      plugin.play(texture);
+      PluginHarness.idleMainLooper();
+      plugin.seekTo(
+          new PositionMessage.Builder().setTextureId(textureId).setPosition(250L).build());
+      PluginHarness.idleMainLooper();
+      plugin.dispose(texture);
+      PluginHarness.idleMainLooper();
+
+      cycleNanos[i] = System.nanoTime() - start;
+
+      assertFalse("texture " + textureId + " leaked", harness.liveTextures.contains(textureId));
+      assertFalse("surface of texture " + textureId + " leaked", surface.isValid());
+      assertFalse(harness.handlers.containsKey("flutter.io/videoPlayer/videoEvents" + textureId));
+      assertFalse(harness.handlers.containsKey("flutter.io/videoPlayer/statsEvents" + textureId));
+      assertNull(plugin.getVideoPlayer(textureId));
+    }
+    long heapGrowth = usedHeapAfterGc() - heapBaseline;
+
+    assertTrue(harness.liveTextures.isEmpty());
+    assertEquals(
+        "ExoPlayer instances leaked",
+        baselinePlaybackThreads,
+        awaitPlaybackThreads(baselinePlaybackThreads));
+
+    harness.detach();
+    assertTrue(
+        "channels left registered: " + harness.handlers.keySet(), harness.handlers.isEmpty());
+
+    report(cycleNanos, heapGrowth);
+  }
+
+  private static int countPlaybackThreads() {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.isAlive() && PLAYBACK_THREAD_NAME.equals(thread.getName())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** Released players quit their playback thread asynchronously, so give them a moment. */
+  private static int awaitPlaybackThreads(int expected) throws InterruptedException {
+    int count = countPlaybackThreads();
+    for (int attempt = 0; attempt < 50 && count > expected; attempt++) {
+      Thread.sleep(100);
+      count = countPlaybackThreads();
+    }
+    return count;
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static void report(long[] cycleNanos, long heapGrowth) {
+    long[] sorted = cycleNanos.clone();
+    Arrays.sort(sorted);
+    System.out.printf(
+        "Churn: %d cycles, per cycle mean %.2f ms, p50 %.2f ms, p95 %.2f ms, max %.2f ms%n",
+        CYCLES,
+        mean(cycleNanos, 0, CYCLES) / 1e6,
+        sorted[CYCLES / 2] / 1e6,
+        sorted[CYCLES * 95 / 100] / 1e6,
+        sorted[CYCLES - 1] / 1e6);
+    // A later window much slower than an early one points at state piling up across cycles.
+    System.out.printf(
+        "Churn: mean of cycles %d-%d %.2f ms, of the last 100 %.2f ms%n",
+        WARMUP_CYCLES,
+        WARMUP_CYCLES + 99,
+        mean(cycleNanos, WARMUP_CYCLES, WARMUP_CYCLES + 100) / 1e6,
+        mean(cycleNanos, CYCLES - 100, CYCLES) / 1e6);
+    System.out.printf(
+        "Churn: heap growth after %d cycles %d KiB (%d bytes per cycle)%n",
+        CYCLES - WARMUP_CYCLES,
+        heapGrowth / 1024,
+        heapGrowth / (CYCLES - WARMUP_CYCLES));
+  }
+
+  private static double mean(long[] values, int from, int to) {
+    long sum = 0;
+    for (int i = from; i < to; i++) {
+      sum += values[i];
+    }
+    return (double) sum / (to - from);
+  }
+}
@@ -5,7 +5,10 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -15,12 +18,22 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import com.google.android.exoplayer2.source.hls.HlsMediaSource;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +54,7 @@ public class VideoPlayerTest {
   private DefaultHttpDataSource.Factory httpDataSourceFactorySpy;
 
   @Captor private ArgumentCaptor<HashMap<String, Object>> eventCaptor;
+  @Captor private ArgumentCaptor<List<MediaSource>> mediaSourcesCaptor;
 
   @Before
   public void before() {
@@ -278,4 +292,203 @@ public class VideoPlayerTest {
     assertEquals(event2.get("event"), "isPlayingStateUpdate");
     assertEquals(event2.get("isPlaying"), false);
   }
+
+  @Test
+  public void suspendDisablesVideoAndResumeRestoresIt() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getTrackSelectionParameters())
+        .thenReturn(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+    when(fakeExoPlayer.getPlayWhenReady()).thenReturn(true);
+    ArgumentCaptor<TrackSelectionParameters> parameters =
+        ArgumentCaptor.forClass(TrackSelectionParameters.class);
+
+    videoPlayer.suspend();
+    videoPlayer.play();
+
+    verify(fakeExoPlayer).setPlayWhenReady(false);
+    verify(fakeExoPlayer).clearVideoSurface(videoPlayer.getSurface());
+    verify(fakeExoPlayer).setTrackSelectionParameters(parameters.capture());
+    assertTrue(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+
+    videoPlayer.resume();
+
+    // Once when the player was set up, once on resume.
+    verify(fakeExoPlayer, times(2)).setVideoSurface(videoPlayer.getSurface());
+    verify(fakeExoPlayer, times(2)).setTrackSelectionParameters(parameters.capture());
+    assertFalse(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+    verify(fakeExoPlayer).setPlayWhenReady(true);
+  }
+
+  @Test
+  public void audioOnlyDisablesVideoWithoutPausing() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getTrackSelectionParameters())
+        .thenReturn(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+    ArgumentCaptor<TrackSelectionParameters> parameters =
+        ArgumentCaptor.forClass(TrackSelectionParameters.class);
+
+    videoPlayer.setAudioOnly(true);
+
+    verify(fakeExoPlayer).clearVideoSurface(videoPlayer.getSurface());
+    verify(fakeExoPlayer).setTrackSelectionParameters(parameters.capture());
+    assertTrue(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+    verify(fakeExoPlayer, never()).setPlayWhenReady(anyBoolean());
+
+    videoPlayer.setAudioOnly(false);
+
+    // Once when the player was set up, once when video came back.
+    verify(fakeExoPlayer, times(2)).setVideoSurface(videoPlayer.getSurface());
+    verify(fakeExoPlayer, times(2)).setTrackSelectionParameters(parameters.capture());
+    assertFalse(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+  }
+
+  @Test
+  public void setViewportSizeSizesTheViewportInPhysicalPixels() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getTrackSelectionParameters())
+        .thenReturn(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+    ArgumentCaptor<TrackSelectionParameters> parameters =
+        ArgumentCaptor.forClass(TrackSelectionParameters.class);
+
+    videoPlayer.setViewportSize(320, 180.2, 2.0);
+
+    verify(fakeExoPlayer).setTrackSelectionParameters(parameters.capture());
+    assertEquals(640, parameters.getValue().viewportWidth);
+    assertEquals(361, parameters.getValue().viewportHeight);
+    assertFalse(parameters.getValue().viewportOrientationMayChange);
+    // The viewport picks the smallest covering track; it is not a hard cap on the video size.
+    assertEquals(Integer.MAX_VALUE, parameters.getValue().maxVideoWidth);
+    assertEquals(Integer.MAX_VALUE, parameters.getValue().maxVideoHeight);
+  }
+
+  @Test
+  public void setQueueReplacesTheItemsAfterTheCurrentOne() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getCurrentMediaItemIndex()).thenReturn(1);
+    when(fakeExoPlayer.getMediaItemCount()).thenReturn(4);
+
+    videoPlayer.setQueue(
+        Arrays.asList(
+            queueItem("https://example.com/next.m3u8", "hls"),
+            queueItem("https://example.com/last.mp4", null)));
+
+    verify(fakeExoPlayer).removeMediaItems(2, 4);
+    verify(fakeExoPlayer).addMediaSources(mediaSourcesCaptor.capture());
+    List<MediaSource> sources = mediaSourcesCaptor.getValue();
+    assertEquals(2, sources.size());
+    assertTrue(sources.get(0) instanceof HlsMediaSource);
+    assertEquals(
+        Uri.parse("https://example.com/next.m3u8"),
+        sources.get(0).getMediaItem().localConfiguration.uri);
+    assertTrue(sources.get(1) instanceof ProgressiveMediaSource);
+    assertEquals(
+        Uri.parse("https://example.com/last.mp4"),
+        sources.get(1).getMediaItem().localConfiguration.uri);
+  }
+
+  @Test
+  public void setQueueOnTheLastItemOnlyAppends() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getCurrentMediaItemIndex()).thenReturn(0);
+    when(fakeExoPlayer.getMediaItemCount()).thenReturn(1);
+
+    videoPlayer.setQueue(Collections.singletonList(queueItem("https://example.com/next.mp4", null)));
+
+    verify(fakeExoPlayer, never()).removeMediaItems(anyInt(), anyInt());
+    verify(fakeExoPlayer).addMediaSources(mediaSourcesCaptor.capture());
+    assertEquals(1, mediaSourcesCaptor.getValue().size());
+  }
+
+  @Test
+  public void addToQueueKeepsTheQueuedItems() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getCurrentMediaItemIndex()).thenReturn(0);
+    when(fakeExoPlayer.getMediaItemCount()).thenReturn(3);
+
+    videoPlayer.addToQueue(
+        Collections.singletonList(queueItem("https://example.com/extra.mpd", "dash")));
+
+    verify(fakeExoPlayer, never()).removeMediaItems(anyInt(), anyInt());
+    verify(fakeExoPlayer).addMediaSources(mediaSourcesCaptor.capture());
+    assertEquals(1, mediaSourcesCaptor.getValue().size());
+    assertTrue(mediaSourcesCaptor.getValue().get(0) instanceof DashMediaSource);
+  }
+
+  @Test
+  public void skipToIndexStartsTheItemAtItsDefaultPosition() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getMediaItemCount()).thenReturn(3);
+
+    videoPlayer.skipToIndex(2);
+
+    verify(fakeExoPlayer).seekToDefaultPosition(2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void skipToIndexRejectsIndicesOutsideTheQueue() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    when(fakeExoPlayer.getMediaItemCount()).thenReturn(2);
+
+    videoPlayer.skipToIndex(2);
+  }
+
+  private static Messages.QueueItemMessage queueItem(String uri, String formatHint) {
+    return new Messages.QueueItemMessage.Builder().setUri(uri).setFormatHint(formatHint).build();
+  }
 }
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:convert';
 
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -15,6 +16,20 @@ import 'messages.g.dart';
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
 
+  // The fast channel carries the hottest calls as fixed-layout binary
+  // messages instead of Pigeon messages; the layout is documented in
+  // FastChannel.java.
+  static const String _fastChannel = 'flutter.io/videoPlayer/fast';
+  static const int _fastPosition = 0;
+  static const int _fastSeekTo = 1;
+  static const int _fastPlay = 2;
+  static const int _fastPause = 3;
+  static const int _fastSetVolume = 4;
+  // The engine copies a message when it is sent, so one request buffer is
+  // reused for every call.
+  final ByteData _fastRequest = ByteData(24);
+  bool _fastChannelAvailable = true;
+
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
     VideoPlayerPlatform.instance = AndroidVideoPlayer();
@@ -36,6 +51,11 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     String? packageName;
     String? uri;
     String? formatHint;
+    LiveConfiguration? liveConfiguration;
+    VideoContainer? containerHint;
+    int? maxParallelConnections;
+    List<String>? mirrors;
+    RetryPolicy? retryPolicy;
     Map<String, String> httpHeaders = <String, String>{};
     switch (dataSource.sourceType) {
       case DataSourceType.asset:
@@ -46,6 +66,11 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         uri = dataSource.uri;
         formatHint = _videoFormatStringMap[dataSource.formatHint];
         httpHeaders = dataSource.httpHeaders;
+        liveConfiguration = dataSource.liveConfiguration;
+        containerHint = dataSource.containerHint;
+        maxParallelConnections = dataSource.maxParallelConnections;
+        mirrors = dataSource.mirrors;
+        retryPolicy = dataSource.retryPolicy;
         break;
       case DataSourceType.file:
         uri = dataSource.uri;
@@ -61,6 +86,17 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
+      liveTargetOffsetMs: liveConfiguration?.targetOffset?.inMilliseconds,
+      liveMinPlaybackSpeed: liveConfiguration?.minPlaybackSpeed,
+      liveMaxPlaybackSpeed: liveConfiguration?.maxPlaybackSpeed,
+      liveLowLatency: liveConfiguration?.lowLatency,
+      containerHint: containerHint?.name,
+      maxParallelConnections: maxParallelConnections,
+      mirrorUris: mirrors,
+      retryAttempts: retryPolicy?.attempts,
+      retryBackoffMs: retryPolicy?.backoff.inMilliseconds,
+      retryStatusCodes: retryPolicy?.statusCodes,
+      maxRecoveryAttempts: dataSource.maxRecoveryAttempts,
     );
 
     final TextureMessage response = await _api.create(message);
@@ -76,23 +112,129 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
   }
 
   @override
-  Future<void> play(int textureId) {
-    return _api.play(TextureMessage(textureId: textureId));
+  Future<void> play(int textureId) async {
+    if (await _sendFast(_fastPlay, textureId) == null) {
+      return _api.play(TextureMessage(textureId: textureId));
+    }
   }
 
   @override
-  Future<void> pause(int textureId) {
-    return _api.pause(TextureMessage(textureId: textureId));
+  Future<void> pause(int textureId) async {
+    if (await _sendFast(_fastPause, textureId) == null) {
+      return _api.pause(TextureMessage(textureId: textureId));
+    }
   }
 
-  @override
-  Future<void> setVolume(int textureId, double volume) {
-    return _api.setVolume(VolumeMessage(
+  /// Pauses the player with [textureId] and frees its video decoder and
+  /// surface, keeping what it buffered, for a player that went off-screen.
+  ///
+  /// Cheaper to come back from than [dispose], and frees more than [pause].
+  /// [play] and [pause] calls made while suspended take effect on [resume].
+  Future<void> suspend(int textureId) {
+    return _api.suspend(TextureMessage(textureId: textureId));
+  }
+
+  /// Brings back the video of a player suspended with [suspend], from where
+  /// it was, and resumes playback if it was playing.
+  Future<void> resume(int textureId) {
+    return _api.resume(TextureMessage(textureId: textureId));
+  }
+
+  /// Plays only the audio of the player with [textureId], for background
+  /// listening, or brings its video back when [audioOnly] is false.
+  ///
+  /// Video is neither decoded nor, for DASH and HLS with separate audio
+  /// renditions, downloaded meanwhile. It comes back from the next keyframe.
+  Future<void> setAudioOnly(int textureId, bool audioOnly) {
+    return _api.setAudioOnly(
+        AudioOnlyMessage(textureId: textureId, audioOnly: audioOnly));
+  }
+
+  /// Ranks the player with [textureId] for the hardware video decoders all
+  /// players share. Players start as [DecoderPriority.visible].
+  ///
+  /// The highest ranked players, older ones first on a tie, decode in
+  /// hardware. Other visible players decode in software at 360p at most, and
+  /// background players decode no video until their priority goes up.
+  Future<void> setDecoderPriority(int textureId, DecoderPriority priority) {
+    return _api.setDecoderPriority(DecoderPriorityMessage(
       textureId: textureId,
-      volume: volume,
+      priority: priority.index,
     ));
   }
 
+  /// Ranks the network loads of the player with [textureId] against those of
+  /// other players. Players start as [NetworkPriority.normal].
+  ///
+  /// While a player is loading with less than 15 seconds buffered, players
+  /// of a lower priority stop downloading until it has caught up.
+  Future<void> setNetworkPriority(int textureId, NetworkPriority priority) {
+    return _api.setNetworkPriority(NetworkPriorityMessage(
+      textureId: textureId,
+      priority: priority.index,
+    ));
+  }
+
+  /// Sets how many players may decode in hardware at once. Null goes back to
+  /// what the device reports, which tends to be more than it can sustain.
+  Future<void> setMaxHardwareDecoders(int? maxHardwareDecoders) {
+    return _api.setDecoderBudget(
+        DecoderBudgetMessage(maxHardwareDecoders: maxHardwareDecoders));
+  }
+
+  /// Tells the player with [textureId] how big its widget is, in logical
+  /// pixels, so that adaptive streams skip renditions larger than the widget
+  /// shows at [devicePixelRatio]. [Size.zero] sizes them for the display
+  /// again.
+  Future<void> setViewportSize(
+    int textureId,
+    Size size,
+    double devicePixelRatio,
+  ) {
+    return _api.setViewportSize(ViewportMessage(
+      textureId: textureId,
+      width: size.width,
+      height: size.height,
+      devicePixelRatio: devicePixelRatio,
+    ));
+  }
+
+  /// Resolves and connects to [hosts] ahead of time, so that the first
+  /// player opening a stream on them skips DNS, TCP and TLS. Hosts may be
+  /// bare names, which are taken to be HTTPS, or URLs. The hosts of recent
+  /// players are warmed on their own when the app starts.
+  Future<void> warmup(List<String> hosts) {
+    return _api.warmup(WarmupMessage(hosts: hosts));
+  }
+
+  /// Sets how long HLS playlists and DASH manifests are kept for players that
+  /// open the same stream with the same headers. [ttl] applies to
+  /// multivariant playlists and VOD, [livePlaylistTtl] to live media
+  /// playlists and manifests, and a `Cache-Control` header on the response
+  /// takes precedence over both. Null goes back to the defaults of one minute
+  /// and zero, and [Duration.zero] turns caching off. Cached manifests are
+  /// dropped.
+  Future<void> setManifestCacheTtl({
+    Duration? ttl,
+    Duration? livePlaylistTtl,
+  }) {
+    return _api.setManifestCache(ManifestCacheMessage(
+      ttlMs: ttl?.inMilliseconds,
+      liveTtlMs: livePlaylistTtl?.inMilliseconds,
+    ));
+  }
+
+  @override
+  Future<void> setVolume(int textureId, double volume) async {
+    if (await _sendFast(_fastSetVolume, textureId, doubleArgument: volume) ==
+        null) {
+      return _api.setVolume(VolumeMessage(
+        textureId: textureId,
+        volume: volume,
+      ));
+    }
+  }
+
   @override
   Future<void> setPlaybackSpeed(int textureId, double speed) {
     assert(speed > 0);
@@ -104,11 +246,15 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
   }
 
   @override
-  Future<void> seekTo(int textureId, Duration position) {
-    return _api.seekTo(PositionMessage(
-      textureId: textureId,
-      position: position.inMilliseconds,
-    ));
+  Future<void> seekTo(int textureId, Duration position) async {
+    if (await _sendFast(_fastSeekTo, textureId,
+            intArgument: position.inMilliseconds) ==
+        null) {
+      return _api.seekTo(PositionMessage(
+        textureId: textureId,
+        position: position.inMilliseconds,
+      ));
+    }
   }
 
   @override
@@ -143,11 +289,30 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<Duration> getPosition(int textureId) async {
+    final ByteData? reply = await _sendFast(_fastPosition, textureId);
+    if (reply != null) {
+      return Duration(milliseconds: reply.getInt64(8, Endian.little));
+    }
     final PositionMessage response =
         await _api.position(TextureMessage(textureId: textureId));
     return Duration(milliseconds: response.position);
   }
 
+  /// Returns how far behind the live edge the player is, or null when the
+  /// current media is not live.
+  Future<Duration?> getLiveOffset(int textureId) async {
+    final ByteData? reply = await _sendFast(_fastPosition, textureId);
+    if (reply != null) {
+      return reply.getUint8(1) == 0
+          ? null
+          : Duration(milliseconds: reply.getInt64(16, Endian.little));
+    }
+    final PositionMessage response =
+        await _api.position(TextureMessage(textureId: textureId));
+    final int? liveOffset = response.liveOffset;
+    return liveOffset == null ? null : Duration(milliseconds: liveOffset);
+  }
+
   @override
   Future<List<EmbeddedSubtitle>> getEmbeddedSubtitles(int textureId) async {
     final List<GetEmbeddedSubtitlesMessage?> response =
@@ -182,6 +347,234 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 
+  /// Replaces the items queued after the one currently playing.
+  ///
+  /// The next item is buffered while the current one is still playing, so
+  /// the transition is gapless.
+  Future<void> setQueue(int textureId, List<DataSource> items) {
+    return _api.setQueue(QueueMessage(
+      textureId: textureId,
+      items: items.map(_toQueueItem).toList(),
+    ));
+  }
+
+  /// Appends [items] to the end of the queue.
+  Future<void> addToQueue(int textureId, List<DataSource> items) {
+    return _api.addToQueue(QueueMessage(
+      textureId: textureId,
+      items: items.map(_toQueueItem).toList(),
+    ));
+  }
+
+  /// Starts playing the queue item at [index], where the item the player was
+  /// created with is at index 0.
+  Future<void> skipToIndex(int textureId, int index) {
+    return _api.skipToIndex(QueueIndexMessage(
+      textureId: textureId,
+      index: index,
+    ));
+  }
+
+  /// Queues a download of [dataSource] for offline playback under [id].
+  ///
+  /// For DASH, HLS and Smooth Streaming, only the best video rendition within
+  /// [maxVideoBitrate] and [maxVideoHeight] is downloaded, together with the
+  /// audio renditions of [audioLanguages] (or the default one).
+  ///
+  /// Once completed, creating a player for the same uri plays the download
+  /// without any network access. Progress is reported by [downloadEvents].
+  Future<void> startDownload(
+    String id,
+    DataSource dataSource, {
+    int? maxVideoBitrate,
+    int? maxVideoHeight,
+    List<String>? audioLanguages,
+  }) {
+    assert(dataSource.uri != null, 'Only uri based sources can be downloaded.');
+    return _api.startDownload(DownloadMessage(
+      id: id,
+      uri: dataSource.uri!,
+      formatHint: _videoFormatStringMap[dataSource.formatHint],
+      httpHeaders: dataSource.httpHeaders,
+      maxVideoBitrate: maxVideoBitrate,
+      maxVideoHeight: maxVideoHeight,
+      audioLanguages: audioLanguages,
+    ));
+  }
+
+  /// Cancels the download [id] if needed and deletes what it downloaded.
+  Future<void> removeDownload(String id) {
+    return _api.removeDownload(DownloadIdMessage(id: id));
+  }
+
+  /// Returns every download that is queued, running, completed or failed.
+  Future<List<OfflineDownload>> getDownloads() async {
+    final List<DownloadStateMessage?> downloads = await _api.getDownloads();
+    return downloads
+        .whereType<DownloadStateMessage>()
+        .map((DownloadStateMessage download) => OfflineDownload(
+              id: download.id,
+              uri: download.uri,
+              state: _toDownloadState(download.state),
+              percentDownloaded: download.percentDownloaded,
+              bytesDownloaded: download.bytesDownloaded,
+            ))
+        .toList();
+  }
+
+  /// Pauses or resumes all downloads, and sets how many of them may run at
+  /// the same time. Null arguments leave the setting unchanged.
+  ///
+  /// Downloads resume on their own after the app was restarted, unless they
+  /// were paused.
+  Future<void> setDownloadSettings({bool? paused, int? maxParallelDownloads}) {
+    return _api.setDownloadSettings(DownloadSettingsMessage(
+      paused: paused,
+      maxParallelDownloads: maxParallelDownloads,
+    ));
+  }
+
+  /// State changes and progress of all downloads.
+  Stream<OfflineDownload> downloadEvents() {
+    return const EventChannel('flutter.io/videoPlayer/downloadEvents')
+        .receiveBroadcastStream()
+        .map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      return OfflineDownload(
+        id: map['id'] as String,
+        uri: map['uri'] as String,
+        state: map['event'] == 'downloadRemoved'
+            ? DownloadState.removed
+            : _toDownloadState(map['state'] as int),
+        percentDownloaded: (map['percentDownloaded'] as num?)?.toDouble(),
+        bytesDownloaded: map['bytesDownloaded'] as int? ?? 0,
+      );
+    });
+  }
+
+  /// What the players gave back each time the system reported memory
+  /// pressure, and when the buffer and resolution caps were lifted again.
+  Stream<MemoryPressureEvent> memoryPressureEvents() {
+    return const EventChannel('flutter.io/videoPlayer/memoryEvents')
+        .receiveBroadcastStream()
+        .map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      return MemoryPressureEvent(
+        step: _memoryPressureSteps[map['step']] ?? MemoryPressureStep.restored,
+        trimLevel: map['level'] as int,
+        textureIds: (map['textureIds'] as List<dynamic>).cast<int>(),
+      );
+    });
+  }
+
+  /// Each time a player moved its loads to the next of the
+  /// [DataSource.mirrors] after they kept failing on its current CDN.
+  Stream<FailoverEvent> failoverEvents() {
+    return const EventChannel('flutter.io/videoPlayer/failoverEvents')
+        .receiveBroadcastStream()
+        .map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      return FailoverEvent(
+        textureId: map['textureId'] as int,
+        from: map['from'] as String,
+        to: map['to'] as String,
+        reason: map['reason'] as String,
+        statusCode: map['statusCode'] as int?,
+      );
+    });
+  }
+
+  /// Quality of experience figures of the player with [textureId] so far.
+  Future<PlaybackStats> getStats(int textureId) async {
+    return PlaybackStats._fromMessage(
+        await _api.getStats(TextureMessage(textureId: textureId)));
+  }
+
+  /// Figures of the player with [textureId], pushed every [interval] while
+  /// the stream is listened to.
+  Stream<PlaybackStats> statsEventsFor(
+    int textureId, {
+    Duration interval = const Duration(seconds: 1),
+  }) {
+    return EventChannel('flutter.io/videoPlayer/statsEvents$textureId')
+        .receiveBroadcastStream(interval.inMilliseconds)
+        .map((dynamic event) => PlaybackStats._fromMessage(
+            PlaybackStatsMessage.decode(event as Object)));
+  }
+
+  /// Sends [opcode] for [textureId] on the fast channel and returns the reply,
+  /// or null when the host does not handle the fast channel, in which case the
+  /// caller uses the Pigeon API instead.
+  Future<ByteData?> _sendFast(
+    int opcode,
+    int textureId, {
+    int intArgument = 0,
+    double? doubleArgument,
+  }) async {
+    if (!_fastChannelAvailable) {
+      return null;
+    }
+    _fastRequest
+      ..setUint8(0, opcode)
+      ..setInt64(8, textureId, Endian.little);
+    if (doubleArgument != null) {
+      _fastRequest.setFloat64(16, doubleArgument, Endian.little);
+    } else {
+      _fastRequest.setInt64(16, intArgument, Endian.little);
+    }
+    final ByteData? reply = await ServicesBinding
+        .instance.defaultBinaryMessenger
+        .send(_fastChannel, _fastRequest);
+    if (reply == null) {
+      _fastChannelAvailable = false;
+      return null;
+    }
+    if (reply.getUint8(0) != 0) {
+      throw PlatformException(
+        code: 'error',
+        message: utf8.decode(reply.buffer.asUint8List(
+            reply.offsetInBytes + 1, reply.lengthInBytes - 1)),
+      );
+    }
+    return reply;
+  }
+
+  static DownloadState _toDownloadState(int state) {
+    switch (state) {
+      case 0:
+        return DownloadState.queued;
+      case 1:
+        return DownloadState.stopped;
+      case 2:
+        return DownloadState.downloading;
+      case 3:
+        return DownloadState.completed;
+      case 4:
+        return DownloadState.failed;
+      case 5:
+        return DownloadState.removing;
+      default:
+        return DownloadState.restarting;
+    }
+  }
+
+  // Indexed by ExoPlayer's MEDIA_ITEM_TRANSITION_REASON_* constants.
+  static const Map<int, MediaItemTransitionReason> _mediaItemTransitionReasons =
+      <int, MediaItemTransitionReason>{
+    0: MediaItemTransitionReason.repeat,
+    1: MediaItemTransitionReason.auto,
+    2: MediaItemTransitionReason.seek,
+    3: MediaItemTransitionReason.playlistChanged,
+  };
+
+  QueueItemMessage _toQueueItem(DataSource dataSource) {
+    assert(dataSource.uri != null, 'Only uri based sources can be queued.');
+    return QueueItemMessage(
+      uri: dataSource.uri!,
+      formatHint: _videoFormatStringMap[dataSource.formatHint],
+    );
+  }
+
   @override
   Stream<VideoEvent> videoEventsFor(int textureId) {
     return _eventChannelFor(textureId)
@@ -196,6 +589,7 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
             size: Size((map['width'] as num?)?.toDouble() ?? 0.0,
                 (map['height'] as num?)?.toDouble() ?? 0.0),
             rotationCorrection: map['rotationCorrection'] as int? ?? 0,
+            startup: _toStartupBreakdown(map['startup']),
           );
         case 'completed':
           return VideoEvent(
@@ -222,6 +616,19 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
             eventType: VideoEventType.subtitleUpdate,
             bufferedData: map['value'] as String?,
           );
+        case 'mediaItemTransition':
+          return VideoEvent(
+            eventType: VideoEventType.mediaItemTransition,
+            queueIndex: map['index'] as int,
+            transitionReason:
+                _mediaItemTransitionReasons[map['reason'] as int?],
+          );
+        case 'recovering':
+          return VideoEvent(
+            eventType: VideoEventType.recovering,
+            recoveryAttempt: map['attempt'] as int,
+            errorCode: map['errorCode'] as int?,
+          );
         default:
           return VideoEvent(eventType: VideoEventType.unknown);
       }
@@ -251,6 +658,21 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     VideoFormat.other: 'other',
   };
 
+  StartupBreakdown? _toStartupBreakdown(dynamic value) {
+    if (value == null) {
+      return null;
+    }
+    final Map<dynamic, dynamic> map = value as Map<dynamic, dynamic>;
+    Map<String, Duration> toDurations(dynamic phases) =>
+        (phases as Map<dynamic, dynamic>).map((dynamic name, dynamic ms) =>
+            MapEntry<String, Duration>(
+                name as String, Duration(milliseconds: ms as int)));
+    return StartupBreakdown(
+      sections: toDurations(map['sections']),
+      milestones: toDurations(map['milestones']),
+    );
+  }
+
   DurationRange _toDurationRange(dynamic value) {
     final List<dynamic> pair = value as List<dynamic>;
     return DurationRange(
@@ -259,3 +681,245 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// The state of an [OfflineDownload].
+enum DownloadState {
+  /// Waiting for a free download slot or for the network.
+  queued,
+
+  /// Paused.
+  stopped,
+
+  /// Downloading.
+  downloading,
+
+  /// Downloaded and playable offline.
+  completed,
+
+  /// Failed; remove it and start it again to retry.
+  failed,
+
+  /// Being deleted.
+  removing,
+
+  /// Being deleted before it starts again.
+  restarting,
+
+  /// Deleted. Only reported by [AndroidVideoPlayer.downloadEvents].
+  removed,
+}
+
+/// A download made with [AndroidVideoPlayer.startDownload].
+@immutable
+class OfflineDownload {
+  /// Constructs an instance of [OfflineDownload].
+  const OfflineDownload({
+    required this.id,
+    required this.uri,
+    required this.state,
+    this.percentDownloaded,
+    this.bytesDownloaded = 0,
+  });
+
+  /// The id the download was started with.
+  final String id;
+
+  /// The uri that was downloaded.
+  final String uri;
+
+  /// What the download is doing.
+  final DownloadState state;
+
+  /// How much is downloaded, from 0 to 100, or null while it is not known.
+  final double? percentDownloaded;
+
+  /// How many bytes are downloaded.
+  final int bytesDownloaded;
+}
+
+/// How much a player needs a hardware video decoder, see
+/// [AndroidVideoPlayer.setDecoderPriority].
+enum DecoderPriority {
+  /// Not on screen: no video decoder at all.
+  background,
+
+  /// On screen: a hardware decoder if one is left.
+  visible,
+
+  /// The player the user is watching: hardware first.
+  focused,
+}
+
+/// How much a player's downloads matter, see
+/// [AndroidVideoPlayer.setNetworkPriority].
+enum NetworkPriority {
+  /// Preloads and players off screen: waits for all other players.
+  background,
+
+  /// Players on screen.
+  normal,
+
+  /// The player the user is watching: never waits for others.
+  foreground,
+}
+
+const Map<String, MemoryPressureStep> _memoryPressureSteps =
+    <String, MemoryPressureStep>{
+  'restored': MemoryPressureStep.restored,
+  'trimBuffers': MemoryPressureStep.trimBuffers,
+  'minimizeBuffers': MemoryPressureStep.minimizeBuffers,
+  'capResolution': MemoryPressureStep.capResolution,
+  'releasePaused': MemoryPressureStep.releasePaused,
+};
+
+/// What the players did about memory pressure, from the mildest step to the
+/// most degrading one. Each step includes the ones before it.
+enum MemoryPressureStep {
+  /// Pressure is over: the buffer and resolution caps are lifted. Released
+  /// players stay released until they are played again.
+  restored,
+
+  /// Players stop buffering more than 15 seconds ahead.
+  trimBuffers,
+
+  /// Players stop buffering more than 5 seconds ahead.
+  minimizeBuffers,
+
+  /// Adaptive streams are kept at 720p or below.
+  capResolution,
+
+  /// Paused players are stopped, releasing their decoders and buffers. They
+  /// resume from the same position when played again. Only happens while the
+  /// app is in the background.
+  releasePaused,
+}
+
+/// One step reported by [AndroidVideoPlayer.memoryPressureEvents].
+@immutable
+class MemoryPressureEvent {
+  /// Constructs an instance of [MemoryPressureEvent].
+  const MemoryPressureEvent({
+    required this.step,
+    required this.trimLevel,
+    required this.textureIds,
+  });
+
+  /// What was done.
+  final MemoryPressureStep step;
+
+  /// The `ComponentCallbacks2` trim level that called for it, or 0 for
+  /// [MemoryPressureStep.restored].
+  final int trimLevel;
+
+  /// The players it changed.
+  final List<int> textureIds;
+}
+
+/// One mirror switch reported by [AndroidVideoPlayer.failoverEvents].
+@immutable
+class FailoverEvent {
+  /// Constructs an instance of [FailoverEvent].
+  const FailoverEvent({
+    required this.textureId,
+    required this.from,
+    required this.to,
+    required this.reason,
+    this.statusCode,
+  });
+
+  /// The player that switched.
+  final int textureId;
+
+  /// The part of the URLs loads were sent to until now.
+  final String from;
+
+  /// The part of the URLs loads are sent to from now on.
+  final String to;
+
+  /// The error of the last failed load.
+  final String reason;
+
+  /// The HTTP status of the last failed load, if the server answered.
+  final int? statusCode;
+}
+
+/// Quality of experience figures of one player, see
+/// [AndroidVideoPlayer.getStats].
+@immutable
+class PlaybackStats {
+  /// Constructs an instance of [PlaybackStats].
+  const PlaybackStats({
+    this.timeToFirstFrame,
+    this.joinTime,
+    required this.playTime,
+    required this.rebufferCount,
+    required this.rebufferTime,
+    required this.rebufferRatio,
+    required this.bitrateSwitches,
+    this.videoBitrate,
+    required this.droppedFrames,
+    this.videoDecoderInitTime,
+    this.audioDecoderInitTime,
+    required this.bytesLoaded,
+    this.bandwidthEstimate,
+  });
+
+  PlaybackStats._fromMessage(PlaybackStatsMessage message)
+      : timeToFirstFrame = _toDuration(message.timeToFirstFrameMs),
+        joinTime = _toDuration(message.joinTimeMs),
+        playTime = Duration(milliseconds: message.playTimeMs),
+        rebufferCount = message.rebufferCount,
+        rebufferTime = Duration(milliseconds: message.rebufferTimeMs),
+        rebufferRatio = message.rebufferRatio,
+        bitrateSwitches = message.bitrateSwitches,
+        videoBitrate = message.videoBitrate,
+        droppedFrames = message.droppedFrames,
+        videoDecoderInitTime = _toDuration(message.videoDecoderInitMs),
+        audioDecoderInitTime = _toDuration(message.audioDecoderInitMs),
+        bytesLoaded = message.bytesLoaded,
+        bandwidthEstimate = message.bandwidthEstimate;
+
+  /// From the creation of the player to its first rendered frame, or null
+  /// before that frame.
+  final Duration? timeToFirstFrame;
+
+  /// From the first play request to the first moment of playback, or null
+  /// before that.
+  final Duration? joinTime;
+
+  /// How long the player has been playing.
+  final Duration playTime;
+
+  /// How many times playback stalled for lack of data after it started.
+  final int rebufferCount;
+
+  /// How long those stalls lasted in total.
+  final Duration rebufferTime;
+
+  /// [rebufferTime] over [rebufferTime] plus [playTime], from 0 to 1.
+  final double rebufferRatio;
+
+  /// How many times the video bitrate changed.
+  final int bitrateSwitches;
+
+  /// The bitrate of the video being loaded, in bits per second, if known.
+  final int? videoBitrate;
+
+  /// How many video frames were dropped.
+  final int droppedFrames;
+
+  /// How long the last video decoder took to initialize, if one did.
+  final Duration? videoDecoderInitTime;
+
+  /// How long the last audio decoder took to initialize, if one did.
+  final Duration? audioDecoderInitTime;
+
+  /// How many media bytes were loaded.
+  final int bytesLoaded;
+
+  /// The latest bandwidth estimate, in bits per second, if there is one.
+  final int? bandwidthEstimate;
+
+  static Duration? _toDuration(int? milliseconds) =>
+      milliseconds == null ? null : Duration(milliseconds: milliseconds);
+}
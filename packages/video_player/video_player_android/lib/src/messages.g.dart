@@ -145,16 +145,20 @@ class PositionMessage {
   PositionMessage({
     required this.textureId,
     required this.position,
+    this.liveOffset,
   });
 
   int textureId;
 
   int position;
 
+  int? liveOffset;
+
   Object encode() {
     return <Object?>[
       textureId,
       position,
+      liveOffset,
     ];
   }
 
@@ -163,6 +167,88 @@ class PositionMessage {
     return PositionMessage(
       textureId: result[0]! as int,
       position: result[1]! as int,
+      liveOffset: result[2] as int?,
+    );
+  }
+}
+
+class PlaybackStatsMessage {
+  PlaybackStatsMessage({
+    this.timeToFirstFrameMs,
+    this.joinTimeMs,
+    required this.playTimeMs,
+    required this.rebufferCount,
+    required this.rebufferTimeMs,
+    required this.rebufferRatio,
+    required this.bitrateSwitches,
+    this.videoBitrate,
+    required this.droppedFrames,
+    this.videoDecoderInitMs,
+    this.audioDecoderInitMs,
+    required this.bytesLoaded,
+    this.bandwidthEstimate,
+  });
+
+  int? timeToFirstFrameMs;
+
+  int? joinTimeMs;
+
+  int playTimeMs;
+
+  int rebufferCount;
+
+  int rebufferTimeMs;
+
+  double rebufferRatio;
+
+  int bitrateSwitches;
+
+  int? videoBitrate;
+
+  int droppedFrames;
+
+  int? videoDecoderInitMs;
+
+  int? audioDecoderInitMs;
+
+  int bytesLoaded;
+
+  int? bandwidthEstimate;
+
+  Object encode() {
+    return <Object?>[
+      timeToFirstFrameMs,
+      joinTimeMs,
+      playTimeMs,
+      rebufferCount,
+      rebufferTimeMs,
+      rebufferRatio,
+      bitrateSwitches,
+      videoBitrate,
+      droppedFrames,
+      videoDecoderInitMs,
+      audioDecoderInitMs,
+      bytesLoaded,
+      bandwidthEstimate,
+    ];
+  }
+
+  static PlaybackStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaybackStatsMessage(
+      timeToFirstFrameMs: result[0] as int?,
+      joinTimeMs: result[1] as int?,
+      playTimeMs: result[2]! as int,
+      rebufferCount: result[3]! as int,
+      rebufferTimeMs: result[4]! as int,
+      rebufferRatio: result[5]! as double,
+      bitrateSwitches: result[6]! as int,
+      videoBitrate: result[7] as int?,
+      droppedFrames: result[8]! as int,
+      videoDecoderInitMs: result[9] as int?,
+      audioDecoderInitMs: result[10] as int?,
+      bytesLoaded: result[11]! as int,
+      bandwidthEstimate: result[12] as int?,
     );
   }
 }
@@ -174,6 +260,17 @@ class CreateMessage {
     this.packageName,
     this.formatHint,
     required this.httpHeaders,
+    this.liveTargetOffsetMs,
+    this.liveMinPlaybackSpeed,
+    this.liveMaxPlaybackSpeed,
+    this.liveLowLatency,
+    this.containerHint,
+    this.maxParallelConnections,
+    this.mirrorUris,
+    this.retryAttempts,
+    this.retryBackoffMs,
+    this.retryStatusCodes,
+    this.maxRecoveryAttempts,
   });
 
   String? asset;
@@ -186,6 +283,28 @@ class CreateMessage {
 
   Map<String?, String?> httpHeaders;
 
+  int? liveTargetOffsetMs;
+
+  double? liveMinPlaybackSpeed;
+
+  double? liveMaxPlaybackSpeed;
+
+  bool? liveLowLatency;
+
+  String? containerHint;
+
+  int? maxParallelConnections;
+
+  List<String?>? mirrorUris;
+
+  int? retryAttempts;
+
+  int? retryBackoffMs;
+
+  List<int?>? retryStatusCodes;
+
+  int? maxRecoveryAttempts;
+
   Object encode() {
     return <Object?>[
       asset,
@@ -193,6 +312,17 @@ class CreateMessage {
       packageName,
       formatHint,
       httpHeaders,
+      liveTargetOffsetMs,
+      liveMinPlaybackSpeed,
+      liveMaxPlaybackSpeed,
+      liveLowLatency,
+      containerHint,
+      maxParallelConnections,
+      mirrorUris,
+      retryAttempts,
+      retryBackoffMs,
+      retryStatusCodes,
+      maxRecoveryAttempts,
     ];
   }
 
@@ -204,6 +334,17 @@ class CreateMessage {
       packageName: result[2] as String?,
       formatHint: result[3] as String?,
       httpHeaders: (result[4] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      liveTargetOffsetMs: result[5] as int?,
+      liveMinPlaybackSpeed: result[6] as double?,
+      liveMaxPlaybackSpeed: result[7] as double?,
+      liveLowLatency: result[8] as bool?,
+      containerHint: result[9] as String?,
+      maxParallelConnections: result[10] as int?,
+      mirrorUris: (result[11] as List<Object?>?)?.cast<String?>(),
+      retryAttempts: result[12] as int?,
+      retryBackoffMs: result[13] as int?,
+      retryStatusCodes: (result[14] as List<Object?>?)?.cast<int?>(),
+      maxRecoveryAttempts: result[15] as int?,
     );
   }
 }
@@ -316,90 +457,848 @@ class SetEmbeddedSubtitlesMessage {
   }
 }
 
-class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
-  const _AndroidVideoPlayerApiCodec();
-  @override
-  void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
-      buffer.putUint8(128);
-      writeValue(buffer, value.encode());
-    } else if (value is GetEmbeddedSubtitlesMessage) {
-      buffer.putUint8(129);
-      writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
-      buffer.putUint8(130);
-      writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
-      buffer.putUint8(131);
-      writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
-      buffer.putUint8(132);
-      writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
-      buffer.putUint8(133);
-      writeValue(buffer, value.encode());
-    } else if (value is SetEmbeddedSubtitlesMessage) {
-      buffer.putUint8(134);
-      writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
-      buffer.putUint8(135);
-      writeValue(buffer, value.encode());
-    } else if (value is TrackMessage) {
-      buffer.putUint8(136);
-      writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
-      buffer.putUint8(137);
-      writeValue(buffer, value.encode());
+class QueueItemMessage {
+  QueueItemMessage({
+    required this.uri,
+    this.formatHint,
+  });
+
+  String uri;
+
+  String? formatHint;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      formatHint,
+    ];
+  }
+
+  static QueueItemMessage decode(Object result) {
+    result as List<Object?>;
+    return QueueItemMessage(
+      uri: result[0]! as String,
+      formatHint: result[1] as String?,
+    );
+  }
+}
+
+class QueueMessage {
+  QueueMessage({
+    required this.textureId,
+    required this.items,
+  });
+
+  int textureId;
+
+  List<QueueItemMessage?> items;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      items,
+    ];
+  }
+
+  static QueueMessage decode(Object result) {
+    result as List<Object?>;
+    return QueueMessage(
+      textureId: result[0]! as int,
+      items: (result[1] as List<Object?>?)!.cast<QueueItemMessage?>(),
+    );
+  }
+}
+
+class DownloadMessage {
+  DownloadMessage({
+    required this.id,
+    required this.uri,
+    this.formatHint,
+    required this.httpHeaders,
+    this.maxVideoBitrate,
+    this.maxVideoHeight,
+    this.audioLanguages,
+  });
+
+  String id;
+
+  String uri;
+
+  String? formatHint;
+
+  Map<String?, String?> httpHeaders;
+
+  int? maxVideoBitrate;
+
+  int? maxVideoHeight;
+
+  List<String?>? audioLanguages;
+
+  Object encode() {
+    return <Object?>[
+      id,
+      uri,
+      formatHint,
+      httpHeaders,
+      maxVideoBitrate,
+      maxVideoHeight,
+      audioLanguages,
+    ];
+  }
+
+  static DownloadMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadMessage(
+      id: result[0]! as String,
+      uri: result[1]! as String,
+      formatHint: result[2] as String?,
+      httpHeaders: (result[3] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      maxVideoBitrate: result[4] as int?,
+      maxVideoHeight: result[5] as int?,
+      audioLanguages: (result[6] as List<Object?>?)?.cast<String?>(),
+    );
+  }
+}
+
+class DownloadIdMessage {
+  DownloadIdMessage({
+    required this.id,
+  });
+
+  String id;
+
+  Object encode() {
+    return <Object?>[
+      id,
+    ];
+  }
+
+  static DownloadIdMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadIdMessage(
+      id: result[0]! as String,
+    );
+  }
+}
+
+class DownloadStateMessage {
+  DownloadStateMessage({
+    required this.id,
+    required this.uri,
+    required this.state,
+    this.percentDownloaded,
+    required this.bytesDownloaded,
+    this.failureReason,
+  });
+
+  String id;
+
+  String uri;
+
+  int state;
+
+  double? percentDownloaded;
+
+  int bytesDownloaded;
+
+  int? failureReason;
+
+  Object encode() {
+    return <Object?>[
+      id,
+      uri,
+      state,
+      percentDownloaded,
+      bytesDownloaded,
+      failureReason,
+    ];
+  }
+
+  static DownloadStateMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadStateMessage(
+      id: result[0]! as String,
+      uri: result[1]! as String,
+      state: result[2]! as int,
+      percentDownloaded: result[3] as double?,
+      bytesDownloaded: result[4]! as int,
+      failureReason: result[5] as int?,
+    );
+  }
+}
+
+class DownloadSettingsMessage {
+  DownloadSettingsMessage({
+    this.paused,
+    this.maxParallelDownloads,
+  });
+
+  bool? paused;
+
+  int? maxParallelDownloads;
+
+  Object encode() {
+    return <Object?>[
+      paused,
+      maxParallelDownloads,
+    ];
+  }
+
+  static DownloadSettingsMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadSettingsMessage(
+      paused: result[0] as bool?,
+      maxParallelDownloads: result[1] as int?,
+    );
+  }
+}
+
+class QueueIndexMessage {
+  QueueIndexMessage({
+    required this.textureId,
+    required this.index,
+  });
+
+  int textureId;
+
+  int index;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      index,
+    ];
+  }
+
+  static QueueIndexMessage decode(Object result) {
+    result as List<Object?>;
+    return QueueIndexMessage(
+      textureId: result[0]! as int,
+      index: result[1]! as int,
+    );
+  }
+}
+
+class AudioOnlyMessage {
+  AudioOnlyMessage({
+    required this.textureId,
+    required this.audioOnly,
+  });
+
+  int textureId;
+
+  bool audioOnly;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      audioOnly,
+    ];
+  }
+
+  static AudioOnlyMessage decode(Object result) {
+    result as List<Object?>;
+    return AudioOnlyMessage(
+      textureId: result[0]! as int,
+      audioOnly: result[1]! as bool,
+    );
+  }
+}
+
+class DecoderPriorityMessage {
+  DecoderPriorityMessage({
+    required this.textureId,
+    required this.priority,
+  });
+
+  int textureId;
+
+  int priority;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      priority,
+    ];
+  }
+
+  static DecoderPriorityMessage decode(Object result) {
+    result as List<Object?>;
+    return DecoderPriorityMessage(
+      textureId: result[0]! as int,
+      priority: result[1]! as int,
+    );
+  }
+}
+
+class DecoderBudgetMessage {
+  DecoderBudgetMessage({
+    this.maxHardwareDecoders,
+  });
+
+  int? maxHardwareDecoders;
+
+  Object encode() {
+    return <Object?>[
+      maxHardwareDecoders,
+    ];
+  }
+
+  static DecoderBudgetMessage decode(Object result) {
+    result as List<Object?>;
+    return DecoderBudgetMessage(
+      maxHardwareDecoders: result[0] as int?,
+    );
+  }
+}
+
+class ViewportMessage {
+  ViewportMessage({
+    required this.textureId,
+    required this.width,
+    required this.height,
+    required this.devicePixelRatio,
+  });
+
+  int textureId;
+
+  double width;
+
+  double height;
+
+  double devicePixelRatio;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      width,
+      height,
+      devicePixelRatio,
+    ];
+  }
+
+  static ViewportMessage decode(Object result) {
+    result as List<Object?>;
+    return ViewportMessage(
+      textureId: result[0]! as int,
+      width: result[1]! as double,
+      height: result[2]! as double,
+      devicePixelRatio: result[3]! as double,
+    );
+  }
+}
+
+class NetworkPriorityMessage {
+  NetworkPriorityMessage({
+    required this.textureId,
+    required this.priority,
+  });
+
+  int textureId;
+
+  int priority;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      priority,
+    ];
+  }
+
+  static NetworkPriorityMessage decode(Object result) {
+    result as List<Object?>;
+    return NetworkPriorityMessage(
+      textureId: result[0]! as int,
+      priority: result[1]! as int,
+    );
+  }
+}
+
+class WarmupMessage {
+  WarmupMessage({
+    required this.hosts,
+  });
+
+  List<String?> hosts;
+
+  Object encode() {
+    return <Object?>[
+      hosts,
+    ];
+  }
+
+  static WarmupMessage decode(Object result) {
+    result as List<Object?>;
+    return WarmupMessage(
+      hosts: (result[0] as List<Object?>?)!.cast<String?>(),
+    );
+  }
+}
+
+class ManifestCacheMessage {
+  ManifestCacheMessage({
+    this.ttlMs,
+    this.liveTtlMs,
+  });
+
+  int? ttlMs;
+
+  int? liveTtlMs;
+
+  Object encode() {
+    return <Object?>[
+      ttlMs,
+      liveTtlMs,
+    ];
+  }
+
+  static ManifestCacheMessage decode(Object result) {
+    result as List<Object?>;
+    return ManifestCacheMessage(
+      ttlMs: result[0] as int?,
+      liveTtlMs: result[1] as int?,
+    );
+  }
+}
+
+class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
+  const _AndroidVideoPlayerApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is AudioOnlyMessage) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is CreateMessage) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is DecoderBudgetMessage) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else if (value is DecoderPriorityMessage) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadIdMessage) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadMessage) {
+      buffer.putUint8(133);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadSettingsMessage) {
+      buffer.putUint8(134);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadStateMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is GetEmbeddedSubtitlesMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is LoopingMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is ManifestCacheMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is NetworkPriorityMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackStatsMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueIndexMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueItemMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is SetEmbeddedSubtitlesMessage) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackMessage) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is ViewportMessage) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(151);
+      writeValue(buffer, value.encode());
+    } else if (value is WarmupMessage) {
+      buffer.putUint8(152);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128: 
+        return AudioOnlyMessage.decode(readValue(buffer)!);
+      case 129: 
+        return CreateMessage.decode(readValue(buffer)!);
+      case 130: 
+        return DecoderBudgetMessage.decode(readValue(buffer)!);
+      case 131: 
+        return DecoderPriorityMessage.decode(readValue(buffer)!);
+      case 132: 
+        return DownloadIdMessage.decode(readValue(buffer)!);
+      case 133: 
+        return DownloadMessage.decode(readValue(buffer)!);
+      case 134: 
+        return DownloadSettingsMessage.decode(readValue(buffer)!);
+      case 135: 
+        return DownloadStateMessage.decode(readValue(buffer)!);
+      case 136: 
+        return GetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
+      case 137: 
+        return LoopingMessage.decode(readValue(buffer)!);
+      case 138: 
+        return ManifestCacheMessage.decode(readValue(buffer)!);
+      case 139: 
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+      case 140: 
+        return NetworkPriorityMessage.decode(readValue(buffer)!);
+      case 141: 
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 142: 
+        return PlaybackStatsMessage.decode(readValue(buffer)!);
+      case 143: 
+        return PositionMessage.decode(readValue(buffer)!);
+      case 144: 
+        return QueueIndexMessage.decode(readValue(buffer)!);
+      case 145: 
+        return QueueItemMessage.decode(readValue(buffer)!);
+      case 146: 
+        return QueueMessage.decode(readValue(buffer)!);
+      case 147: 
+        return SetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
+      case 148: 
+        return TextureMessage.decode(readValue(buffer)!);
+      case 149: 
+        return TrackMessage.decode(readValue(buffer)!);
+      case 150: 
+        return ViewportMessage.decode(readValue(buffer)!);
+      case 151: 
+        return VolumeMessage.decode(readValue(buffer)!);
+      case 152: 
+        return WarmupMessage.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class AndroidVideoPlayerApi {
+  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
+
+  Future<void> initialize() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<TextureMessage> create(CreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as TextureMessage?)!;
+    }
+  }
+
+  Future<void> dispose(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setLooping(LoopingMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVolume(VolumeMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setAudioTrack(TrackMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrack', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setAudioTrackByIndex(TrackMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrackByIndex', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<String?>> getAudioTracks(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getAudioTracks', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<String?>();
+    }
+  }
+
+  Future<void> setVideoTrack(TrackMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrack', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVideoTrackByIndex(TrackMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrackByIndex', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
     } else {
-      super.writeValue(buffer, value);
+      return;
     }
   }
 
-  @override
-  Object? readValueOfType(int type, ReadBuffer buffer) {
-    switch (type) {
-      case 128: 
-        return CreateMessage.decode(readValue(buffer)!);
-      case 129: 
-        return GetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
-      case 130: 
-        return LoopingMessage.decode(readValue(buffer)!);
-      case 131: 
-        return MixWithOthersMessage.decode(readValue(buffer)!);
-      case 132: 
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
-      case 133: 
-        return PositionMessage.decode(readValue(buffer)!);
-      case 134: 
-        return SetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
-      case 135: 
-        return TextureMessage.decode(readValue(buffer)!);
-      case 136: 
-        return TrackMessage.decode(readValue(buffer)!);
-      case 137: 
-        return VolumeMessage.decode(readValue(buffer)!);
-      default:
-        return super.readValueOfType(type, buffer);
+  Future<List<String?>> getVideoTracks(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getVideoTracks', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<String?>();
     }
   }
-}
-
-class AndroidVideoPlayerApi {
-  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
-      : _binaryMessenger = binaryMessenger;
-  final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
+  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 
-  Future<void> initialize() async {
+  Future<void> play(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
-        await channel.send(null) as List<Object?>?;
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -416,9 +1315,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<TextureMessage> create(CreateMessage arg_msg) async {
+  Future<PositionMessage> position(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -439,13 +1338,13 @@ class AndroidVideoPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyList[0] as TextureMessage?)!;
+      return (replyList[0] as PositionMessage?)!;
     }
   }
 
-  Future<void> dispose(TextureMessage arg_msg) async {
+  Future<PlaybackStatsMessage> getStats(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getStats', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -460,14 +1359,19 @@ class AndroidVideoPlayerApi {
         message: replyList[1] as String?,
         details: replyList[2],
       );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (replyList[0] as PlaybackStatsMessage?)!;
     }
   }
 
-  Future<void> setLooping(LoopingMessage arg_msg) async {
+  Future<void> seekTo(PositionMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -487,9 +1391,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setVolume(VolumeMessage arg_msg) async {
+  Future<void> pause(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -509,9 +1413,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setAudioTrack(TrackMessage arg_msg) async {
+  Future<void> suspend(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrack', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.suspend', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -531,9 +1435,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setAudioTrackByIndex(TrackMessage arg_msg) async {
+  Future<void> resume(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioTrackByIndex', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.resume', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -553,9 +1457,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<List<String?>> getAudioTracks(TextureMessage arg_msg) async {
+  Future<void> setAudioOnly(AudioOnlyMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.getAudioTracks', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioOnly', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -570,19 +1474,36 @@ class AndroidVideoPlayerApi {
         message: replyList[1] as String?,
         details: replyList[2],
       );
-    } else if (replyList[0] == null) {
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setDecoderPriority(DecoderPriorityMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderPriority', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
       throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
       );
     } else {
-      return (replyList[0] as List<Object?>?)!.cast<String?>();
+      return;
     }
   }
 
-  Future<void> setVideoTrack(TrackMessage arg_msg) async {
+  Future<void> setDecoderBudget(DecoderBudgetMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrack', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderBudget', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -602,9 +1523,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setVideoTrackByIndex(TrackMessage arg_msg) async {
+  Future<void> setViewportSize(ViewportMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoTrackByIndex', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setViewportSize', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -624,9 +1545,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<List<String?>> getVideoTracks(TextureMessage arg_msg) async {
+  Future<void> setManifestCache(ManifestCacheMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.getVideoTracks', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setManifestCache', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -641,19 +1562,36 @@ class AndroidVideoPlayerApi {
         message: replyList[1] as String?,
         details: replyList[2],
       );
-    } else if (replyList[0] == null) {
+    } else {
+      return;
+    }
+  }
+
+  Future<void> warmup(WarmupMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.warmup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
       throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
       );
     } else {
-      return (replyList[0] as List<Object?>?)!.cast<String?>();
+      return;
     }
   }
 
-  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+  Future<void> setNetworkPriority(NetworkPriorityMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setNetworkPriority', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -673,9 +1611,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> play(TextureMessage arg_msg) async {
+  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -695,9 +1633,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<PositionMessage> position(TextureMessage arg_msg) async {
+  Future<List<GetEmbeddedSubtitlesMessage?>> getEmbeddedSubtitles(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getEmbeddedSubtitles', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -718,13 +1656,13 @@ class AndroidVideoPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyList[0] as PositionMessage?)!;
+      return (replyList[0] as List<Object?>?)!.cast<GetEmbeddedSubtitlesMessage?>();
     }
   }
 
-  Future<void> seekTo(PositionMessage arg_msg) async {
+  Future<void> setEmbeddedSubtitles(SetEmbeddedSubtitlesMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setEmbeddedSubtitles', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -744,9 +1682,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> pause(TextureMessage arg_msg) async {
+  Future<void> setQueue(QueueMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setQueue', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -766,9 +1704,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
+  Future<void> addToQueue(QueueMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.addToQueue', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -788,9 +1726,53 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<List<GetEmbeddedSubtitlesMessage?>> getEmbeddedSubtitles(TextureMessage arg_msg) async {
+  Future<void> skipToIndex(QueueIndexMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.getEmbeddedSubtitles', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.skipToIndex', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> startDownload(DownloadMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.startDownload', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeDownload(DownloadIdMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -805,19 +1787,41 @@ class AndroidVideoPlayerApi {
         message: replyList[1] as String?,
         details: replyList[2],
       );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<DownloadStateMessage?>> getDownloads() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
     } else if (replyList[0] == null) {
       throw PlatformException(
         code: 'null-error',
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyList[0] as List<Object?>?)!.cast<GetEmbeddedSubtitlesMessage?>();
+      return (replyList[0] as List<Object?>?)!.cast<DownloadStateMessage?>();
     }
   }
 
-  Future<void> setEmbeddedSubtitles(SetEmbeddedSubtitlesMessage arg_msg) async {
+  Future<void> setDownloadSettings(DownloadSettingsMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setEmbeddedSubtitles', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setDownloadSettings', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
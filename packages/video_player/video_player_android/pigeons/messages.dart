@@ -47,6 +47,31 @@ class PositionMessage {
   PositionMessage(this.textureId, this.position);
   int textureId;
   int position;
+  int? liveOffset;
+}
+
+class PlaybackStatsMessage {
+  PlaybackStatsMessage(
+      this.playTimeMs,
+      this.rebufferCount,
+      this.rebufferTimeMs,
+      this.rebufferRatio,
+      this.bitrateSwitches,
+      this.droppedFrames,
+      this.bytesLoaded);
+  int? timeToFirstFrameMs;
+  int? joinTimeMs;
+  int playTimeMs;
+  int rebufferCount;
+  int rebufferTimeMs;
+  double rebufferRatio;
+  int bitrateSwitches;
+  int? videoBitrate;
+  int droppedFrames;
+  int? videoDecoderInitMs;
+  int? audioDecoderInitMs;
+  int bytesLoaded;
+  int? bandwidthEstimate;
 }
 
 class CreateMessage {
@@ -56,6 +81,17 @@ class CreateMessage {
   String? packageName;
   String? formatHint;
   Map<String?, String?> httpHeaders;
+  int? liveTargetOffsetMs;
+  double? liveMinPlaybackSpeed;
+  double? liveMaxPlaybackSpeed;
+  bool? liveLowLatency;
+  String? containerHint;
+  int? maxParallelConnections;
+  List<String?>? mirrorUris;
+  int? retryAttempts;
+  int? retryBackoffMs;
+  List<int?>? retryStatusCodes;
+  int? maxRecoveryAttempts;
 }
 
 class MixWithOthersMessage {
@@ -91,6 +127,96 @@ class SetEmbeddedSubtitlesMessage {
   final int? renderIndex;
 }
 
+class QueueItemMessage {
+  QueueItemMessage(this.uri, this.formatHint);
+  String uri;
+  String? formatHint;
+}
+
+class QueueMessage {
+  QueueMessage(this.textureId, this.items);
+  int textureId;
+  List<QueueItemMessage?> items;
+}
+
+class DownloadMessage {
+  DownloadMessage(this.id, this.uri, this.httpHeaders);
+  String id;
+  String uri;
+  String? formatHint;
+  Map<String?, String?> httpHeaders;
+  int? maxVideoBitrate;
+  int? maxVideoHeight;
+  List<String?>? audioLanguages;
+}
+
+class DownloadIdMessage {
+  DownloadIdMessage(this.id);
+  String id;
+}
+
+class DownloadStateMessage {
+  DownloadStateMessage(this.id, this.uri, this.state, this.bytesDownloaded);
+  String id;
+  String uri;
+  int state;
+  double? percentDownloaded;
+  int bytesDownloaded;
+  int? failureReason;
+}
+
+class DownloadSettingsMessage {
+  bool? paused;
+  int? maxParallelDownloads;
+}
+
+class QueueIndexMessage {
+  QueueIndexMessage(this.textureId, this.index);
+  int textureId;
+  int index;
+}
+
+class AudioOnlyMessage {
+  AudioOnlyMessage(this.textureId, this.audioOnly);
+  int textureId;
+  bool audioOnly;
+}
+
+class DecoderPriorityMessage {
+  DecoderPriorityMessage(this.textureId, this.priority);
+  int textureId;
+  int priority;
+}
+
+class DecoderBudgetMessage {
+  int? maxHardwareDecoders;
+}
+
+class ViewportMessage {
+  ViewportMessage(
+      this.textureId, this.width, this.height, this.devicePixelRatio);
+  int textureId;
+  double width;
+  double height;
+  double devicePixelRatio;
+}
+
+class NetworkPriorityMessage {
+  NetworkPriorityMessage(this.textureId, this.priority);
+  int textureId;
+  int priority;
+}
+
+class WarmupMessage {
+  WarmupMessage(this.hosts);
+  List<String?> hosts;
+}
+
+class ManifestCacheMessage {
+  int? ttlMs;
+  int? liveTtlMs;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -107,9 +233,26 @@ abstract class AndroidVideoPlayerApi {
   void setPlaybackSpeed(PlaybackSpeedMessage msg);
   void play(TextureMessage msg);
   PositionMessage position(TextureMessage msg);
+  PlaybackStatsMessage getStats(TextureMessage msg);
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
+  void suspend(TextureMessage msg);
+  void resume(TextureMessage msg);
+  void setAudioOnly(AudioOnlyMessage msg);
+  void setDecoderPriority(DecoderPriorityMessage msg);
+  void setDecoderBudget(DecoderBudgetMessage msg);
+  void setViewportSize(ViewportMessage msg);
+  void setManifestCache(ManifestCacheMessage msg);
+  void warmup(WarmupMessage msg);
+  void setNetworkPriority(NetworkPriorityMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
   List<GetEmbeddedSubtitlesMessage?> getEmbeddedSubtitles(TextureMessage msg);
   void setEmbeddedSubtitles(SetEmbeddedSubtitlesMessage msg);
+  void setQueue(QueueMessage msg);
+  void addToQueue(QueueMessage msg);
+  void skipToIndex(QueueIndexMessage msg);
+  void startDownload(DownloadMessage msg);
+  void removeDownload(DownloadIdMessage msg);
+  List<DownloadStateMessage?> getDownloads();
+  void setDownloadSettings(DownloadSettingsMessage msg);
 }
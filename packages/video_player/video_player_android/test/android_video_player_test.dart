@@ -19,6 +19,15 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  DecoderPriorityMessage? decoderPriorityMessage;
+  ViewportMessage? viewportMessage;
+  AudioOnlyMessage? audioOnlyMessage;
+  ManifestCacheMessage? manifestCacheMessage;
+  WarmupMessage? warmupMessage;
+  NetworkPriorityMessage? networkPriorityMessage;
+  QueueMessage? queueMessage;
+  QueueIndexMessage? queueIndexMessage;
+  DownloadSettingsMessage? downloadSettingsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -50,6 +59,110 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     textureMessage = arg;
   }
 
+  @override
+  void suspend(TextureMessage arg) {
+    log.add('suspend');
+    textureMessage = arg;
+  }
+
+  @override
+  void resume(TextureMessage arg) {
+    log.add('resume');
+    textureMessage = arg;
+  }
+
+  @override
+  void setDecoderPriority(DecoderPriorityMessage arg) {
+    log.add('setDecoderPriority');
+    decoderPriorityMessage = arg;
+  }
+
+  @override
+  void setViewportSize(ViewportMessage arg) {
+    log.add('setViewportSize');
+    viewportMessage = arg;
+  }
+
+  @override
+  void setNetworkPriority(NetworkPriorityMessage arg) {
+    log.add('setNetworkPriority');
+    networkPriorityMessage = arg;
+  }
+
+  @override
+  void warmup(WarmupMessage arg) {
+    log.add('warmup');
+    warmupMessage = arg;
+  }
+
+  @override
+  void setManifestCache(ManifestCacheMessage arg) {
+    log.add('setManifestCache');
+    manifestCacheMessage = arg;
+  }
+
+  @override
+  void setAudioOnly(AudioOnlyMessage arg) {
+    log.add('setAudioOnly');
+    audioOnlyMessage = arg;
+  }
+
+  @override
+  void setQueue(QueueMessage arg) {
+    log.add('setQueue');
+    queueMessage = arg;
+  }
+
+  @override
+  void addToQueue(QueueMessage arg) {
+    log.add('addToQueue');
+    queueMessage = arg;
+  }
+
+  @override
+  void skipToIndex(QueueIndexMessage arg) {
+    log.add('skipToIndex');
+    queueIndexMessage = arg;
+  }
+
+  @override
+  List<DownloadStateMessage?> getDownloads() {
+    log.add('getDownloads');
+    return <DownloadStateMessage?>[
+      DownloadStateMessage(
+        id: 'movie',
+        uri: 'https://example.com/movie.m3u8',
+        state: 2,
+        percentDownloaded: 12.5,
+        bytesDownloaded: 4096,
+      ),
+    ];
+  }
+
+  @override
+  void setDownloadSettings(DownloadSettingsMessage arg) {
+    log.add('setDownloadSettings');
+    downloadSettingsMessage = arg;
+  }
+
+  @override
+  PlaybackStatsMessage getStats(TextureMessage arg) {
+    log.add('getStats');
+    textureMessage = arg;
+    return PlaybackStatsMessage(
+      timeToFirstFrameMs: 400,
+      playTimeMs: 4000,
+      rebufferCount: 1,
+      rebufferTimeMs: 500,
+      rebufferRatio: 0.1,
+      bitrateSwitches: 2,
+      videoBitrate: 2500000,
+      droppedFrames: 7,
+      videoDecoderInitMs: 30,
+      bytesLoaded: 1048576,
+    );
+  }
+
   @override
   void setMixWithOthers(MixWithOthersMessage arg) {
     log.add('setMixWithOthers');
@@ -146,6 +259,45 @@ void main() {
       expect(textureId, 3);
     });
 
+    test('create with parallel connections', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+        maxParallelConnections: 4,
+      ));
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.maxParallelConnections, 4);
+    });
+
+    test('create with mirrors and retry policy', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'https://a.example.com/live/master.m3u8',
+        mirrors: <String>['https://b.example.com/live/master.m3u8'],
+        retryPolicy: const RetryPolicy(
+          attempts: 2,
+          backoff: Duration(milliseconds: 500),
+          statusCodes: <int>[503],
+        ),
+      ));
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.mirrorUris,
+          <String>['https://b.example.com/live/master.m3u8']);
+      expect(log.createMessage?.retryAttempts, 2);
+      expect(log.createMessage?.retryBackoffMs, 500);
+      expect(log.createMessage?.retryStatusCodes, <int>[503]);
+    });
+
+    test('create with recovery attempts', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.asset,
+        asset: 'someAsset',
+        maxRecoveryAttempts: 5,
+      ));
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.maxRecoveryAttempts, 5);
+    });
+
     test('create with network (some headers)', () async {
       final int? textureId = await player.create(DataSource(
         sourceType: DataSourceType.network,
@@ -203,6 +355,62 @@ void main() {
       expect(log.textureMessage?.textureId, 1);
     });
 
+    test('suspend', () async {
+      await player.suspend(1);
+      expect(log.log.last, 'suspend');
+      expect(log.textureMessage?.textureId, 1);
+    });
+
+    test('resume', () async {
+      await player.resume(1);
+      expect(log.log.last, 'resume');
+      expect(log.textureMessage?.textureId, 1);
+    });
+
+    test('setDecoderPriority', () async {
+      await player.setDecoderPriority(1, DecoderPriority.focused);
+      expect(log.log.last, 'setDecoderPriority');
+      expect(log.decoderPriorityMessage?.textureId, 1);
+      expect(log.decoderPriorityMessage?.priority, 2);
+    });
+
+    test('setViewportSize', () async {
+      await player.setViewportSize(1, const Size(320, 180), 2.5);
+      expect(log.log.last, 'setViewportSize');
+      expect(log.viewportMessage?.textureId, 1);
+      expect(log.viewportMessage?.width, 320);
+      expect(log.viewportMessage?.height, 180);
+      expect(log.viewportMessage?.devicePixelRatio, 2.5);
+    });
+
+    test('setNetworkPriority', () async {
+      await player.setNetworkPriority(1, NetworkPriority.foreground);
+      expect(log.log.last, 'setNetworkPriority');
+      expect(log.networkPriorityMessage?.textureId, 1);
+      expect(log.networkPriorityMessage?.priority, 2);
+    });
+
+    test('warmup', () async {
+      await player.warmup(<String>['cdn.example.com']);
+      expect(log.log.last, 'warmup');
+      expect(log.warmupMessage?.hosts, <String>['cdn.example.com']);
+    });
+
+    test('setManifestCacheTtl', () async {
+      await player.setManifestCacheTtl(
+          livePlaylistTtl: const Duration(seconds: 2));
+      expect(log.log.last, 'setManifestCache');
+      expect(log.manifestCacheMessage?.ttlMs, null);
+      expect(log.manifestCacheMessage?.liveTtlMs, 2000);
+    });
+
+    test('setAudioOnly', () async {
+      await player.setAudioOnly(1, true);
+      expect(log.log.last, 'setAudioOnly');
+      expect(log.audioOnlyMessage?.textureId, 1);
+      expect(log.audioOnlyMessage?.audioOnly, true);
+    });
+
     test('setMixWithOthers', () async {
       await player.setMixWithOthers(true);
       expect(log.log.last, 'setMixWithOthers');
@@ -241,6 +449,150 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('getStats', () async {
+      final PlaybackStats stats = await player.getStats(1);
+      expect(log.log.last, 'getStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats.timeToFirstFrame, const Duration(milliseconds: 400));
+      expect(stats.joinTime, null);
+      expect(stats.playTime, const Duration(seconds: 4));
+      expect(stats.rebufferCount, 1);
+      expect(stats.rebufferTime, const Duration(milliseconds: 500));
+      expect(stats.rebufferRatio, 0.1);
+      expect(stats.bitrateSwitches, 2);
+      expect(stats.videoBitrate, 2500000);
+      expect(stats.droppedFrames, 7);
+      expect(stats.videoDecoderInitTime, const Duration(milliseconds: 30));
+      expect(stats.audioDecoderInitTime, null);
+      expect(stats.bytesLoaded, 1048576);
+      expect(stats.bandwidthEstimate, null);
+    });
+
+    test('setQueue', () async {
+      await player.setQueue(1, <DataSource>[
+        DataSource(
+          sourceType: DataSourceType.network,
+          uri: 'first',
+          formatHint: VideoFormat.hls,
+        ),
+        DataSource(sourceType: DataSourceType.network, uri: 'second'),
+      ]);
+      expect(log.log.last, 'setQueue');
+      expect(log.queueMessage?.textureId, 1);
+      expect(log.queueMessage?.items.map((QueueItemMessage? item) => item!.uri),
+          <String>['first', 'second']);
+      expect(
+          log.queueMessage?.items
+              .map((QueueItemMessage? item) => item!.formatHint),
+          <String?>['hls', null]);
+    });
+
+    test('addToQueue', () async {
+      await player.addToQueue(1, <DataSource>[
+        DataSource(sourceType: DataSourceType.network, uri: 'third'),
+      ]);
+      expect(log.log.last, 'addToQueue');
+      expect(log.queueMessage?.textureId, 1);
+      expect(log.queueMessage?.items.single?.uri, 'third');
+    });
+
+    test('skipToIndex', () async {
+      await player.skipToIndex(1, 2);
+      expect(log.log.last, 'skipToIndex');
+      expect(log.queueIndexMessage?.textureId, 1);
+      expect(log.queueIndexMessage?.index, 2);
+    });
+
+    test('getDownloads', () async {
+      final List<OfflineDownload> downloads = await player.getDownloads();
+      expect(log.log.last, 'getDownloads');
+      expect(downloads.single.id, 'movie');
+      expect(downloads.single.uri, 'https://example.com/movie.m3u8');
+      expect(downloads.single.state, DownloadState.downloading);
+      expect(downloads.single.percentDownloaded, 12.5);
+      expect(downloads.single.bytesDownloaded, 4096);
+    });
+
+    test('setDownloadSettings', () async {
+      await player.setDownloadSettings(paused: true);
+      expect(log.log.last, 'setDownloadSettings');
+      expect(log.downloadSettingsMessage?.paused, true);
+      expect(log.downloadSettingsMessage?.maxParallelDownloads, null);
+    });
+
+    test('downloadEvents', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/downloadEvents';
+      Future<void> sendEvent(Map<String, dynamic> event) {
+        return TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+            .handlePlatformMessage(
+                mockChannel,
+                const StandardMethodCodec().encodeSuccessEnvelope(event),
+                (ByteData? data) {});
+      }
+
+      TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await sendEvent(<String, dynamic>{
+              'event': 'downloadChanged',
+              'id': 'movie',
+              'uri': 'https://example.com/movie.m3u8',
+              'state': 0,
+              'bytesDownloaded': 0,
+            });
+            await sendEvent(<String, dynamic>{
+              'event': 'downloadProgress',
+              'id': 'movie',
+              'uri': 'https://example.com/movie.m3u8',
+              'state': 2,
+              'bytesDownloaded': 4096,
+              'percentDownloaded': 12.5,
+            });
+            await sendEvent(<String, dynamic>{
+              'event': 'downloadChanged',
+              'id': 'movie',
+              'uri': 'https://example.com/movie.m3u8',
+              'state': 4,
+              'bytesDownloaded': 4096,
+              'failureReason': 0,
+            });
+            await sendEvent(<String, dynamic>{
+              'event': 'downloadRemoved',
+              'id': 'movie',
+              'uri': 'https://example.com/movie.m3u8',
+              'state': 5,
+              'bytesDownloaded': 4096,
+            });
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+
+      final List<OfflineDownload> events =
+          await player.downloadEvents().take(4).toList();
+
+      expect(events.map((OfflineDownload download) => download.id),
+          everyElement('movie'));
+      expect(events.map((OfflineDownload download) => download.state),
+          <DownloadState>[
+            DownloadState.queued,
+            DownloadState.downloading,
+            DownloadState.failed,
+            DownloadState.removed,
+          ]);
+      expect(events[0].percentDownloaded, null);
+      expect(events[1].percentDownloaded, 12.5);
+      expect(events[1].bytesDownloaded, 4096);
+    });
+
     test('videoEventsFor', () async {
       const String mockChannel = 'flutter.io/videoPlayer/videoEvents123';
       TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
@@ -277,6 +629,30 @@ void main() {
                     }),
                     (ByteData? data) {});
 
+            await TestDefaultBinaryMessengerBinding
+                .instance.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'initialized',
+                      'duration': 98765,
+                      'width': 1920,
+                      'height': 1080,
+                      'startup': <String, dynamic>{
+                        'sections': <String, int>{
+                          'create': 28,
+                          'renderers': 20,
+                        },
+                        'milestones': <String, int>{
+                          'prepared': 30,
+                          'manifestLoaded': 120,
+                          'ready': 320,
+                        },
+                      },
+                    }),
+                    (ByteData? data) {});
+
             await TestDefaultBinaryMessengerBinding
                 .instance.defaultBinaryMessenger
                 .handlePlatformMessage(
@@ -343,6 +719,30 @@ void main() {
                     }),
                     (ByteData? data) {});
 
+            await TestDefaultBinaryMessengerBinding
+                .instance.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'mediaItemTransition',
+                      'index': 1,
+                      'reason': 1,
+                    }),
+                    (ByteData? data) {});
+
+            await TestDefaultBinaryMessengerBinding
+                .instance.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'recovering',
+                      'errorCode': 2001,
+                      'attempt': 2,
+                    }),
+                    (ByteData? data) {});
+
             return const StandardMethodCodec().encodeSuccessEnvelope(null);
           } else if (methodCall.method == 'cancel') {
             return const StandardMethodCodec().encodeSuccessEnvelope(null);
@@ -366,6 +766,23 @@ void main() {
               size: const Size(1920, 1080),
               rotationCorrection: 180,
             ),
+            VideoEvent(
+              eventType: VideoEventType.initialized,
+              duration: const Duration(milliseconds: 98765),
+              size: const Size(1920, 1080),
+              rotationCorrection: 0,
+              startup: const StartupBreakdown(
+                sections: <String, Duration>{
+                  'create': Duration(milliseconds: 28),
+                  'renderers': Duration(milliseconds: 20),
+                },
+                milestones: <String, Duration>{
+                  'prepared': Duration(milliseconds: 30),
+                  'manifestLoaded': Duration(milliseconds: 120),
+                  'ready': Duration(milliseconds: 320),
+                },
+              ),
+            ),
             VideoEvent(eventType: VideoEventType.completed),
             VideoEvent(
                 eventType: VideoEventType.bufferingUpdate,
@@ -389,6 +806,16 @@ void main() {
               eventType: VideoEventType.isPlayingStateUpdate,
               isPlaying: false,
             ),
+            VideoEvent(
+              eventType: VideoEventType.mediaItemTransition,
+              queueIndex: 1,
+              transitionReason: MediaItemTransitionReason.auto,
+            ),
+            VideoEvent(
+              eventType: VideoEventType.recovering,
+              recoveryAttempt: 2,
+              errorCode: 2001,
+            ),
           ]));
     });
   });
@@ -17,36 +17,81 @@ class _TestHostVideoPlayerApiCodec extends StandardMessageCodec {
   const _TestHostVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is AudioOnlyMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is GetEmbeddedSubtitlesMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is DecoderBudgetMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is DecoderPriorityMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is DownloadIdMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is DownloadMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is SetEmbeddedSubtitlesMessage) {
+    } else if (value is DownloadSettingsMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is DownloadStateMessage) {
       buffer.putUint8(135);
       writeValue(buffer, value.encode());
-    } else if (value is TrackMessage) {
+    } else if (value is GetEmbeddedSubtitlesMessage) {
       buffer.putUint8(136);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(137);
       writeValue(buffer, value.encode());
+    } else if (value is ManifestCacheMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is NetworkPriorityMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackStatsMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueIndexMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueItemMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is QueueMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is SetEmbeddedSubtitlesMessage) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackMessage) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is ViewportMessage) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(151);
+      writeValue(buffer, value.encode());
+    } else if (value is WarmupMessage) {
+      buffer.putUint8(152);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -56,25 +101,55 @@ class _TestHostVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128: 
-        return CreateMessage.decode(readValue(buffer)!);
+        return AudioOnlyMessage.decode(readValue(buffer)!);
       case 129: 
-        return GetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
       case 130: 
-        return LoopingMessage.decode(readValue(buffer)!);
+        return DecoderBudgetMessage.decode(readValue(buffer)!);
       case 131: 
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return DecoderPriorityMessage.decode(readValue(buffer)!);
       case 132: 
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return DownloadIdMessage.decode(readValue(buffer)!);
       case 133: 
-        return PositionMessage.decode(readValue(buffer)!);
+        return DownloadMessage.decode(readValue(buffer)!);
       case 134: 
-        return SetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
+        return DownloadSettingsMessage.decode(readValue(buffer)!);
       case 135: 
-        return TextureMessage.decode(readValue(buffer)!);
+        return DownloadStateMessage.decode(readValue(buffer)!);
       case 136: 
-        return TrackMessage.decode(readValue(buffer)!);
+        return GetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
       case 137: 
+        return LoopingMessage.decode(readValue(buffer)!);
+      case 138: 
+        return ManifestCacheMessage.decode(readValue(buffer)!);
+      case 139: 
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+      case 140: 
+        return NetworkPriorityMessage.decode(readValue(buffer)!);
+      case 141: 
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 142: 
+        return PlaybackStatsMessage.decode(readValue(buffer)!);
+      case 143: 
+        return PositionMessage.decode(readValue(buffer)!);
+      case 144: 
+        return QueueIndexMessage.decode(readValue(buffer)!);
+      case 145: 
+        return QueueItemMessage.decode(readValue(buffer)!);
+      case 146: 
+        return QueueMessage.decode(readValue(buffer)!);
+      case 147: 
+        return SetEmbeddedSubtitlesMessage.decode(readValue(buffer)!);
+      case 148: 
+        return TextureMessage.decode(readValue(buffer)!);
+      case 149: 
+        return TrackMessage.decode(readValue(buffer)!);
+      case 150: 
+        return ViewportMessage.decode(readValue(buffer)!);
+      case 151: 
         return VolumeMessage.decode(readValue(buffer)!);
+      case 152: 
+        return WarmupMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -113,16 +188,50 @@ abstract class TestHostVideoPlayerApi {
 
   PositionMessage position(TextureMessage msg);
 
+  PlaybackStatsMessage getStats(TextureMessage msg);
+
   void seekTo(PositionMessage msg);
 
   void pause(TextureMessage msg);
 
+  void suspend(TextureMessage msg);
+
+  void resume(TextureMessage msg);
+
+  void setAudioOnly(AudioOnlyMessage msg);
+
+  void setDecoderPriority(DecoderPriorityMessage msg);
+
+  void setDecoderBudget(DecoderBudgetMessage msg);
+
+  void setViewportSize(ViewportMessage msg);
+
+  void setManifestCache(ManifestCacheMessage msg);
+
+  void warmup(WarmupMessage msg);
+
+  void setNetworkPriority(NetworkPriorityMessage msg);
+
   void setMixWithOthers(MixWithOthersMessage msg);
 
   List<GetEmbeddedSubtitlesMessage?> getEmbeddedSubtitles(TextureMessage msg);
 
   void setEmbeddedSubtitles(SetEmbeddedSubtitlesMessage msg);
 
+  void setQueue(QueueMessage msg);
+
+  void addToQueue(QueueMessage msg);
+
+  void skipToIndex(QueueIndexMessage msg);
+
+  void startDownload(DownloadMessage msg);
+
+  void removeDownload(DownloadIdMessage msg);
+
+  List<DownloadStateMessage?> getDownloads();
+
+  void setDownloadSettings(DownloadSettingsMessage msg);
+
   static void setup(TestHostVideoPlayerApi? api, {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -385,6 +494,25 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getStats was null, expected non-null TextureMessage.');
+          final PlaybackStatsMessage output = api.getStats(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
@@ -423,6 +551,177 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.suspend', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.suspend was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.suspend was null, expected non-null TextureMessage.');
+          api.suspend(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.resume', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.resume was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.resume was null, expected non-null TextureMessage.');
+          api.resume(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioOnly', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioOnly was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final AudioOnlyMessage? arg_msg = (args[0] as AudioOnlyMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setAudioOnly was null, expected non-null AudioOnlyMessage.');
+          api.setAudioOnly(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderPriority', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderPriority was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DecoderPriorityMessage? arg_msg = (args[0] as DecoderPriorityMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderPriority was null, expected non-null DecoderPriorityMessage.');
+          api.setDecoderPriority(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderBudget', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderBudget was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DecoderBudgetMessage? arg_msg = (args[0] as DecoderBudgetMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDecoderBudget was null, expected non-null DecoderBudgetMessage.');
+          api.setDecoderBudget(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setViewportSize', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setViewportSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ViewportMessage? arg_msg = (args[0] as ViewportMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setViewportSize was null, expected non-null ViewportMessage.');
+          api.setViewportSize(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setManifestCache', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setManifestCache was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ManifestCacheMessage? arg_msg = (args[0] as ManifestCacheMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setManifestCache was null, expected non-null ManifestCacheMessage.');
+          api.setManifestCache(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.warmup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.warmup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final WarmupMessage? arg_msg = (args[0] as WarmupMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.warmup was null, expected non-null WarmupMessage.');
+          api.warmup(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setNetworkPriority', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setNetworkPriority was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final NetworkPriorityMessage? arg_msg = (args[0] as NetworkPriorityMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setNetworkPriority was null, expected non-null NetworkPriorityMessage.');
+          api.setNetworkPriority(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
@@ -480,5 +779,133 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setQueue', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setQueue was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final QueueMessage? arg_msg = (args[0] as QueueMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setQueue was null, expected non-null QueueMessage.');
+          api.setQueue(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.addToQueue', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.addToQueue was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final QueueMessage? arg_msg = (args[0] as QueueMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.addToQueue was null, expected non-null QueueMessage.');
+          api.addToQueue(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.skipToIndex', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.skipToIndex was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final QueueIndexMessage? arg_msg = (args[0] as QueueIndexMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.skipToIndex was null, expected non-null QueueIndexMessage.');
+          api.skipToIndex(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.startDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.startDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadMessage? arg_msg = (args[0] as DownloadMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.startDownload was null, expected non-null DownloadMessage.');
+          api.startDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadIdMessage? arg_msg = (args[0] as DownloadIdMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload was null, expected non-null DownloadIdMessage.');
+          api.removeDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          // ignore message
+          final List<DownloadStateMessage?> output = api.getDownloads();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setDownloadSettings', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger.setMockDecodedMessageHandler<Object?>(channel, (Object? message) async {
+          assert(message != null,
+          'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDownloadSettings was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadSettingsMessage? arg_msg = (args[0] as DownloadSettingsMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setDownloadSettings was null, expected non-null DownloadSettingsMessage.');
+          api.setDownloadSettings(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
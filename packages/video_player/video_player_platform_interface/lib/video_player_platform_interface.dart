@@ -186,6 +186,12 @@ class DataSource {
     this.asset,
     this.package,
     this.httpHeaders = const <String, String>{},
+    this.liveConfiguration,
+    this.containerHint,
+    this.maxParallelConnections,
+    this.mirrors = const <String>[],
+    this.retryPolicy,
+    this.maxRecoveryAttempts,
   });
 
   /// The way in which the video was originally loaded.
@@ -215,6 +221,101 @@ class DataSource {
   /// The package that the asset was loaded from. Only set for
   /// [DataSourceType.asset] videos.
   final String? package;
+
+  /// **Android only**. How close to the live edge a live stream is kept.
+  ///
+  /// Ignored for on-demand content.
+  final LiveConfiguration? liveConfiguration;
+
+  /// **Android only**. The container of a progressive [uri], if known.
+  ///
+  /// Lets the player open the stream with the matching demuxer instead of
+  /// trying every supported container first. Only used when the source is
+  /// neither DASH, HLS nor Smooth Streaming.
+  final VideoContainer? containerHint;
+
+  /// **Android only**. Reads a progressive [uri] over up to this many
+  /// parallel range requests, for servers that limit the speed of each
+  /// connection. The player adds connections while that speeds the download
+  /// up. Null or 1 reads over a single connection.
+  final int? maxParallelConnections;
+
+  /// **Android only**. The URLs of the same stream as [uri] on other CDNs,
+  /// in the order to fail over to them.
+  ///
+  /// The path the URL shares with [uri] at the end is taken to be the same on
+  /// both, so manifests and segments below [uri] are requested from the
+  /// mirror instead once loads keep failing.
+  final List<String> mirrors;
+
+  /// **Android only**. How failed loads of a network [uri] are retried before
+  /// playback fails, or before moving to the next of the [mirrors].
+  ///
+  /// Null uses the platform default.
+  final RetryPolicy? retryPolicy;
+
+  /// **Android only**. How many times in a row the player prepares itself
+  /// again after a transient error before reporting it.
+  ///
+  /// Covers a live stream falling behind its live window, which restarts at
+  /// the live edge, and network and decoder errors, which restart at the
+  /// position playback stopped at. Null uses the platform default, 0 reports
+  /// every error.
+  final int? maxRecoveryAttempts;
+}
+
+/// How failed network loads are retried.
+@immutable
+class RetryPolicy {
+  /// Constructs an instance of [RetryPolicy].
+  const RetryPolicy({
+    this.attempts = 3,
+    this.backoff = const Duration(seconds: 1),
+    this.statusCodes = const <int>[408, 429, 500, 502, 503, 504],
+  });
+
+  /// The number of loads in a row that may fail on one CDN before moving to
+  /// the next mirror.
+  final int attempts;
+
+  /// The delay before the first retry. It doubles with every further failure
+  /// of the same load.
+  final Duration backoff;
+
+  /// The HTTP status codes worth retrying. Loads failing with other codes are
+  /// not retried; connection errors always are.
+  final List<int> statusCodes;
+}
+
+/// Live edge settings for a live stream.
+///
+/// Any value left null falls back to the one advertised by the stream, or to
+/// the platform default.
+@immutable
+class LiveConfiguration {
+  /// Constructs an instance of [LiveConfiguration].
+  const LiveConfiguration({
+    this.targetOffset,
+    this.minPlaybackSpeed,
+    this.maxPlaybackSpeed,
+    this.lowLatency = false,
+  });
+
+  /// The distance from the live edge the player tries to hold.
+  final Duration? targetOffset;
+
+  /// The slowest speed used to fall back when the player is too close to the
+  /// live edge. Must be in (0, 1].
+  final double? minPlaybackSpeed;
+
+  /// The fastest speed used to catch up when the player drifted away from the
+  /// live edge. Must be at least 1.
+  final double? maxPlaybackSpeed;
+
+  /// Whether to play low-latency streams (LL-HLS, low-latency DASH) as close
+  /// to the live edge as they allow, using the offset the stream advertises
+  /// unless [targetOffset] is set, and to start playback with less buffered.
+  final bool lowLatency;
 }
 
 /// The way in which the video was originally loaded.
@@ -250,6 +351,30 @@ enum VideoFormat {
   other,
 }
 
+/// The container of a progressive video.
+enum VideoContainer {
+  /// MPEG transport stream.
+  ts,
+
+  /// MP4 with a single `moov` box.
+  mp4,
+
+  /// Fragmented MP4.
+  fmp4,
+
+  /// Matroska, including WebM.
+  mkv,
+
+  /// Flash Video.
+  flv,
+
+  /// AAC in ADTS framing.
+  adts,
+
+  /// MPEG audio layer III.
+  mp3,
+}
+
 /// Event emitted from the platform implementation.
 @immutable
 class VideoEvent {
@@ -271,6 +396,11 @@ class VideoEvent {
     this.buffered,
     this.isPlaying,
     this.bufferedData,
+    this.startup,
+    this.queueIndex,
+    this.transitionReason,
+    this.recoveryAttempt,
+    this.errorCode,
   });
 
   /// The type of the event.
@@ -304,6 +434,33 @@ class VideoEvent {
   /// Only used if [eventType] is [VideoEventType.isPlayingStateUpdate].
   final bool? isPlaying;
 
+  /// Where the time went between creating the player and it being ready.
+  ///
+  /// Only used if [eventType] is [VideoEventType.initialized], and only by
+  /// implementations that measure it.
+  final StartupBreakdown? startup;
+
+  /// The queue index of the item that is now playing, where the item the
+  /// player was created with is at index 0.
+  ///
+  /// Only used if [eventType] is [VideoEventType.mediaItemTransition].
+  final int? queueIndex;
+
+  /// Why the player moved to the item at [queueIndex].
+  ///
+  /// Only used if [eventType] is [VideoEventType.mediaItemTransition].
+  final MediaItemTransitionReason? transitionReason;
+
+  /// Which attempt in a row this is at recovering from an error, from 1.
+  ///
+  /// Only used if [eventType] is [VideoEventType.recovering].
+  final int? recoveryAttempt;
+
+  /// The platform's code for the error being recovered from.
+  ///
+  /// Only used if [eventType] is [VideoEventType.recovering].
+  final int? errorCode;
+
   @override
   bool operator ==(Object other) {
     return identical(this, other) ||
@@ -315,7 +472,12 @@ class VideoEvent {
             rotationCorrection == other.rotationCorrection &&
             bufferedData == bufferedData &&
             listEquals(buffered, other.buffered) &&
-            isPlaying == other.isPlaying;
+            isPlaying == other.isPlaying &&
+            startup == other.startup &&
+            queueIndex == other.queueIndex &&
+            transitionReason == other.transitionReason &&
+            recoveryAttempt == other.recoveryAttempt &&
+            errorCode == other.errorCode;
   }
 
   @override
@@ -327,6 +489,46 @@ class VideoEvent {
         buffered,
         bufferedData,
         isPlaying,
+        startup,
+        queueIndex,
+        transitionReason,
+        recoveryAttempt,
+        errorCode,
+      );
+}
+
+/// The startup of a player split into phases, see [VideoEvent.startup].
+///
+/// Phase names are defined by the platform implementation.
+@immutable
+class StartupBreakdown {
+  /// Creates an instance of [StartupBreakdown].
+  const StartupBreakdown({
+    this.sections = const <String, Duration>{},
+    this.milestones = const <String, Duration>{},
+  });
+
+  /// How long each synchronous step of the startup took.
+  final Map<String, Duration> sections;
+
+  /// The time from the creation of the player to each point reached so far.
+  final Map<String, Duration> milestones;
+
+  @override
+  bool operator ==(Object other) {
+    return identical(this, other) ||
+        other is StartupBreakdown &&
+            runtimeType == other.runtimeType &&
+            mapEquals(sections, other.sections) &&
+            mapEquals(milestones, other.milestones);
+  }
+
+  @override
+  int get hashCode => Object.hash(
+        Object.hashAllUnordered(sections.entries
+            .map((MapEntry<String, Duration> e) => Object.hash(e.key, e.value))),
+        Object.hashAllUnordered(milestones.entries
+            .map((MapEntry<String, Duration> e) => Object.hash(e.key, e.value))),
       );
 }
 
@@ -359,10 +561,33 @@ enum VideoEventType {
   /// Updated information on the subtitle.
   subtitleUpdate,
 
+  /// The player moved to another item of its queue.
+  mediaItemTransition,
+
+  /// The player hit an error it is retrying on its own; playback stalls until
+  /// it recovers or the error is reported.
+  recovering,
+
   /// An unknown event has been received.
   unknown,
 }
 
+/// Why the player moved to another queue item, see
+/// [VideoEvent.transitionReason].
+enum MediaItemTransitionReason {
+  /// The current item started again because it is looping.
+  repeat,
+
+  /// The previous item played to its end.
+  auto,
+
+  /// The app skipped to the item.
+  seek,
+
+  /// The queue was changed so that a different item is current.
+  playlistChanged,
+}
+
 /// Describes a discrete segment of time within a video using a [start] and
 /// [end] [Duration].
 @immutable